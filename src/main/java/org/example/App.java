@@ -1,12 +1,46 @@
 package org.example;
 
+import org.springframework.aot.AotDetector;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.session.SessionAutoConfiguration;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+import org.springframework.core.env.StandardEnvironment;
 
-@SpringBootApplication
-class App {
+@SpringBootApplication(exclude = SessionAutoConfiguration.class)
+public class App {
+
+    /**
+     * Enough for every step of a startup; steps past it are dropped.
+     */
+    public static final int STARTUP_STEP_CAPACITY = 10_000;
+
+    /**
+     * Buffers startup steps for {@code /actuator/startup} and {@code /actuator/startupprofile}. The startup has to
+     * be chosen before application.yml is read, so only command-line arguments, system properties and the
+     * environment ({@code STARTUP_PROFILING_ENABLED}) can turn it on.
+     */
+    public static final String STARTUP_PROFILING_ENABLED = "startup.profiling.enabled";
 
     public static void main(String[] args) {
-        SpringApplication.run(App.class, args);
+        application(args).run(args);
+    }
+
+    static SpringApplication application(String... args) {
+        SpringApplication application = new SpringApplication(App.class);
+        // Spring Security 6.2.1 registers mvcHandlerMappingIntrospectorRequestTransformer again on top of the
+        // definition restored from the AOT-generated initializer.
+        application.setAllowBeanDefinitionOverriding(AotDetector.useGeneratedArtifacts());
+        if (startupProfilingEnabled(args)) {
+            application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+        }
+        return application;
+    }
+
+    private static boolean startupProfilingEnabled(String... args) {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new SimpleCommandLinePropertySource(args));
+        return environment.getProperty(STARTUP_PROFILING_ENABLED, Boolean.class, false);
     }
 }
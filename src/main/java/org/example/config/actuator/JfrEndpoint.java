@@ -0,0 +1,111 @@
+package org.example.config.actuator;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.example.dto.actuator.JfrRecordingDTO;
+import org.example.utils.jfr.JfrRecordings;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import jdk.jfr.Recording;
+
+/**
+ * {@code /actuator/jfr}: flight recordings on demand. {@code POST} starts one, {@code POST /{id}} stops it,
+ * {@code GET /{id}} downloads what it has recorded so far as a {@code .jfr} file and {@code DELETE /{id}} discards
+ * it. Restricted to administrators by {@code SecurityConfig}.
+ */
+@Component
+@Endpoint(id = "jfr")
+public class JfrEndpoint {
+
+    private final JfrRecordings jfrRecordings;
+
+    public JfrEndpoint(JfrRecordings jfrRecordings) {
+        this.jfrRecordings = jfrRecordings;
+    }
+
+    @ReadOperation
+    public List<JfrRecordingDTO> recordings() {
+        return jfrRecordings.list().stream()
+                .map(JfrEndpoint::convertToDto)
+                .toList();
+    }
+
+    @WriteOperation
+    public JfrRecordingDTO start(@Nullable String name, @Nullable String settings, @Nullable Duration maxAge) {
+        try {
+            return convertToDto(jfrRecordings.start(name, settings, maxAge));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidEndpointRequestException(ex.getMessage(), ex.getMessage());
+        }
+    }
+
+    @WriteOperation
+    public JfrRecordingDTO stop(@Selector long id) {
+        return jfrRecordings.stop(id)
+                .map(JfrEndpoint::convertToDto)
+                .orElse(null);
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public Resource dump(@Selector long id) throws IOException {
+        return jfrRecordings.dump(id)
+                .map(TemporaryFileResource::new)
+                .orElse(null);
+    }
+
+    @DeleteOperation
+    public boolean close(@Selector long id) {
+        return jfrRecordings.close(id);
+    }
+
+    private static JfrRecordingDTO convertToDto(Recording recording) {
+        return JfrRecordingDTO.builder()
+                .id(recording.getId())
+                .name(recording.getName())
+                .state(recording.getState().name())
+                .startTime(recording.getStartTime())
+                .stopTime(recording.getStopTime())
+                .maxAgeSeconds(recording.getMaxAge() == null ? 0 : recording.getMaxAge().toSeconds())
+                .size(recording.getSize())
+                .build();
+    }
+
+    /**
+     * A dump that is deleted once it has been sent.
+     */
+    private static final class TemporaryFileResource extends FileSystemResource {
+
+        private TemporaryFileResource(Path file) {
+            super(file);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        Files.deleteIfExists(getFile().toPath());
+                    }
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.config.actuator;
+
+import org.example.dto.actuator.SlowQueryReportDTO;
+import org.example.utils.slowquery.SlowQueryLog;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code /actuator/slowqueries}: the statements recorded by the {@link SlowQueryLog}, slowest first, with the
+ * {@code EXPLAIN} output of the worst ones. {@code DELETE} forgets them.
+ */
+@Component
+@Endpoint(id = "slowqueries")
+@ConditionalOnProperty(name = "slow-query-log.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryEndpoint {
+
+    static final int DEFAULT_LIMIT = 20;
+
+    private final SlowQueryLog slowQueryLog;
+
+    public SlowQueryEndpoint(SlowQueryLog slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @ReadOperation
+    public SlowQueryReportDTO slowQueries(@Nullable Integer limit) {
+        return SlowQueryReportDTO.builder()
+                .thresholdMillis(slowQueryLog.getThreshold().toMillis())
+                .recordedStatements(slowQueryLog.size())
+                .slowestQueries(slowQueryLog.slowest(limit != null ? limit : DEFAULT_LIMIT))
+                .build();
+    }
+
+    @DeleteOperation
+    public void clear() {
+        slowQueryLog.clear();
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.config.actuator;
+
+import org.example.dto.actuator.StartupProfileDTO;
+import org.example.utils.startup.StartupProfiles;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code /actuator/startupprofile}: the slowest bean creations and startup phases recorded by the
+ * {@link BufferingApplicationStartup} that {@code App} installs when {@code startup.profiling.enabled} is set.
+ * Unlike {@code /actuator/startup} it neither drains the buffer nor lists every step. Not available when the
+ * application was started without buffering, which is the default.
+ */
+@Component
+@Endpoint(id = "startupprofile")
+public class StartupProfileEndpoint {
+
+    static final int DEFAULT_LIMIT = 20;
+
+    private final ApplicationStartup applicationStartup;
+
+    public StartupProfileEndpoint(ApplicationStartup applicationStartup) {
+        this.applicationStartup = applicationStartup;
+    }
+
+    @ReadOperation
+    public StartupProfileDTO startupProfile(@Nullable Integer limit) {
+        if (!(applicationStartup instanceof BufferingApplicationStartup buffering)) {
+            return null;
+        }
+        return StartupProfiles.rank(buffering.getBufferedTimeline(), limit != null ? limit : DEFAULT_LIMIT);
+    }
+}
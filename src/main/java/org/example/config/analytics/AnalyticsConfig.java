@@ -0,0 +1,22 @@
+package org.example.config.analytics;
+
+import java.time.ZoneId;
+
+import org.example.utils.analytics.TrainingColumnStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class AnalyticsConfig {
+
+    /**
+     * Column store whose aggregations run on a fork/join pool of {@code analytics.parallelism} threads, one per
+     * core when not set. Months are those of the system time zone, as in the CSV import and export.
+     */
+    @Bean
+    public TrainingColumnStore trainingColumnStore(@Value("${analytics.parallelism:0}") int parallelism) {
+        return new TrainingColumnStore(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors(),
+                ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.config.aot;
+
+import org.example.dto.grpc.BulkCreateResult;
+import org.example.dto.grpc.ProfileRequest;
+import org.example.dto.grpc.TraineeTrainingsRequest;
+import org.example.dto.grpc.TrainerTrainingsRequest;
+import org.example.utils.analytics.TrainingFacts;
+import org.example.utils.timeseries.TimelineEntry;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * Native image hints for what the AOT engine cannot find on its own. Entities, repositories, controller
+ * signatures, GraphQL mappings, security and actuator are covered by Spring's AOT processing; the gRPC messages
+ * are bound by Jackson outside any controller signature, the {@code .proto} schemas are read from the classpath and
+ * the query projections are built by Hibernate through their constructors.
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.ResourceHints.class)
+@RegisterReflectionForBinding({ProfileRequest.class, TraineeTrainingsRequest.class, TrainerTrainingsRequest.class,
+        BulkCreateResult.class, TimelineEntry.class, TrainingFacts.class})
+public class NativeHintsConfig {
+
+    static class ResourceHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            hints.resources().registerPattern("proto/*.proto");
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.config.bulk;
+
+import org.example.utils.bulk.StatelessBulkTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@Configuration
+public class BulkConfig {
+
+    @Bean
+    public StatelessBulkTemplate statelessBulkTemplate(EntityManagerFactory entityManagerFactory,
+                                                       @Value("${bulk.chunk-size:1000}") int chunkSize) {
+        return new StatelessBulkTemplate(entityManagerFactory, chunkSize);
+    }
+}
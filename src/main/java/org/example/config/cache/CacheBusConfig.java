@@ -0,0 +1,58 @@
+package org.example.config.cache;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.example.utils.cache.CacheInvalidationBus;
+import org.example.utils.cache.ClusterCacheManager;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Replaces Spring Boot's Caffeine cache manager with one that keeps the same per-node caches but broadcasts every
+ * eviction to the peers listed in {@link CacheBusProperties}. Like every cache manager it is wrapped by
+ * {@link CacheConfig} to be transaction-aware, so evictions are broadcast only after commit.
+ */
+@Configuration
+@ConditionalOnProperty(name = "cache-bus.enabled", havingValue = "true")
+@EnableConfigurationProperties({CacheBusProperties.class, CacheProperties.class})
+public class CacheBusConfig {
+
+    @Bean
+    public CacheInvalidationBus cacheInvalidationBus(CacheBusProperties properties, MeterRegistry meterRegistry) {
+        if (properties.getSecret() == null || properties.getSecret().isBlank()) {
+            throw new IllegalStateException("cache-bus.secret must be set when the cache bus is enabled");
+        }
+        List<InetSocketAddress> peers = properties.getPeers().stream()
+                .map(CacheBusConfig::parsePeer)
+                .toList();
+        return new CacheInvalidationBus(new InetSocketAddress(properties.getBindAddress(), properties.getPort()),
+                peers, properties.getSecret().getBytes(StandardCharsets.UTF_8), meterRegistry);
+    }
+
+    @Bean
+    public CacheManager cacheManager(CacheProperties cacheProperties, CacheInvalidationBus cacheInvalidationBus) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCacheNames(cacheProperties.getCacheNames());
+        if (cacheProperties.getCaffeine().getSpec() != null) {
+            caffeineCacheManager.setCacheSpecification(cacheProperties.getCaffeine().getSpec());
+        }
+        return new ClusterCacheManager(caffeineCacheManager, cacheInvalidationBus);
+    }
+
+    private static InetSocketAddress parsePeer(String peer) {
+        int separator = peer.lastIndexOf(':');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("Cache bus peer must be host:port, was '" + peer + "'");
+        }
+        return new InetSocketAddress(peer.substring(0, separator), Integer.parseInt(peer.substring(separator + 1)));
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.config.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Cluster-wide cache invalidation. Each node lists the others as {@code host:port} peers and shares one secret with
+ * them.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache-bus")
+public class CacheBusProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * Interface to receive invalidations on. Loopback by default; set it to the cluster network's interface rather
+     * than the wildcard address.
+     */
+    private String bindAddress = "127.0.0.1";
+
+    /**
+     * UDP port to receive invalidations on; {@code 0} picks a free port.
+     */
+    private int port = 7600;
+
+    private List<String> peers = new ArrayList<>();
+
+    /**
+     * Key every message is signed with; required, and the same on every node.
+     */
+    private String secret;
+}
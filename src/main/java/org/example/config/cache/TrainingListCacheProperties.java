@@ -0,0 +1,27 @@
+package org.example.config.cache;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Bounds of the converted trainee and trainer training lists kept by {@code TrainingListCache}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "training-list-cache")
+public class TrainingListCacheProperties {
+
+    /**
+     * Estimated heap taken by the cached lists, split evenly between trainee and trainer lists.
+     */
+    private long maximumBytes = 64L * 1024 * 1024;
+
+    /**
+     * Upper bound on how stale a list can get when an eviction from another node is lost.
+     */
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+}
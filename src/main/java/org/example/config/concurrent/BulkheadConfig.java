@@ -0,0 +1,37 @@
+package org.example.config.concurrent;
+
+import org.example.utils.concurrent.Bulkhead;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+
+@Configuration
+@EnableConfigurationProperties(BulkheadProperties.class)
+public class BulkheadConfig {
+
+    public static final String TRAINING_REPORTS = "trainingReports";
+
+    public static final String BULK_READS = "bulkReads";
+
+    @Bean(name = TRAINING_REPORTS)
+    public Bulkhead trainingReportsBulkhead(BulkheadProperties properties, MeterRegistry meterRegistry,
+                                            ObjectProvider<ObservationRegistry> observationRegistry) {
+        return bulkhead(TRAINING_REPORTS, properties.getTrainingReports(), meterRegistry, observationRegistry);
+    }
+
+    @Bean(name = BULK_READS)
+    public Bulkhead bulkReadsBulkhead(BulkheadProperties properties, MeterRegistry meterRegistry,
+                                      ObjectProvider<ObservationRegistry> observationRegistry) {
+        return bulkhead(BULK_READS, properties.getBulkReads(), meterRegistry, observationRegistry);
+    }
+
+    private static Bulkhead bulkhead(String name, BulkheadProperties.Pool pool, MeterRegistry meterRegistry,
+                                     ObjectProvider<ObservationRegistry> observationRegistry) {
+        return new Bulkhead(name, pool.getThreads(), pool.getQueueCapacity(), pool.getTimeout(), meterRegistry,
+                observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP));
+    }
+}
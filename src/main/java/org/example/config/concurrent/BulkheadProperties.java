@@ -0,0 +1,60 @@
+package org.example.config.concurrent;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Sizes of the bulkheads that keep expensive reads off the request threads. Timeouts should stay below
+ * {@code spring.mvc.async.request-timeout} so that the bulkhead, not the container, answers a slow request.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bulkheads")
+public class BulkheadProperties {
+
+    /**
+     * Trainee and trainer training lists.
+     */
+    private Pool trainingReports = new Pool(8, 32, Duration.ofSeconds(10));
+
+    /**
+     * Unpaged reads of a whole table.
+     */
+    private Pool bulkReads = new Pool(2, 4, Duration.ofSeconds(20));
+
+    /**
+     * Longest a trainee or trainer profile read waits for the same profile being loaded by another caller. These
+     * reads run on the calling thread, not on a bulkhead, so they have no pool timeout to inherit.
+     */
+    private Duration sharedProfileReadTimeout = Duration.ofSeconds(10);
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        private int threads;
+
+        /**
+         * Calls waiting for a thread; further calls are rejected.
+         */
+        private int queueCapacity;
+
+        /**
+         * Counted from submission, so it includes the time spent queued.
+         */
+        private Duration timeout;
+
+        public Pool() {
+        }
+
+        Pool(int threads, int queueCapacity, Duration timeout) {
+            this.threads = threads;
+            this.queueCapacity = queueCapacity;
+            this.timeout = timeout;
+        }
+    }
+}
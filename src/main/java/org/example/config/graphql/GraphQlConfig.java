@@ -0,0 +1,20 @@
+package org.example.config.graphql;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import graphql.analysis.MaxQueryDepthInstrumentation;
+
+@Configuration
+public class GraphQlConfig {
+
+    /**
+     * Every nesting level adds one batched query, so the depth bounds the SQL cost of a single request.
+     */
+    public static final int MAX_QUERY_DEPTH = 6;
+
+    @Bean
+    public MaxQueryDepthInstrumentation maxQueryDepthInstrumentation() {
+        return new MaxQueryDepthInstrumentation(MAX_QUERY_DEPTH);
+    }
+}
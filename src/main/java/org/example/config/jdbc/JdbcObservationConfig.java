@@ -0,0 +1,37 @@
+package org.example.config.jdbc;
+
+import javax.sql.DataSource;
+
+import org.example.utils.slowquery.SlowQueryLog;
+import org.example.utils.tracing.TracingDataSource;
+import org.example.utils.tracing.TracingDataSourcePostProcessor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Observes JDBC statements through {@link TracingDataSource}, for tracing and for the {@link SlowQueryLog}, which
+ * is one more handler of those observations.
+ */
+@Configuration
+@EnableConfigurationProperties(SlowQueryLogProperties.class)
+public class JdbcObservationConfig {
+
+    @Bean
+    public static TracingDataSourcePostProcessor tracingDataSourcePostProcessor(
+            ObjectProvider<ObservationRegistry> observationRegistry) {
+        return new TracingDataSourcePostProcessor(observationRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "slow-query-log.enabled", havingValue = "true", matchIfMissing = true)
+    public SlowQueryLog slowQueryLog(SlowQueryLogProperties properties, @Lazy DataSource dataSource) {
+        return new SlowQueryLog(properties.getThreshold(), properties.getMaxStatements(),
+                properties.getExplainTop(), dataSource);
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.config.jdbc;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Which statements the slow query log keeps and how many of them it explains.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "slow-query-log")
+public class SlowQueryLogProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Executions that take at least this long are recorded.
+     */
+    private Duration threshold = Duration.ofMillis(200);
+
+    /**
+     * Distinct normalized statements kept.
+     */
+    private int maxStatements = 1000;
+
+    /**
+     * How many of the slowest statements get their {@code EXPLAIN} output captured.
+     */
+    private int explainTop = 10;
+}
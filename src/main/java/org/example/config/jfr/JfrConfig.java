@@ -0,0 +1,28 @@
+package org.example.config.jfr;
+
+import java.time.Duration;
+
+import org.example.utils.jfr.JfrRecordings;
+import org.example.utils.jfr.ServiceEventAspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JfrConfig {
+
+    @Bean
+    public ServiceEventAspect serviceEventAspect() {
+        return new ServiceEventAspect();
+    }
+
+    /**
+     * Recordings started through {@code /actuator/jfr} use the {@code jfr.settings} JDK settings and keep
+     * {@code jfr.max-age} of events unless the request says otherwise.
+     */
+    @Bean
+    public JfrRecordings jfrRecordings(@Value("${jfr.settings:profile}") String settings,
+                                       @Value("${jfr.max-age:30m}") Duration maxAge) {
+        return new JfrRecordings(settings, maxAge);
+    }
+}
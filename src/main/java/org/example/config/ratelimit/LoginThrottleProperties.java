@@ -0,0 +1,45 @@
+package org.example.config.ratelimit;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Failed login tracking. Once a username or client address reaches its threshold of failures within the window,
+ * further attempts are refused without a user lookup for a block that doubles with every additional failure.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "login-throttle")
+public class LoginThrottleProperties {
+
+    private boolean enabled = true;
+
+    private Duration window = Duration.ofMinutes(15);
+
+    /**
+     * Number of slots the window is split into; failures expire one slot at a time.
+     */
+    private int windowSlots = 15;
+
+    private int usernameThreshold = 5;
+
+    private int addressThreshold = 20;
+
+    private Duration initialBlock = Duration.ofSeconds(1);
+
+    private Duration maxBlock = Duration.ofMinutes(15);
+
+    /**
+     * Most usernames with recent failures kept at once.
+     */
+    private long maxTrackedUsernames = 100_000;
+
+    /**
+     * Most client addresses with recent failures kept at once.
+     */
+    private long maxTrackedAddresses = 100_000;
+}
@@ -0,0 +1,9 @@
+package org.example.config.ratelimit;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({RateLimitProperties.class, LoginThrottleProperties.class})
+public class RateLimitConfig {
+}
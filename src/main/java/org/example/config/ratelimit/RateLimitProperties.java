@@ -0,0 +1,58 @@
+package org.example.config.ratelimit;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Request rate limits per endpoint group. A request belongs to the first group, in declaration order, with a
+ * matching path prefix; requests outside every group are not limited.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Buckets untouched for this long are evicted.
+     */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    private Map<String, Group> groups = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Group {
+
+        private List<String> pathPrefixes = new ArrayList<>();
+
+        /**
+         * Burst size: requests admitted back to back from a full bucket.
+         */
+        private long capacity = 100;
+
+        /**
+         * Sustained rate, in requests per second.
+         */
+        private double refillPerSecond = 50;
+
+        /**
+         * Applied to authenticated users, by username.
+         */
+        private boolean perUser = true;
+
+        /**
+         * Applied to every client address, authenticated or not.
+         */
+        private boolean perIp = true;
+    }
+}
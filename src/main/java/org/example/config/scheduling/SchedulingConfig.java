@@ -0,0 +1,12 @@
+package org.example.config.scheduling;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Runs the {@code @Scheduled} jobs: rate limit and login throttle eviction and the training index rebuild.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,21 @@
+package org.example.config.search;
+
+import org.example.dto.trainee.TraineeEmbeddedDTO;
+import org.example.dto.trainer.TrainerEmbeddedDTO;
+import org.example.utils.search.PrefixSearchIndex;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SearchIndexConfig {
+
+    @Bean
+    public PrefixSearchIndex<TraineeEmbeddedDTO> traineeSearchIndex() {
+        return new PrefixSearchIndex<>();
+    }
+
+    @Bean
+    public PrefixSearchIndex<TrainerEmbeddedDTO> trainerSearchIndex() {
+        return new PrefixSearchIndex<>();
+    }
+}
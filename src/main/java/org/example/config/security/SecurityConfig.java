@@ -1,22 +1,33 @@
 package org.example.config.security;
 
+import org.example.enums.RoleName;
 import org.example.exception.security.CustomAccessDeniedHandler;
+import org.example.exception.security.CustomAuthenticationEntryPoint;
 import org.example.exception.security.CustomAuthenticationFailureHandler;
+import org.example.utils.ratelimit.LoginAttemptTracker;
+import org.example.utils.ratelimit.RateLimitFilter;
+import org.example.utils.ratelimit.RateLimiter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.NoOpPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.access.AccessDeniedHandler;
+import org.springframework.security.web.authentication.AnonymousAuthenticationFilter;
 import org.springframework.security.web.authentication.AuthenticationFailureHandler;
+import org.springframework.security.web.context.SecurityContextRepository;
 
 @Configuration
 @EnableWebSecurity
@@ -24,17 +35,28 @@ import org.springframework.security.web.authentication.AuthenticationFailureHand
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   RateLimiter rateLimiter,
+                                                   SessionManagementProperties sessionManagementProperties,
+                                                   SecurityContextRepository securityContextRepository)
+            throws Exception {
         return http.cors(Customizer.withDefaults())
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests((authorize) -> authorize
                         .requestMatchers("/api/login").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/trainees").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/trainers").permitAll()
+                        .requestMatchers("/actuator/jfr/**").hasAuthority(RoleName.ADMIN.getAuthority())
+                        .requestMatchers("/actuator/slowqueries/**").hasAuthority(RoleName.ADMIN.getAuthority())
+                        .requestMatchers("/actuator/startupprofile/**").hasAuthority(RoleName.ADMIN.getAuthority())
                         .requestMatchers("/actuator/**").permitAll()
                         .anyRequest().authenticated()
                 )
-                .httpBasic(Customizer.withDefaults())
+                .httpBasic(customizer -> customizer.authenticationEntryPoint(authenticationEntryPoint()))
+                .sessionManagement(customizer -> customizer
+                        .sessionCreationPolicy(sessionManagementProperties.getMode().getSessionCreationPolicy()))
+                .securityContext(customizer -> customizer.securityContextRepository(securityContextRepository))
+                .addFilterAfter(new RateLimitFilter(rateLimiter), AnonymousAuthenticationFilter.class)
                 .formLogin(customizer -> customizer.failureHandler(authenticationFailureHandler()))
                 .exceptionHandling(customizer -> customizer.accessDeniedHandler(accessDeniedHandler()))
                 .logout(Customizer.withDefaults())
@@ -46,6 +68,16 @@ public class SecurityConfig {
         return configuration.getAuthenticationManager();
     }
 
+    @Bean
+    public AuthenticationProvider authenticationProvider(UserDetailsService userDetailsService,
+                                                         PasswordEncoder passwordEncoder,
+                                                         LoginAttemptTracker loginAttemptTracker) {
+        DaoAuthenticationProvider daoAuthenticationProvider = new DaoAuthenticationProvider();
+        daoAuthenticationProvider.setUserDetailsService(userDetailsService);
+        daoAuthenticationProvider.setPasswordEncoder(passwordEncoder);
+        return new ThrottlingAuthenticationProvider(daoAuthenticationProvider, loginAttemptTracker);
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return NoOpPasswordEncoder.getInstance();
@@ -56,6 +88,11 @@ public class SecurityConfig {
         return new CustomAuthenticationFailureHandler();
     }
 
+    @Bean
+    public AuthenticationEntryPoint authenticationEntryPoint() {
+        return new CustomAuthenticationEntryPoint();
+    }
+
     @Bean
     public AccessDeniedHandler accessDeniedHandler() {
         return new CustomAccessDeniedHandler();
@@ -0,0 +1,127 @@
+package org.example.config.security;
+
+import javax.sql.DataSource;
+
+import org.example.utils.session.BoundedSessionRepository;
+import org.springframework.boot.autoconfigure.condition.AllNestedConditions;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.session.JdbcSessionDataSourceScriptDatabaseInitializer;
+import org.springframework.boot.autoconfigure.session.JdbcSessionProperties;
+import org.springframework.boot.autoconfigure.session.SessionAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.web.context.DelegatingSecurityContextRepository;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
+import org.springframework.session.config.SessionRepositoryCustomizer;
+import org.springframework.session.config.annotation.web.http.EnableSpringHttpSession;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+import org.springframework.session.jdbc.config.annotation.web.http.EnableJdbcHttpSession;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Wires the session strategy selected by {@link SessionManagementProperties}. Spring Boot's
+ * {@link SessionAutoConfiguration} is excluded so that no session store exists in stateless mode.
+ */
+@Configuration
+@EnableConfigurationProperties(SessionManagementProperties.class)
+public class SessionConfig {
+
+    @Bean
+    public SecurityContextRepository securityContextRepository(SessionManagementProperties properties) {
+        if (properties.getMode() == SessionManagementProperties.Mode.STATELESS) {
+            return new RequestAttributeSecurityContextRepository();
+        }
+        return new DelegatingSecurityContextRepository(
+                new RequestAttributeSecurityContextRepository(),
+                new HttpSessionSecurityContextRepository());
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @Conditional(BoundedLocalStoreCondition.class)
+    @EnableSpringHttpSession
+    static class LocalSessionStoreConfig {
+
+        @Bean
+        public BoundedSessionRepository sessionRepository(SessionManagementProperties properties,
+                                                          MeterRegistry meterRegistry) {
+            return new BoundedSessionRepository(properties.getMaxSessions(), properties.getIdleTimeout(),
+                    meterRegistry);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @Conditional(BoundedJdbcStoreCondition.class)
+    @EnableJdbcHttpSession
+    @EnableConfigurationProperties(JdbcSessionProperties.class)
+    static class JdbcSessionStoreConfig {
+
+        @Bean
+        public JdbcSessionDataSourceScriptDatabaseInitializer jdbcSessionDataSourceScriptDatabaseInitializer(
+                DataSource dataSource, JdbcSessionProperties jdbcSessionProperties) {
+            return new JdbcSessionDataSourceScriptDatabaseInitializer(dataSource, jdbcSessionProperties);
+        }
+
+        @Bean
+        public SessionRepositoryCustomizer<JdbcIndexedSessionRepository> jdbcSessionRepositoryCustomizer(
+                SessionManagementProperties properties, JdbcSessionProperties jdbcSessionProperties) {
+            return repository -> {
+                repository.setDefaultMaxInactiveInterval(properties.getIdleTimeout());
+                repository.setTableName(jdbcSessionProperties.getTableName());
+                repository.setCleanupCron(jdbcSessionProperties.getCleanupCron());
+            };
+        }
+
+        @Bean
+        public Gauge jdbcActiveSessionsGauge(DataSource dataSource, JdbcSessionProperties jdbcSessionProperties,
+                                             MeterRegistry meterRegistry) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            String countQuery = "SELECT COUNT(*) FROM " + jdbcSessionProperties.getTableName();
+            return Gauge.builder(BoundedSessionRepository.METRIC_ACTIVE,
+                            () -> jdbcTemplate.queryForObject(countQuery, Long.class))
+                    .tag("store", "jdbc")
+                    .description("Sessions currently stored")
+                    .register(meterRegistry);
+        }
+    }
+
+    /*
+     * Component scanning also registers nested configuration classes on their own, without the conditions of the
+     * class enclosing them, so each store configuration states the bounded mode itself.
+     */
+    static class BoundedLocalStoreCondition extends AllNestedConditions {
+
+        BoundedLocalStoreCondition() {
+            super(ConfigurationPhase.PARSE_CONFIGURATION);
+        }
+
+        @ConditionalOnProperty(name = "session-management.mode", havingValue = "bounded", matchIfMissing = true)
+        static class BoundedMode {
+        }
+
+        @ConditionalOnProperty(name = "session-management.store", havingValue = "local", matchIfMissing = true)
+        static class LocalStore {
+        }
+    }
+
+    static class BoundedJdbcStoreCondition extends AllNestedConditions {
+
+        BoundedJdbcStoreCondition() {
+            super(ConfigurationPhase.PARSE_CONFIGURATION);
+        }
+
+        @ConditionalOnProperty(name = "session-management.mode", havingValue = "bounded", matchIfMissing = true)
+        static class BoundedMode {
+        }
+
+        @ConditionalOnProperty(name = "session-management.store", havingValue = "jdbc")
+        static class JdbcStore {
+        }
+    }
+}
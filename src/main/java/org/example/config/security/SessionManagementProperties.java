@@ -0,0 +1,65 @@
+package org.example.config.security;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.security.config.http.SessionCreationPolicy;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * How HTTP sessions are handled. {@link Mode#STATELESS} never creates a session: every request authenticates
+ * itself. {@link Mode#BOUNDED} keeps sessions, but in the configured {@link Store} instead of the servlet
+ * container's unbounded in-memory map. The default is {@link Mode#BOUNDED} with the {@link Store#LOCAL} store, which
+ * keeps the session cookie issued by {@code POST /api/login}; nodes behind a load balancer should use
+ * {@link Store#JDBC}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "session-management")
+public class SessionManagementProperties {
+
+    private Mode mode = Mode.BOUNDED;
+
+    private Store store = Store.LOCAL;
+
+    /**
+     * Sessions not accessed for this long are evicted.
+     */
+    private Duration idleTimeout = Duration.ofMinutes(30);
+
+    /**
+     * Upper bound on sessions held by the {@link Store#LOCAL} store; the least recently used are evicted.
+     */
+    private long maxSessions = 10_000;
+
+    public enum Mode {
+
+        STATELESS(SessionCreationPolicy.STATELESS),
+        BOUNDED(SessionCreationPolicy.IF_REQUIRED);
+
+        private final SessionCreationPolicy sessionCreationPolicy;
+
+        Mode(SessionCreationPolicy sessionCreationPolicy) {
+            this.sessionCreationPolicy = sessionCreationPolicy;
+        }
+
+        public SessionCreationPolicy getSessionCreationPolicy() {
+            return sessionCreationPolicy;
+        }
+    }
+
+    public enum Store {
+
+        /**
+         * Sessions live in the database, shared by every node and off the heap.
+         */
+        JDBC,
+
+        /**
+         * Size-bounded in-memory store for a single node and for tests.
+         */
+        LOCAL
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.config.security;
+
+import java.util.concurrent.TimeUnit;
+
+import org.example.exception.security.LoginThrottledException;
+import org.example.utils.ratelimit.LoginAttemptTracker;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+/**
+ * Refuses authentication for blocked usernames and client addresses before the delegate loads the user, and
+ * reports every outcome to the {@link LoginAttemptTracker}. The client address is taken from
+ * {@link WebAuthenticationDetails}, which HTTP Basic, the login endpoint and the gRPC interceptor all supply. For
+ * HTTP it is the servlet remote address, which {@code server.forward-headers-strategy: native} resolves to the client
+ * behind a trusted load balancer rather than the balancer itself.
+ */
+public class ThrottlingAuthenticationProvider implements AuthenticationProvider {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AuthenticationProvider delegate;
+
+    private final LoginAttemptTracker loginAttemptTracker;
+
+    public ThrottlingAuthenticationProvider(AuthenticationProvider delegate, LoginAttemptTracker loginAttemptTracker) {
+        this.delegate = delegate;
+        this.loginAttemptTracker = loginAttemptTracker;
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) {
+        String username = authentication.getName();
+        String clientAddress = authentication.getDetails() instanceof WebAuthenticationDetails details
+                ? details.getRemoteAddress()
+                : null;
+        long blockedNanos = loginAttemptTracker.blockedForNanos(username, clientAddress);
+        if (blockedNanos > 0) {
+            throw new LoginThrottledException("Too many failed login attempts",
+                    Math.max(1, (blockedNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND));
+        }
+        try {
+            Authentication result = delegate.authenticate(authentication);
+            if (result != null) {
+                loginAttemptTracker.loginSucceeded(username);
+            }
+            return result;
+        } catch (AuthenticationException ex) {
+            loginAttemptTracker.loginFailed(username, clientAddress);
+            throw ex;
+        }
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+}
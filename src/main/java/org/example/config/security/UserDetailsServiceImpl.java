@@ -1,7 +1,11 @@
 package org.example.config.security;
 
+import java.util.Optional;
+
 import org.example.exception.notfound.UserNotFoundException;
+import org.example.model.User;
 import org.example.repository.UserRepository;
+import org.example.utils.jfr.UserLookupEvent;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -17,8 +21,10 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     @Transactional(readOnly = true)
     @Override
     public UserDetails loadUserByUsername(String username) {
-        return userRepository
-                .findByUsername(username)
+        UserLookupEvent event = UserLookupEvent.start();
+        Optional<User> user = userRepository.findByUsername(username);
+        event.complete(username, user.isPresent());
+        return user
                 .map(
                         storedUser -> org.springframework.security.core.userdetails.User.builder()
                                 .username(storedUser.getUsername())
@@ -0,0 +1,46 @@
+package org.example.config.serialization;
+
+import java.util.List;
+
+import org.example.utils.serialization.ProtobufDtoHttpMessageConverter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Binary representations of the REST DTOs, selected through the {@code Accept} header:
+ * {@code application/cbor}, {@code application/x-jackson-smile} and {@code application/x-protobuf}.
+ * JSON stays the default. CBOR and Smile share the JSON mapper settings, so their documents
+ * have the same shape as the JSON ones.
+ */
+@Configuration
+public class BinaryFormatConfig implements WebMvcConfigurer {
+
+    public static final String PROTOBUF_SCHEMA_LOCATION = "proto/dto.proto";
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    /**
+     * Appended rather than exposed as a bean: converter beans are placed ahead of the defaults, which would make
+     * protobuf the answer to {@code Accept: *}{@code /*}.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new ProtobufDtoHttpMessageConverter(PROTOBUF_SCHEMA_LOCATION));
+    }
+}
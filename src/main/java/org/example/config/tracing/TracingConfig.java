@@ -0,0 +1,46 @@
+package org.example.config.tracing;
+
+import org.example.utils.tracing.LayerTracingAspect;
+import org.example.utils.tracing.LoggingSpanExporter;
+import org.example.utils.tracing.SpanExporter;
+import org.example.utils.tracing.SpanObservationHandler;
+import org.example.utils.tracing.TracingDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Traces requests through the observations Spring already makes for HTTP requests and the security filter chain,
+ * plus those of {@link LayerTracingAspect} for controllers, services and repositories and of
+ * {@link TracingDataSource} for JDBC statements. Finished spans go to every {@link SpanExporter} bean;
+ * {@code tracing.exporter: log} adds {@link LoggingSpanExporter}, {@code none} leaves them to the application's own
+ * exporters.
+ */
+@Configuration
+@ConditionalOnProperty(name = "tracing.enabled", havingValue = "true", matchIfMissing = true)
+public class TracingConfig {
+
+    @Bean
+    public SpanObservationHandler spanObservationHandler(ObjectProvider<SpanExporter> spanExporters) {
+        return new SpanObservationHandler(spanExporters.orderedStream().toList());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "tracing.exporter", havingValue = "log", matchIfMissing = true)
+    public LoggingSpanExporter loggingSpanExporter() {
+        return new LoggingSpanExporter();
+    }
+
+    /**
+     * The registry is resolved on the first traced call: the aspect is created while the registry's own handlers
+     * and exporters are being proxied.
+     */
+    @Bean
+    public LayerTracingAspect layerTracingAspect(@Lazy ObservationRegistry observationRegistry) {
+        return new LayerTracingAspect(observationRegistry);
+    }
+}
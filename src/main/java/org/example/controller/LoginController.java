@@ -6,12 +6,17 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 
@@ -22,20 +27,32 @@ public class LoginController {
 
     private final AuthenticationManager authenticationManager;
 
+    private final WebAuthenticationDetailsSource authenticationDetailsSource = new WebAuthenticationDetailsSource();
+
+    private final SecurityContextRepository securityContextRepository;
+
     @Autowired
-    public LoginController(AuthenticationManager authenticationManager) {
+    public LoginController(AuthenticationManager authenticationManager,
+                           SecurityContextRepository securityContextRepository) {
         this.authenticationManager = authenticationManager;
+        this.securityContextRepository = securityContextRepository;
     }
 
     @PostMapping("/login")
-    public ResponseEntity<Boolean> login(@Valid @RequestBody CredentialsDTO credentialsDTO) {
+    public ResponseEntity<Boolean> login(@Valid @RequestBody CredentialsDTO credentialsDTO,
+                                         HttpServletRequest request,
+                                         HttpServletResponse response) {
         log.info("Endpoint '/api/login' was called to authenticate trainee");
-        Authentication authenticationRequest = UsernamePasswordAuthenticationToken.unauthenticated(
+        UsernamePasswordAuthenticationToken authenticationRequest = UsernamePasswordAuthenticationToken.unauthenticated(
                 credentialsDTO.getUsername(),
                 credentialsDTO.getPassword());
+        authenticationRequest.setDetails(authenticationDetailsSource.buildDetails(request));
 
         Authentication authenticationResponse = authenticationManager.authenticate(authenticationRequest);
-        SecurityContextHolder.getContext().setAuthentication(authenticationResponse);
+        SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+        securityContext.setAuthentication(authenticationResponse);
+        SecurityContextHolder.setContext(securityContext);
+        securityContextRepository.saveContext(securityContext, request, response);
         return ResponseEntity.ok(authenticationResponse.isAuthenticated());
     }
 }
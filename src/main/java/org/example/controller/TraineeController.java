@@ -1,11 +1,13 @@
 package org.example.controller;
 
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 
 import org.example.dto.credentials.CredentialsDTO;
 import org.example.dto.credentials.CredentialsUpdateDTO;
 import org.example.dto.trainee.TraineeDTO;
+import org.example.dto.trainee.TraineeEmbeddedDTO;
 import org.example.dto.trainee.TraineeUpdateDTO;
 import org.example.model.Trainee;
 import org.example.service.TraineeService;
@@ -67,8 +69,14 @@ public class TraineeController {
     @GetMapping("/{username}")
     public TraineeDTO getTraineeByUsername(@PathVariable String username) {
         log.info("Endpoint '/api/trainees/{username}' was called to get trainee by username");
-        Trainee trainee = traineeService.getTraineeByUsername(username);
-        return TraineeConverter.convertToDto(trainee);
+        return traineeService.getTraineeProfile(username);
+    }
+
+    @GetMapping("/search")
+    public List<TraineeEmbeddedDTO> searchTrainees(@RequestParam String query,
+                                                   @RequestParam(defaultValue = "10") int limit) {
+        log.info("Endpoint '/api/trainees/search' was called to search trainees by name prefix");
+        return traineeService.searchTrainees(query, limit);
     }
 
     @PutMapping
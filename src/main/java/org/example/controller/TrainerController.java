@@ -69,8 +69,14 @@ public class TrainerController {
     @GetMapping("/{username}")
     public TrainerDTO getTrainerByUsername(@PathVariable String username) {
         log.info("Endpoint '/api/trainers/{username}' was called to get trainer by username");
-        Trainer trainer = trainerService.getTrainerByUsername(username);
-        return TrainerConverter.convertToDto(trainer);
+        return trainerService.getTrainerProfile(username);
+    }
+
+    @GetMapping("/search")
+    public List<TrainerEmbeddedDTO> searchTrainers(@RequestParam String query,
+                                                   @RequestParam(defaultValue = "10") int limit) {
+        log.info("Endpoint '/api/trainers/search' was called to search trainers by name prefix");
+        return trainerService.searchTrainers(query, limit);
     }
 
     @PutMapping
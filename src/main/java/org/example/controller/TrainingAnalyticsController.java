@@ -0,0 +1,65 @@
+package org.example.controller;
+
+import java.util.Date;
+import java.util.List;
+
+import org.example.dto.analytics.TrainerDurationAverageDTO;
+import org.example.dto.analytics.TrainingDurationBucketDTO;
+import org.example.dto.analytics.TrainingDurationByMonthDTO;
+import org.example.enums.TrainingTypeName;
+import org.example.service.TrainingAnalyticsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.access.annotation.Secured;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RestController
+@RequestMapping(value = "/api/analytics/trainings")
+public class TrainingAnalyticsController {
+
+    private final TrainingAnalyticsService trainingAnalyticsService;
+
+    @Autowired
+    public TrainingAnalyticsController(TrainingAnalyticsService trainingAnalyticsService) {
+        this.trainingAnalyticsService = trainingAnalyticsService;
+    }
+
+    @Secured("ROLE_ADMIN")
+    @GetMapping("/duration-by-month")
+    public List<TrainingDurationByMonthDTO> getDurationByMonth(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Date periodFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Date periodTo
+    ) {
+        log.info("Endpoint '/api/analytics/trainings/duration-by-month' was called to get training duration by month");
+        return trainingAnalyticsService.getDurationByMonth(periodFrom, periodTo);
+    }
+
+    @Secured("ROLE_ADMIN")
+    @GetMapping("/trainer-averages")
+    public List<TrainerDurationAverageDTO> getTrainerAverages(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Date periodFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Date periodTo,
+            @RequestParam(required = false) TrainingTypeName trainingType
+    ) {
+        log.info("Endpoint '/api/analytics/trainings/trainer-averages' was called to get trainer duration averages");
+        return trainingAnalyticsService.getTrainerAverages(periodFrom, periodTo, trainingType);
+    }
+
+    @Secured("ROLE_ADMIN")
+    @GetMapping("/duration-histogram")
+    public List<TrainingDurationBucketDTO> getDurationHistogram(
+            @RequestParam(defaultValue = "15") int bucketWidth,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Date periodFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Date periodTo,
+            @RequestParam(required = false) TrainingTypeName trainingType
+    ) {
+        log.info("Endpoint '/api/analytics/trainings/duration-histogram' was called to get a training duration histogram");
+        return trainingAnalyticsService.getDurationHistogram(bucketWidth, periodFrom, periodTo, trainingType);
+    }
+}
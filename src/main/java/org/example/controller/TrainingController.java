@@ -1,25 +1,39 @@
 package org.example.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import org.example.config.concurrent.BulkheadConfig;
 import org.example.dto.training.TrainingCreateDTO;
 import org.example.dto.training.TrainingDTO;
+import org.example.dto.training.TrainingImportReportDTO;
+import org.example.dto.training.TrainingPurgeReportDTO;
 import org.example.dto.trainingType.TrainingTypeDTO;
 import org.example.enums.TrainingTypeName;
-import org.example.model.Training;
 import org.example.model.TrainingType;
+import org.example.service.TrainingBulkService;
+import org.example.service.TrainingImportService;
 import org.example.service.TrainingService;
-import org.example.utils.converter.TrainingConverter;
+import org.example.utils.concurrent.Bulkhead;
 import org.example.utils.converter.TrainingTypeConverter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.annotation.Secured;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
@@ -29,15 +43,28 @@ import lombok.extern.slf4j.Slf4j;
 @RequestMapping(value = "/api/trainings")
 public class TrainingController {
 
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
     private final TrainingService trainingService;
 
+    private final TrainingImportService trainingImportService;
+
+    private final TrainingBulkService trainingBulkService;
+
+    private final Bulkhead trainingReports;
+
     @Autowired
-    public TrainingController(TrainingService trainingService) {
+    public TrainingController(TrainingService trainingService, TrainingImportService trainingImportService,
+                              TrainingBulkService trainingBulkService,
+                              @Qualifier(BulkheadConfig.TRAINING_REPORTS) Bulkhead trainingReports) {
         this.trainingService = trainingService;
+        this.trainingImportService = trainingImportService;
+        this.trainingBulkService = trainingBulkService;
+        this.trainingReports = trainingReports;
     }
 
     @GetMapping("/trainee")
-    public List<TrainingDTO> getTraineeTrainingsList(
+    public CompletableFuture<List<TrainingDTO>> getTraineeTrainingsList(
             @RequestParam String username,
             @RequestParam(required = false) Date periodFrom,
             @RequestParam(required = false) Date periodTo,
@@ -45,29 +72,27 @@ public class TrainingController {
             @RequestParam(required = false) TrainingTypeName trainingType
     ) {
         log.info("Endpoint '/api/trainings/trainee' was called to get a trainee's training list");
-        List<Training> trainings = trainingService.getTraineeTrainingList(
+        return trainingReports.submit(() -> trainingService.getTraineeTrainingDtoList(
                 username,
                 periodFrom,
                 periodTo,
                 trainerName,
-                trainingType.name());
-        return TrainingConverter.convertToDtoList(trainings);
+                trainingType));
     }
 
     @GetMapping("/trainer")
-    public List<TrainingDTO> getTrainerTrainingsList(
+    public CompletableFuture<List<TrainingDTO>> getTrainerTrainingsList(
             @RequestParam String username,
             @RequestParam(required = false) Date periodFrom,
             @RequestParam(required = false) Date periodTo,
             @RequestParam(required = false) String traineeName
     ) {
         log.info("Endpoint '/api/trainings/trainer' was called to get a trainer's training list");
-        List<Training> trainings = trainingService.getTrainerTrainingList(
+        return trainingReports.submit(() -> trainingService.getTrainerTrainingDtoList(
                 username,
                 periodFrom,
                 periodTo,
-                traineeName);
-        return TrainingConverter.convertToDtoList(trainings);
+                traineeName));
     }
 
     @PostMapping
@@ -79,6 +104,30 @@ public class TrainingController {
                 : ResponseEntity.badRequest().body(false);
     }
 
+    @Secured("ROLE_ADMIN")
+    @PostMapping(value = "/import", consumes = {TEXT_CSV_VALUE, MediaType.TEXT_PLAIN_VALUE})
+    public TrainingImportReportDTO importTrainings(InputStream csv) throws IOException {
+        log.info("Endpoint '/api/trainings/import' was called to import trainings");
+        return trainingImportService.importTrainings(csv);
+    }
+
+    @Secured("ROLE_ADMIN")
+    @GetMapping(value = "/export", produces = TEXT_CSV_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTrainings() {
+        log.info("Endpoint '/api/trainings/export' was called to export trainings");
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"trainings.csv\"")
+                .body(trainingBulkService::exportTrainings);
+    }
+
+    @Secured("ROLE_ADMIN")
+    @DeleteMapping
+    public TrainingPurgeReportDTO purgeTrainings(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Date trainedBefore) {
+        log.info("Endpoint '/api/trainings' was called to purge trainings");
+        return trainingBulkService.purgeTrainings(trainedBefore);
+    }
+
     @GetMapping("/training-types")
     public List<TrainingTypeDTO> getAllTrainingTypes() {
         log.info("Endpoint '/api/trainings/training-types' was called to get all training types");
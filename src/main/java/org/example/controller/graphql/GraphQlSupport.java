@@ -0,0 +1,36 @@
+package org.example.controller.graphql;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+public class GraphQlSupport {
+
+    private GraphQlSupport() {
+    }
+
+    /**
+     * Answers a batch load: every source gets its children by id, or an empty list.
+     */
+    public static <S, V> Map<S, List<V>> bySource(List<S> sources, ToLongFunction<S> id, Map<Long, List<V>> valuesById) {
+        Map<S, List<V>> result = new LinkedHashMap<>();
+        for (S source : sources) {
+            result.put(source, valuesById.getOrDefault(id.applyAsLong(source), List.of()));
+        }
+        return result;
+    }
+
+    public static <S> List<Long> ids(List<S> sources, ToLongFunction<S> id) {
+        return sources.stream().map(id::applyAsLong).distinct().toList();
+    }
+
+    /**
+     * ISO-8601 instant; also safe for the {@code java.sql} subclasses JPA returns.
+     */
+    public static String format(Date date) {
+        return date == null ? null : Instant.ofEpochMilli(date.getTime()).toString();
+    }
+}
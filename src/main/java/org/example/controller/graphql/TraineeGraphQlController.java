@@ -0,0 +1,83 @@
+package org.example.controller.graphql;
+
+import java.util.List;
+import java.util.Map;
+
+import org.example.model.Trainee;
+import org.example.model.Trainer;
+import org.example.model.Training;
+import org.example.service.TraineeService;
+import org.example.service.TrainerService;
+import org.example.service.TrainingService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.stereotype.Controller;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Controller
+public class TraineeGraphQlController {
+
+    private final TraineeService traineeService;
+
+    private final TrainerService trainerService;
+
+    private final TrainingService trainingService;
+
+    @Autowired
+    public TraineeGraphQlController(TraineeService traineeService, TrainerService trainerService,
+                                    TrainingService trainingService) {
+        this.traineeService = traineeService;
+        this.trainerService = trainerService;
+        this.trainingService = trainingService;
+    }
+
+    @QueryMapping
+    public Trainee trainee(@Argument String username) {
+        log.info("GraphQL query 'trainee' was called to get a trainee");
+        List<Trainee> trainees = traineeService.getTrainees(List.of(username), 1);
+        return trainees.isEmpty() ? null : trainees.get(0);
+    }
+
+    @QueryMapping
+    public List<Trainee> trainees(@Argument List<String> usernames, @Argument int limit) {
+        log.info("GraphQL query 'trainees' was called to get a list of trainees");
+        return traineeService.getTrainees(usernames, limit);
+    }
+
+    @SchemaMapping(typeName = "Trainee")
+    public String firstName(Trainee trainee) {
+        return trainee.getUser().getFirstName();
+    }
+
+    @SchemaMapping(typeName = "Trainee")
+    public String lastName(Trainee trainee) {
+        return trainee.getUser().getLastName();
+    }
+
+    @SchemaMapping(typeName = "Trainee")
+    public boolean active(Trainee trainee) {
+        return trainee.getUser().isActive();
+    }
+
+    @SchemaMapping(typeName = "Trainee")
+    public String dateOfBirth(Trainee trainee) {
+        return GraphQlSupport.format(trainee.getDateOfBirth());
+    }
+
+    @BatchMapping
+    public Map<Trainee, List<Trainer>> trainers(List<Trainee> trainees) {
+        return GraphQlSupport.bySource(trainees, Trainee::getId,
+                trainerService.getTrainersByTraineeIds(GraphQlSupport.ids(trainees, Trainee::getId)));
+    }
+
+    @BatchMapping
+    public Map<Trainee, List<Training>> trainings(List<Trainee> trainees) {
+        return GraphQlSupport.bySource(trainees, Trainee::getId,
+                trainingService.getTrainingsByTraineeIds(GraphQlSupport.ids(trainees, Trainee::getId)));
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.controller.graphql;
+
+import java.util.List;
+import java.util.Map;
+
+import org.example.model.Trainee;
+import org.example.model.Trainer;
+import org.example.model.Training;
+import org.example.service.TraineeService;
+import org.example.service.TrainerService;
+import org.example.service.TrainingService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.stereotype.Controller;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Controller
+public class TrainerGraphQlController {
+
+    private final TraineeService traineeService;
+
+    private final TrainerService trainerService;
+
+    private final TrainingService trainingService;
+
+    @Autowired
+    public TrainerGraphQlController(TraineeService traineeService, TrainerService trainerService,
+                                    TrainingService trainingService) {
+        this.traineeService = traineeService;
+        this.trainerService = trainerService;
+        this.trainingService = trainingService;
+    }
+
+    @QueryMapping
+    public Trainer trainer(@Argument String username) {
+        log.info("GraphQL query 'trainer' was called to get a trainer");
+        List<Trainer> trainers = trainerService.getTrainers(List.of(username), 1);
+        return trainers.isEmpty() ? null : trainers.get(0);
+    }
+
+    @QueryMapping
+    public List<Trainer> trainers(@Argument List<String> usernames, @Argument int limit) {
+        log.info("GraphQL query 'trainers' was called to get a list of trainers");
+        return trainerService.getTrainers(usernames, limit);
+    }
+
+    @SchemaMapping(typeName = "Trainer")
+    public String firstName(Trainer trainer) {
+        return trainer.getUser().getFirstName();
+    }
+
+    @SchemaMapping(typeName = "Trainer")
+    public String lastName(Trainer trainer) {
+        return trainer.getUser().getLastName();
+    }
+
+    @SchemaMapping(typeName = "Trainer")
+    public boolean active(Trainer trainer) {
+        return trainer.getUser().isActive();
+    }
+
+    @BatchMapping
+    public Map<Trainer, List<Trainee>> trainees(List<Trainer> trainers) {
+        return GraphQlSupport.bySource(trainers, Trainer::getId,
+                traineeService.getTraineesByTrainerIds(GraphQlSupport.ids(trainers, Trainer::getId)));
+    }
+
+    @BatchMapping
+    public Map<Trainer, List<Training>> trainings(List<Trainer> trainers) {
+        return GraphQlSupport.bySource(trainers, Trainer::getId,
+                trainingService.getTrainingsByTrainerIds(GraphQlSupport.ids(trainers, Trainer::getId)));
+    }
+}
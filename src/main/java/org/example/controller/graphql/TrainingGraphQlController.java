@@ -0,0 +1,36 @@
+package org.example.controller.graphql;
+
+import java.util.List;
+
+import org.example.model.Training;
+import org.example.model.TrainingType;
+import org.example.service.TrainingService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.stereotype.Controller;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Controller
+public class TrainingGraphQlController {
+
+    private final TrainingService trainingService;
+
+    @Autowired
+    public TrainingGraphQlController(TrainingService trainingService) {
+        this.trainingService = trainingService;
+    }
+
+    @QueryMapping
+    public List<TrainingType> trainingTypes() {
+        log.info("GraphQL query 'trainingTypes' was called to get all training types");
+        return trainingService.finaAllTrainingTypes();
+    }
+
+    @SchemaMapping(typeName = "Training")
+    public String trainingDate(Training training) {
+        return GraphQlSupport.format(training.getTrainingDate());
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.dto.actuator;
+
+import java.time.Instant;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class JfrRecordingDTO {
+
+    private long id;
+
+    private String name;
+
+    private String state;
+
+    private Instant startTime;
+
+    private Instant stopTime;
+
+    private long maxAgeSeconds;
+
+    /**
+     * Bytes written to disk so far.
+     */
+    private long size;
+}
@@ -0,0 +1,40 @@
+package org.example.dto.actuator;
+
+import java.time.Instant;
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SlowQueryDTO {
+
+    private String normalizedSql;
+
+    /**
+     * Executions slower than the threshold; faster ones are not counted.
+     */
+    private long executions;
+
+    private double maxMillis;
+
+    private double averageMillis;
+
+    private Instant lastSeen;
+
+    /**
+     * The rest describes the slowest execution.
+     */
+    private List<String> parameterTypes;
+
+    private String repositoryMethod;
+
+    private String endpoint;
+
+    /**
+     * The header row, then one row per plan row, columns separated by {@code " | "}. {@code null} until captured,
+     * and for statements that are not explained.
+     */
+    private List<String> explainPlan;
+}
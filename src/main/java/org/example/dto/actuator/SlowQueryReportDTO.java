@@ -0,0 +1,17 @@
+package org.example.dto.actuator;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SlowQueryReportDTO {
+
+    private long thresholdMillis;
+
+    private int recordedStatements;
+
+    private List<SlowQueryDTO> slowestQueries;
+}
@@ -0,0 +1,21 @@
+package org.example.dto.actuator;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class StartupBeanDTO {
+
+    private String beanName;
+
+    /**
+     * Includes the creation of the beans it depends on.
+     */
+    private long durationMillis;
+
+    /**
+     * Spent in this bean alone, without its dependencies.
+     */
+    private long selfMillis;
+}
@@ -0,0 +1,20 @@
+package org.example.dto.actuator;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class StartupPhaseDTO {
+
+    private String name;
+
+    private int count;
+
+    private long durationMillis;
+
+    /**
+     * Spent in steps of this name alone, without the steps nested in them.
+     */
+    private long selfMillis;
+}
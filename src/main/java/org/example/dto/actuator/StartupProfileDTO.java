@@ -0,0 +1,19 @@
+package org.example.dto.actuator;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class StartupProfileDTO {
+
+    private long totalMillis;
+
+    private int recordedSteps;
+
+    private List<StartupBeanDTO> slowestBeans;
+
+    private List<StartupPhaseDTO> slowestPhases;
+}
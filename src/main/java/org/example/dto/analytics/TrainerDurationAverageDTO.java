@@ -0,0 +1,17 @@
+package org.example.dto.analytics;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class TrainerDurationAverageDTO {
+
+    private String trainerUsername;
+
+    private long trainings;
+
+    private long totalDuration;
+
+    private double averageDuration;
+}
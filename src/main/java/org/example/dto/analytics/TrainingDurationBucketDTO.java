@@ -0,0 +1,15 @@
+package org.example.dto.analytics;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class TrainingDurationBucketDTO {
+
+    private int fromDuration;
+
+    private int toDuration;
+
+    private long trainings;
+}
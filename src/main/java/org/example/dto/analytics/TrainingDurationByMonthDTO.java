@@ -0,0 +1,19 @@
+package org.example.dto.analytics;
+
+import org.example.enums.TrainingTypeName;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class TrainingDurationByMonthDTO {
+
+    private String month;
+
+    private TrainingTypeName trainingType;
+
+    private long trainings;
+
+    private long totalDuration;
+}
@@ -0,0 +1,15 @@
+package org.example.dto.grpc;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+@Getter
+@Builder
+@Jacksonized
+public class ActivationRequest {
+
+    private String username;
+
+    private boolean active;
+}
@@ -0,0 +1,13 @@
+package org.example.dto.grpc;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+@Getter
+@Builder
+@Jacksonized
+public class ProfileRequest {
+
+    private String username;
+}
@@ -0,0 +1,25 @@
+package org.example.dto.grpc;
+
+import java.util.Date;
+
+import org.example.enums.TrainingTypeName;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+@Getter
+@Builder
+@Jacksonized
+public class TraineeTrainingsRequest {
+
+    private String username;
+
+    private Date periodFrom;
+
+    private Date periodTo;
+
+    private String trainerName;
+
+    private TrainingTypeName trainingType;
+}
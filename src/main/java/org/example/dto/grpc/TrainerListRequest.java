@@ -0,0 +1,20 @@
+package org.example.dto.grpc;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+@Getter
+@Builder
+@Jacksonized
+public class TrainerListRequest {
+
+    @NotNull
+    private String traineeUsername;
+
+    @NotNull
+    private List<String> trainerUsernameList;
+}
@@ -0,0 +1,21 @@
+package org.example.dto.grpc;
+
+import java.util.Date;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+@Getter
+@Builder
+@Jacksonized
+public class TrainerTrainingsRequest {
+
+    private String username;
+
+    private Date periodFrom;
+
+    private Date periodTo;
+
+    private String traineeName;
+}
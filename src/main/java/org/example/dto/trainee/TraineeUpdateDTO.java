@@ -2,6 +2,8 @@ package org.example.dto.trainee;
 
 import java.util.Date;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import jakarta.validation.constraints.NotNull;
 import lombok.Builder;
 import lombok.Getter;
@@ -23,5 +25,6 @@ public class TraineeUpdateDTO {
 
     private String address;
 
+    @JsonProperty("isActive")
     private boolean isActive;
 }
@@ -2,6 +2,8 @@ package org.example.dto.trainer;
 
 import org.example.enums.TrainingTypeName;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import jakarta.validation.constraints.NotNull;
 import lombok.Builder;
 import lombok.Getter;
@@ -22,5 +24,6 @@ public class TrainerUpdateDTO {
     @NotNull
     private TrainingTypeName specialization;
 
+    @JsonProperty("isActive")
     private boolean isActive;
 }
@@ -0,0 +1,13 @@
+package org.example.dto.training;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class TrainingImportErrorDTO {
+
+    private long line;
+
+    private String message;
+}
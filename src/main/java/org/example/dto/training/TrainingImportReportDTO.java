@@ -0,0 +1,26 @@
+package org.example.dto.training;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class TrainingImportReportDTO {
+
+    private long rowsRead;
+
+    private long rowsImported;
+
+    private long rowsFailed;
+
+    private List<TrainingImportErrorDTO> errors;
+
+    /**
+     * Set when more rows failed than {@link #errors} lists.
+     */
+    private boolean errorsTruncated;
+
+    private long elapsedMillis;
+}
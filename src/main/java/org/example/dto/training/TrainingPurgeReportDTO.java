@@ -0,0 +1,13 @@
+package org.example.dto.training;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class TrainingPurgeReportDTO {
+
+    private long rowsDeleted;
+
+    private long elapsedMillis;
+}
@@ -0,0 +1,32 @@
+package org.example.exception.concurrent;
+
+import static org.example.utils.exception.ErrorResponseFactory.getErrorResponse;
+
+import java.util.Map;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+@RestControllerAdvice
+public class BulkheadExceptionHandler {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(BulkheadFullException.class)
+    public Map<String, String> handleBulkheadFullException(BulkheadFullException ex, HttpServletResponse response) {
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        return getErrorResponse(ex.getMessage());
+    }
+
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(BulkheadTimeoutException.class)
+    public Map<String, String> handleBulkheadTimeoutException(BulkheadTimeoutException ex) {
+        return getErrorResponse(ex.getMessage());
+    }
+}
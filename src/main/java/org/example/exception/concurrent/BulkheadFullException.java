@@ -0,0 +1,8 @@
+package org.example.exception.concurrent;
+
+public class BulkheadFullException extends RuntimeException {
+
+    public BulkheadFullException(String errorMessage) {
+        super(errorMessage);
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.exception.concurrent;
+
+public class BulkheadTimeoutException extends RuntimeException {
+
+    public BulkheadTimeoutException(String errorMessage) {
+        super(errorMessage);
+    }
+}
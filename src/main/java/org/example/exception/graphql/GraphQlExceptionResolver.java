@@ -0,0 +1,44 @@
+package org.example.exception.graphql;
+
+import org.example.exception.date.IllegalDateArgumentException;
+import org.example.exception.notfound.TraineeNotFoundException;
+import org.example.exception.notfound.TrainerNotFoundException;
+import org.example.exception.notfound.TrainingNotFoundException;
+import org.example.exception.notfound.TrainingTypeNotFoundException;
+import org.example.exception.notfound.UserNotFoundException;
+import org.springframework.graphql.execution.DataFetcherExceptionResolverAdapter;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.stereotype.Component;
+
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.schema.DataFetchingEnvironment;
+
+/**
+ * GraphQL counterpart of the REST exception handlers; anything not listed stays an internal error.
+ */
+@Component
+public class GraphQlExceptionResolver extends DataFetcherExceptionResolverAdapter {
+
+    @Override
+    protected GraphQLError resolveToSingleError(Throwable ex, DataFetchingEnvironment env) {
+        if (ex instanceof TraineeNotFoundException
+                || ex instanceof TrainerNotFoundException
+                || ex instanceof TrainingNotFoundException
+                || ex instanceof TrainingTypeNotFoundException
+                || ex instanceof UserNotFoundException) {
+            return error(ErrorType.NOT_FOUND, ex, env);
+        }
+        if (ex instanceof IllegalDateArgumentException || ex instanceof IllegalArgumentException) {
+            return error(ErrorType.BAD_REQUEST, ex, env);
+        }
+        return null;
+    }
+
+    private static GraphQLError error(ErrorType errorType, Throwable ex, DataFetchingEnvironment env) {
+        return GraphqlErrorBuilder.newError(env)
+                .errorType(errorType)
+                .message(ex.getMessage())
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.exception.security;
+
+import java.io.IOException;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.security.web.authentication.www.BasicAuthenticationEntryPoint;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Answers throttled logins with {@code 429 Too Many Requests} and {@code Retry-After}; every other authentication
+ * failure gets the usual HTTP Basic challenge.
+ */
+public class CustomAuthenticationEntryPoint implements AuthenticationEntryPoint {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final BasicAuthenticationEntryPoint basicAuthenticationEntryPoint = new BasicAuthenticationEntryPoint();
+
+    public CustomAuthenticationEntryPoint() {
+        basicAuthenticationEntryPoint.setRealmName("Realm");
+    }
+
+    @Override
+    public void commence(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            AuthenticationException authException)
+            throws IOException {
+
+        if (!(authException instanceof LoginThrottledException throttled)) {
+            basicAuthenticationEntryPoint.commence(request, response, authException);
+            return;
+        }
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(throttled.getRetryAfterSeconds()));
+        Map<String, Object> data = new HashMap<>();
+        data.put(
+                "timestamp",
+                Calendar.getInstance().getTime());
+        data.put(
+                "exception",
+                throttled.getMessage());
+
+        response.getOutputStream()
+                .println(objectMapper.writeValueAsString(data));
+    }
+}
@@ -5,6 +5,7 @@ import java.util.Calendar;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.AuthenticationFailureHandler;
@@ -26,7 +27,12 @@ public class CustomAuthenticationFailureHandler implements AuthenticationFailure
             AuthenticationException exception)
             throws IOException, ServletException {
 
-        response.setStatus(HttpStatus.UNAUTHORIZED.value());
+        if (exception instanceof LoginThrottledException throttled) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(throttled.getRetryAfterSeconds()));
+        } else {
+            response.setStatus(HttpStatus.UNAUTHORIZED.value());
+        }
         Map<String, Object> data = new HashMap<>();
         data.put(
                 "timestamp",
@@ -0,0 +1,21 @@
+package org.example.exception.security;
+
+import org.springframework.security.authentication.AccountStatusException;
+
+/**
+ * Thrown instead of authenticating while a username or client address is blocked after repeated failed logins.
+ * As an {@link AccountStatusException} it stops the provider chain immediately.
+ */
+public class LoginThrottledException extends AccountStatusException {
+
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
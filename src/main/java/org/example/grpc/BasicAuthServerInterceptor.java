@@ -0,0 +1,115 @@
+package org.example.grpc;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.example.exception.security.LoginThrottledException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+import org.springframework.stereotype.Component;
+
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Grpc;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+
+/**
+ * Requires HTTP Basic credentials in the {@code authorization} metadata of every gRPC call and checks them
+ * against the same {@link AuthenticationManager} as the REST API. The result is available to the call as
+ * {@link #AUTHENTICATION}.
+ */
+@Component
+public class BasicAuthServerInterceptor implements ServerInterceptor {
+
+    public static final Metadata.Key<String> AUTHORIZATION =
+            Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+
+    /**
+     * The authenticated caller of the current call.
+     */
+    public static final Context.Key<Authentication> AUTHENTICATION = Context.key("authentication");
+
+    private static final String BASIC_PREFIX = "Basic ";
+
+    private static final Status UNAUTHENTICATED =
+            Status.UNAUTHENTICATED.withDescription("Valid Basic credentials are required");
+
+    private static final Status PERMISSION_DENIED = Status.PERMISSION_DENIED.withDescription("Access denied");
+
+    private final AuthenticationManager authenticationManager;
+
+    @Autowired
+    public BasicAuthServerInterceptor(AuthenticationManager authenticationManager) {
+        this.authenticationManager = authenticationManager;
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        SocketAddress remoteAddress = call.getAttributes().get(Grpc.TRANSPORT_ATTR_REMOTE_ADDR);
+        Authentication authentication;
+        try {
+            authentication = authenticate(headers.get(AUTHORIZATION), remoteAddress);
+        } catch (StatusRuntimeException ex) {
+            call.close(ex.getStatus(), new Metadata());
+            return new ServerCall.Listener<>() {
+            };
+        }
+        return Contexts.interceptCall(Context.current().withValue(AUTHENTICATION, authentication), call, headers,
+                next);
+    }
+
+    /**
+     * Fails the current call with {@code PERMISSION_DENIED} unless its caller has the authority, as
+     * {@code @Secured} does for the REST API.
+     */
+    public static void requireAuthority(GrantedAuthority authority) {
+        Authentication authentication = AUTHENTICATION.get();
+        if (authentication == null || authentication.getAuthorities().stream()
+                .noneMatch(granted -> authority.getAuthority().equals(granted.getAuthority()))) {
+            throw PERMISSION_DENIED.asRuntimeException();
+        }
+    }
+
+    private Authentication authenticate(String authorization, SocketAddress remoteAddress) {
+        if (authorization == null || !authorization.regionMatches(true, 0, BASIC_PREFIX, 0, BASIC_PREFIX.length())) {
+            throw UNAUTHENTICATED.asRuntimeException();
+        }
+        try {
+            String credentials = new String(
+                    Base64.getDecoder().decode(authorization.substring(BASIC_PREFIX.length()).trim()),
+                    StandardCharsets.UTF_8);
+            int separator = credentials.indexOf(':');
+            if (separator < 0) {
+                throw UNAUTHENTICATED.asRuntimeException();
+            }
+            UsernamePasswordAuthenticationToken authentication = UsernamePasswordAuthenticationToken.unauthenticated(
+                    credentials.substring(0, separator), credentials.substring(separator + 1));
+            authentication.setDetails(new WebAuthenticationDetails(clientAddress(remoteAddress), null));
+            return authenticationManager.authenticate(authentication);
+        } catch (LoginThrottledException ex) {
+            throw Status.RESOURCE_EXHAUSTED.withDescription(
+                    ex.getMessage() + ", retry in " + ex.getRetryAfterSeconds() + "s").asRuntimeException();
+        } catch (IllegalArgumentException | AuthenticationException ex) {
+            throw UNAUTHENTICATED.asRuntimeException();
+        }
+    }
+
+    private static String clientAddress(SocketAddress remoteAddress) {
+        return remoteAddress instanceof InetSocketAddress inetAddress
+                ? inetAddress.getAddress().getHostAddress()
+                : null;
+    }
+}
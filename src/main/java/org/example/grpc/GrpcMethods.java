@@ -0,0 +1,118 @@
+package org.example.grpc;
+
+import java.util.List;
+
+import org.example.config.serialization.BinaryFormatConfig;
+import org.example.dto.grpc.ActivationRequest;
+import org.example.dto.grpc.ActivationResult;
+import org.example.dto.grpc.BulkCreateResult;
+import org.example.dto.grpc.ProfileRequest;
+import org.example.dto.grpc.TraineeTrainingsRequest;
+import org.example.dto.grpc.TrainerListRequest;
+import org.example.dto.grpc.TrainerTrainingsRequest;
+import org.example.dto.trainee.TraineeDTO;
+import org.example.dto.trainee.TraineeUpdateDTO;
+import org.example.dto.trainer.TrainerDTO;
+import org.example.dto.trainer.TrainerEmbeddedDTO;
+import org.example.dto.trainer.TrainerUpdateDTO;
+import org.example.dto.training.TrainingCreateDTO;
+import org.example.dto.training.TrainingDTO;
+import org.example.utils.serialization.ProtobufSchemas;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.MethodType;
+
+/**
+ * Method descriptors of the gRPC API, built by hand from {@code proto/grpc.proto} and the messages in
+ * {@code proto/dto.proto}. Keep both files in step with this class.
+ */
+public class GrpcMethods {
+
+    public static final String PROFILE_SERVICE = "org.example.dto.ProfileService";
+
+    public static final String TRAINING_SERVICE = "org.example.dto.TrainingService";
+
+    private static final String LIST_SUFFIX = "List";
+
+    private static final ProtobufSchema SCHEMA = ProtobufSchemas.load(BinaryFormatConfig.PROTOBUF_SCHEMA_LOCATION);
+
+    private static final ObjectMapper MAPPER = new ProtobufMapper()
+            .enable(JsonGenerator.Feature.IGNORE_UNKNOWN)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .registerModule(new ParameterNamesModule());
+
+    public static final MethodDescriptor<ProfileRequest, TraineeDTO> GET_TRAINEE_PROFILE =
+            method(PROFILE_SERVICE, "GetTraineeProfile", MethodType.UNARY,
+                    marshaller(ProfileRequest.class), marshaller(TraineeDTO.class));
+
+    public static final MethodDescriptor<ProfileRequest, TrainerDTO> GET_TRAINER_PROFILE =
+            method(PROFILE_SERVICE, "GetTrainerProfile", MethodType.UNARY,
+                    marshaller(ProfileRequest.class), marshaller(TrainerDTO.class));
+
+    public static final MethodDescriptor<ProfileRequest, List<TrainerEmbeddedDTO>> GET_UNASSIGNED_TRAINERS =
+            method(PROFILE_SERVICE, "GetUnassignedTrainers", MethodType.UNARY,
+                    marshaller(ProfileRequest.class), listMarshaller(TrainerEmbeddedDTO.class));
+
+    public static final MethodDescriptor<TraineeUpdateDTO, TraineeDTO> UPDATE_TRAINEE_PROFILE =
+            method(PROFILE_SERVICE, "UpdateTraineeProfile", MethodType.UNARY,
+                    marshaller(TraineeUpdateDTO.class), marshaller(TraineeDTO.class));
+
+    public static final MethodDescriptor<TrainerUpdateDTO, TrainerDTO> UPDATE_TRAINER_PROFILE =
+            method(PROFILE_SERVICE, "UpdateTrainerProfile", MethodType.UNARY,
+                    marshaller(TrainerUpdateDTO.class), marshaller(TrainerDTO.class));
+
+    public static final MethodDescriptor<TrainerListRequest, List<TrainerEmbeddedDTO>> UPDATE_TRAINEE_TRAINERS =
+            method(PROFILE_SERVICE, "UpdateTraineeTrainers", MethodType.UNARY,
+                    marshaller(TrainerListRequest.class), listMarshaller(TrainerEmbeddedDTO.class));
+
+    public static final MethodDescriptor<ActivationRequest, ActivationResult> TOGGLE_TRAINEE_ACTIVATION =
+            method(PROFILE_SERVICE, "ToggleTraineeActivation", MethodType.UNARY,
+                    marshaller(ActivationRequest.class), marshaller(ActivationResult.class));
+
+    public static final MethodDescriptor<ActivationRequest, ActivationResult> TOGGLE_TRAINER_ACTIVATION =
+            method(PROFILE_SERVICE, "ToggleTrainerActivation", MethodType.UNARY,
+                    marshaller(ActivationRequest.class), marshaller(ActivationResult.class));
+
+    public static final MethodDescriptor<TraineeTrainingsRequest, TrainingDTO> GET_TRAINEE_TRAININGS =
+            method(TRAINING_SERVICE, "GetTraineeTrainings", MethodType.SERVER_STREAMING,
+                    marshaller(TraineeTrainingsRequest.class), marshaller(TrainingDTO.class));
+
+    public static final MethodDescriptor<TrainerTrainingsRequest, TrainingDTO> GET_TRAINER_TRAININGS =
+            method(TRAINING_SERVICE, "GetTrainerTrainings", MethodType.SERVER_STREAMING,
+                    marshaller(TrainerTrainingsRequest.class), marshaller(TrainingDTO.class));
+
+    public static final MethodDescriptor<TrainingCreateDTO, BulkCreateResult> CREATE_TRAININGS =
+            method(TRAINING_SERVICE, "CreateTrainings", MethodType.CLIENT_STREAMING,
+                    marshaller(TrainingCreateDTO.class), marshaller(BulkCreateResult.class));
+
+    private GrpcMethods() {
+    }
+
+    private static <T> JacksonProtobufMarshaller<T> marshaller(Class<T> type) {
+        return new JacksonProtobufMarshaller<>(MAPPER, SCHEMA.withRootType(type.getSimpleName()),
+                MAPPER.constructType(type));
+    }
+
+    private static <T> JacksonProtobufMarshaller<List<T>> listMarshaller(Class<T> elementType) {
+        return new JacksonProtobufMarshaller<>(MAPPER, SCHEMA.withRootType(elementType.getSimpleName() + LIST_SUFFIX),
+                MAPPER.getTypeFactory().constructCollectionType(List.class, elementType));
+    }
+
+    private static <ReqT, RespT> MethodDescriptor<ReqT, RespT> method(String service, String name, MethodType type,
+                                                                     MethodDescriptor.Marshaller<ReqT> request,
+                                                                     MethodDescriptor.Marshaller<RespT> response) {
+        return MethodDescriptor.<ReqT, RespT>newBuilder()
+                .setType(type)
+                .setFullMethodName(MethodDescriptor.generateFullMethodName(service, name))
+                .setRequestMarshaller(request)
+                .setResponseMarshaller(response)
+                .build();
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.grpc;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.example.exception.date.IllegalDateArgumentException;
+import org.example.exception.notfound.TraineeNotFoundException;
+import org.example.exception.notfound.TrainerNotFoundException;
+import org.example.exception.notfound.TrainingNotFoundException;
+import org.example.exception.notfound.TrainingTypeNotFoundException;
+import org.example.exception.notfound.UserNotFoundException;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Completes gRPC calls from service results, translating service exceptions into the status codes that
+ * match the REST exception handlers.
+ */
+@Slf4j
+public class GrpcResponses {
+
+    private GrpcResponses() {
+    }
+
+    public static <T> void unary(StreamObserver<T> responseObserver, Supplier<T> result) {
+        T value;
+        try {
+            value = result.get();
+        } catch (RuntimeException ex) {
+            responseObserver.onError(toStatusException(ex));
+            return;
+        }
+        responseObserver.onNext(value);
+        responseObserver.onCompleted();
+    }
+
+    /**
+     * Streams the loaded items only while the transport is ready, so a slow client does not make the server
+     * buffer the whole list in memory.
+     */
+    public static <T> void stream(StreamObserver<T> responseObserver, Supplier<List<T>> result) {
+        List<T> items;
+        try {
+            items = result.get();
+        } catch (RuntimeException ex) {
+            responseObserver.onError(toStatusException(ex));
+            return;
+        }
+
+        ServerCallStreamObserver<T> call = (ServerCallStreamObserver<T>) responseObserver;
+        Iterator<T> iterator = items.iterator();
+        AtomicBoolean completed = new AtomicBoolean();
+        Runnable drain = () -> {
+            while (call.isReady() && iterator.hasNext()) {
+                call.onNext(iterator.next());
+            }
+            if (!iterator.hasNext() && completed.compareAndSet(false, true)) {
+                call.onCompleted();
+            }
+        };
+        call.setOnCancelHandler(() -> log.info("gRPC stream was cancelled by the client"));
+        call.setOnReadyHandler(drain);
+        drain.run();
+    }
+
+    public static StatusRuntimeException toStatusException(RuntimeException ex) {
+        if (ex instanceof StatusRuntimeException statusException) {
+            return statusException;
+        }
+        if (ex instanceof TraineeNotFoundException
+                || ex instanceof TrainerNotFoundException
+                || ex instanceof TrainingNotFoundException
+                || ex instanceof TrainingTypeNotFoundException
+                || ex instanceof UserNotFoundException) {
+            return Status.NOT_FOUND.withDescription(ex.getMessage()).asRuntimeException();
+        }
+        if (ex instanceof IllegalDateArgumentException || ex instanceof IllegalArgumentException) {
+            return Status.INVALID_ARGUMENT.withDescription(ex.getMessage()).asRuntimeException();
+        }
+        log.error("gRPC call failed", ex);
+        return Status.INTERNAL.withDescription("Internal error").asRuntimeException();
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.grpc;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import io.grpc.BindableService;
+import io.grpc.Grpc;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.ServerInterceptors;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs the gRPC API on its own port next to the servlet container, started and stopped with the application
+ * context. Port {@code 0} picks a free port, see {@link #getPort()}.
+ * <p>
+ * Calls run on a fixed pool of {@code grpc.server.threads} threads rather than grpc's unbounded cached pool, so a
+ * flood of calls, which does not pass through the servlet rate limiter, queues here instead of competing for every
+ * database connection.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "grpc.server.enabled", havingValue = "true", matchIfMissing = true)
+public class GrpcServer implements SmartLifecycle {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final int port;
+
+    private final int threads;
+
+    private final List<BindableService> services;
+
+    private final BasicAuthServerInterceptor authInterceptor;
+
+    private volatile Server server;
+
+    private volatile ExecutorService executor;
+
+    @Autowired
+    public GrpcServer(@Value("${grpc.server.port:9090}") int port, @Value("${grpc.server.threads:16}") int threads,
+                      List<BindableService> services, BasicAuthServerInterceptor authInterceptor) {
+        this.port = port;
+        this.threads = threads;
+        this.services = services;
+        this.authInterceptor = authInterceptor;
+    }
+
+    @Override
+    public void start() {
+        executor = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("grpc-server-"));
+        ServerBuilder<?> builder = Grpc.newServerBuilderForPort(port, InsecureServerCredentials.create())
+                .executor(executor);
+        services.forEach(service -> builder.addService(ServerInterceptors.intercept(service, authInterceptor)));
+        try {
+            server = builder.build().start();
+        } catch (IOException ex) {
+            executor.shutdown();
+            throw new UncheckedIOException("Could not start gRPC server on port " + port, ex);
+        }
+        log.info("gRPC server started successfully on port {} with {} threads", server.getPort(), threads);
+    }
+
+    @Override
+    public void stop() {
+        Server running = server;
+        if (running == null) {
+            return;
+        }
+        running.shutdown();
+        try {
+            if (!running.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                running.shutdownNow();
+            }
+        } catch (InterruptedException ex) {
+            running.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        executor.shutdownNow();
+        server = null;
+        log.info("gRPC server stopped successfully");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    public int getPort() {
+        Server running = server;
+        return running == null ? -1 : running.getPort();
+    }
+}
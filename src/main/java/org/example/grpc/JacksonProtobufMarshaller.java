@@ -0,0 +1,79 @@
+package org.example.grpc;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+/**
+ * Encodes gRPC messages with Jackson against a message of the shared {@code .proto} schema, so the existing DTOs
+ * travel over gRPC without generated classes.
+ * <p>
+ * Collection types are carried in the schema's wrapper message through its repeated {@code items} field.
+ * An empty payload, which is how protobuf encodes a message with no fields set, decodes as an empty object.
+ */
+public class JacksonProtobufMarshaller<T> implements MethodDescriptor.Marshaller<T> {
+
+    private static final String LIST_FIELD = "items";
+
+    private final ObjectMapper mapper;
+
+    private final JavaType type;
+
+    private final ObjectWriter writer;
+
+    private final ObjectReader reader;
+
+    public JacksonProtobufMarshaller(ObjectMapper mapper, ProtobufSchema schema, JavaType type) {
+        this.mapper = mapper;
+        this.type = type;
+        this.writer = mapper.writer(schema);
+        this.reader = type.isCollectionLikeType()
+                ? mapper.readerFor(JsonNode.class).with(schema)
+                : mapper.readerFor(type).with(schema);
+    }
+
+    @Override
+    public InputStream stream(T value) {
+        Object message = type.isCollectionLikeType() ? Collections.singletonMap(LIST_FIELD, value) : value;
+        try {
+            return new ByteArrayInputStream(writer.writeValueAsBytes(message));
+        } catch (JsonProcessingException ex) {
+            throw Status.INTERNAL
+                    .withDescription("Could not encode " + type.getRawClass().getSimpleName())
+                    .withCause(ex)
+                    .asRuntimeException();
+        }
+    }
+
+    @Override
+    public T parse(InputStream stream) {
+        try {
+            byte[] payload = stream.readAllBytes();
+            if (payload.length == 0) {
+                return mapper.convertValue(mapper.createObjectNode(), type);
+            }
+            if (type.isCollectionLikeType()) {
+                JsonNode wrapper = reader.readValue(payload);
+                return mapper.convertValue(wrapper.path(LIST_FIELD), type);
+            }
+            return reader.readValue(payload);
+        } catch (IOException | IllegalArgumentException ex) {
+            throw Status.INVALID_ARGUMENT
+                    .withDescription("Could not decode " + type.getRawClass().getSimpleName())
+                    .withCause(ex)
+                    .asRuntimeException();
+        }
+    }
+}
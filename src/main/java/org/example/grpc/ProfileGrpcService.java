@@ -0,0 +1,132 @@
+package org.example.grpc;
+
+import java.util.List;
+import java.util.Set;
+
+import org.example.dto.grpc.ActivationRequest;
+import org.example.dto.grpc.ActivationResult;
+import org.example.dto.grpc.ProfileRequest;
+import org.example.dto.grpc.TrainerListRequest;
+import org.example.dto.trainee.TraineeDTO;
+import org.example.dto.trainee.TraineeUpdateDTO;
+import org.example.dto.trainer.TrainerDTO;
+import org.example.dto.trainer.TrainerEmbeddedDTO;
+import org.example.dto.trainer.TrainerListDTO;
+import org.example.dto.trainer.TrainerUpdateDTO;
+import org.example.enums.RoleName;
+import org.example.service.TraineeService;
+import org.example.service.TrainerService;
+import org.example.utils.converter.TraineeConverter;
+import org.example.utils.converter.TrainerConverter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.grpc.BindableService;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.stub.ServerCalls;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class ProfileGrpcService implements BindableService {
+
+    private final TraineeService traineeService;
+
+    private final TrainerService trainerService;
+
+    private final Validator validator;
+
+    @Autowired
+    public ProfileGrpcService(TraineeService traineeService, TrainerService trainerService, Validator validator) {
+        this.traineeService = traineeService;
+        this.trainerService = trainerService;
+        this.validator = validator;
+    }
+
+    @Override
+    public ServerServiceDefinition bindService() {
+        return ServerServiceDefinition.builder(GrpcMethods.PROFILE_SERVICE)
+                .addMethod(GrpcMethods.GET_TRAINEE_PROFILE, ServerCalls.asyncUnaryCall(this::getTraineeProfile))
+                .addMethod(GrpcMethods.GET_TRAINER_PROFILE, ServerCalls.asyncUnaryCall(this::getTrainerProfile))
+                .addMethod(GrpcMethods.GET_UNASSIGNED_TRAINERS, ServerCalls.asyncUnaryCall(this::getUnassignedTrainers))
+                .addMethod(GrpcMethods.UPDATE_TRAINEE_PROFILE, ServerCalls.asyncUnaryCall(this::updateTraineeProfile))
+                .addMethod(GrpcMethods.UPDATE_TRAINER_PROFILE, ServerCalls.asyncUnaryCall(this::updateTrainerProfile))
+                .addMethod(GrpcMethods.UPDATE_TRAINEE_TRAINERS, ServerCalls.asyncUnaryCall(this::updateTraineeTrainers))
+                .addMethod(GrpcMethods.TOGGLE_TRAINEE_ACTIVATION,
+                        ServerCalls.asyncUnaryCall(this::toggleTraineeActivation))
+                .addMethod(GrpcMethods.TOGGLE_TRAINER_ACTIVATION,
+                        ServerCalls.asyncUnaryCall(this::toggleTrainerActivation))
+                .build();
+    }
+
+    public void getTraineeProfile(ProfileRequest request, StreamObserver<TraineeDTO> responseObserver) {
+        log.info("gRPC method 'GetTraineeProfile' was called to get a trainee profile");
+        GrpcResponses.unary(responseObserver, () -> traineeService.getTraineeProfile(request.getUsername()));
+    }
+
+    public void getTrainerProfile(ProfileRequest request, StreamObserver<TrainerDTO> responseObserver) {
+        log.info("gRPC method 'GetTrainerProfile' was called to get a trainer profile");
+        GrpcResponses.unary(responseObserver, () -> trainerService.getTrainerProfile(request.getUsername()));
+    }
+
+    public void getUnassignedTrainers(ProfileRequest request, StreamObserver<List<TrainerEmbeddedDTO>> responseObserver) {
+        log.info("gRPC method 'GetUnassignedTrainers' was called to get a list of unassigned trainers");
+        GrpcResponses.unary(responseObserver, () -> TrainerConverter.convertToEmbeddedDtoList(
+                trainerService.getNotAssignedTrainerList(request.getUsername())));
+    }
+
+    public void updateTraineeProfile(TraineeUpdateDTO request, StreamObserver<TraineeDTO> responseObserver) {
+        log.info("gRPC method 'UpdateTraineeProfile' was called to update trainee profile");
+        GrpcResponses.unary(responseObserver, () -> TraineeConverter.convertToDto(
+                traineeService.updateTrainee(validated(request))));
+    }
+
+    public void updateTrainerProfile(TrainerUpdateDTO request, StreamObserver<TrainerDTO> responseObserver) {
+        log.info("gRPC method 'UpdateTrainerProfile' was called to update trainer profile");
+        GrpcResponses.unary(responseObserver, () -> TrainerConverter.convertToDto(
+                trainerService.updateTrainer(validated(request))));
+    }
+
+    public void updateTraineeTrainers(TrainerListRequest request,
+                                      StreamObserver<List<TrainerEmbeddedDTO>> responseObserver) {
+        log.info("gRPC method 'UpdateTraineeTrainers' was called to update trainee's trainer list");
+        GrpcResponses.unary(responseObserver, () -> TrainerConverter.convertToEmbeddedDtoList(
+                trainerService.updateTraineeTrainerList(validated(request).getTraineeUsername(),
+                        new TrainerListDTO(request.getTrainerUsernameList()))));
+    }
+
+    public void toggleTraineeActivation(ActivationRequest request, StreamObserver<ActivationResult> responseObserver) {
+        log.info("gRPC method 'ToggleTraineeActivation' was called to toggle trainee's activation status");
+        GrpcResponses.unary(responseObserver, () -> {
+            BasicAuthServerInterceptor.requireAuthority(RoleName.ADMIN);
+            return ActivationResult.builder()
+                    .successful(traineeService.toggleTraineeActivation(request.getUsername(), request.isActive()))
+                    .build();
+        });
+    }
+
+    public void toggleTrainerActivation(ActivationRequest request, StreamObserver<ActivationResult> responseObserver) {
+        log.info("gRPC method 'ToggleTrainerActivation' was called to toggle trainer's activation status");
+        GrpcResponses.unary(responseObserver, () -> {
+            BasicAuthServerInterceptor.requireAuthority(RoleName.ADMIN);
+            return ActivationResult.builder()
+                    .successful(trainerService.toggleTrainerActivation(request.getUsername(), request.isActive()))
+                    .build();
+        });
+    }
+
+    /**
+     * Applies the bean validation the REST API gets from {@code @Valid}.
+     */
+    private <T> T validated(T request) {
+        Set<ConstraintViolation<T>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<T> violation = violations.iterator().next();
+            throw new IllegalArgumentException(violation.getPropertyPath() + " " + violation.getMessage());
+        }
+        return request;
+    }
+}
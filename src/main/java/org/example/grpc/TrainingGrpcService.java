@@ -0,0 +1,116 @@
+package org.example.grpc;
+
+import java.util.Set;
+
+import org.example.dto.grpc.BulkCreateResult;
+import org.example.dto.grpc.TraineeTrainingsRequest;
+import org.example.dto.grpc.TrainerTrainingsRequest;
+import org.example.dto.training.TrainingCreateDTO;
+import org.example.dto.training.TrainingDTO;
+import org.example.service.TrainingService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.grpc.BindableService;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.stub.ServerCalls;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class TrainingGrpcService implements BindableService {
+
+    private final TrainingService trainingService;
+
+    private final Validator validator;
+
+    @Autowired
+    public TrainingGrpcService(TrainingService trainingService, Validator validator) {
+        this.trainingService = trainingService;
+        this.validator = validator;
+    }
+
+    @Override
+    public ServerServiceDefinition bindService() {
+        return ServerServiceDefinition.builder(GrpcMethods.TRAINING_SERVICE)
+                .addMethod(GrpcMethods.GET_TRAINEE_TRAININGS, ServerCalls.asyncServerStreamingCall(this::getTraineeTrainings))
+                .addMethod(GrpcMethods.GET_TRAINER_TRAININGS, ServerCalls.asyncServerStreamingCall(this::getTrainerTrainings))
+                .addMethod(GrpcMethods.CREATE_TRAININGS, ServerCalls.asyncClientStreamingCall(this::createTrainings))
+                .build();
+    }
+
+    public void getTraineeTrainings(TraineeTrainingsRequest request, StreamObserver<TrainingDTO> responseObserver) {
+        log.info("gRPC method 'GetTraineeTrainings' was called to stream a trainee's training list");
+        GrpcResponses.stream(responseObserver, () -> trainingService.getTraineeTrainingDtoList(
+                request.getUsername(),
+                request.getPeriodFrom(),
+                request.getPeriodTo(),
+                request.getTrainerName(),
+                request.getTrainingType()));
+    }
+
+    public void getTrainerTrainings(TrainerTrainingsRequest request, StreamObserver<TrainingDTO> responseObserver) {
+        log.info("gRPC method 'GetTrainerTrainings' was called to stream a trainer's training list");
+        GrpcResponses.stream(responseObserver, () -> trainingService.getTrainerTrainingDtoList(
+                request.getUsername(),
+                request.getPeriodFrom(),
+                request.getPeriodTo(),
+                request.getTraineeName()));
+    }
+
+    /**
+     * Creates each streamed training in its own transaction; invalid or failing items are counted as rejected
+     * instead of failing the whole call.
+     */
+    public StreamObserver<TrainingCreateDTO> createTrainings(StreamObserver<BulkCreateResult> responseObserver) {
+        log.info("gRPC method 'CreateTrainings' was called to add a stream of trainings");
+        return new StreamObserver<>() {
+
+            private int created;
+
+            private int rejected;
+
+            @Override
+            public void onNext(TrainingCreateDTO trainingCreateDTO) {
+                if (createTraining(trainingCreateDTO)) {
+                    created++;
+                } else {
+                    rejected++;
+                }
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                log.warn("Bulk training creation ended by the client after {} created and {} rejected",
+                        created, rejected);
+            }
+
+            @Override
+            public void onCompleted() {
+                log.info("Bulk training creation finished: {} created, {} rejected", created, rejected);
+                responseObserver.onNext(BulkCreateResult.builder()
+                        .created(created)
+                        .rejected(rejected)
+                        .build());
+                responseObserver.onCompleted();
+            }
+        };
+    }
+
+    private boolean createTraining(TrainingCreateDTO trainingCreateDTO) {
+        Set<ConstraintViolation<TrainingCreateDTO>> violations = validator.validate(trainingCreateDTO);
+        if (!violations.isEmpty()) {
+            log.warn("Rejected training in bulk creation: {}", violations.iterator().next().getMessage());
+            return false;
+        }
+        try {
+            return trainingService.createTraining(trainingCreateDTO);
+        } catch (RuntimeException ex) {
+            log.warn("Rejected training in bulk creation: {}", ex.getMessage());
+            return false;
+        }
+    }
+}
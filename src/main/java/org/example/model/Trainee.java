@@ -10,6 +10,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
@@ -45,7 +46,11 @@ public class Trainee {
     @JoinTable(
             name = "trainers_trainees",
             joinColumns = @JoinColumn(name = "trainee_id"),
-            inverseJoinColumns = @JoinColumn(name = "trainer_id")
+            inverseJoinColumns = @JoinColumn(name = "trainer_id"),
+            indexes = {
+                    @Index(name = "idx_trainers_trainees_trainee_trainer", columnList = "trainee_id, trainer_id"),
+                    @Index(name = "idx_trainers_trainees_trainer", columnList = "trainer_id")
+            }
     )
     private List<Trainer> trainerList = new ArrayList<>();
 
@@ -0,0 +1,55 @@
+package org.example.model;
+
+import java.util.Date;
+
+import org.example.enums.TrainingTypeName;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Read model of {@link Training}: one row per training, sharing its id, with the names a training list shows
+ * already resolved, so lists are read from this table alone. Kept in step with {@code training} in the same
+ * transaction by every write that changes a training or the names of its trainee or trainer.
+ */
+@Entity
+@Table(name = "training_view", indexes = {
+        @Index(name = "idx_training_view_trainee_date", columnList = "trainee_username, training_date"),
+        @Index(name = "idx_training_view_trainer_date", columnList = "trainer_username, training_date")
+})
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class TrainingView {
+
+    @Id
+    private long id;
+
+    private String traineeUsername;
+
+    private String traineeName;
+
+    private String trainerUsername;
+
+    private String trainerName;
+
+    private String trainingName;
+
+    @Enumerated(EnumType.STRING)
+    private TrainingTypeName trainingTypeName;
+
+    private Date trainingDate;
+
+    private int trainingDuration;
+}
@@ -1,9 +1,14 @@
 package org.example.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.example.model.Trainee;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -12,4 +17,35 @@ public interface TraineeRepository extends ListCrudRepository<Trainee, Long> {
     Optional<Trainee> findByUserUsername(String username);
 
     boolean deleteByUserUsername(String username);
+
+    @Query("SELECT t FROM Trainee t JOIN FETCH t.user")
+    List<Trainee> findAllWithUser();
+
+    @Query("SELECT te.id, tr.id FROM Trainee te JOIN te.trainerList tr")
+    List<Object[]> findAllTrainerAssignments();
+
+    @Query("SELECT COUNT(tr) > 0 FROM Trainee te JOIN te.trainerList tr "
+            + "WHERE te.id = :traineeId AND tr.id = :trainerId")
+    boolean existsTrainerAssignment(@Param("traineeId") long traineeId, @Param("trainerId") long trainerId);
+
+    @Query("SELECT tr.id FROM Trainee te JOIN te.trainerList tr WHERE te.id = :traineeId")
+    List<Long> findTrainerIdsByTraineeId(@Param("traineeId") long traineeId);
+
+    @Query("SELECT t FROM Trainee t JOIN FETCH t.user ORDER BY t.id")
+    List<Trainee> findPageWithUser(Pageable pageable);
+
+    @Query("SELECT t FROM Trainee t JOIN FETCH t.user u WHERE u.username IN :usernames")
+    List<Trainee> findAllByUsernameIn(@Param("usernames") Collection<String> usernames);
+
+    /**
+     * Rows of {@code [trainerId, trainee]} for every trainee assigned to one of the given trainers.
+     */
+    @Query("SELECT tr.id, te FROM Trainee te JOIN FETCH te.user JOIN te.trainerList tr WHERE tr.id IN :trainerIds")
+    List<Object[]> findAllByTrainerIdIn(@Param("trainerIds") Collection<Long> trainerIds);
+
+    /**
+     * Rows of {@code [username, id]} for the given usernames; unknown usernames have no row.
+     */
+    @Query("SELECT u.username, t.id FROM Trainee t JOIN t.user u WHERE u.username IN :usernames")
+    List<Object[]> findIdsByUsernameIn(@Param("usernames") Collection<String> usernames);
 }
@@ -1,11 +1,14 @@
 package org.example.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.example.model.Trainer;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -15,10 +18,40 @@ public interface TrainerRepository extends ListCrudRepository<Trainer, Long> {
 
     boolean deleteByUserUsername(String username);
 
-//    @Query("SELECT t FROM Trainer t "
-//            + "LEFT JOIN t.traineeList te "
-//            + "WHERE te IS NULL "
-//            + "OR te.user.username = :traineeUsername "
-//            + "AND t.user.isActive = true")
-    List<Trainer> findByTraineeListUserUsernameAndUserIsActiveIsTrueOrTraineeListIsNull(String traineeUsername);
+    @Query("SELECT t FROM Trainer t JOIN FETCH t.user LEFT JOIN FETCH t.specialization")
+    List<Trainer> findAllWithUser();
+
+    @Query("SELECT t FROM Trainer t JOIN FETCH t.user u LEFT JOIN FETCH t.specialization WHERE u.username IN :usernames")
+    List<Trainer> findAllByUsernameIn(@Param("usernames") Collection<String> usernames);
+
+    @Query("SELECT t FROM Trainer t JOIN FETCH t.user LEFT JOIN FETCH t.specialization ORDER BY t.id")
+    List<Trainer> findPageWithUser(Pageable pageable);
+
+    /**
+     * Rows of {@code [traineeId, trainer]} for every trainer assigned to one of the given trainees.
+     */
+    @Query("SELECT te.id, tr FROM Trainee te JOIN te.trainerList tr JOIN FETCH tr.user LEFT JOIN FETCH tr.specialization "
+            + "WHERE te.id IN :traineeIds")
+    List<Object[]> findAllByTraineeIdIn(@Param("traineeIds") Collection<Long> traineeIds);
+
+    @Query("SELECT t FROM Trainer t "
+            + "JOIN FETCH t.user u "
+            + "LEFT JOIN FETCH t.specialization "
+            + "WHERE u.isActive = true "
+            + "AND NOT EXISTS ("
+            + "SELECT 1 FROM Trainee te JOIN te.trainerList assigned "
+            + "WHERE assigned = t AND te.user.username = :traineeUsername)")
+    List<Trainer> findActiveTrainersNotAssignedToTrainee(@Param("traineeUsername") String traineeUsername);
+
+    /**
+     * Rows of {@code [username, id]} for the given usernames; unknown usernames have no row.
+     */
+    @Query("SELECT u.username, t.id FROM Trainer t JOIN t.user u WHERE u.username IN :usernames")
+    List<Object[]> findIdsByUsernameIn(@Param("usernames") Collection<String> usernames);
+
+    /**
+     * Rows of {@code [id, username]} for the given trainer ids; unknown ids have no row.
+     */
+    @Query("SELECT t.id, u.username FROM Trainer t JOIN t.user u WHERE t.id IN :ids")
+    List<Object[]> findUsernamesByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -1,20 +1,60 @@
 package org.example.repository;
 
-import java.util.Date;
+import java.util.Collection;
 import java.util.List;
 
-import org.example.enums.TrainingTypeName;
 import org.example.model.Training;
-import org.example.model.TrainingType;
+import org.example.utils.analytics.TrainingFacts;
+import org.example.utils.timeseries.TimelineEntry;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface TrainingRepository extends ListCrudRepository<Training, Long> {
+public interface TrainingRepository extends ListCrudRepository<Training, Long>, JpaSpecificationExecutor<Training> {
 
-    List<Training> findByTraineeUserUsernameAndTrainingDateBetweenAndTrainerUserUsernameAndTrainingTypeTrainingTypeName(
-            String username, Date periodFrom, Date periodTo, String trainerName, String trainingTypeName);
+    @Override
+    @EntityGraph(attributePaths = {"trainer.user", "trainingType"})
+    List<Training> findAll(Specification<Training> specification);
 
-    List<Training> findByTrainerUserUsernameAndTrainingDateBetweenAndTraineeUserUsername(
-            String username, Date periodFrom, Date periodTo, String traineeName);
+    @Query("SELECT COALESCE(MAX(t.id), 0) FROM Training t")
+    long findMaxId();
+
+    @Query("SELECT new org.example.utils.timeseries.TimelineEntry(t.id, teu.username, tru.username, t.trainingDate) "
+            + "FROM Training t JOIN t.trainee te JOIN te.user teu JOIN t.trainer tr JOIN tr.user tru "
+            + "WHERE t.id > :afterId")
+    List<TimelineEntry> findTimelineEntriesAfter(@Param("afterId") long afterId);
+
+    @Query("SELECT new org.example.utils.timeseries.TimelineEntry(t.id, teu.username, tru.username, t.trainingDate) "
+            + "FROM Training t JOIN t.trainee te JOIN te.user teu JOIN t.trainer tr JOIN tr.user tru "
+            + "WHERE t.id IN :ids")
+    List<TimelineEntry> findTimelineEntriesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new org.example.utils.analytics.TrainingFacts("
+            + "t.id, t.trainee.id, t.trainer.id, tt.trainingTypeName, t.trainingDate, t.trainingDuration) "
+            + "FROM Training t LEFT JOIN t.trainingType tt WHERE t.id > :afterId")
+    List<TrainingFacts> findTrainingFactsAfter(@Param("afterId") long afterId);
+
+    @Query("SELECT new org.example.utils.analytics.TrainingFacts("
+            + "t.id, t.trainee.id, t.trainer.id, tt.trainingTypeName, t.trainingDate, t.trainingDuration) "
+            + "FROM Training t LEFT JOIN t.trainingType tt WHERE t.id IN :ids")
+    List<TrainingFacts> findTrainingFactsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT t FROM Training t "
+            + "JOIN FETCH t.trainee te JOIN FETCH te.user "
+            + "JOIN FETCH t.trainer tr JOIN FETCH tr.user LEFT JOIN FETCH tr.specialization "
+            + "LEFT JOIN FETCH t.trainingType "
+            + "WHERE te.id IN :traineeIds ORDER BY t.trainingDate")
+    List<Training> findAllByTraineeIdIn(@Param("traineeIds") Collection<Long> traineeIds);
+
+    @Query("SELECT t FROM Training t "
+            + "JOIN FETCH t.trainee te JOIN FETCH te.user "
+            + "JOIN FETCH t.trainer tr JOIN FETCH tr.user LEFT JOIN FETCH tr.specialization "
+            + "LEFT JOIN FETCH t.trainingType "
+            + "WHERE tr.id IN :trainerIds ORDER BY t.trainingDate")
+    List<Training> findAllByTrainerIdIn(@Param("trainerIds") Collection<Long> trainerIds);
 }
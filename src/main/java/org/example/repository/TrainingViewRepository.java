@@ -0,0 +1,48 @@
+package org.example.repository;
+
+import org.example.model.TrainingView;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TrainingViewRepository extends ListCrudRepository<TrainingView, Long>,
+        JpaSpecificationExecutor<TrainingView> {
+
+    @Modifying
+    @Query("UPDATE TrainingView v SET v.traineeName = :traineeName WHERE v.traineeUsername = :username")
+    int updateTraineeName(@Param("username") String username, @Param("traineeName") String traineeName);
+
+    @Modifying
+    @Query("UPDATE TrainingView v SET v.trainerName = :trainerName WHERE v.trainerUsername = :username")
+    int updateTrainerName(@Param("username") String username, @Param("trainerName") String trainerName);
+
+    @Modifying
+    @Query("DELETE FROM TrainingView v WHERE v.traineeUsername = :username")
+    int deleteByTraineeUsername(@Param("username") String username);
+
+    @Modifying
+    @Query("DELETE FROM TrainingView v WHERE v.trainerUsername = :username")
+    int deleteByTrainerUsername(@Param("username") String username);
+
+    /**
+     * Adds the view rows of trainings with an id above {@code afterId} that have none, for writes that insert
+     * trainings without going through the entities.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO training_view (id, trainee_username, trainee_name, trainer_username, trainer_name, "
+            + "training_name, training_type_name, training_date, training_duration) "
+            + "SELECT t.id, teu.username, CONCAT(teu.first_name, ' ', teu.last_name), "
+            + "tru.username, CONCAT(tru.first_name, ' ', tru.last_name), "
+            + "t.training_name, tt.training_type_name, t.training_date, t.training_duration "
+            + "FROM training t "
+            + "JOIN trainee te ON te.id = t.trainee_id JOIN user teu ON teu.id = te.user_id "
+            + "JOIN trainer tr ON tr.id = t.trainer_id JOIN user tru ON tru.id = tr.user_id "
+            + "LEFT JOIN training_type tt ON tt.id = t.training_type_id "
+            + "WHERE t.id > :afterId AND NOT EXISTS (SELECT 1 FROM training_view v WHERE v.id = t.id)",
+            nativeQuery = true)
+    int insertMissingAfter(@Param("afterId") long afterId);
+}
@@ -0,0 +1,93 @@
+package org.example.repository.specification;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+import org.example.enums.TrainingTypeName;
+import org.example.model.Training;
+import org.springframework.data.jpa.domain.Specification;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Builds training list filters that contain only the predicates actually supplied.
+ * <p>
+ * Predicates are emitted in the column order of the composite indexes on {@code training}:
+ * owner ({@code trainee_id} or {@code trainer_id}) first, then the {@code training_date} range,
+ * then the optional counterpart and training type filters evaluated on the narrowed range.
+ */
+public class TrainingSpecifications {
+
+    private static final String USERNAME = "username";
+
+    private TrainingSpecifications() {
+    }
+
+    /**
+     * Restricts a training list to the given training ids, which are loaded in one {@code IN} list.
+     */
+    public static Specification<Training> idIn(Collection<Long> trainingIds) {
+        return (root, query, criteriaBuilder) -> root.get("id").in(trainingIds);
+    }
+
+    public static Specification<Training> traineeTrainings(String traineeUsername,
+                                                          Date periodFrom,
+                                                          Date periodTo,
+                                                          String trainerUsername,
+                                                          TrainingTypeName trainingTypeName) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(criteriaBuilder.equal(username(root, "trainee"), traineeUsername));
+            addPeriod(predicates, root, criteriaBuilder, periodFrom, periodTo);
+            if (trainerUsername != null) {
+                predicates.add(criteriaBuilder.equal(username(root, "trainer"), trainerUsername));
+            }
+            if (trainingTypeName != null) {
+                predicates.add(criteriaBuilder.equal(
+                        root.get("trainingType").get("trainingTypeName"), trainingTypeName));
+            }
+            query.orderBy(criteriaBuilder.asc(root.get("trainingDate")));
+            return criteriaBuilder.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    public static Specification<Training> trainerTrainings(String trainerUsername,
+                                                          Date periodFrom,
+                                                          Date periodTo,
+                                                          String traineeUsername) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(criteriaBuilder.equal(username(root, "trainer"), trainerUsername));
+            addPeriod(predicates, root, criteriaBuilder, periodFrom, periodTo);
+            if (traineeUsername != null) {
+                predicates.add(criteriaBuilder.equal(username(root, "trainee"), traineeUsername));
+            }
+            query.orderBy(criteriaBuilder.asc(root.get("trainingDate")));
+            return criteriaBuilder.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    private static Path<String> username(Root<Training> root, String profile) {
+        return root.join(profile).join("user").get(USERNAME);
+    }
+
+    private static void addPeriod(List<Predicate> predicates,
+                                  Root<Training> root,
+                                  CriteriaBuilder criteriaBuilder,
+                                  Date periodFrom,
+                                  Date periodTo) {
+        Path<Date> trainingDate = root.get("trainingDate");
+        if (periodFrom != null && periodTo != null) {
+            predicates.add(criteriaBuilder.between(trainingDate, periodFrom, periodTo));
+        } else if (periodFrom != null) {
+            predicates.add(criteriaBuilder.greaterThanOrEqualTo(trainingDate, periodFrom));
+        } else if (periodTo != null) {
+            predicates.add(criteriaBuilder.lessThanOrEqualTo(trainingDate, periodTo));
+        }
+    }
+}
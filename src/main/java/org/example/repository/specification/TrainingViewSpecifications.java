@@ -0,0 +1,87 @@
+package org.example.repository.specification;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+import org.example.enums.TrainingTypeName;
+import org.example.model.TrainingView;
+import org.springframework.data.jpa.domain.Specification;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Training list filters on {@code training_view}, with the same predicates as {@link TrainingSpecifications}
+ * but on one table: owner username first, then the {@code training_date} range, both covered by the view's
+ * composite indexes, then the optional counterpart and training type filters.
+ */
+public class TrainingViewSpecifications {
+
+    private static final String TRAINEE_USERNAME = "traineeUsername";
+    private static final String TRAINER_USERNAME = "trainerUsername";
+
+    private TrainingViewSpecifications() {
+    }
+
+    /**
+     * Restricts a training list to the given training ids, which are loaded in one {@code IN} list.
+     */
+    public static Specification<TrainingView> idIn(Collection<Long> trainingIds) {
+        return (root, query, criteriaBuilder) -> root.get("id").in(trainingIds);
+    }
+
+    public static Specification<TrainingView> traineeTrainings(String traineeUsername,
+                                                              Date periodFrom,
+                                                              Date periodTo,
+                                                              String trainerUsername,
+                                                              TrainingTypeName trainingTypeName) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(criteriaBuilder.equal(root.get(TRAINEE_USERNAME), traineeUsername));
+            addPeriod(predicates, root, criteriaBuilder, periodFrom, periodTo);
+            if (trainerUsername != null) {
+                predicates.add(criteriaBuilder.equal(root.get(TRAINER_USERNAME), trainerUsername));
+            }
+            if (trainingTypeName != null) {
+                predicates.add(criteriaBuilder.equal(root.get("trainingTypeName"), trainingTypeName));
+            }
+            query.orderBy(criteriaBuilder.asc(root.get("trainingDate")));
+            return criteriaBuilder.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    public static Specification<TrainingView> trainerTrainings(String trainerUsername,
+                                                              Date periodFrom,
+                                                              Date periodTo,
+                                                              String traineeUsername) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(criteriaBuilder.equal(root.get(TRAINER_USERNAME), trainerUsername));
+            addPeriod(predicates, root, criteriaBuilder, periodFrom, periodTo);
+            if (traineeUsername != null) {
+                predicates.add(criteriaBuilder.equal(root.get(TRAINEE_USERNAME), traineeUsername));
+            }
+            query.orderBy(criteriaBuilder.asc(root.get("trainingDate")));
+            return criteriaBuilder.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    private static void addPeriod(List<Predicate> predicates,
+                                  Root<TrainingView> root,
+                                  CriteriaBuilder criteriaBuilder,
+                                  Date periodFrom,
+                                  Date periodTo) {
+        Path<Date> trainingDate = root.get("trainingDate");
+        if (periodFrom != null && periodTo != null) {
+            predicates.add(criteriaBuilder.between(trainingDate, periodFrom, periodTo));
+        } else if (periodFrom != null) {
+            predicates.add(criteriaBuilder.greaterThanOrEqualTo(trainingDate, periodFrom));
+        } else if (periodTo != null) {
+            predicates.add(criteriaBuilder.lessThanOrEqualTo(trainingDate, periodTo));
+        }
+    }
+}
@@ -1,10 +1,20 @@
 package org.example.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
+import org.example.config.cache.CacheConfig;
+import org.example.config.concurrent.BulkheadConfig;
+import org.example.config.concurrent.BulkheadProperties;
 import org.example.dto.credentials.CredentialsUpdateDTO;
+import org.example.dto.trainee.TraineeDTO;
+import org.example.dto.trainee.TraineeEmbeddedDTO;
 import org.example.dto.trainee.TraineeUpdateDTO;
 import org.example.exception.credentials.IdenticalPasswordException;
 import org.example.exception.credentials.IncorrectPasswordException;
@@ -12,25 +22,87 @@ import org.example.exception.notfound.TraineeNotFoundException;
 import org.example.model.Trainee;
 import org.example.model.User;
 import org.example.repository.TraineeRepository;
+import org.example.repository.TrainingViewRepository;
+import org.example.utils.analytics.TrainingColumnStore;
+import org.example.utils.cache.TrainingListCache;
+import org.example.utils.concurrent.Bulkhead;
+import org.example.utils.concurrent.SingleFlight;
+import org.example.utils.converter.TraineeConverter;
+import org.example.utils.converter.TrainingViewConverter;
 import org.example.utils.credentials.CredentialsGenerator;
+import org.example.utils.graph.AssignmentGraph;
+import org.example.utils.search.PrefixSearchIndex;
+import org.example.utils.timeseries.TrainingTimeline;
+import org.example.utils.transaction.TransactionCallbacks;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 import lombok.extern.slf4j.Slf4j;
 
 @Service
 @Slf4j
-public class TraineeService {
+public class TraineeService implements SmartInitializingSingleton {
+
+    private static final int MAX_SEARCH_RESULTS = 100;
+
+    private static final int MAX_PAGE_SIZE = 100;
 
     private final TraineeRepository traineeRepository;
 
+    private final TrainingViewRepository trainingViewRepository;
+
     private final CredentialsGenerator generator;
 
+    private final PrefixSearchIndex<TraineeEmbeddedDTO> traineeSearchIndex;
+
+    private final AssignmentGraph assignmentGraph;
+
+    private final TrainingTimeline trainingTimeline;
+
+    private final TrainingColumnStore trainingColumnStore;
+
+    private final TrainingIndexSync trainingIndexSync;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final SingleFlight<String, TraineeDTO> profileReads;
+
+    private final Bulkhead bulkReads;
+
+    private final TrainingListCache trainingListCache;
+
     @Autowired
-    public TraineeService(TraineeRepository traineeRepository, CredentialsGenerator credentialsGenerator) {
+    public TraineeService(TraineeRepository traineeRepository, TrainingViewRepository trainingViewRepository,
+                          CredentialsGenerator credentialsGenerator,
+                          PrefixSearchIndex<TraineeEmbeddedDTO> traineeSearchIndex, AssignmentGraph assignmentGraph,
+                          TrainingTimeline trainingTimeline, TrainingColumnStore trainingColumnStore,
+                          TrainingIndexSync trainingIndexSync,
+                          PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                          @Qualifier(BulkheadConfig.BULK_READS) Bulkhead bulkReads,
+                          BulkheadProperties bulkheadProperties, TrainingListCache trainingListCache) {
         this.traineeRepository = traineeRepository;
+        this.trainingViewRepository = trainingViewRepository;
         this.generator = credentialsGenerator;
+        this.traineeSearchIndex = traineeSearchIndex;
+        this.assignmentGraph = assignmentGraph;
+        this.trainingTimeline = trainingTimeline;
+        this.trainingColumnStore = trainingColumnStore;
+        this.trainingIndexSync = trainingIndexSync;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.profileReads = new SingleFlight<>("trainee.profile",
+                bulkheadProperties.getSharedProfileReadTimeout(), meterRegistry);
+        this.bulkReads = bulkReads;
+        this.trainingListCache = trainingListCache;
     }
 
     @Transactional
@@ -42,6 +114,7 @@ public class TraineeService {
         newTrainee.setUsername(username);
         newTrainee.setPassword(password);
         Trainee savedTrainee = traineeRepository.save(newTrainee);
+        indexTrainee(savedTrainee);
         log.info("Trainee successfully created");
         return savedTrainee;
     }
@@ -54,6 +127,46 @@ public class TraineeService {
         return trainee;
     }
 
+    /**
+     * Trainees with their users, either by username or the first {@code limit} by id.
+     */
+    @Transactional(readOnly = true)
+    public List<Trainee> getTrainees(Collection<String> usernames, int limit) {
+        List<Trainee> trainees;
+        if (usernames != null) {
+            if (usernames.size() > MAX_PAGE_SIZE) {
+                throw new IllegalArgumentException("At most " + MAX_PAGE_SIZE + " usernames can be requested");
+            }
+            trainees = traineeRepository.findAllByUsernameIn(usernames);
+        } else {
+            trainees = traineeRepository.findPageWithUser(PageRequest.of(0, Math.min(limit, MAX_PAGE_SIZE)));
+        }
+        log.info("Trainees successfully retrieved");
+        return trainees;
+    }
+
+    /**
+     * Trainees assigned to each of the given trainers, loaded with one query.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<Trainee>> getTraineesByTrainerIds(Collection<Long> trainerIds) {
+        Map<Long, List<Trainee>> traineesByTrainerId = new HashMap<>();
+        for (Object[] row : traineeRepository.findAllByTrainerIdIn(trainerIds)) {
+            traineesByTrainerId.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((Trainee) row[1]);
+        }
+        log.info("Trainees of trainers successfully retrieved");
+        return traineesByTrainerId;
+    }
+
+    /**
+     * Loads and converts the trainee profile, sharing one in-flight read between concurrent callers
+     * for the same username. The transaction is opened by the leader only, so waiting callers hold no connection.
+     */
+    public TraineeDTO getTraineeProfile(String username) {
+        return profileReads.execute(username, () -> readOnlyTransaction.execute(status ->
+                TraineeConverter.convertToDto(getTraineeByUsername(username))));
+    }
+
     @Transactional
     public Trainee changePassword(CredentialsUpdateDTO credentialsUpdateDTO) {
         Trainee trainee = getTraineeByUsername(credentialsUpdateDTO.getUsername());
@@ -71,12 +184,18 @@ public class TraineeService {
     @Transactional
     public Trainee updateTrainee(TraineeUpdateDTO traineeUpdateDTO) {
         Trainee trainee = getTraineeByUsername(traineeUpdateDTO.getUsername());
+        String oldName = TrainingViewConverter.fullName(trainee.getUser());
         trainee.getUser().setFirstName(traineeUpdateDTO.getFirstName());
         trainee.getUser().setLastName(traineeUpdateDTO.getLastName());
+        String newName = TrainingViewConverter.fullName(trainee.getUser());
+        if (!newName.equals(oldName)) {
+            trainingViewRepository.updateTraineeName(trainee.getUsername(), newName);
+        }
         trainee.setDateOfBirth(traineeUpdateDTO.getDateOfBirth());
         trainee.setAddress(traineeUpdateDTO.getAddress());
         trainee.getUser().setActive(traineeUpdateDTO.isActive());
         Trainee updatedTrainee = traineeRepository.save(trainee);
+        indexTrainee(updatedTrainee);
         log.info("Trainee successfully updated");
         return updatedTrainee;
     }
@@ -91,10 +210,21 @@ public class TraineeService {
         return Optional.ofNullable(updatedTrainee).isPresent();
     }
 
+    @CacheEvict(cacheNames = CacheConfig.UNASSIGNED_TRAINERS, key = "#username")
     @Transactional
     public boolean deleteTrainee(String username) {
+        traineeRepository.findByUserUsername(username).ifPresent(trainee -> {
+            TransactionCallbacks.afterCommit(() -> assignmentGraph.removeTrainee(trainee.getId()));
+            TransactionCallbacks.afterCommit(() -> trainingColumnStore.removeTrainee(trainee.getId()));
+        });
         boolean deletionResult = traineeRepository.deleteByUserUsername(username);
         if (deletionResult) {
+            trainingViewRepository.deleteByTraineeUsername(username);
+            TransactionCallbacks.afterCommit(() -> traineeSearchIndex.remove(username));
+            TransactionCallbacks.afterCommit(() -> trainingTimeline.removeTrainee(username));
+            TransactionCallbacks.afterCommit(trainingIndexSync::trainingsReplaced);
+            // The trainings went with the trainee; lists of every counterpart may have shrunk.
+            TransactionCallbacks.afterCommit(trainingListCache::evictAll);
             log.info("Trainee successfully deleted");
             return true;
         } else {
@@ -103,13 +233,49 @@ public class TraineeService {
         }
     }
 
-    @Transactional(readOnly = true)
-    public List<Trainee> getAllTrainees() {
-        List<Trainee> trainees = traineeRepository.findAll();
-        log.info("Successfully retrieved all Trainees");
+    /**
+     * Every trainee, read on the bulk-read bulkhead.
+     */
+    public CompletableFuture<List<Trainee>> getAllTrainees() {
+        return bulkReads.submit(() -> {
+            List<Trainee> trainees = readOnlyTransaction.execute(status -> traineeRepository.findAll());
+            log.info("Successfully retrieved all Trainees");
+            return trainees;
+        });
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        buildSearchIndex();
+    }
+
+    /**
+     * Builds the search index of this node from the database and swaps it in; it is not updated from peers.
+     */
+    public void buildSearchIndex() {
+        traineeSearchIndex.load(() -> readOnlyTransaction.execute(status -> traineeRepository.findAllWithUser().stream()
+                .map(TraineeService::searchEntry)
+                .toList()));
+        log.info("Trainee search index built with {} entries", traineeSearchIndex.size());
+    }
+
+    public List<TraineeEmbeddedDTO> searchTrainees(String query, int limit) {
+        List<TraineeEmbeddedDTO> trainees = traineeSearchIndex.search(query, Math.min(limit, MAX_SEARCH_RESULTS));
+        log.info("Successfully searched Trainees");
         return trainees;
     }
 
+    private void indexTrainee(Trainee trainee) {
+        PrefixSearchIndex.Entry<TraineeEmbeddedDTO> entry = searchEntry(trainee);
+        TransactionCallbacks.afterCommit(() -> traineeSearchIndex.put(entry.id(), entry.value(), entry.fields()));
+    }
+
+    private static PrefixSearchIndex.Entry<TraineeEmbeddedDTO> searchEntry(Trainee trainee) {
+        User user = trainee.getUser();
+        return new PrefixSearchIndex.Entry<>(user.getUsername(), TraineeConverter.convertToEmbeddedDto(trainee),
+                user.getFirstName(), user.getLastName(), user.getUsername());
+    }
+
     private User buildNewUser(String firstName, String lastName) {
         return User.builder()
                 .firstName(firstName)
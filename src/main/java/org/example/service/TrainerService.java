@@ -1,9 +1,20 @@
 package org.example.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
+import org.example.config.cache.CacheConfig;
+import org.example.config.concurrent.BulkheadConfig;
+import org.example.config.concurrent.BulkheadProperties;
 import org.example.dto.credentials.CredentialsUpdateDTO;
+import org.example.dto.trainer.TrainerDTO;
+import org.example.dto.trainer.TrainerEmbeddedDTO;
 import org.example.dto.trainer.TrainerListDTO;
 import org.example.dto.trainer.TrainerUpdateDTO;
 import org.example.enums.TrainingTypeName;
@@ -18,16 +29,40 @@ import org.example.model.User;
 import org.example.repository.TraineeRepository;
 import org.example.repository.TrainerRepository;
 import org.example.repository.TrainingTypeRepository;
+import org.example.repository.TrainingViewRepository;
+import org.example.utils.analytics.TrainingColumnStore;
+import org.example.utils.cache.TrainingListCache;
+import org.example.utils.concurrent.Bulkhead;
+import org.example.utils.concurrent.SingleFlight;
+import org.example.utils.converter.TrainerConverter;
+import org.example.utils.converter.TrainingViewConverter;
 import org.example.utils.credentials.CredentialsGenerator;
+import org.example.utils.graph.AssignmentGraph;
+import org.example.utils.search.PrefixSearchIndex;
+import org.example.utils.timeseries.TrainingTimeline;
+import org.example.utils.transaction.TransactionCallbacks;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 import lombok.extern.slf4j.Slf4j;
 
 @Service
 @Slf4j
-public class TrainerService {
+public class TrainerService implements SmartInitializingSingleton {
+
+    private static final int MAX_SEARCH_RESULTS = 100;
+
+    private static final int MAX_PAGE_SIZE = 100;
 
     private final TrainerRepository trainerRepository;
 
@@ -37,15 +72,55 @@ public class TrainerService {
 
     private final TrainingTypeRepository trainingTypeRepository;
 
+    private final TrainingViewRepository trainingViewRepository;
+
+    private final PrefixSearchIndex<TrainerEmbeddedDTO> trainerSearchIndex;
+
+    private final AssignmentGraph assignmentGraph;
+
+    private final TrainingTimeline trainingTimeline;
+
+    private final TrainingColumnStore trainingColumnStore;
+
+    private final TrainingIndexSync trainingIndexSync;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final SingleFlight<String, TrainerDTO> profileReads;
+
+    private final Bulkhead bulkReads;
+
+    private final TrainingListCache trainingListCache;
+
     @Autowired
     public TrainerService(TrainerRepository trainerRepository, TraineeRepository traineeRepository,
-                          CredentialsGenerator credentialsGenerator, TrainingTypeRepository trainingTypeRepository) {
+                          CredentialsGenerator credentialsGenerator, TrainingTypeRepository trainingTypeRepository,
+                          TrainingViewRepository trainingViewRepository,
+                          PrefixSearchIndex<TrainerEmbeddedDTO> trainerSearchIndex, AssignmentGraph assignmentGraph,
+                          TrainingTimeline trainingTimeline, TrainingColumnStore trainingColumnStore,
+                          TrainingIndexSync trainingIndexSync,
+                          PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                          @Qualifier(BulkheadConfig.BULK_READS) Bulkhead bulkReads,
+                          BulkheadProperties bulkheadProperties, TrainingListCache trainingListCache) {
         this.trainerRepository = trainerRepository;
         this.traineeRepository = traineeRepository;
         this.generator = credentialsGenerator;
         this.trainingTypeRepository = trainingTypeRepository;
+        this.trainingViewRepository = trainingViewRepository;
+        this.trainerSearchIndex = trainerSearchIndex;
+        this.assignmentGraph = assignmentGraph;
+        this.trainingTimeline = trainingTimeline;
+        this.trainingColumnStore = trainingColumnStore;
+        this.trainingIndexSync = trainingIndexSync;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.profileReads = new SingleFlight<>("trainer.profile",
+                bulkheadProperties.getSharedProfileReadTimeout(), meterRegistry);
+        this.bulkReads = bulkReads;
+        this.trainingListCache = trainingListCache;
     }
 
+    @CacheEvict(cacheNames = CacheConfig.UNASSIGNED_TRAINERS, allEntries = true)
     @Transactional
     public Trainer createTrainer(String firstName, String lastName, TrainingTypeName specialization) {
         TrainingType trainingType = trainingTypeRepository.findByTrainingTypeName(specialization)
@@ -57,6 +132,7 @@ public class TrainerService {
         newTrainer.setUsername(username);
         newTrainer.setPassword(password);
         Trainer savedTrained = trainerRepository.save(newTrainer);
+        indexTrainer(savedTrained);
         log.info("Trainer successfully saved");
         return savedTrained;
     }
@@ -69,6 +145,46 @@ public class TrainerService {
         return trainer;
     }
 
+    /**
+     * Trainers with their users and specializations, either by username or the first {@code limit} by id.
+     */
+    @Transactional(readOnly = true)
+    public List<Trainer> getTrainers(Collection<String> usernames, int limit) {
+        List<Trainer> trainers;
+        if (usernames != null) {
+            if (usernames.size() > MAX_PAGE_SIZE) {
+                throw new IllegalArgumentException("At most " + MAX_PAGE_SIZE + " usernames can be requested");
+            }
+            trainers = trainerRepository.findAllByUsernameIn(usernames);
+        } else {
+            trainers = trainerRepository.findPageWithUser(PageRequest.of(0, Math.min(limit, MAX_PAGE_SIZE)));
+        }
+        log.info("Trainers successfully retrieved");
+        return trainers;
+    }
+
+    /**
+     * Trainers assigned to each of the given trainees, loaded with one query.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<Trainer>> getTrainersByTraineeIds(Collection<Long> traineeIds) {
+        Map<Long, List<Trainer>> trainersByTraineeId = new HashMap<>();
+        for (Object[] row : trainerRepository.findAllByTraineeIdIn(traineeIds)) {
+            trainersByTraineeId.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((Trainer) row[1]);
+        }
+        log.info("Trainers of trainees successfully retrieved");
+        return trainersByTraineeId;
+    }
+
+    /**
+     * Loads and converts the trainer profile, sharing one in-flight read between concurrent callers
+     * for the same username. The transaction is opened by the leader only, so waiting callers hold no connection.
+     */
+    public TrainerDTO getTrainerProfile(String username) {
+        return profileReads.execute(username, () -> readOnlyTransaction.execute(status ->
+                TrainerConverter.convertToDto(getTrainerByUsername(username))));
+    }
+
     @Transactional
     public Trainer changePassword(CredentialsUpdateDTO credentialsUpdateDTO) {
         Trainer trainer = getTrainerByUsername(credentialsUpdateDTO.getUsername());
@@ -83,20 +199,30 @@ public class TrainerService {
         return updatedTrainer;
     }
 
+    @CacheEvict(cacheNames = CacheConfig.UNASSIGNED_TRAINERS, allEntries = true)
     @Transactional
     public Trainer updateTrainer(TrainerUpdateDTO trainerUpdateDTO) {
         Trainer trainer = getTrainerByUsername(trainerUpdateDTO.getUsername());
         TrainingType trainingType = trainingTypeRepository.findByTrainingTypeName(trainerUpdateDTO.getSpecialization())
                 .orElseThrow(() -> new TrainingTypeNotFoundException("Training type not found"));
+        String oldName = TrainingViewConverter.fullName(trainer.getUser());
         trainer.getUser().setFirstName(trainerUpdateDTO.getFirstName());
         trainer.getUser().setLastName(trainerUpdateDTO.getLastName());
+        String newName = TrainingViewConverter.fullName(trainer.getUser());
+        if (!newName.equals(oldName)) {
+            trainingViewRepository.updateTrainerName(trainer.getUsername(), newName);
+            // Trainee training lists show the trainer's name.
+            TransactionCallbacks.afterCommit(trainingListCache::evictAll);
+        }
         trainer.setSpecialization(trainingType);
         trainer.getUser().setActive(trainerUpdateDTO.isActive());
         Trainer updatedTrainer = trainerRepository.save(trainer);
+        indexTrainer(updatedTrainer);
         log.info("Trainer successfully updated");
         return updatedTrainer;
     }
 
+    @CacheEvict(cacheNames = CacheConfig.UNASSIGNED_TRAINERS, allEntries = true)
     public boolean toggleTrainerActivation(String username, boolean isActive) {
         Trainer trainer = trainerRepository.findByUserUsername(username)
                 .orElseThrow(() -> new TrainerNotFoundException("Trainer type not found"));
@@ -106,10 +232,21 @@ public class TrainerService {
         return Optional.ofNullable(updatedTrainer).isPresent();
     }
 
+    @CacheEvict(cacheNames = CacheConfig.UNASSIGNED_TRAINERS, allEntries = true)
     @Transactional
     public boolean deleteTrainer(String username) {
+        trainerRepository.findByUserUsername(username).ifPresent(trainer -> {
+            TransactionCallbacks.afterCommit(() -> assignmentGraph.removeTrainer(trainer.getId()));
+            TransactionCallbacks.afterCommit(() -> trainingColumnStore.removeTrainer(trainer.getId()));
+        });
         boolean deletionResult = trainerRepository.deleteByUserUsername(username);
         if (deletionResult) {
+            trainingViewRepository.deleteByTrainerUsername(username);
+            TransactionCallbacks.afterCommit(() -> trainerSearchIndex.remove(username));
+            TransactionCallbacks.afterCommit(() -> trainingTimeline.removeTrainer(username));
+            TransactionCallbacks.afterCommit(trainingIndexSync::trainingsReplaced);
+            // The trainings went with the trainer; lists of every counterpart may have shrunk.
+            TransactionCallbacks.afterCommit(trainingListCache::evictAll);
             log.info("Trainer successfully deleted");
             return true;
         } else {
@@ -118,37 +255,81 @@ public class TrainerService {
         }
     }
 
+    @Cacheable(cacheNames = CacheConfig.UNASSIGNED_TRAINERS, key = "#traineeUsername")
     @Transactional(readOnly = true)
     public List<Trainer> getNotAssignedTrainerList(String traineeUsername) {
-        List<Trainer> unassignedTrainers = trainerRepository.findByTraineeListUserUsernameAndUserIsActiveIsTrueOrTraineeListIsNull(traineeUsername);
+        List<Trainer> unassignedTrainers = trainerRepository.findActiveTrainersNotAssignedToTrainee(traineeUsername);
         log.info("Successfully retrieved unassigned trainers");
         return unassignedTrainers;
     }
 
-    @Transactional(readOnly = true)
-    public List<Trainer> getAllTrainers() {
-        List<Trainer> trainers = trainerRepository.findAll();
-        log.info("Successfully retrieved all trainers");
-        return trainers;
+    /**
+     * Every trainer, read on the bulk-read bulkhead.
+     */
+    public CompletableFuture<List<Trainer>> getAllTrainers() {
+        return bulkReads.submit(() -> {
+            List<Trainer> trainers = readOnlyTransaction.execute(status -> trainerRepository.findAll());
+            log.info("Successfully retrieved all trainers");
+            return trainers;
+        });
     }
 
+    @CacheEvict(cacheNames = CacheConfig.UNASSIGNED_TRAINERS, key = "#traineeUsername")
     @Transactional
     public List<Trainer> updateTraineeTrainerList(String traineeUsername, TrainerListDTO trainerListDTO) {
         Trainee trainee = traineeRepository.findByUserUsername(traineeUsername)
                 .orElseThrow(() -> new TrainerNotFoundException("Trainer not found"));
-        List<Trainer> trainers = trainerRepository.findAll().stream()
-                .filter(trainer -> trainerListDTO.getTrainerUsernameList().contains(trainer.getUsername()))
+        Set<Long> assignedTrainerIds = Set.copyOf(traineeRepository.findTrainerIdsByTraineeId(trainee.getId()));
+        List<Trainer> newTrainers = trainerRepository.findAllByUsernameIn(trainerListDTO.getTrainerUsernameList())
+                .stream()
+                .filter(trainer -> !assignedTrainerIds.contains(trainer.getId()))
                 .toList();
-        trainee.getTrainerList().addAll(trainers);
+        trainee.getTrainerList().addAll(newTrainers);
         Trainee updatedTrainee = traineeRepository.save(trainee);
+        TransactionCallbacks.afterCommit(() -> newTrainers.forEach(trainer ->
+                assignmentGraph.link(trainee.getId(), trainer.getId())));
+        TransactionCallbacks.afterCommit(() -> trainingIndexSync.assignmentsChanged(trainee.getId()));
         log.info("Successfully updated trainee's trainers list");
         return updatedTrainee.getTrainerList();
     }
 
+    @Override
+    public void afterSingletonsInstantiated() {
+        buildSearchIndex();
+    }
+
+    /**
+     * Builds the search index of this node from the database and swaps it in; it is not updated from peers.
+     */
+    public void buildSearchIndex() {
+        trainerSearchIndex.load(() -> readOnlyTransaction.execute(status -> trainerRepository.findAllWithUser().stream()
+                .map(TrainerService::searchEntry)
+                .toList()));
+        log.info("Trainer search index built with {} entries", trainerSearchIndex.size());
+    }
+
+    public List<TrainerEmbeddedDTO> searchTrainers(String query, int limit) {
+        List<TrainerEmbeddedDTO> trainers = trainerSearchIndex.search(query, Math.min(limit, MAX_SEARCH_RESULTS));
+        log.info("Successfully searched trainers");
+        return trainers;
+    }
+
+    private void indexTrainer(Trainer trainer) {
+        PrefixSearchIndex.Entry<TrainerEmbeddedDTO> entry = searchEntry(trainer);
+        TransactionCallbacks.afterCommit(() -> trainerSearchIndex.put(entry.id(), entry.value(), entry.fields()));
+    }
+
+    private static PrefixSearchIndex.Entry<TrainerEmbeddedDTO> searchEntry(Trainer trainer) {
+        User user = trainer.getUser();
+        return new PrefixSearchIndex.Entry<>(user.getUsername(), TrainerConverter.convertToEmbeddedDto(trainer),
+                user.getFirstName(), user.getLastName(), user.getUsername());
+    }
+
     private User buildNewUser(String firstName, String lastName) {
         return User.builder()
                 .firstName(firstName)
                 .lastName(lastName)
+                .isActive(true)
                 .build();
     }
 
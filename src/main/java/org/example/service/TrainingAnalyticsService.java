@@ -0,0 +1,99 @@
+package org.example.service;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.example.dto.analytics.TrainerDurationAverageDTO;
+import org.example.dto.analytics.TrainingDurationBucketDTO;
+import org.example.dto.analytics.TrainingDurationByMonthDTO;
+import org.example.enums.TrainingTypeName;
+import org.example.exception.date.IllegalDateArgumentException;
+import org.example.repository.TrainerRepository;
+import org.example.utils.analytics.TrainingColumnStore;
+import org.example.utils.converter.TrainingAnalyticsConverter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Training aggregates computed from the in-memory {@link TrainingColumnStore} rather than from the database.
+ * The store is loaded and kept current across nodes by {@link TrainingIndexSync}, and by the services that write
+ * trainings on this node.
+ */
+@Service
+@Slf4j
+public class TrainingAnalyticsService {
+
+    private static final String DATE_PATTERN = "yyyy-MM-dd";
+
+    private final TrainingColumnStore trainingColumnStore;
+
+    private final TrainerRepository trainerRepository;
+
+    @Autowired
+    public TrainingAnalyticsService(TrainingColumnStore trainingColumnStore, TrainerRepository trainerRepository) {
+        this.trainingColumnStore = trainingColumnStore;
+        this.trainerRepository = trainerRepository;
+    }
+
+    public List<TrainingDurationByMonthDTO> getDurationByMonth(Date periodFrom, Date periodTo) {
+        validateDates(periodFrom, periodTo);
+        List<TrainingDurationByMonthDTO> durations = trainingColumnStore.durationByMonthAndType(periodFrom, periodTo)
+                .stream()
+                .map(TrainingAnalyticsConverter::convertToDto)
+                .toList();
+        log.info("Successfully computed training duration by month");
+        return durations;
+    }
+
+    @Transactional(readOnly = true)
+    public List<TrainerDurationAverageDTO> getTrainerAverages(Date periodFrom,
+                                                              Date periodTo,
+                                                              TrainingTypeName trainingTypeName) {
+        validateDates(periodFrom, periodTo);
+        List<TrainingColumnStore.TrainerDuration> trainerDurations =
+                trainingColumnStore.durationByTrainer(periodFrom, periodTo, trainingTypeName);
+        Map<Long, String> trainerUsernames = new HashMap<>();
+        if (!trainerDurations.isEmpty()) {
+            for (Object[] row : trainerRepository.findUsernamesByIdIn(trainerDurations.stream()
+                    .map(TrainingColumnStore.TrainerDuration::trainerId)
+                    .toList())) {
+                trainerUsernames.put((Long) row[0], (String) row[1]);
+            }
+        }
+        List<TrainerDurationAverageDTO> averages = trainerDurations.stream()
+                .map(trainerDuration -> TrainingAnalyticsConverter.convertToDto(trainerDuration, trainerUsernames))
+                .toList();
+        log.info("Successfully computed trainer training duration averages");
+        return averages;
+    }
+
+    public List<TrainingDurationBucketDTO> getDurationHistogram(int bucketWidth,
+                                                                Date periodFrom,
+                                                                Date periodTo,
+                                                                TrainingTypeName trainingTypeName) {
+        validateDates(periodFrom, periodTo);
+        List<TrainingDurationBucketDTO> histogram = trainingColumnStore
+                .durationHistogram(bucketWidth, periodFrom, periodTo, trainingTypeName)
+                .stream()
+                .map(TrainingAnalyticsConverter::convertToDto)
+                .toList();
+        log.info("Successfully computed training duration histogram");
+        return histogram;
+    }
+
+    private void validateDates(Date periodFrom, Date periodTo) {
+        if (periodFrom != null && periodTo != null && periodTo.before(periodFrom)) {
+            SimpleDateFormat dateFormat = new SimpleDateFormat(DATE_PATTERN);
+            throw new IllegalDateArgumentException(String.format(
+                    "'Period to' date %s must be after 'period from' date %s",
+                    dateFormat.format(periodTo),
+                    dateFormat.format(periodFrom)));
+        }
+    }
+}
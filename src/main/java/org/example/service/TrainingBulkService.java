@@ -0,0 +1,143 @@
+package org.example.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.example.dto.training.TrainingPurgeReportDTO;
+import org.example.model.Training;
+import org.example.utils.analytics.TrainingColumnStore;
+import org.example.utils.bulk.StatelessBulkTemplate;
+import org.example.utils.cache.TrainingListCache;
+import org.example.utils.timeseries.TrainingTimeline;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Whole-table training jobs run on {@link StatelessBulkTemplate}, so their memory use stays at one chunk however
+ * many trainings there are.
+ */
+@Slf4j
+@Service
+public class TrainingBulkService {
+
+    private static final String EXPORT_QUERY = "select v.traineeUsername, v.trainerUsername, "
+            + "v.trainingTypeName, v.trainingDate, v.trainingDuration "
+            + "from TrainingView v order by v.id";
+
+    private static final String DELETE_TRAINING_VIEWS = "delete from TrainingView v where v.id in :ids";
+
+    private static final String DELETE_TRAININGS = "delete from Training t where t.id in :ids";
+
+    private final StatelessBulkTemplate bulkTemplate;
+
+    private final TrainingListCache trainingListCache;
+
+    private final TrainingTimeline trainingTimeline;
+
+    private final TrainingColumnStore trainingColumnStore;
+
+    private final TrainingIndexSync trainingIndexSync;
+
+    @Autowired
+    public TrainingBulkService(StatelessBulkTemplate bulkTemplate, TrainingListCache trainingListCache,
+                               TrainingTimeline trainingTimeline, TrainingColumnStore trainingColumnStore,
+                               TrainingIndexSync trainingIndexSync) {
+        this.bulkTemplate = bulkTemplate;
+        this.trainingListCache = trainingListCache;
+        this.trainingTimeline = trainingTimeline;
+        this.trainingColumnStore = trainingColumnStore;
+        this.trainingIndexSync = trainingIndexSync;
+    }
+
+    /**
+     * Writes every training as CSV in the format {@link TrainingImportService} reads, header included, flushing
+     * after each chunk. Returns the number of trainings written.
+     */
+    public long exportTrainings(OutputStream output) throws IOException {
+        long start = System.nanoTime();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        writer.write(String.join(",", TrainingImportService.HEADER));
+        writer.write('\n');
+        long rowsExported;
+        try {
+            rowsExported = bulkTemplate.scroll(EXPORT_QUERY, Object[].class, Map.of(), chunk -> write(writer, chunk));
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        writer.flush();
+        log.info("Training export successfully finished: {} rows in {} ms",
+                rowsExported, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return rowsExported;
+    }
+
+    /**
+     * Deletes the trainings dated before {@code trainedBefore}, one committed chunk at a time. Trainers stay
+     * assigned to their trainees; only the training history goes. Peers are told to rebuild once, when the purge
+     * ends.
+     */
+    public TrainingPurgeReportDTO purgeTrainings(Date trainedBefore) {
+        long start = System.nanoTime();
+        long rowsDeleted;
+        try {
+            rowsDeleted = bulkTemplate.forEachIdChunk(Training.class, "e.trainingDate < :trainedBefore",
+                    Map.of("trainedBefore", trainedBefore),
+                    (session, ids) -> {
+                        session.createMutationQuery(DELETE_TRAINING_VIEWS)
+                                .setParameter("ids", ids)
+                                .executeUpdate();
+                        session.createMutationQuery(DELETE_TRAININGS)
+                                .setParameter("ids", ids)
+                                .executeUpdate();
+                    },
+                    this::forgetPurged);
+        } finally {
+            trainingListCache.evictAll();
+            trainingIndexSync.trainingsReplaced();
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        log.info("Training purge successfully finished: {} rows deleted in {} ms", rowsDeleted, elapsedMillis);
+        return TrainingPurgeReportDTO.builder()
+                .rowsDeleted(rowsDeleted)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    private void forgetPurged(List<Long> ids) {
+        long[] trainingIds = ids.stream().mapToLong(Long::longValue).toArray();
+        trainingTimeline.removeAll(trainingIds);
+        trainingColumnStore.removeAll(trainingIds);
+    }
+
+    private static void write(Writer writer, List<Object[]> chunk) {
+        try {
+            StringBuilder lines = new StringBuilder();
+            for (Object[] row : chunk) {
+                lines.append(row[0]).append(',')
+                        .append(row[1]).append(',')
+                        .append(row[2]).append(',')
+                        .append(Instant.ofEpochMilli(((Date) row[3]).getTime())
+                                .atZone(ZoneId.systemDefault())
+                                .toLocalDate())
+                        .append(',')
+                        .append(row[4]).append('\n');
+            }
+            writer.write(lines.toString());
+            writer.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,386 @@
+package org.example.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.example.config.cache.CacheConfig;
+import org.example.dto.training.TrainingImportErrorDTO;
+import org.example.dto.training.TrainingImportReportDTO;
+import org.example.enums.TrainingTypeName;
+import org.example.model.TrainingType;
+import org.example.repository.TraineeRepository;
+import org.example.repository.TrainerRepository;
+import org.example.repository.TrainingRepository;
+import org.example.repository.TrainingTypeRepository;
+import org.example.repository.TrainingViewRepository;
+import org.example.utils.analytics.TrainingColumnStore;
+import org.example.utils.analytics.TrainingFacts;
+import org.example.utils.cache.TrainingListCache;
+import org.example.utils.csv.CsvReader;
+import org.example.utils.graph.AssignmentGraph;
+import org.example.utils.timeseries.TimelineEntry;
+import org.example.utils.timeseries.TrainingTimeline;
+import org.example.utils.transaction.TransactionCallbacks;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Imports trainings from CSV with the columns {@code traineeUsername, trainerUsername, trainingTypeName,
+ * trainingDate, trainingDuration}; a header row with these names is optional and dates use {@code yyyy-MM-dd}.
+ * <p>
+ * The upload is parsed as a stream and processed in batches: usernames not seen before in the import are resolved
+ * with one query per batch and remembered, and each batch is inserted with JDBC batch statements in its own
+ * transaction, which also adds the batch's {@code training_view} rows with one set-based insert. A row that
+ * cannot be imported is reported with its line number and skipped; the rest of the file is still imported. As
+ * with {@link TrainingService#createTraining}, a trainee and trainer are assigned to each other by their first
+ * training together. This node's indexes and training lists are updated batch by batch; peers are told to
+ * rebuild once, when the import ends, which also drops their training lists.
+ */
+@Slf4j
+@Service
+public class TrainingImportService {
+
+    static final List<String> HEADER = List.of(
+            "traineeUsername", "trainerUsername", "trainingTypeName", "trainingDate", "trainingDuration");
+
+    private static final String INSERT_TRAINING = "INSERT INTO training "
+            + "(trainee_id, trainer_id, training_name, training_type_id, training_date, training_duration) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_ASSIGNMENT = "INSERT INTO trainers_trainees (trainee_id, trainer_id) "
+            + "SELECT ?, ? WHERE NOT EXISTS "
+            + "(SELECT 1 FROM trainers_trainees WHERE trainee_id = ? AND trainer_id = ?)";
+
+    private static final long MISSING = -1;
+
+    private static final long PROGRESS_INTERVAL = 100_000;
+
+    private static final String METRIC_ROWS = "training.import.rows";
+
+    private final TraineeRepository traineeRepository;
+
+    private final TrainerRepository trainerRepository;
+
+    private final TrainingTypeRepository trainingTypeRepository;
+
+    private final TrainingRepository trainingRepository;
+
+    private final TrainingViewRepository trainingViewRepository;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final AssignmentGraph assignmentGraph;
+
+    private final TrainingTimeline trainingTimeline;
+
+    private final TrainingColumnStore trainingColumnStore;
+
+    private final TrainingIndexSync trainingIndexSync;
+
+    private final CacheManager cacheManager;
+
+    private final TrainingListCache trainingListCache;
+
+    private final TransactionTemplate transaction;
+
+    private final int batchSize;
+
+    private final int maxReportedErrors;
+
+    private final Counter importedRows;
+
+    private final Counter failedRows;
+
+    @Autowired
+    public TrainingImportService(TraineeRepository traineeRepository, TrainerRepository trainerRepository,
+                                 TrainingTypeRepository trainingTypeRepository, TrainingRepository trainingRepository,
+                                 TrainingViewRepository trainingViewRepository, JdbcTemplate jdbcTemplate,
+                                 AssignmentGraph assignmentGraph, TrainingTimeline trainingTimeline,
+                                 TrainingColumnStore trainingColumnStore, TrainingIndexSync trainingIndexSync,
+                                 CacheManager cacheManager,
+                                 TrainingListCache trainingListCache,
+                                 PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                                 @Value("${training-import.batch-size:1000}") int batchSize,
+                                 @Value("${training-import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.traineeRepository = traineeRepository;
+        this.trainerRepository = trainerRepository;
+        this.trainingTypeRepository = trainingTypeRepository;
+        this.trainingRepository = trainingRepository;
+        this.trainingViewRepository = trainingViewRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.assignmentGraph = assignmentGraph;
+        this.trainingTimeline = trainingTimeline;
+        this.trainingColumnStore = trainingColumnStore;
+        this.trainingIndexSync = trainingIndexSync;
+        this.cacheManager = cacheManager;
+        this.trainingListCache = trainingListCache;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+        this.importedRows = rowCounter(meterRegistry, "imported");
+        this.failedRows = rowCounter(meterRegistry, "failed");
+    }
+
+    public TrainingImportReportDTO importTrainings(InputStream csv) throws IOException {
+        long start = System.nanoTime();
+        Import anImport = new Import(trainingTypeRepository.findAll().stream()
+                .collect(Collectors.toMap(TrainingType::getTrainingTypeName, TrainingType::getId)));
+        try (CsvReader reader = new CsvReader(csv)) {
+            boolean firstRecord = true;
+            while (true) {
+                List<String> fields;
+                try {
+                    fields = reader.next();
+                } catch (IllegalArgumentException ex) {
+                    anImport.rowsRead++;
+                    anImport.fail(reader.getLineNumber(), ex.getMessage());
+                    continue;
+                }
+                if (fields == null) {
+                    break;
+                }
+                if (firstRecord && isHeader(fields)) {
+                    firstRecord = false;
+                    continue;
+                }
+                firstRecord = false;
+                anImport.rowsRead++;
+                Row row = parse(reader.getLineNumber(), fields, anImport);
+                if (row != null) {
+                    anImport.batch.add(row);
+                    if (anImport.batch.size() >= batchSize) {
+                        flush(anImport);
+                    }
+                }
+                if (anImport.rowsRead % PROGRESS_INTERVAL == 0) {
+                    log.info("Training import progress: {} rows read, {} imported, {} failed",
+                            anImport.rowsRead, anImport.rowsImported, anImport.rowsFailed);
+                }
+            }
+            flush(anImport);
+        } finally {
+            if (anImport.rowsImported > 0) {
+                trainingIndexSync.trainingsReplaced();
+            }
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        log.info("Training import successfully finished: {} rows read, {} imported, {} failed in {} ms",
+                anImport.rowsRead, anImport.rowsImported, anImport.rowsFailed, elapsedMillis);
+        return TrainingImportReportDTO.builder()
+                .rowsRead(anImport.rowsRead)
+                .rowsImported(anImport.rowsImported)
+                .rowsFailed(anImport.rowsFailed)
+                .errors(anImport.errors)
+                .errorsTruncated(anImport.rowsFailed > anImport.errors.size())
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    private static boolean isHeader(List<String> fields) {
+        return fields.size() == HEADER.size() && fields.get(0).equalsIgnoreCase(HEADER.get(0));
+    }
+
+    private static Row parse(long line, List<String> fields, Import anImport) {
+        if (fields.size() != HEADER.size()) {
+            anImport.fail(line, "Expected " + HEADER.size() + " fields but found " + fields.size());
+            return null;
+        }
+        try {
+            TrainingTypeName trainingTypeName = TrainingTypeName.valueOf(fields.get(2));
+            LocalDate trainingDate = LocalDate.parse(fields.get(3));
+            int trainingDuration = Integer.parseInt(fields.get(4));
+            if (trainingDuration <= 0) {
+                anImport.fail(line, "Training duration must be positive");
+                return null;
+            }
+            return new Row(line, fields.get(0), fields.get(1), trainingTypeName,
+                    Timestamp.from(trainingDate.atStartOfDay(ZoneId.systemDefault()).toInstant()), trainingDuration);
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            anImport.fail(line, "Invalid value: " + ex.getMessage());
+            return null;
+        }
+    }
+
+    private void flush(Import anImport) {
+        List<Row> batch = anImport.batch;
+        if (batch.isEmpty()) {
+            return;
+        }
+        resolve(batch, Row::traineeUsername, anImport.traineeIds, traineeRepository::findIdsByUsernameIn);
+        resolve(batch, Row::trainerUsername, anImport.trainerIds, trainerRepository::findIdsByUsernameIn);
+
+        List<ResolvedRow> resolvedRows = new ArrayList<>(batch.size());
+        Set<Assignment> assignments = new LinkedHashSet<>();
+        for (Row row : batch) {
+            long traineeId = anImport.traineeIds.get(row.traineeUsername());
+            long trainerId = anImport.trainerIds.get(row.trainerUsername());
+            Long trainingTypeId = anImport.trainingTypeIds.get(row.trainingTypeName());
+            if (traineeId == MISSING) {
+                anImport.fail(row.line(), "Trainee '" + row.traineeUsername() + "' not found");
+            } else if (trainerId == MISSING) {
+                anImport.fail(row.line(), "Trainer '" + row.trainerUsername() + "' not found");
+            } else if (trainingTypeId == null) {
+                anImport.fail(row.line(), "Training type '" + row.trainingTypeName() + "' not found");
+            } else {
+                resolvedRows.add(new ResolvedRow(row, traineeId, trainerId, trainingTypeId));
+                assignments.add(new Assignment(traineeId, trainerId, row.traineeUsername()));
+            }
+        }
+        batch.clear();
+        if (resolvedRows.isEmpty()) {
+            return;
+        }
+
+        Set<String> traineeUsernames = new HashSet<>();
+        Set<String> trainerUsernames = new HashSet<>();
+        for (ResolvedRow resolved : resolvedRows) {
+            traineeUsernames.add(resolved.row().traineeUsername());
+            trainerUsernames.add(resolved.row().trainerUsername());
+        }
+        try {
+            transaction.executeWithoutResult(status -> {
+                long lastTrainingId = trainingRepository.findMaxId();
+                jdbcTemplate.batchUpdate(INSERT_ASSIGNMENT, assignments, batchSize, (statement, assignment) -> {
+                    statement.setLong(1, assignment.traineeId());
+                    statement.setLong(2, assignment.trainerId());
+                    statement.setLong(3, assignment.traineeId());
+                    statement.setLong(4, assignment.trainerId());
+                });
+                jdbcTemplate.batchUpdate(INSERT_TRAINING, resolvedRows, batchSize, (statement, resolved) -> {
+                    statement.setLong(1, resolved.traineeId());
+                    statement.setLong(2, resolved.trainerId());
+                    statement.setString(3, resolved.row().trainingTypeName().name());
+                    statement.setLong(4, resolved.trainingTypeId());
+                    statement.setTimestamp(5, resolved.row().trainingDate());
+                    statement.setInt(6, resolved.row().trainingDuration());
+                });
+                trainingViewRepository.insertMissingAfter(lastTrainingId);
+                List<TimelineEntry> importedTrainings = trainingRepository.findTimelineEntriesAfter(lastTrainingId);
+                List<TrainingFacts> importedFacts = trainingRepository.findTrainingFactsAfter(lastTrainingId);
+                TransactionCallbacks.afterCommit(() -> applyAssignments(assignments));
+                TransactionCallbacks.afterCommit(() -> trainingTimeline.putAll(importedTrainings));
+                TransactionCallbacks.afterCommit(() -> trainingColumnStore.putAll(importedFacts));
+                TransactionCallbacks.afterCommit(() ->
+                        trainingListCache.evictLocally(traineeUsernames, trainerUsernames));
+            });
+            anImport.rowsImported += resolvedRows.size();
+            importedRows.increment(resolvedRows.size());
+        } catch (DataAccessException ex) {
+            String cause = ex.getMostSpecificCause().getMessage();
+            log.warn("Training import batch of {} rows failed: {}", resolvedRows.size(), cause);
+            for (ResolvedRow resolved : resolvedRows) {
+                anImport.fail(resolved.row().line(), "Batch insert failed: " + cause);
+            }
+        }
+    }
+
+    /**
+     * Adds the ids of usernames not seen before to {@code ids}, with {@link #MISSING} for unknown usernames.
+     */
+    private static void resolve(List<Row> batch, Function<Row, String> username, Map<String, Long> ids,
+                                Function<Collection<String>, List<Object[]>> lookup) {
+        Set<String> unresolved = batch.stream()
+                .map(username)
+                .filter(name -> !ids.containsKey(name))
+                .collect(Collectors.toSet());
+        if (unresolved.isEmpty()) {
+            return;
+        }
+        for (Object[] row : lookup.apply(unresolved)) {
+            ids.put((String) row[0], (Long) row[1]);
+        }
+        unresolved.forEach(name -> ids.putIfAbsent(name, MISSING));
+    }
+
+    private void applyAssignments(Set<Assignment> assignments) {
+        Cache unassignedTrainers = cacheManager.getCache(CacheConfig.UNASSIGNED_TRAINERS);
+        Set<String> affectedTrainees = new LinkedHashSet<>();
+        for (Assignment assignment : assignments) {
+            assignmentGraph.link(assignment.traineeId(), assignment.trainerId());
+            affectedTrainees.add(assignment.traineeUsername());
+        }
+        if (unassignedTrainers != null) {
+            affectedTrainees.forEach(unassignedTrainers::evict);
+        }
+    }
+
+    private static Counter rowCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_ROWS)
+                .tag("result", result)
+                .description("Rows processed by the training CSV import")
+                .register(meterRegistry);
+    }
+
+    private record Row(long line, String traineeUsername, String trainerUsername, TrainingTypeName trainingTypeName,
+                       Timestamp trainingDate, int trainingDuration) {
+    }
+
+    private record ResolvedRow(Row row, long traineeId, long trainerId, long trainingTypeId) {
+    }
+
+    private record Assignment(long traineeId, long trainerId, String traineeUsername) {
+    }
+
+    /**
+     * State of one import run.
+     */
+    private final class Import {
+
+        private final Map<TrainingTypeName, Long> trainingTypeIds;
+
+        private final Map<String, Long> traineeIds = new HashMap<>();
+
+        private final Map<String, Long> trainerIds = new HashMap<>();
+
+        private final List<Row> batch = new ArrayList<>(batchSize);
+
+        private final List<TrainingImportErrorDTO> errors = new ArrayList<>();
+
+        private long rowsRead;
+
+        private long rowsImported;
+
+        private long rowsFailed;
+
+        private Import(Map<TrainingTypeName, Long> trainingTypeIds) {
+            this.trainingTypeIds = trainingTypeIds;
+        }
+
+        private void fail(long line, String message) {
+            rowsFailed++;
+            failedRows.increment();
+            if (errors.size() < maxReportedErrors) {
+                errors.add(TrainingImportErrorDTO.builder()
+                        .line(line)
+                        .message(message)
+                        .build());
+            }
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package org.example.service;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.example.repository.TraineeRepository;
+import org.example.repository.TrainingRepository;
+import org.example.utils.analytics.TrainingColumnStore;
+import org.example.utils.analytics.TrainingFacts;
+import org.example.utils.cache.CacheInvalidationBus;
+import org.example.utils.cache.TrainingListCache;
+import org.example.utils.graph.AssignmentGraph;
+import org.example.utils.timeseries.TimelineEntry;
+import org.example.utils.timeseries.TrainingTimeline;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Builds the in-memory training indexes, the {@link TrainingTimeline}, the {@link TrainingColumnStore} and the
+ * {@link AssignmentGraph}, from the database and keeps them in step with trainings written on other nodes.
+ * <p>
+ * The indexes are built once all singletons exist, before the web and gRPC servers accept requests, and rebuilt
+ * every {@code training-index.rebuild-interval}; after each build this node's training lists are dropped, since
+ * they were read through the previous timeline. Writers report committed trainings to {@link #trainingsChanged}
+ * and {@link #trainingsReplaced}, and changed trainer assignments to {@link #assignmentsChanged}, which send them
+ * to the peers over the {@link CacheInvalidationBus} when it is enabled. A peer reloads each reported training or
+ * trainee's assignments from the database, or rebuilds when too many changed to list, and then drops the
+ * affected training lists. The bus is best effort, so the scheduled rebuild bounds how long a lost message leaves
+ * a peer's indexes stale.
+ */
+@Slf4j
+@Service
+public class TrainingIndexSync implements SmartInitializingSingleton, DisposableBean {
+
+    static final String TRAININGS = "trainings";
+
+    static final String ASSIGNMENTS = "assignments";
+
+    /**
+     * Changes touching more trainings are sent as one rebuild instead of one message per training.
+     */
+    private static final int MAX_IDS_PER_CHANGE = 100;
+
+    private final TrainingRepository trainingRepository;
+
+    private final TraineeRepository traineeRepository;
+
+    private final TrainingTimeline trainingTimeline;
+
+    private final TrainingColumnStore trainingColumnStore;
+
+    private final AssignmentGraph assignmentGraph;
+
+    private final TrainingListCache trainingListCache;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final CacheInvalidationBus bus;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            new CustomizableThreadFactory("training-index-sync-"));
+
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+
+    @Autowired
+    public TrainingIndexSync(TrainingRepository trainingRepository, TraineeRepository traineeRepository,
+                             TrainingTimeline trainingTimeline, TrainingColumnStore trainingColumnStore,
+                             AssignmentGraph assignmentGraph, TrainingListCache trainingListCache,
+                             PlatformTransactionManager transactionManager,
+                             ObjectProvider<CacheInvalidationBus> cacheInvalidationBus) {
+        this.trainingRepository = trainingRepository;
+        this.traineeRepository = traineeRepository;
+        this.trainingTimeline = trainingTimeline;
+        this.trainingColumnStore = trainingColumnStore;
+        this.assignmentGraph = assignmentGraph;
+        this.trainingListCache = trainingListCache;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.bus = cacheInvalidationBus.getIfAvailable();
+        if (bus != null) {
+            bus.subscribe(this::onMessage);
+        }
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${training-index.rebuild-interval:PT10M}",
+            fixedDelayString = "${training-index.rebuild-interval:PT10M}")
+    public void rebuild() {
+        trainingTimeline.load(() -> readOnlyTransaction.execute(status ->
+                trainingRepository.findTimelineEntriesAfter(0)));
+        trainingListCache.evictAllLocally();
+        log.info("Training timeline built with {} trainings", trainingTimeline.size());
+        trainingColumnStore.load(() -> readOnlyTransaction.execute(status ->
+                trainingRepository.findTrainingFactsAfter(0)));
+        log.info("Training column store built with {} trainings", trainingColumnStore.size());
+        assignmentGraph.load(() -> readOnlyTransaction.execute(status ->
+                links(traineeRepository.findAllTrainerAssignments())));
+        log.info("Trainer assignment graph built");
+    }
+
+    /**
+     * Tells the peers that these trainings were created, updated or deleted. Call after commit.
+     */
+    public void trainingsChanged(long... trainingIds) {
+        if (bus == null || trainingIds.length == 0) {
+            return;
+        }
+        if (trainingIds.length > MAX_IDS_PER_CHANGE) {
+            trainingsReplaced();
+            return;
+        }
+        for (long trainingId : trainingIds) {
+            bus.publish(TRAININGS, trainingId);
+        }
+    }
+
+    /**
+     * Tells the peers that the trainers assigned to these trainees changed. Call after commit.
+     */
+    public void assignmentsChanged(long... traineeIds) {
+        if (bus == null || traineeIds.length == 0) {
+            return;
+        }
+        if (traineeIds.length > MAX_IDS_PER_CHANGE) {
+            trainingsReplaced();
+            return;
+        }
+        for (long traineeId : traineeIds) {
+            bus.publish(ASSIGNMENTS, traineeId);
+        }
+    }
+
+    /**
+     * Tells the peers to rebuild, for writes whose trainings are not known one by one, such as deleting a user.
+     * Call after commit.
+     */
+    public void trainingsReplaced() {
+        if (bus != null) {
+            bus.publish(TRAININGS, null);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Runs on the bus receiver thread, so the database work is handed to {@link #executor}; queued rebuilds are
+     * coalesced into one.
+     */
+    private void onMessage(String name, Object trainingId) {
+        if (ASSIGNMENTS.equals(name) && trainingId != null) {
+            long traineeId = ((Number) trainingId).longValue();
+            executor.execute(() -> run(() -> reloadAssignments(traineeId)));
+            return;
+        }
+        if (!TRAININGS.equals(name)) {
+            return;
+        }
+        if (trainingId == null) {
+            if (rebuildQueued.compareAndSet(false, true)) {
+                executor.execute(() -> {
+                    rebuildQueued.set(false);
+                    run(this::rebuild);
+                });
+            }
+        } else {
+            long id = ((Number) trainingId).longValue();
+            executor.execute(() -> run(() -> reload(id)));
+        }
+    }
+
+    private void reload(long trainingId) {
+        TimelineEntry previous = trainingTimeline.get(trainingId);
+        List<TimelineEntry> current = readOnlyTransaction.execute(status ->
+                trainingRepository.findTimelineEntriesByIdIn(List.of(trainingId)));
+        if (current.isEmpty()) {
+            trainingTimeline.removeAll(trainingId);
+        } else {
+            trainingTimeline.put(current.get(0));
+            trainingListCache.evictLocally(current.get(0).traineeUsername(), current.get(0).trainerUsername());
+        }
+        if (previous != null) {
+            trainingListCache.evictLocally(previous.traineeUsername(), previous.trainerUsername());
+        }
+        List<TrainingFacts> facts = readOnlyTransaction.execute(status ->
+                trainingRepository.findTrainingFactsByIdIn(List.of(trainingId)));
+        if (facts.isEmpty()) {
+            trainingColumnStore.removeAll(trainingId);
+        } else {
+            trainingColumnStore.put(facts.get(0));
+        }
+    }
+
+    private void reloadAssignments(long traineeId) {
+        List<Long> trainerIds = readOnlyTransaction.execute(status ->
+                traineeRepository.findTrainerIdsByTraineeId(traineeId));
+        assignmentGraph.replaceTrainers(traineeId, trainerIds.stream().mapToLong(Long::longValue).toArray());
+    }
+
+    private static AssignmentGraph.Links links(List<Object[]> assignments) {
+        long[] traineeIds = new long[assignments.size()];
+        long[] trainerIds = new long[assignments.size()];
+        for (int i = 0; i < assignments.size(); i++) {
+            traineeIds[i] = (Long) assignments.get(i)[0];
+            trainerIds[i] = (Long) assignments.get(i)[1];
+        }
+        return new AssignmentGraph.Links(traineeIds, trainerIds);
+    }
+
+    private static void run(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException ex) {
+            log.warn("Could not apply a training change from a peer: {}", ex.getMessage());
+        }
+    }
+}
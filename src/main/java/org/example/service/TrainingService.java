@@ -1,11 +1,23 @@
 package org.example.service;
 
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.example.config.cache.CacheConfig;
+import org.example.config.concurrent.BulkheadConfig;
+import org.example.config.concurrent.BulkheadProperties;
 import org.example.dto.training.TrainingCreateDTO;
+import org.example.dto.training.TrainingDTO;
+import org.example.enums.TrainingTypeName;
 import org.example.exception.date.IllegalDateArgumentException;
 import org.example.exception.notfound.TraineeNotFoundException;
 import org.example.exception.notfound.TrainerNotFoundException;
@@ -15,13 +27,36 @@ import org.example.model.Trainee;
 import org.example.model.Trainer;
 import org.example.model.Training;
 import org.example.model.TrainingType;
+import org.example.model.TrainingView;
 import org.example.repository.TraineeRepository;
 import org.example.repository.TrainerRepository;
 import org.example.repository.TrainingRepository;
 import org.example.repository.TrainingTypeRepository;
+import org.example.repository.TrainingViewRepository;
+import org.example.repository.specification.TrainingSpecifications;
+import org.example.repository.specification.TrainingViewSpecifications;
+import org.example.utils.analytics.TrainingColumnStore;
+import org.example.utils.analytics.TrainingFacts;
+import org.example.utils.cache.TrainingListCache;
+import org.example.utils.concurrent.Bulkhead;
+import org.example.utils.concurrent.SingleFlight;
+import org.example.utils.converter.TrainingViewConverter;
+import org.example.utils.graph.AssignmentGraph;
+import org.example.utils.timeseries.TimelineEntry;
+import org.example.utils.timeseries.TrainingTimeline;
+import org.example.utils.transaction.TransactionCallbacks;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -29,7 +64,9 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class TrainingService {
 
-    private static final SimpleDateFormat SIMPLE_DATE_FORMAT = new SimpleDateFormat("yyyy-MM-dd");
+    private static final String DATE_PATTERN = "yyyy-MM-dd";
+
+    private static final int HYDRATION_BATCH_SIZE = 1000;
 
     private final TrainingRepository trainingRepository;
 
@@ -39,22 +76,66 @@ public class TrainingService {
 
     private final TrainingTypeRepository trainingTypeRepository;
 
+    private final TrainingViewRepository trainingViewRepository;
+
+    private final AssignmentGraph assignmentGraph;
+
+    private final TrainingTimeline trainingTimeline;
+
+    private final TrainingColumnStore trainingColumnStore;
+
+    private final TrainingIndexSync trainingIndexSync;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final SingleFlight<ListRead, List<TrainingDTO>> traineeTrainingReads;
+
+    private final SingleFlight<ListRead, List<TrainingDTO>> trainerTrainingReads;
+
+    private final TrainingListCache trainingListCache;
+
+    private final Bulkhead bulkReads;
+
     @Autowired
-    public TrainingService(TrainingRepository trainingRepository, TraineeRepository traineeRepository, TrainerRepository trainerRepository, TrainingTypeRepository trainingTypeRepository) {
+    public TrainingService(TrainingRepository trainingRepository, TraineeRepository traineeRepository, TrainerRepository trainerRepository, TrainingTypeRepository trainingTypeRepository,
+                           TrainingViewRepository trainingViewRepository,
+                           AssignmentGraph assignmentGraph, TrainingTimeline trainingTimeline,
+                           TrainingColumnStore trainingColumnStore, TrainingIndexSync trainingIndexSync,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry, @Qualifier(BulkheadConfig.BULK_READS) Bulkhead bulkReads,
+                           BulkheadProperties bulkheadProperties, TrainingListCache trainingListCache) {
         this.trainingRepository = trainingRepository;
         this.traineeRepository = traineeRepository;
         this.trainerRepository = trainerRepository;
         this.trainingTypeRepository = trainingTypeRepository;
+        this.trainingViewRepository = trainingViewRepository;
+        this.assignmentGraph = assignmentGraph;
+        this.trainingTimeline = trainingTimeline;
+        this.trainingColumnStore = trainingColumnStore;
+        this.trainingIndexSync = trainingIndexSync;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.traineeTrainingReads = new SingleFlight<>("trainee.trainings",
+                bulkheadProperties.getTrainingReports().getTimeout(), meterRegistry);
+        this.trainerTrainingReads = new SingleFlight<>("trainer.trainings",
+                bulkheadProperties.getTrainingReports().getTimeout(), meterRegistry);
+        this.bulkReads = bulkReads;
+        this.trainingListCache = trainingListCache;
     }
 
+    @CacheEvict(cacheNames = CacheConfig.UNASSIGNED_TRAINERS, key = "#trainingCreateDTO.traineeUsername")
     @Transactional
     public boolean createTraining(TrainingCreateDTO trainingCreateDTO) {
         Trainee trainee = traineeRepository.findByUserUsername(trainingCreateDTO.getTraineeUsername())
                 .orElseThrow(() -> new TraineeNotFoundException("Trainee not found"));
         Trainer trainer = trainerRepository.findByUserUsername(trainingCreateDTO.getTrainerUsername())
                 .orElseThrow(() -> new TrainerNotFoundException("Trainer not found"));
-        trainer.getTraineeList().add(trainee);
-        trainee.getTrainerList().add(trainer);
+        if (!traineeRepository.existsTrainerAssignment(trainee.getId(), trainer.getId())) {
+            trainer.getTraineeList().add(trainee);
+            trainee.getTrainerList().add(trainer);
+            TransactionCallbacks.afterCommit(() -> assignmentGraph.link(trainee.getId(), trainer.getId()));
+            TransactionCallbacks.afterCommit(() -> trainingIndexSync.assignmentsChanged(trainee.getId()));
+        }
 
         TrainingType trainingType = trainingTypeRepository.findByTrainingTypeName(trainingCreateDTO.getTrainingTypeName())
                 .orElseThrow(() -> new TrainingTypeNotFoundException("Training type not found"));
@@ -69,6 +150,13 @@ public class TrainingService {
                 .build();
 
         Training savedTraining = trainingRepository.save(training);
+        trainingViewRepository.save(TrainingViewConverter.convertToView(savedTraining));
+        TimelineEntry timelineEntry = timelineEntry(savedTraining);
+        TrainingFacts trainingFacts = trainingFacts(savedTraining);
+        TransactionCallbacks.afterCommit(() -> trainingTimeline.put(timelineEntry));
+        TransactionCallbacks.afterCommit(() -> trainingColumnStore.put(trainingFacts));
+        TransactionCallbacks.afterCommit(() -> trainingIndexSync.trainingsChanged(timelineEntry.trainingId()));
+        evictTrainingLists(trainee, trainer);
         log.info("Training successfully created");
         return Optional.ofNullable(savedTraining).isPresent();
     }
@@ -83,11 +171,21 @@ public class TrainingService {
 
     @Transactional
     public Training updateTraining(Training training) {
+        trainingRepository.findById(training.getId())
+                .ifPresent(storedTraining -> evictTrainingLists(storedTraining.getTrainee(), storedTraining.getTrainer()));
         Training updatedTraining = trainingRepository.save(training);
+        trainingViewRepository.save(TrainingViewConverter.convertToView(updatedTraining));
+        TimelineEntry timelineEntry = timelineEntry(updatedTraining);
+        TrainingFacts trainingFacts = trainingFacts(updatedTraining);
+        TransactionCallbacks.afterCommit(() -> trainingTimeline.put(timelineEntry));
+        TransactionCallbacks.afterCommit(() -> trainingColumnStore.put(trainingFacts));
+        TransactionCallbacks.afterCommit(() -> trainingIndexSync.trainingsChanged(timelineEntry.trainingId()));
+        evictTrainingLists(training.getTrainee(), training.getTrainer());
         log.info("Training successfully updated");
         return updatedTraining;
     }
 
+    @CacheEvict(cacheNames = CacheConfig.UNASSIGNED_TRAINERS, key = "#training.trainee.username")
     @Transactional
     public boolean deleteTraining(Training training) {
         Trainee trainee = training.getTrainee();
@@ -95,39 +193,133 @@ public class TrainingService {
         trainer.getTraineeList().remove(trainee);
         trainee.getTrainerList().remove(trainer);
         trainingRepository.delete(training);
+        trainingViewRepository.deleteById(training.getId());
+        TransactionCallbacks.afterCommit(() -> assignmentGraph.unlink(trainee.getId(), trainer.getId()));
+        TransactionCallbacks.afterCommit(() -> trainingIndexSync.assignmentsChanged(trainee.getId()));
+        TransactionCallbacks.afterCommit(() -> trainingTimeline.removeAll(training.getId()));
+        TransactionCallbacks.afterCommit(() -> trainingColumnStore.removeAll(training.getId()));
+        TransactionCallbacks.afterCommit(() -> trainingIndexSync.trainingsChanged(training.getId()));
+        evictTrainingLists(trainee, trainer);
         log.info("Training successfully deleted");
         return true;
     }
 
+    /**
+     * Trainee trainings of the period, found in the {@link TrainingTimeline} so that only their rows are loaded.
+     */
     @Transactional(readOnly = true)
     public List<Training> getTraineeTrainingList(String username,
                                                  Date periodFrom,
                                                  Date periodTo,
                                                  String trainerName,
-                                                 String trainingTypeName) {
+                                                 TrainingTypeName trainingTypeName) {
         validateDates(periodFrom, periodTo);
-        List<Training> trainingList = trainingRepository.findByTraineeUserUsernameAndTrainingDateBetweenAndTrainerUserUsernameAndTrainingTypeTrainingTypeName(username, periodFrom, periodTo,
-                trainerName, trainingTypeName);
+        List<Training> trainingList = hydrate(trainingTimeline.traineeTrainingIds(username, periodFrom, periodTo),
+                ids -> trainingRepository.findAll(TrainingSpecifications.idIn(ids).and(
+                        TrainingSpecifications.traineeTrainings(
+                                username, periodFrom, periodTo, trainerName, trainingTypeName))));
         log.info("Successfully retrieved trainee's training list");
         return trainingList;
     }
 
+    /**
+     * Trainer trainings of the period, found in the {@link TrainingTimeline} so that only their rows are loaded.
+     */
     @Transactional(readOnly = true)
     public List<Training> getTrainerTrainingList(String username,
                                                  Date periodFrom,
                                                  Date periodTo,
                                                  String traineeName) {
         validateDates(periodFrom, periodTo);
-        List<Training> trainingList = trainingRepository.findByTrainerUserUsernameAndTrainingDateBetweenAndTraineeUserUsername(username, periodFrom, periodTo, traineeName);
+        List<Training> trainingList = hydrate(trainingTimeline.trainerTrainingIds(username, periodFrom, periodTo),
+                ids -> trainingRepository.findAll(TrainingSpecifications.idIn(ids).and(
+                        TrainingSpecifications.trainerTrainings(username, periodFrom, periodTo, traineeName))));
         log.info("Successfully retrieved trainer's training list");
         return trainingList;
     }
 
+    /**
+     * Trainee training list read from {@code training_view}, cached per normalized query until a training of the
+     * trainee changes; concurrent identical misses share one in-flight read unless the lists were evicted in
+     * between.
+     */
+    public List<TrainingDTO> getTraineeTrainingDtoList(String username,
+                                                       Date periodFrom,
+                                                       Date periodTo,
+                                                       String trainerName,
+                                                       TrainingTypeName trainingTypeName) {
+        validateDates(periodFrom, periodTo);
+        TrainingListCache.Query query = TrainingListCache.Query.of(
+                username, periodFrom, periodTo, trainerName, trainingTypeName);
+        return trainingListCache.getTraineeTrainings(query, generation -> traineeTrainingReads.execute(
+                new ListRead(query, generation), () -> readTrainingViews(
+                        trainingTimeline.traineeTrainingIds(username, periodFrom, periodTo),
+                        TrainingViewSpecifications.traineeTrainings(
+                                username, periodFrom, periodTo, query.counterpartUsername(), trainingTypeName))));
+    }
+
+    /**
+     * Trainer training list read from {@code training_view}, cached per normalized query until a training of the
+     * trainer changes; concurrent identical misses share one in-flight read unless the lists were evicted in
+     * between.
+     */
+    public List<TrainingDTO> getTrainerTrainingDtoList(String username,
+                                                       Date periodFrom,
+                                                       Date periodTo,
+                                                       String traineeName) {
+        validateDates(periodFrom, periodTo);
+        TrainingListCache.Query query = TrainingListCache.Query.of(username, periodFrom, periodTo, traineeName, null);
+        return trainingListCache.getTrainerTrainings(query, generation -> trainerTrainingReads.execute(
+                new ListRead(query, generation), () -> readTrainingViews(
+                        trainingTimeline.trainerTrainingIds(username, periodFrom, periodTo),
+                        TrainingViewSpecifications.trainerTrainings(
+                                username, periodFrom, periodTo, query.counterpartUsername()))));
+    }
+
+    /**
+     * Trainings of each of the given trainees, with trainee, trainer and type, loaded with one query.
+     */
     @Transactional(readOnly = true)
-    public List<Training> getAllTrainings() {
-        List<Training> trainings = trainingRepository.findAll();
-        log.info("Retrieved all trainings successfully");
-        return trainings;
+    public Map<Long, List<Training>> getTrainingsByTraineeIds(Collection<Long> traineeIds) {
+        Map<Long, List<Training>> trainingsByTraineeId = trainingRepository.findAllByTraineeIdIn(traineeIds).stream()
+                .collect(Collectors.groupingBy(training -> training.getTrainee().getId()));
+        log.info("Trainings of trainees successfully retrieved");
+        return trainingsByTraineeId;
+    }
+
+    /**
+     * Trainings of each of the given trainers, with trainee, trainer and type, loaded with one query.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<Training>> getTrainingsByTrainerIds(Collection<Long> trainerIds) {
+        Map<Long, List<Training>> trainingsByTrainerId = trainingRepository.findAllByTrainerIdIn(trainerIds).stream()
+                .collect(Collectors.groupingBy(training -> training.getTrainer().getId()));
+        log.info("Trainings of trainers successfully retrieved");
+        return trainingsByTrainerId;
+    }
+
+    /**
+     * Every training, read on the bulk-read bulkhead.
+     */
+    public CompletableFuture<List<Training>> getAllTrainings() {
+        return bulkReads.submit(() -> {
+            List<Training> trainings = readOnlyTransaction.execute(status -> trainingRepository.findAll());
+            log.info("Retrieved all trainings successfully");
+            return trainings;
+        });
+    }
+
+    /**
+     * Adds the {@code training_view} rows missing for existing trainings, such as those written before the view
+     * existed.
+     */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void completeTrainingView() {
+        if (trainingViewRepository.count() != trainingRepository.count()) {
+            int added = trainingViewRepository.insertMissingAfter(0);
+            log.info("Training view successfully completed with {} rows", added);
+        }
     }
 
     @Transactional(readOnly = true)
@@ -138,15 +330,62 @@ public class TrainingService {
     }
 
     private void validateDates(Date periodFrom, Date periodTo) {
-        if (periodTo.before(periodFrom)) {
-            String periodFromStr = SIMPLE_DATE_FORMAT.format(periodFrom);
-            String periodToStr = SIMPLE_DATE_FORMAT.format(toString());
+        if (periodFrom != null && periodTo != null && periodTo.before(periodFrom)) {
+            SimpleDateFormat dateFormat = new SimpleDateFormat(DATE_PATTERN);
+            String periodFromStr = dateFormat.format(periodFrom);
+            String periodToStr = dateFormat.format(periodTo);
 
             String errorMessage = String.format(
                     "'Period to' date %s must be after 'period from' date %s",
-                    periodFromStr,
-                    periodToStr);
+                    periodToStr,
+                    periodFromStr);
             throw new IllegalDateArgumentException(errorMessage);
         }
     }
+
+    private List<TrainingDTO> readTrainingViews(long[] trainingIds, Specification<TrainingView> specification) {
+        List<TrainingDTO> trainings = readOnlyTransaction.execute(status -> TrainingViewConverter.convertToDtoList(
+                hydrate(trainingIds, ids -> trainingViewRepository.findAll(
+                        TrainingViewSpecifications.idIn(ids).and(specification)))));
+        log.info("Successfully retrieved training list from the training view");
+        return trainings;
+    }
+
+    /**
+     * Loads the rows of the given training ids, which are in date order, a batch of ids at a time so each
+     * {@code IN} list stays bounded. The loader orders each batch by date, which keeps the whole list in date order.
+     */
+    private static <T> List<T> hydrate(long[] trainingIds, Function<List<Long>, List<T>> loader) {
+        List<T> rows = new ArrayList<>(trainingIds.length);
+        for (int from = 0; from < trainingIds.length; from += HYDRATION_BATCH_SIZE) {
+            int to = Math.min(from + HYDRATION_BATCH_SIZE, trainingIds.length);
+            rows.addAll(loader.apply(Arrays.stream(trainingIds, from, to).boxed().toList()));
+        }
+        return rows;
+    }
+
+    private static TimelineEntry timelineEntry(Training training) {
+        return new TimelineEntry(training.getId(), training.getTrainee().getUsername(),
+                training.getTrainer().getUsername(), training.getTrainingDate());
+    }
+
+    private static TrainingFacts trainingFacts(Training training) {
+        TrainingType trainingType = training.getTrainingType();
+        return new TrainingFacts(training.getId(), training.getTrainee().getId(), training.getTrainer().getId(),
+                trainingType == null ? null : trainingType.getTrainingTypeName(), training.getTrainingDate(),
+                training.getTrainingDuration());
+    }
+
+    private void evictTrainingLists(Trainee trainee, Trainer trainer) {
+        String traineeUsername = trainee.getUsername();
+        String trainerUsername = trainer.getUsername();
+        TransactionCallbacks.afterCommit(() -> trainingListCache.evict(traineeUsername, trainerUsername));
+    }
+
+    /**
+     * A training list read, keyed by the list cache's eviction generation as well, so a caller that missed after
+     * an eviction never shares a read that started before it.
+     */
+    private record ListRead(TrainingListCache.Query query, long generation) {
+    }
 }
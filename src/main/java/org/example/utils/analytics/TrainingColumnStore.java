@@ -0,0 +1,546 @@
+package org.example.utils.analytics;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.example.enums.TrainingTypeName;
+import org.example.utils.graph.LongObjectHashMap;
+
+/**
+ * In-memory copy of the trainings kept column by column in primitive arrays (date, month, duration, type, trainee
+ * and trainer), which aggregations scan in parallel on a fork/join pool without touching the database.
+ * <p>
+ * Rows are ordered by training id, so a training is found by binary search. Removed rows are marked in the type
+ * column and dropped by compaction once they make up half of the rows. An aggregation holds the read lock while
+ * it runs, so writes wait for it and every aggregation sees one consistent state.
+ * <p>
+ * Writes made while {@link #load} reads its snapshot are applied to the current rows and replayed on the loaded
+ * ones before they are swapped in, so a write committed after the snapshot was read is not lost.
+ */
+public class TrainingColumnStore implements AutoCloseable {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final int SPLIT_THRESHOLD = 1 << 14;
+
+    private static final int MAX_HISTOGRAM_BUCKETS = 1000;
+
+    private static final TrainingTypeName[] TYPES = TrainingTypeName.values();
+
+    // One slot per training type and one for trainings without a type.
+    private static final int TYPE_SLOTS = TYPES.length + 1;
+
+    private static final byte NO_TYPE = -1;
+
+    private static final byte REMOVED = -2;
+
+    private static final byte ANY_TYPE = Byte.MIN_VALUE;
+
+    private static final int NO_MONTH = Integer.MIN_VALUE;
+
+    private final ForkJoinPool pool;
+
+    private final ZoneId zone;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Lock loading = new ReentrantLock();
+
+    private Columns columns = new Columns(INITIAL_CAPACITY);
+
+    /**
+     * Writes made since the running {@link #load} started, replayed on the loaded rows; {@code null} when no load
+     * is running.
+     */
+    private List<Runnable> writesDuringLoad;
+
+    public TrainingColumnStore(int parallelism, ZoneId zone) {
+        this.pool = new ForkJoinPool(parallelism);
+        this.zone = zone;
+    }
+
+    /**
+     * Replaces all rows with the given trainings.
+     */
+    public void load(Collection<TrainingFacts> trainings) {
+        load(() -> trainings);
+    }
+
+    /**
+     * Replaces all rows with the trainings returned by {@code snapshot}, keeping the writes made while it runs.
+     * Loads run one at a time.
+     */
+    public void load(Supplier<? extends Collection<TrainingFacts>> snapshot) {
+        loading.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                writesDuringLoad = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            Columns loaded;
+            try {
+                List<TrainingFacts> sorted = new ArrayList<>(snapshot.get());
+                sorted.sort(Comparator.comparingLong(TrainingFacts::trainingId));
+                loaded = new Columns(Math.max(INITIAL_CAPACITY, sorted.size()));
+                for (TrainingFacts training : sorted) {
+                    int row = loaded.find(training.trainingId());
+                    if (row >= 0) {
+                        loaded.set(row, training, zone);
+                    } else {
+                        loaded.insert(-row - 1, training, zone);
+                    }
+                }
+            } catch (RuntimeException | Error ex) {
+                lock.writeLock().lock();
+                try {
+                    writesDuringLoad = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                throw ex;
+            }
+            lock.writeLock().lock();
+            try {
+                columns = loaded;
+                List<Runnable> replayed = writesDuringLoad;
+                writesDuringLoad = null;
+                replayed.forEach(Runnable::run);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            loading.unlock();
+        }
+    }
+
+    public void put(TrainingFacts training) {
+        putAll(List.of(training));
+    }
+
+    /**
+     * Adds the given trainings, replacing the rows of trainings already present.
+     */
+    public void putAll(Collection<TrainingFacts> trainings) {
+        lock.writeLock().lock();
+        try {
+            rememberDuringLoad(() -> putAll(trainings));
+            for (TrainingFacts training : trainings) {
+                int row = columns.find(training.trainingId());
+                if (row >= 0) {
+                    columns.set(row, training, zone);
+                } else {
+                    columns.insert(-row - 1, training, zone);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeAll(long... trainingIds) {
+        lock.writeLock().lock();
+        try {
+            rememberDuringLoad(() -> removeAll(trainingIds));
+            for (long trainingId : trainingIds) {
+                int row = columns.find(trainingId);
+                if (row >= 0) {
+                    columns.remove(row);
+                }
+            }
+            columns.compactIfSparse();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeTrainee(long traineeId) {
+        removeWhere(snapshot -> snapshot.traineeIds, traineeId);
+    }
+
+    public void removeTrainer(long trainerId) {
+        removeWhere(snapshot -> snapshot.trainerIds, trainerId);
+    }
+
+    /**
+     * Number of trainings, removed rows not counted.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return columns.size - columns.removedRows;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of trainings and their total duration per month and training type, ordered by month, then type.
+     */
+    public List<MonthlyDuration> durationByMonthAndType(Date periodFrom, Date periodTo) {
+        LongObjectHashMap<long[]> groups = aggregate(filter(periodFrom, periodTo, null), snapshot -> new Reduction<>(
+                LongObjectHashMap::new,
+                (totals, columns, row) -> {
+                    if (columns.months[row] != NO_MONTH) {
+                        addToGroup(totals, (long) columns.months[row] * TYPE_SLOTS + typeSlot(columns.types[row]),
+                                columns.durations[row]);
+                    }
+                },
+                TrainingColumnStore::mergeGroups));
+        List<MonthlyDuration> durations = new ArrayList<>(groups.size());
+        groups.forEach((key, totals) -> durations.add(new MonthlyDuration(
+                YearMonth.of((int) (key / TYPE_SLOTS / 12), (int) (key / TYPE_SLOTS % 12) + 1),
+                typeOfSlot((int) (key % TYPE_SLOTS)), totals[0], totals[1])));
+        durations.sort(Comparator.comparing(MonthlyDuration::month).thenComparing(MonthlyDuration::trainingTypeName,
+                Comparator.nullsLast(Comparator.naturalOrder())));
+        return durations;
+    }
+
+    /**
+     * Number of trainings and their total duration per trainer, ordered by trainer id.
+     */
+    public List<TrainerDuration> durationByTrainer(Date periodFrom, Date periodTo, TrainingTypeName trainingTypeName) {
+        LongObjectHashMap<long[]> groups = aggregate(filter(periodFrom, periodTo, trainingTypeName),
+                snapshot -> new Reduction<>(
+                        LongObjectHashMap::new,
+                        (totals, columns, row) -> addToGroup(totals, columns.trainerIds[row], columns.durations[row]),
+                        TrainingColumnStore::mergeGroups));
+        List<TrainerDuration> durations = new ArrayList<>(groups.size());
+        groups.forEach((trainerId, totals) -> durations.add(new TrainerDuration(trainerId, totals[0], totals[1])));
+        durations.sort(Comparator.comparingLong(TrainerDuration::trainerId));
+        return durations;
+    }
+
+    /**
+     * Number of trainings per duration range of {@code bucketWidth}, from 0 up to the longest training. The width
+     * is raised when it would take more than {@value #MAX_HISTOGRAM_BUCKETS} buckets to cover the longest training.
+     */
+    public List<DurationBucket> durationHistogram(int bucketWidth, Date periodFrom, Date periodTo,
+                                                  TrainingTypeName trainingTypeName) {
+        int[] appliedWidth = new int[1];
+        long[] counts = aggregate(filter(periodFrom, periodTo, trainingTypeName), snapshot -> {
+            int width = Math.max(Math.max(bucketWidth, 1),
+                    (snapshot.maxDuration + MAX_HISTOGRAM_BUCKETS) / MAX_HISTOGRAM_BUCKETS);
+            int buckets = snapshot.maxDuration / width + 1;
+            appliedWidth[0] = width;
+            return new Reduction<>(
+                    () -> new long[buckets],
+                    (bucketCounts, columns, row) -> bucketCounts[Math.max(columns.durations[row], 0) / width]++,
+                    (left, right) -> {
+                        Arrays.setAll(left, bucket -> left[bucket] + right[bucket]);
+                        return left;
+                    });
+        });
+        int lastBucket = counts.length - 1;
+        while (lastBucket >= 0 && counts[lastBucket] == 0) {
+            lastBucket--;
+        }
+        List<DurationBucket> histogram = new ArrayList<>(lastBucket + 1);
+        for (int bucket = 0; bucket <= lastBucket; bucket++) {
+            histogram.add(new DurationBucket(bucket * appliedWidth[0], (bucket + 1) * appliedWidth[0], counts[bucket]));
+        }
+        return histogram;
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    private <A> A aggregate(Filter filter, Function<Columns, Reduction<A>> reductionFor) {
+        lock.readLock().lock();
+        try {
+            Columns snapshot = columns;
+            return pool.invoke(new Aggregation<>(snapshot, 0, snapshot.size, filter, reductionFor.apply(snapshot)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Records a write for replay on the rows being loaded. Called with the write lock held.
+     */
+    private void rememberDuringLoad(Runnable write) {
+        if (writesDuringLoad != null) {
+            writesDuringLoad.add(write);
+        }
+    }
+
+    private void removeWhere(Function<Columns, long[]> column, long id) {
+        lock.writeLock().lock();
+        try {
+            rememberDuringLoad(() -> removeWhere(column, id));
+            long[] values = column.apply(columns);
+            for (int row = 0; row < columns.size; row++) {
+                if (values[row] == id) {
+                    columns.remove(row);
+                }
+            }
+            columns.compactIfSparse();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static Filter filter(Date periodFrom, Date periodTo, TrainingTypeName trainingTypeName) {
+        return new Filter(periodFrom == null ? Long.MIN_VALUE : periodFrom.getTime(),
+                periodTo == null ? Long.MAX_VALUE : periodTo.getTime(),
+                trainingTypeName == null ? ANY_TYPE : (byte) trainingTypeName.ordinal());
+    }
+
+    private static void addToGroup(LongObjectHashMap<long[]> groups, long key, int duration) {
+        long[] totals = groups.get(key);
+        if (totals == null) {
+            groups.put(key, new long[]{1, duration});
+        } else {
+            totals[0]++;
+            totals[1] += duration;
+        }
+    }
+
+    private static LongObjectHashMap<long[]> mergeGroups(LongObjectHashMap<long[]> left,
+                                                         LongObjectHashMap<long[]> right) {
+        right.forEach((key, totals) -> {
+            long[] leftTotals = left.get(key);
+            if (leftTotals == null) {
+                left.put(key, totals);
+            } else {
+                leftTotals[0] += totals[0];
+                leftTotals[1] += totals[1];
+            }
+        });
+        return left;
+    }
+
+    private static int typeSlot(byte type) {
+        return type == NO_TYPE ? TYPES.length : type;
+    }
+
+    private static TrainingTypeName typeOfSlot(int slot) {
+        return slot == TYPES.length ? null : TYPES[slot];
+    }
+
+    public record MonthlyDuration(YearMonth month, TrainingTypeName trainingTypeName, long trainings,
+                                  long totalDuration) {
+    }
+
+    public record TrainerDuration(long trainerId, long trainings, long totalDuration) {
+
+        public double averageDuration() {
+            return (double) totalDuration / trainings;
+        }
+    }
+
+    /**
+     * Trainings with a duration from {@code fromDuration} inclusive to {@code toDuration} exclusive.
+     */
+    public record DurationBucket(int fromDuration, int toDuration, long trainings) {
+    }
+
+    private record Filter(long periodFrom, long periodTo, byte type) {
+
+        boolean matches(Columns columns, int row) {
+            byte rowType = columns.types[row];
+            long date = columns.dates[row];
+            return rowType != REMOVED && date >= periodFrom && date <= periodTo
+                    && (type == ANY_TYPE || rowType == type);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowAccumulator<A> {
+
+        void add(A accumulator, Columns columns, int row);
+    }
+
+    private record Reduction<A>(Supplier<A> newAccumulator, RowAccumulator<A> accumulator, BinaryOperator<A> combiner) {
+    }
+
+    /**
+     * Splits the row range in halves until it is small enough to scan, then combines the halves' results.
+     */
+    private static final class Aggregation<A> extends RecursiveTask<A> {
+
+        private final Columns columns;
+
+        private final int fromRow;
+
+        private final int toRow;
+
+        private final Filter filter;
+
+        private final Reduction<A> reduction;
+
+        private Aggregation(Columns columns, int fromRow, int toRow, Filter filter, Reduction<A> reduction) {
+            this.columns = columns;
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+            this.filter = filter;
+            this.reduction = reduction;
+        }
+
+        @Override
+        protected A compute() {
+            if (toRow - fromRow <= SPLIT_THRESHOLD) {
+                A accumulator = reduction.newAccumulator().get();
+                for (int row = fromRow; row < toRow; row++) {
+                    if (filter.matches(columns, row)) {
+                        reduction.accumulator().add(accumulator, columns, row);
+                    }
+                }
+                return accumulator;
+            }
+            int middleRow = (fromRow + toRow) >>> 1;
+            Aggregation<A> left = new Aggregation<>(columns, fromRow, middleRow, filter, reduction);
+            left.fork();
+            A right = new Aggregation<>(columns, middleRow, toRow, filter, reduction).compute();
+            return reduction.combiner().apply(left.join(), right);
+        }
+    }
+
+    /**
+     * The column arrays, ordered by training id. Only accessed under the store's lock.
+     */
+    private static final class Columns {
+
+        private long[] ids;
+
+        private long[] dates;
+
+        private int[] months;
+
+        private int[] durations;
+
+        private byte[] types;
+
+        private long[] traineeIds;
+
+        private long[] trainerIds;
+
+        private int size;
+
+        private int removedRows;
+
+        // Upper bound of the live durations; only lowered by compaction.
+        private int maxDuration;
+
+        private Columns(int capacity) {
+            ids = new long[capacity];
+            dates = new long[capacity];
+            months = new int[capacity];
+            durations = new int[capacity];
+            types = new byte[capacity];
+            traineeIds = new long[capacity];
+            trainerIds = new long[capacity];
+        }
+
+        /**
+         * Returns the row of the training, or {@code -(insertion row) - 1} when it is absent.
+         */
+        int find(long trainingId) {
+            return Arrays.binarySearch(ids, 0, size, trainingId);
+        }
+
+        void set(int row, TrainingFacts training, ZoneId zone) {
+            if (types[row] == REMOVED) {
+                removedRows--;
+            }
+            Date trainingDate = training.trainingDate();
+            ids[row] = training.trainingId();
+            dates[row] = trainingDate == null ? Long.MIN_VALUE : trainingDate.getTime();
+            months[row] = trainingDate == null ? NO_MONTH : monthIndex(trainingDate.getTime(), zone);
+            durations[row] = training.trainingDuration();
+            types[row] = training.trainingTypeName() == null ? NO_TYPE : (byte) training.trainingTypeName().ordinal();
+            traineeIds[row] = training.traineeId();
+            trainerIds[row] = training.trainerId();
+            maxDuration = Math.max(maxDuration, training.trainingDuration());
+        }
+
+        /**
+         * Inserts a row at {@code row}, shifting later rows; ids mostly grow, so this is usually an append.
+         */
+        void insert(int row, TrainingFacts training, ZoneId zone) {
+            if (size == ids.length) {
+                resize(ids.length * 2);
+            }
+            int moved = size - row;
+            if (moved > 0) {
+                System.arraycopy(ids, row, ids, row + 1, moved);
+                System.arraycopy(dates, row, dates, row + 1, moved);
+                System.arraycopy(months, row, months, row + 1, moved);
+                System.arraycopy(durations, row, durations, row + 1, moved);
+                System.arraycopy(types, row, types, row + 1, moved);
+                System.arraycopy(traineeIds, row, traineeIds, row + 1, moved);
+                System.arraycopy(trainerIds, row, trainerIds, row + 1, moved);
+            }
+            types[row] = NO_TYPE;
+            size++;
+            set(row, training, zone);
+        }
+
+        void remove(int row) {
+            if (types[row] != REMOVED) {
+                types[row] = REMOVED;
+                removedRows++;
+            }
+        }
+
+        void compactIfSparse() {
+            if (removedRows * 2 <= size) {
+                return;
+            }
+            int live = 0;
+            maxDuration = 0;
+            for (int row = 0; row < size; row++) {
+                if (types[row] != REMOVED) {
+                    ids[live] = ids[row];
+                    dates[live] = dates[row];
+                    months[live] = months[row];
+                    durations[live] = durations[row];
+                    types[live] = types[row];
+                    traineeIds[live] = traineeIds[row];
+                    trainerIds[live] = trainerIds[row];
+                    maxDuration = Math.max(maxDuration, durations[live]);
+                    live++;
+                }
+            }
+            size = live;
+            removedRows = 0;
+            if (ids.length > INITIAL_CAPACITY && size < ids.length / 4) {
+                resize(Math.max(INITIAL_CAPACITY, ids.length / 2));
+            }
+        }
+
+        private void resize(int capacity) {
+            ids = Arrays.copyOf(ids, capacity);
+            dates = Arrays.copyOf(dates, capacity);
+            months = Arrays.copyOf(months, capacity);
+            durations = Arrays.copyOf(durations, capacity);
+            types = Arrays.copyOf(types, capacity);
+            traineeIds = Arrays.copyOf(traineeIds, capacity);
+            trainerIds = Arrays.copyOf(trainerIds, capacity);
+        }
+
+        private static int monthIndex(long time, ZoneId zone) {
+            YearMonth month = YearMonth.from(Instant.ofEpochMilli(time).atZone(zone));
+            return month.getYear() * 12 + month.getMonthValue() - 1;
+        }
+    }
+}
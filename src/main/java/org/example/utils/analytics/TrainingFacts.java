@@ -0,0 +1,16 @@
+package org.example.utils.analytics;
+
+import java.util.Date;
+
+import org.example.enums.TrainingTypeName;
+
+/**
+ * The columns of one training kept by {@link TrainingColumnStore}.
+ */
+public record TrainingFacts(long trainingId,
+                            long traineeId,
+                            long trainerId,
+                            TrainingTypeName trainingTypeName,
+                            Date trainingDate,
+                            int trainingDuration) {
+}
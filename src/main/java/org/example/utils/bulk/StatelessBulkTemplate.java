@@ -0,0 +1,147 @@
+package org.example.utils.bulk;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.query.SelectionQuery;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Runs bulk reads and writes on Hibernate {@link StatelessSession}s, which keep no persistence context: loaded
+ * rows are neither cached nor dirty checked, so memory depends on the chunk size and not on the table size.
+ * <p>
+ * Each call opens its own session and connection and manages its own transactions, independent of any Spring
+ * transaction active on the calling thread. Chunk lists are reused between chunks and must not be kept.
+ */
+public class StatelessBulkTemplate {
+
+    private static final String LAST_ID = "lastId";
+
+    private final SessionFactory sessionFactory;
+
+    private final int chunkSize;
+
+    public StatelessBulkTemplate(EntityManagerFactory entityManagerFactory, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.chunkSize = chunkSize;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Streams the results of an HQL selection through a forward-only cursor in one transaction and hands them to
+     * {@code chunkConsumer} a chunk at a time. Associations are not loaded lazily and must be fetched or
+     * selected by the query. Returns the number of results.
+     */
+    public <T> long scroll(String query, Class<T> resultType, Map<String, ?> parameters,
+                           Consumer<List<T>> chunkConsumer) {
+        return inTransaction(session -> {
+            SelectionQuery<T> selection = session.createSelectionQuery(query, resultType)
+                    .setFetchSize(chunkSize);
+            parameters.forEach(selection::setParameter);
+            long results = 0;
+            List<T> chunk = new ArrayList<>(chunkSize);
+            try (ScrollableResults<T> cursor = selection.scroll(ScrollMode.FORWARD_ONLY)) {
+                while (cursor.next()) {
+                    chunk.add(cursor.get());
+                    if (chunk.size() == chunkSize) {
+                        results += accept(chunk, chunkConsumer);
+                    }
+                }
+            }
+            return results + accept(chunk, chunkConsumer);
+        });
+    }
+
+    /**
+     * Walks the ids of the {@code entityType} rows matching {@code condition}, written against the alias
+     * {@code e}, in ascending order and passes each chunk of ids to {@code work} in a transaction of its own that
+     * is committed before the next chunk is read. Chunks are found by id rather than by one long-lived cursor,
+     * so no cursor has to survive a commit and a failed chunk leaves the earlier ones committed.
+     * Returns the number of ids processed.
+     */
+    public long forEachIdChunk(Class<?> entityType, String condition, Map<String, ?> parameters,
+                               BiConsumer<StatelessSession, List<Long>> work) {
+        return forEachIdChunk(entityType, condition, parameters, work, ids -> {
+        });
+    }
+
+    /**
+     * Like {@link #forEachIdChunk(Class, String, Map, BiConsumer)}, and passes each chunk's ids to
+     * {@code afterCommit} once its transaction has committed, before the next chunk is read. A chunk that fails
+     * is rolled back without reaching {@code afterCommit}, so in-memory state kept in step there matches the
+     * database.
+     */
+    public long forEachIdChunk(Class<?> entityType, String condition, Map<String, ?> parameters,
+                               BiConsumer<StatelessSession, List<Long>> work, Consumer<List<Long>> afterCommit) {
+        String entityName = sessionFactory.getMetamodel().entity(entityType).getName();
+        String query = "select e.id from " + entityName + " e where (" + condition + ") and e.id > :" + LAST_ID
+                + " order by e.id";
+        long processed = 0;
+        long lastId = Long.MIN_VALUE;
+        while (true) {
+            long afterId = lastId;
+            List<Long> ids = inTransaction(session -> {
+                SelectionQuery<Long> selection = session.createSelectionQuery(query, Long.class)
+                        .setParameter(LAST_ID, afterId)
+                        .setMaxResults(chunkSize);
+                parameters.forEach(selection::setParameter);
+                List<Long> chunk = selection.getResultList();
+                if (!chunk.isEmpty()) {
+                    work.accept(session, chunk);
+                }
+                return chunk;
+            });
+            if (ids.isEmpty()) {
+                return processed;
+            }
+            afterCommit.accept(ids);
+            processed += ids.size();
+            lastId = ids.get(ids.size() - 1);
+            if (ids.size() < chunkSize) {
+                return processed;
+            }
+        }
+    }
+
+    private static <T> int accept(List<T> chunk, Consumer<List<T>> chunkConsumer) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        int size = chunk.size();
+        chunkConsumer.accept(chunk);
+        chunk.clear();
+        return size;
+    }
+
+    private <R> R inTransaction(Function<StatelessSession, R> action) {
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            Transaction transaction = session.beginTransaction();
+            try {
+                R result = action.apply(session);
+                transaction.commit();
+                return result;
+            } catch (RuntimeException | Error ex) {
+                if (transaction.isActive()) {
+                    transaction.rollback();
+                }
+                throw ex;
+            }
+        }
+    }
+}
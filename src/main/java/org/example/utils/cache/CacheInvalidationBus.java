@@ -0,0 +1,290 @@
+package org.example.utils.cache;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.DatagramChannel;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.context.SmartLifecycle;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Peer-to-peer broadcast of cache evictions over UDP. Every node binds one datagram socket and sends each eviction
+ * to the configured peers; there is no coordinator, so any number of nodes (or JVMs on one machine, on different
+ * ports) can form a cluster.
+ * <p>
+ * Delivery is best effort: a lost datagram leaves one peer's entry stale until the cache's own expiry removes it.
+ * Messages carry the sender's node id so a node that lists itself as a peer ignores its own evictions.
+ * <p>
+ * A datagram is acted on only if it comes from one of the peers' addresses and ports and carries a valid
+ * HMAC-SHA256 of its content under the cluster's shared secret. Anything else is counted as rejected and dropped.
+ */
+@Slf4j
+public class CacheInvalidationBus implements SmartLifecycle {
+
+    private static final byte VERSION = 2;
+
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+
+    private static final int MAC_BYTES = 32;
+
+    private static final byte TYPE_CLEAR = 0;
+
+    private static final byte TYPE_STRING_KEY = 1;
+
+    private static final byte TYPE_LONG_KEY = 2;
+
+    /**
+     * Stays below common MTUs so that a message is never fragmented.
+     */
+    private static final int MAX_MESSAGE_BYTES = 1_400;
+
+    private static final String METRIC_MESSAGES = "cache.invalidation.messages";
+
+    private final InetSocketAddress bindAddress;
+
+    private final List<InetSocketAddress> peers;
+
+    private final Set<InetSocketAddress> trustedSenders;
+
+    private final SecretKeySpec secret;
+
+    private final UUID nodeId = UUID.randomUUID();
+
+    private final Counter sent;
+
+    private final Counter received;
+
+    private final Counter rejected;
+
+    private final List<BiConsumer<String, Object>> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile DatagramChannel channel;
+
+    /**
+     * @param secret key shared by every node of the cluster; must not be empty
+     */
+    public CacheInvalidationBus(InetSocketAddress bindAddress, List<InetSocketAddress> peers, byte[] secret,
+                                MeterRegistry meterRegistry) {
+        if (secret.length == 0) {
+            throw new IllegalArgumentException("Cache invalidation bus secret must not be empty");
+        }
+        this.bindAddress = bindAddress;
+        this.peers = List.copyOf(peers);
+        this.trustedSenders = Set.copyOf(peers);
+        this.secret = new SecretKeySpec(secret, MAC_ALGORITHM);
+        this.sent = messageCounter(meterRegistry, "sent");
+        this.received = messageCounter(meterRegistry, "received");
+        this.rejected = messageCounter(meterRegistry, "rejected");
+    }
+
+    /**
+     * Adds a callback for evictions received from peers; {@code key} is {@code null} when the whole cache is
+     * to be cleared. Every callback sees every cache name and ignores the ones it does not own. Called on the
+     * receiver thread.
+     */
+    public void subscribe(BiConsumer<String, Object> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Sends an eviction to every peer. Keys other than strings and integral numbers, and keys too long for one
+     * datagram, are sent as a clear of the whole cache.
+     *
+     * @param key evicted key, or {@code null} to clear the cache
+     */
+    public void publish(String cacheName, Object key) {
+        DatagramChannel current = channel;
+        if (current == null || peers.isEmpty()) {
+            return;
+        }
+        ByteBuffer message = encode(cacheName, key);
+        for (InetSocketAddress peer : peers) {
+            try {
+                current.send(message.duplicate(), peer);
+                sent.increment();
+            } catch (IOException ex) {
+                log.warn("Could not send cache invalidation to {}: {}", peer, ex.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        try {
+            channel = DatagramChannel.open().bind(bindAddress);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not bind cache invalidation bus to " + bindAddress, ex);
+        }
+        Thread receiver = new Thread(this::receive, "cache-invalidation-bus");
+        receiver.setDaemon(true);
+        receiver.start();
+        log.info("Cache invalidation bus started successfully on port {} with {} peers", getPort(), peers.size());
+    }
+
+    @Override
+    public void stop() {
+        DatagramChannel current = channel;
+        if (current == null) {
+            return;
+        }
+        channel = null;
+        try {
+            current.close();
+        } catch (IOException ex) {
+            log.warn("Could not close cache invalidation bus: {}", ex.getMessage());
+        }
+        log.info("Cache invalidation bus stopped successfully");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return channel != null;
+    }
+
+    public int getPort() {
+        DatagramChannel current = channel;
+        try {
+            return current == null ? -1 : ((InetSocketAddress) current.getLocalAddress()).getPort();
+        } catch (IOException ex) {
+            return -1;
+        }
+    }
+
+    private void receive() {
+        DatagramChannel current = channel;
+        ByteBuffer buffer = ByteBuffer.allocate(MAX_MESSAGE_BYTES);
+        while (current != null && current.isOpen()) {
+            try {
+                buffer.clear();
+                SocketAddress sender = current.receive(buffer);
+                buffer.flip();
+                if (isTrusted(sender, buffer)) {
+                    dispatch(buffer);
+                } else {
+                    rejected.increment();
+                }
+            } catch (ClosedChannelException ex) {
+                return;
+            } catch (IOException ex) {
+                log.warn("Could not receive cache invalidation: {}", ex.getMessage());
+            } catch (RuntimeException ex) {
+                rejected.increment();
+                log.warn("Rejected malformed cache invalidation: {}", ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Checks that the datagram comes from a peer and is signed with the shared secret, and strips the signature.
+     */
+    private boolean isTrusted(SocketAddress sender, ByteBuffer buffer) {
+        if (!trustedSenders.contains(sender) || buffer.remaining() <= MAC_BYTES) {
+            return false;
+        }
+        int contentEnd = buffer.limit() - MAC_BYTES;
+        byte[] signature = new byte[MAC_BYTES];
+        buffer.get(contentEnd, signature);
+        buffer.limit(contentEnd);
+        return MessageDigest.isEqual(signature, sign(buffer.duplicate()));
+    }
+
+    private void dispatch(ByteBuffer buffer) {
+        if (buffer.get() != VERSION) {
+            rejected.increment();
+            return;
+        }
+        long mostSignificantBits = buffer.getLong();
+        long leastSignificantBits = buffer.getLong();
+        if (nodeId.getMostSignificantBits() == mostSignificantBits
+                && nodeId.getLeastSignificantBits() == leastSignificantBits) {
+            return;
+        }
+        byte type = buffer.get();
+        String cacheName = readString(buffer);
+        Object key = switch (type) {
+            case TYPE_CLEAR -> null;
+            case TYPE_STRING_KEY -> readString(buffer);
+            case TYPE_LONG_KEY -> buffer.getLong();
+            default -> throw new IllegalArgumentException("Unknown message type " + type);
+        };
+        received.increment();
+        for (BiConsumer<String, Object> listener : listeners) {
+            listener.accept(cacheName, key);
+        }
+    }
+
+    private ByteBuffer encode(String cacheName, Object key) {
+        byte[] name = cacheName.getBytes(StandardCharsets.UTF_8);
+        byte[] stringKey = key instanceof String string ? string.getBytes(StandardCharsets.UTF_8) : null;
+        boolean longKey = key instanceof Long || key instanceof Integer || key instanceof Short;
+        int keyBytes = stringKey != null ? Short.BYTES + stringKey.length : longKey ? Long.BYTES : 0;
+        if (Byte.BYTES * 2 + Long.BYTES * 2 + Short.BYTES + name.length + keyBytes + MAC_BYTES > MAX_MESSAGE_BYTES) {
+            stringKey = null;
+            longKey = false;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(MAX_MESSAGE_BYTES)
+                .put(VERSION)
+                .putLong(nodeId.getMostSignificantBits())
+                .putLong(nodeId.getLeastSignificantBits());
+        if (stringKey != null) {
+            buffer.put(TYPE_STRING_KEY);
+            writeBytes(buffer, name);
+            writeBytes(buffer, stringKey);
+        } else if (longKey) {
+            buffer.put(TYPE_LONG_KEY);
+            writeBytes(buffer, name);
+            buffer.putLong(((Number) key).longValue());
+        } else {
+            buffer.put(TYPE_CLEAR);
+            writeBytes(buffer, name);
+        }
+        buffer.put(sign(buffer.duplicate().flip()));
+        return buffer.flip();
+    }
+
+    private byte[] sign(ByteBuffer content) {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(secret);
+            mac.update(content);
+            return mac.doFinal();
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Could not sign cache invalidation", ex);
+        }
+    }
+
+    private static void writeBytes(ByteBuffer buffer, byte[] bytes) {
+        buffer.putShort((short) bytes.length).put(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static Counter messageCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_MESSAGES)
+                .tag("result", result)
+                .description("Cache invalidation messages exchanged with peers")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.utils.cache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * Decorates a node-local {@link CacheManager} so that evictions are broadcast over a {@link CacheInvalidationBus}
+ * and evictions received from peers are applied to the local caches.
+ */
+public class ClusterCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+
+    private final CacheInvalidationBus bus;
+
+    private final Map<String, ClusterCache> caches = new ConcurrentHashMap<>();
+
+    public ClusterCacheManager(CacheManager delegate, CacheInvalidationBus bus) {
+        this.delegate = delegate;
+        this.bus = bus;
+        bus.subscribe(this::evictLocally);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        ClusterCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache local = delegate.getCache(name);
+        return local == null ? null : caches.computeIfAbsent(name, key -> new ClusterCache(local, bus));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    private void evictLocally(String cacheName, Object key) {
+        Cache local = delegate.getCache(cacheName);
+        if (local == null) {
+            return;
+        }
+        if (key == null) {
+            local.clear();
+        } else {
+            local.evict(key);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package org.example.utils.cache;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Bounded cache of query results, bounded by the estimated size of the results in bytes and indexed by the
+ * owner of each key, so a write can drop only the results of the users it touched.
+ * <p>
+ * A result is stored after it is loaded. If an owner was evicted while the load was running, the result may
+ * predate that write and is dropped again instead of being served. Callers that coalesce concurrent loads must
+ * only share a load started in the same eviction generation, which {@link #get(Object, LongFunction)} hands to the
+ * loader. Stored results are shared between callers and must therefore be immutable.
+ */
+public class QueryResultCache<K, V> {
+
+    private static final String METRIC_GETS = "query.cache.gets";
+
+    private final Cache<K, V> cache;
+
+    private final Function<K, String> owner;
+
+    private final ConcurrentHashMap<String, Set<K>> keysByOwner = new ConcurrentHashMap<>();
+
+    private final AtomicLong ownerEvictions = new AtomicLong();
+
+    private final Counter hits;
+
+    private final Counter misses;
+
+    private final Counter evictedOwners;
+
+    public QueryResultCache(String name, long maximumBytes, Duration expireAfterWrite, Function<K, String> owner,
+                            ToLongFunction<V> sizeInBytes, MeterRegistry meterRegistry) {
+        this.owner = owner;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((K key, V value) -> (int) Math.min(Integer.MAX_VALUE, sizeInBytes.applyAsLong(value)))
+                .expireAfterWrite(expireAfterWrite)
+                .evictionListener((K key, V value, RemovalCause cause) -> unindex(key))
+                .build();
+        this.hits = Counter.builder(METRIC_GETS)
+                .tag("name", name)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder(METRIC_GETS)
+                .tag("name", name)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.evictedOwners = Counter.builder("query.cache.owner.evictions")
+                .tag("name", name)
+                .description("Owners whose results were dropped after a write")
+                .register(meterRegistry);
+        Gauge.builder("query.cache.hit.ratio", this, QueryResultCache::hitRatio)
+                .tag("name", name)
+                .description("Share of lookups served from the cache")
+                .register(meterRegistry);
+        Gauge.builder("query.cache.entries", cache, Cache::estimatedSize)
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("query.cache.size", this, QueryResultCache::sizeInBytes)
+                .tag("name", name)
+                .baseUnit("bytes")
+                .description("Estimated memory held by the cached results")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached result for {@code key}, or loads, stores and returns it.
+     */
+    public V get(K key, Supplier<V> loader) {
+        return get(key, generation -> loader.get());
+    }
+
+    /**
+     * Like {@link #get(Object, Supplier)}, passing the loader the eviction generation its result is checked
+     * against. A caller joining another caller's load must key the join by this generation as well, or it may
+     * share a load that started before an eviction it has already seen.
+     */
+    public V get(K key, LongFunction<V> loader) {
+        V cached = cache.getIfPresent(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+
+        long evictionsBeforeLoad = ownerEvictions.get();
+        V value = loader.apply(evictionsBeforeLoad);
+        if (value == null || ownerEvictions.get() != evictionsBeforeLoad) {
+            return value;
+        }
+        cache.put(key, value);
+        index(key);
+        // Only this result is dropped: a later load may already have stored a newer one.
+        if (ownerEvictions.get() != evictionsBeforeLoad && cache.asMap().remove(key, value)) {
+            unindex(key);
+        }
+        return value;
+    }
+
+    /**
+     * Drops every result owned by {@code ownerName}.
+     */
+    public void evictOwner(String ownerName) {
+        ownerEvictions.incrementAndGet();
+        Set<K> keys = keysByOwner.remove(ownerName);
+        if (keys != null) {
+            cache.invalidateAll(keys);
+            evictedOwners.increment();
+        }
+    }
+
+    public void evictAll() {
+        ownerEvictions.incrementAndGet();
+        keysByOwner.clear();
+        cache.invalidateAll();
+    }
+
+    public double hitRatio() {
+        double hitCount = hits.count();
+        double total = hitCount + misses.count();
+        return total == 0 ? 0 : hitCount / total;
+    }
+
+    public long sizeInBytes() {
+        return cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0))
+                .orElse(0L);
+    }
+
+    /**
+     * Applies pending size-based evictions and size bookkeeping, which otherwise happen asynchronously.
+     */
+    void cleanUp() {
+        cache.cleanUp();
+    }
+
+    private void index(K key) {
+        keysByOwner.compute(owner.apply(key), (ownerName, keys) -> {
+            Set<K> ownedKeys = keys == null ? new HashSet<>() : keys;
+            ownedKeys.add(key);
+            return ownedKeys;
+        });
+    }
+
+    private void unindex(K key) {
+        keysByOwner.computeIfPresent(owner.apply(key), (ownerName, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+}
@@ -0,0 +1,162 @@
+package org.example.utils.cache;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.function.LongFunction;
+
+import org.example.config.cache.TrainingListCacheProperties;
+import org.example.dto.training.TrainingDTO;
+import org.example.enums.TrainingTypeName;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Converted trainee and trainer training lists, keyed by the normalized query. Trainee lists are owned by the
+ * trainee and trainer lists by the trainer, so a write to a training drops only the lists of its two users.
+ * <p>
+ * The lists are held per node. When the {@link CacheInvalidationBus} is enabled, evictions are also sent to the
+ * peers, which drop the same owners' lists; a lost datagram leaves a peer's lists stale until they expire.
+ */
+@Component
+public class TrainingListCache {
+
+    // Rough shallow sizes on a 64-bit JVM with compressed oops.
+    private static final long LIST_BYTES = 40;
+    private static final long TRAINING_BYTES = 40 + 24;
+    private static final long STRING_BYTES = 40;
+
+    static final String TRAINEE_TRAININGS = "trainee.trainings";
+
+    static final String TRAINER_TRAININGS = "trainer.trainings";
+
+    private final QueryResultCache<Query, List<TrainingDTO>> traineeTrainings;
+
+    private final QueryResultCache<Query, List<TrainingDTO>> trainerTrainings;
+
+    private final CacheInvalidationBus bus;
+
+    @Autowired
+    public TrainingListCache(MeterRegistry meterRegistry, TrainingListCacheProperties properties,
+                             ObjectProvider<CacheInvalidationBus> cacheInvalidationBus) {
+        long maximumBytes = properties.getMaximumBytes() / 2;
+        this.traineeTrainings = new QueryResultCache<>(TRAINEE_TRAININGS, maximumBytes,
+                properties.getExpireAfterWrite(), Query::username, TrainingListCache::sizeInBytes, meterRegistry);
+        this.trainerTrainings = new QueryResultCache<>(TRAINER_TRAININGS, maximumBytes,
+                properties.getExpireAfterWrite(), Query::username, TrainingListCache::sizeInBytes, meterRegistry);
+        this.bus = cacheInvalidationBus.getIfAvailable();
+        if (bus != null) {
+            bus.subscribe(this::evictReceived);
+        }
+    }
+
+    /**
+     * Returns the cached list, or loads it with {@code loader}, which is given the eviction generation of the
+     * load; see {@link QueryResultCache#get(Object, LongFunction)}.
+     */
+    public List<TrainingDTO> getTraineeTrainings(Query query, LongFunction<List<TrainingDTO>> loader) {
+        return traineeTrainings.get(query, loader);
+    }
+
+    public List<TrainingDTO> getTrainerTrainings(Query query, LongFunction<List<TrainingDTO>> loader) {
+        return trainerTrainings.get(query, loader);
+    }
+
+    /**
+     * Drops the lists a training of this trainee with this trainer appears in.
+     */
+    public void evict(String traineeUsername, String trainerUsername) {
+        evictLocally(traineeUsername, trainerUsername);
+        publish(TRAINEE_TRAININGS, traineeUsername);
+        publish(TRAINER_TRAININGS, trainerUsername);
+    }
+
+    public void evictAll() {
+        evictAllLocally();
+        publish(TRAINEE_TRAININGS, null);
+        publish(TRAINER_TRAININGS, null);
+    }
+
+    /**
+     * Like {@link #evict}, on this node only, for changes every node applies by itself, such as a training
+     * reloaded after a peer wrote it.
+     */
+    public void evictLocally(String traineeUsername, String trainerUsername) {
+        traineeTrainings.evictOwner(traineeUsername);
+        trainerTrainings.evictOwner(trainerUsername);
+    }
+
+    /**
+     * Like {@link #evictLocally(String, String)}, once per user, for writes touching many trainings at once.
+     */
+    public void evictLocally(Collection<String> traineeUsernames, Collection<String> trainerUsernames) {
+        traineeUsernames.forEach(traineeTrainings::evictOwner);
+        trainerUsernames.forEach(trainerTrainings::evictOwner);
+    }
+
+    public void evictAllLocally() {
+        traineeTrainings.evictAll();
+        trainerTrainings.evictAll();
+    }
+
+    private void publish(String name, String owner) {
+        if (bus != null) {
+            bus.publish(name, owner);
+        }
+    }
+
+    private void evictReceived(String name, Object owner) {
+        QueryResultCache<Query, List<TrainingDTO>> lists = switch (name) {
+            case TRAINEE_TRAININGS -> traineeTrainings;
+            case TRAINER_TRAININGS -> trainerTrainings;
+            default -> null;
+        };
+        if (lists == null) {
+            return;
+        }
+        if (owner == null) {
+            lists.evictAll();
+        } else {
+            lists.evictOwner(owner.toString());
+        }
+    }
+
+    static long sizeInBytes(List<TrainingDTO> trainings) {
+        long bytes = LIST_BYTES;
+        for (TrainingDTO training : trainings) {
+            bytes += Integer.BYTES + TRAINING_BYTES
+                    + sizeInBytes(training.getTrainingName())
+                    + sizeInBytes(training.getTrainingType())
+                    + sizeInBytes(training.getTrainerName());
+        }
+        return bytes;
+    }
+
+    private static long sizeInBytes(String value) {
+        return value == null ? 0 : STRING_BYTES + value.length();
+    }
+
+    /**
+     * A training list query with blank filters treated as absent and dates copied, so equal queries share an
+     * entry and later changes to the caller's {@link Date}s cannot alter the key.
+     */
+    public record Query(String username,
+                        Instant periodFrom,
+                        Instant periodTo,
+                        String counterpartUsername,
+                        TrainingTypeName trainingTypeName) {
+
+        public static Query of(String username, Date periodFrom, Date periodTo, String counterpartUsername,
+                               TrainingTypeName trainingTypeName) {
+            return new Query(username,
+                    periodFrom == null ? null : Instant.ofEpochMilli(periodFrom.getTime()),
+                    periodTo == null ? null : Instant.ofEpochMilli(periodTo.getTime()),
+                    counterpartUsername == null || counterpartUsername.isBlank() ? null : counterpartUsername.trim(),
+                    trainingTypeName);
+        }
+    }
+}
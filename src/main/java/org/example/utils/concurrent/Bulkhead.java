@@ -0,0 +1,163 @@
+package org.example.utils.concurrent;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.example.exception.concurrent.BulkheadFullException;
+import org.example.exception.concurrent.BulkheadTimeoutException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * A bounded thread pool for one kind of expensive work, so that a burst of it waits in its own queue, or is turned
+ * away, instead of holding the request threads that cheap calls need.
+ * <p>
+ * A call fails with {@link BulkheadFullException} when the threads and the queue are taken, and with
+ * {@link BulkheadTimeoutException} when it has not finished within the timeout, counted from submission; its task
+ * is then cancelled, which interrupts it if it has started.
+ * <p>
+ * Meters, tagged with the bulkhead name: the executor's own {@code executor.*} pool metrics,
+ * {@code bulkhead.calls{result}} and {@code bulkhead.queue.wait}. Each task runs in a {@value #TASK_OBSERVATION}
+ * observation whose parent is the one current at submission, so the work stays in the caller's trace.
+ */
+public class Bulkhead implements AutoCloseable {
+
+    public static final String TASK_OBSERVATION = "bulkhead.task";
+
+    private static final String METRIC_CALLS = "bulkhead.calls";
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    /**
+     * Fires the timeouts of every bulkhead; the tasks only complete a future and cancel another.
+     */
+    private static final ScheduledThreadPoolExecutor TIMEOUTS = timeoutScheduler();
+
+    private final String name;
+
+    private final Duration timeout;
+
+    private final ThreadPoolExecutor executor;
+
+    private final Counter succeeded;
+
+    private final Counter failed;
+
+    private final Counter rejected;
+
+    private final Counter timedOut;
+
+    private final Timer queueWait;
+
+    private final ObservationRegistry observationRegistry;
+
+    public Bulkhead(String name, int threads, int queueCapacity, Duration timeout, MeterRegistry meterRegistry,
+                    ObservationRegistry observationRegistry) {
+        this.name = name;
+        this.timeout = timeout;
+        this.executor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("bulkhead-" + name + "-"));
+        this.executor.allowCoreThreadTimeOut(true);
+
+        new ExecutorServiceMetrics(executor, name, Tags.empty()).bindTo(meterRegistry);
+        this.succeeded = callCounter("success", meterRegistry);
+        this.failed = callCounter("failure", meterRegistry);
+        this.rejected = callCounter("rejected", meterRegistry);
+        this.timedOut = callCounter("timeout", meterRegistry);
+        this.queueWait = Timer.builder("bulkhead.queue.wait")
+                .tag("name", name)
+                .description("Time between submission and the start of execution")
+                .register(meterRegistry);
+        this.observationRegistry = observationRegistry;
+    }
+
+    private Counter callCounter(String result, MeterRegistry meterRegistry) {
+        return Counter.builder(METRIC_CALLS)
+                .tag("name", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs {@code task} on this bulkhead's threads. The returned future fails with
+     * {@link BulkheadFullException} at once when the bulkhead is saturated.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        long submittedAt = System.nanoTime();
+        Observation caller = observationRegistry.getCurrentObservation();
+        FutureTask<Void> execution = new FutureTask<>(() -> {
+            queueWait.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+            Observation observation = Observation.createNotStarted(TASK_OBSERVATION, observationRegistry)
+                    .parentObservation(caller)
+                    .contextualName("bulkhead " + name)
+                    .lowCardinalityKeyValue("name", name)
+                    .start();
+            try (Observation.Scope scope = observation.openScope()) {
+                result.complete(task.get());
+            } catch (Throwable ex) {
+                observation.error(ex);
+                result.completeExceptionally(ex);
+            } finally {
+                observation.stop();
+            }
+        }, null);
+        try {
+            executor.execute(execution);
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            return CompletableFuture.failedFuture(new BulkheadFullException(
+                    "Too many " + name + " requests in progress, try again later"));
+        }
+
+        ScheduledFuture<?> expiry = TIMEOUTS.schedule(() -> {
+            if (result.completeExceptionally(new BulkheadTimeoutException(
+                    "The " + name + " request did not complete within " + timeout.toMillis() + " ms"))) {
+                execution.cancel(true);
+            }
+        }, timeout.toNanos(), TimeUnit.NANOSECONDS);
+        return result.whenComplete((value, ex) -> {
+            expiry.cancel(false);
+            if (ex == null) {
+                succeeded.increment();
+            } else if (ex instanceof BulkheadTimeoutException) {
+                timedOut.increment();
+            } else {
+                failed.increment();
+            }
+        });
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private static ScheduledThreadPoolExecutor timeoutScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "bulkhead-timeouts");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+}
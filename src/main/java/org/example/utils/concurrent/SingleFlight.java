@@ -0,0 +1,109 @@
+package org.example.utils.concurrent;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.example.exception.concurrent.BulkheadTimeoutException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Coalesces concurrent calls for the same key into one computation.
+ * <p>
+ * The first caller for a key (the leader) runs the loader; callers arriving while it is in flight wait for
+ * and share its result or exception. Nothing is cached: once the leader finishes, the next call loads again.
+ * Shared results must therefore be immutable.
+ * <p>
+ * A waiting caller gives up with {@link BulkheadTimeoutException} after {@code timeout}, which should match the
+ * bulkhead the callers run on, and stops waiting when its thread is interrupted, as a bulkhead does to a task
+ * that timed out.
+ */
+public class SingleFlight<K, V> {
+
+    private static final String METRIC_CALLS = "singleflight.calls";
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final String name;
+
+    private final Duration timeout;
+
+    private final Counter executedCalls;
+
+    private final Counter sharedCalls;
+
+    public SingleFlight(String name, Duration timeout, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.timeout = timeout;
+        this.executedCalls = Counter.builder(METRIC_CALLS)
+                .tag("name", name)
+                .tag("result", "executed")
+                .register(meterRegistry);
+        this.sharedCalls = Counter.builder(METRIC_CALLS)
+                .tag("name", name)
+                .tag("result", "shared")
+                .register(meterRegistry);
+        Gauge.builder("singleflight.coalescing.ratio", this, SingleFlight::coalescingRatio)
+                .tag("name", name)
+                .description("Share of calls served by another caller's in-flight computation")
+                .register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            sharedCalls.increment();
+            return await(existing);
+        }
+
+        executedCalls.increment();
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            call.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    public double coalescingRatio() {
+        double shared = sharedCalls.count();
+        double total = shared + executedCalls.count();
+        return total == 0 ? 0 : shared / total;
+    }
+
+    private V await(CompletableFuture<V> call) {
+        try {
+            return call.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (TimeoutException ex) {
+            throw new BulkheadTimeoutException(
+                    "The shared " + name + " call did not complete within " + timeout.toMillis() + " ms");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            CancellationException cancellation = new CancellationException(
+                    "Interrupted while waiting for the shared " + name + " call");
+            cancellation.initCause(ex);
+            throw cancellation;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import org.example.dto.trainee.TraineeDTO;
 import org.example.dto.trainee.TraineeEmbeddedDTO;
 import org.example.dto.trainer.TrainerEmbeddedDTO;
 import org.example.model.Trainee;
+import org.example.utils.jfr.ConversionEvent;
 
 public class TraineeConverter {
 
@@ -13,9 +14,10 @@ public class TraineeConverter {
     }
 
     public static TraineeDTO convertToDto(Trainee entity) {
+        ConversionEvent event = ConversionEvent.start("TraineeConverter.convertToDto");
         List<TrainerEmbeddedDTO> trainerEmbeddedDTOList = TrainerConverter.convertToEmbeddedDtoList(entity.getTrainerList());
 
-        return TraineeDTO.builder()
+        TraineeDTO dto = TraineeDTO.builder()
                 .username(entity.getUsername())
                 .firstName(entity.getUser().getFirstName())
                 .lastName(entity.getUser().getLastName())
@@ -24,6 +26,8 @@ public class TraineeConverter {
                 .isActive(entity.getUser().isActive())
                 .trainerEmbeddedDTOList(trainerEmbeddedDTOList)
                 .build();
+        event.complete(dto.getUsername(), trainerEmbeddedDTOList.size());
+        return dto;
     }
 
     public static TraineeEmbeddedDTO convertToEmbeddedDto(Trainee trainee) {
@@ -35,8 +39,11 @@ public class TraineeConverter {
     }
 
     public static List<TraineeEmbeddedDTO> convertToEmbeddedDtoList(List<Trainee> trainees) {
-        return trainees.stream()
+        ConversionEvent event = ConversionEvent.start("TraineeConverter.convertToEmbeddedDtoList");
+        List<TraineeEmbeddedDTO> dtos = trainees.stream()
                 .map(TraineeConverter::convertToEmbeddedDto)
                 .toList();
+        event.complete(null, dtos.size());
+        return dtos;
     }
 }
@@ -6,6 +6,7 @@ import org.example.dto.trainee.TraineeEmbeddedDTO;
 import org.example.dto.trainer.TrainerDTO;
 import org.example.dto.trainer.TrainerEmbeddedDTO;
 import org.example.model.Trainer;
+import org.example.utils.jfr.ConversionEvent;
 
 public class TrainerConverter {
 
@@ -13,10 +14,11 @@ public class TrainerConverter {
     }
 
     public static TrainerDTO convertToDto(Trainer trainer) {
+        ConversionEvent event = ConversionEvent.start("TrainerConverter.convertToDto");
         List<TraineeEmbeddedDTO> traineeEmbeddedDTOList =
                 TraineeConverter.convertToEmbeddedDtoList(trainer.getTraineeList());
 
-        return TrainerDTO.builder()
+        TrainerDTO dto = TrainerDTO.builder()
                 .username(trainer.getUsername())
                 .firstName(trainer.getUser().getFirstName())
                 .lastName(trainer.getUser().getLastName())
@@ -24,6 +26,8 @@ public class TrainerConverter {
                 .isActive(trainer.getUser().isActive())
                 .traineeEmbeddedDTOList(traineeEmbeddedDTOList)
                 .build();
+        event.complete(dto.getUsername(), traineeEmbeddedDTOList.size());
+        return dto;
     }
 
     public static TrainerEmbeddedDTO convertToEmbeddedDto(Trainer trainer) {
@@ -36,8 +40,11 @@ public class TrainerConverter {
     }
 
     public static List<TrainerEmbeddedDTO> convertToEmbeddedDtoList(List<Trainer> trainers) {
-        return trainers.stream()
+        ConversionEvent event = ConversionEvent.start("TrainerConverter.convertToEmbeddedDtoList");
+        List<TrainerEmbeddedDTO> dtos = trainers.stream()
                 .map(TrainerConverter::convertToEmbeddedDto)
                 .toList();
+        event.complete(null, dtos.size());
+        return dtos;
     }
 }
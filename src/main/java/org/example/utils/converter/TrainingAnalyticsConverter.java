@@ -0,0 +1,41 @@
+package org.example.utils.converter;
+
+import java.util.Map;
+
+import org.example.dto.analytics.TrainerDurationAverageDTO;
+import org.example.dto.analytics.TrainingDurationBucketDTO;
+import org.example.dto.analytics.TrainingDurationByMonthDTO;
+import org.example.utils.analytics.TrainingColumnStore;
+
+public class TrainingAnalyticsConverter {
+
+    private TrainingAnalyticsConverter() {
+    }
+
+    public static TrainingDurationByMonthDTO convertToDto(TrainingColumnStore.MonthlyDuration monthlyDuration) {
+        return TrainingDurationByMonthDTO.builder()
+                .month(monthlyDuration.month().toString())
+                .trainingType(monthlyDuration.trainingTypeName())
+                .trainings(monthlyDuration.trainings())
+                .totalDuration(monthlyDuration.totalDuration())
+                .build();
+    }
+
+    public static TrainerDurationAverageDTO convertToDto(TrainingColumnStore.TrainerDuration trainerDuration,
+                                                         Map<Long, String> trainerUsernames) {
+        return TrainerDurationAverageDTO.builder()
+                .trainerUsername(trainerUsernames.get(trainerDuration.trainerId()))
+                .trainings(trainerDuration.trainings())
+                .totalDuration(trainerDuration.totalDuration())
+                .averageDuration(trainerDuration.averageDuration())
+                .build();
+    }
+
+    public static TrainingDurationBucketDTO convertToDto(TrainingColumnStore.DurationBucket durationBucket) {
+        return TrainingDurationBucketDTO.builder()
+                .fromDuration(durationBucket.fromDuration())
+                .toDuration(durationBucket.toDuration())
+                .trainings(durationBucket.trainings())
+                .build();
+    }
+}
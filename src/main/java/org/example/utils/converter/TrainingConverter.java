@@ -4,6 +4,7 @@ import java.util.List;
 
 import org.example.dto.training.TrainingDTO;
 import org.example.model.Training;
+import org.example.utils.jfr.ConversionEvent;
 
 public class TrainingConverter {
 
@@ -11,9 +12,12 @@ public class TrainingConverter {
     }
 
     public static List<TrainingDTO> convertToDtoList(List<Training> trainings) {
-        return trainings.stream()
+        ConversionEvent event = ConversionEvent.start("TrainingConverter.convertToDtoList");
+        List<TrainingDTO> dtos = trainings.stream()
                 .map(TrainingConverter::convertToDto)
                 .toList();
+        event.complete(null, dtos.size());
+        return dtos;
     }
 
     public static TrainingDTO convertToDto(Training training) {
@@ -4,6 +4,7 @@ import java.util.List;
 
 import org.example.dto.trainingType.TrainingTypeDTO;
 import org.example.model.TrainingType;
+import org.example.utils.jfr.ConversionEvent;
 
 public class TrainingTypeConverter {
 
@@ -18,8 +19,11 @@ public class TrainingTypeConverter {
     }
 
     public static List<TrainingTypeDTO> convertToDtoList(List<TrainingType> trainingTypes) {
-        return trainingTypes.stream()
+        ConversionEvent event = ConversionEvent.start("TrainingTypeConverter.convertToDtoList");
+        List<TrainingTypeDTO> dtos = trainingTypes.stream()
                 .map(TrainingTypeConverter::convertToDto)
                 .toList();
+        event.complete(null, dtos.size());
+        return dtos;
     }
 }
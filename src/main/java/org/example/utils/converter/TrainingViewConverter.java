@@ -0,0 +1,55 @@
+package org.example.utils.converter;
+
+import java.util.List;
+
+import org.example.dto.training.TrainingDTO;
+import org.example.model.Training;
+import org.example.model.TrainingView;
+import org.example.model.User;
+import org.example.utils.jfr.ConversionEvent;
+
+public class TrainingViewConverter {
+
+    private TrainingViewConverter() {
+    }
+
+    public static TrainingView convertToView(Training training) {
+        return TrainingView.builder()
+                .id(training.getId())
+                .traineeUsername(training.getTrainee().getUsername())
+                .traineeName(fullName(training.getTrainee().getUser()))
+                .trainerUsername(training.getTrainer().getUsername())
+                .trainerName(fullName(training.getTrainer().getUser()))
+                .trainingName(training.getTrainingName())
+                .trainingTypeName(training.getTrainingType().getTrainingTypeName())
+                .trainingDate(training.getTrainingDate())
+                .trainingDuration(training.getTrainingDuration())
+                .build();
+    }
+
+    public static List<TrainingDTO> convertToDtoList(List<TrainingView> trainingViews) {
+        ConversionEvent event = ConversionEvent.start("TrainingViewConverter.convertToDtoList");
+        List<TrainingDTO> dtos = trainingViews.stream()
+                .map(TrainingViewConverter::convertToDto)
+                .toList();
+        event.complete(null, dtos.size());
+        return dtos;
+    }
+
+    public static TrainingDTO convertToDto(TrainingView trainingView) {
+        return TrainingDTO.builder()
+                .trainingName(trainingView.getTrainingName())
+                .trainingDate(trainingView.getTrainingDate())
+                .trainingType(trainingView.getTrainingTypeName().name())
+                .trainingDuration(trainingView.getTrainingDuration())
+                .trainerName(trainingView.getTrainerName())
+                .build();
+    }
+
+    /**
+     * The name shown for a user in training lists, as the view stores it.
+     */
+    public static String fullName(User user) {
+        return user.getFirstName() + " " + user.getLastName();
+    }
+}
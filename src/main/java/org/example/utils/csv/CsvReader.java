@@ -0,0 +1,96 @@
+package org.example.utils.csv;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming reader for comma-separated values, one record per line. Fields may be enclosed in double quotes, with
+ * {@code ""} standing for a quote inside a quoted field; quoted line breaks are not supported. Only the current line
+ * is held in memory, so inputs of any size can be read.
+ */
+public class CsvReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final BufferedReader reader;
+
+    private long lineNumber;
+
+    public CsvReader(InputStream inputStream) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    /**
+     * Reads the next non-blank line.
+     *
+     * @return the fields of the record, or {@code null} at the end of the input
+     * @throws IllegalArgumentException when a quoted field is not terminated on its line
+     */
+    public List<String> next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+        return parse(line);
+    }
+
+    /**
+     * Line number of the record last returned by {@link #next()}, starting at 1.
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private static List<String> parse(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int i = 0;
+        while (true) {
+            field.setLength(0);
+            if (i < line.length() && line.charAt(i) == '"') {
+                i++;
+                while (true) {
+                    if (i >= line.length()) {
+                        throw new IllegalArgumentException("Unterminated quoted field");
+                    }
+                    char c = line.charAt(i++);
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i < line.length() && line.charAt(i) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        break;
+                    }
+                }
+                int comma = line.indexOf(',', i);
+                i = comma < 0 ? line.length() : comma;
+            } else {
+                int comma = line.indexOf(',', i);
+                int end = comma < 0 ? line.length() : comma;
+                field.append(line, i, end);
+                i = end;
+            }
+            fields.add(field.toString().trim());
+            if (i >= line.length()) {
+                return fields;
+            }
+            i++;
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package org.example.utils.graph;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory mirror of the {@code trainers_trainees} join table keyed by primitive ids.
+ * <p>
+ * Both directions are kept as sorted {@code long[]} adjacency arrays in open-addressing maps, so membership
+ * checks are a hash probe plus a binary search and never box ids. Adjacency arrays are replaced rather than
+ * mutated, which lets readers hold on to them after the read lock is released.
+ * <p>
+ * Writes made while {@link #load} reads its snapshot are applied to the current graph and replayed on the new one
+ * before it is swapped in, so a link committed after the snapshot was read is not lost.
+ */
+@Component
+public class AssignmentGraph {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Lock loading = new ReentrantLock();
+
+    private LongObjectHashMap<long[]> trainersByTrainee = new LongObjectHashMap<>();
+
+    private LongObjectHashMap<long[]> traineesByTrainer = new LongObjectHashMap<>();
+
+    /**
+     * Writes made since the running {@link #load} started, replayed on the loaded graph; {@code null} when no load
+     * is running.
+     */
+    private List<Runnable> writesDuringLoad;
+
+    /**
+     * Replaces the whole graph with the given links; {@code traineeIds[i]} is linked to {@code trainerIds[i]}.
+     */
+    public void load(long[] traineeIds, long[] trainerIds) {
+        load(() -> new Links(traineeIds, trainerIds));
+    }
+
+    /**
+     * Replaces the whole graph with the links returned by {@code snapshot}, keeping the writes made while it runs.
+     * Loads run one at a time.
+     */
+    public void load(Supplier<Links> snapshot) {
+        loading.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                writesDuringLoad = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            LongObjectHashMap<long[]> newTrainersByTrainee;
+            LongObjectHashMap<long[]> newTraineesByTrainer;
+            try {
+                Links links = snapshot.get();
+                newTrainersByTrainee = new LongObjectHashMap<>(links.traineeIds().length);
+                newTraineesByTrainer = new LongObjectHashMap<>(links.trainerIds().length);
+                for (int i = 0; i < links.traineeIds().length; i++) {
+                    addEdge(newTrainersByTrainee, links.traineeIds()[i], links.trainerIds()[i]);
+                    addEdge(newTraineesByTrainer, links.trainerIds()[i], links.traineeIds()[i]);
+                }
+            } catch (RuntimeException | Error ex) {
+                lock.writeLock().lock();
+                try {
+                    writesDuringLoad = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                throw ex;
+            }
+            lock.writeLock().lock();
+            try {
+                trainersByTrainee = newTrainersByTrainee;
+                traineesByTrainer = newTraineesByTrainer;
+                List<Runnable> replayed = writesDuringLoad;
+                writesDuringLoad = null;
+                replayed.forEach(Runnable::run);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            loading.unlock();
+        }
+    }
+
+    public boolean link(long traineeId, long trainerId) {
+        lock.writeLock().lock();
+        try {
+            rememberDuringLoad(() -> link(traineeId, trainerId));
+            boolean added = addEdge(trainersByTrainee, traineeId, trainerId);
+            addEdge(traineesByTrainer, trainerId, traineeId);
+            return added;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean unlink(long traineeId, long trainerId) {
+        lock.writeLock().lock();
+        try {
+            rememberDuringLoad(() -> unlink(traineeId, trainerId));
+            boolean removed = removeEdge(trainersByTrainee, traineeId, trainerId);
+            removeEdge(traineesByTrainer, trainerId, traineeId);
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeTrainee(long traineeId) {
+        lock.writeLock().lock();
+        try {
+            rememberDuringLoad(() -> removeTrainee(traineeId));
+            unlinkTrainee(traineeId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Links the trainee to exactly the given trainers, dropping its other links.
+     */
+    public void replaceTrainers(long traineeId, long[] trainerIds) {
+        lock.writeLock().lock();
+        try {
+            rememberDuringLoad(() -> replaceTrainers(traineeId, trainerIds));
+            unlinkTrainee(traineeId);
+            for (long trainerId : trainerIds) {
+                addEdge(trainersByTrainee, traineeId, trainerId);
+                addEdge(traineesByTrainer, trainerId, traineeId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeTrainer(long trainerId) {
+        lock.writeLock().lock();
+        try {
+            rememberDuringLoad(() -> removeTrainer(trainerId));
+            long[] traineeIds = traineesByTrainer.remove(trainerId);
+            if (traineeIds != null) {
+                for (long traineeId : traineeIds) {
+                    removeEdge(trainersByTrainee, traineeId, trainerId);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isAssigned(long traineeId, long trainerId) {
+        return SortedLongArrays.contains(adjacency(true, traineeId), trainerId);
+    }
+
+    /**
+     * Returns the ascending trainer ids linked to the trainee. The array is shared and must not be modified.
+     */
+    public long[] trainerIdsOf(long traineeId) {
+        return adjacency(true, traineeId);
+    }
+
+    /**
+     * Returns the ascending trainee ids linked to the trainer. The array is shared and must not be modified.
+     */
+    public long[] traineeIdsOf(long trainerId) {
+        return adjacency(false, trainerId);
+    }
+
+    public int traineeCount(long trainerId) {
+        return adjacency(false, trainerId).length;
+    }
+
+    private long[] adjacency(boolean byTrainee, long id) {
+        lock.readLock().lock();
+        try {
+            long[] adjacent = (byTrainee ? trainersByTrainee : traineesByTrainer).get(id);
+            return adjacent == null ? SortedLongArrays.EMPTY : adjacent;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void unlinkTrainee(long traineeId) {
+        long[] trainerIds = trainersByTrainee.remove(traineeId);
+        if (trainerIds != null) {
+            for (long trainerId : trainerIds) {
+                removeEdge(traineesByTrainer, trainerId, traineeId);
+            }
+        }
+    }
+
+    /**
+     * Records a write for replay on the graph being loaded. Called with the write lock held.
+     */
+    private void rememberDuringLoad(Runnable write) {
+        if (writesDuringLoad != null) {
+            writesDuringLoad.add(write);
+        }
+    }
+
+    private static boolean addEdge(LongObjectHashMap<long[]> side, long from, long to) {
+        long[] current = side.get(from);
+        long[] updated = SortedLongArrays.insert(current == null ? SortedLongArrays.EMPTY : current, to);
+        if (updated == current) {
+            return false;
+        }
+        side.put(from, updated);
+        return true;
+    }
+
+    private static boolean removeEdge(LongObjectHashMap<long[]> side, long from, long to) {
+        long[] current = side.get(from);
+        if (current == null) {
+            return false;
+        }
+        long[] updated = SortedLongArrays.remove(current, to);
+        if (updated == current) {
+            return false;
+        }
+        if (updated.length == 0) {
+            side.remove(from);
+        } else {
+            side.put(from, updated);
+        }
+        return true;
+    }
+
+    /**
+     * Links to load; {@code traineeIds[i]} is linked to {@code trainerIds[i]}.
+     */
+    public record Links(long[] traineeIds, long[] trainerIds) {
+
+        public Links {
+            if (traineeIds.length != trainerIds.length) {
+                throw new IllegalArgumentException("Trainee and trainer id arrays must have the same length");
+            }
+        }
+    }
+}
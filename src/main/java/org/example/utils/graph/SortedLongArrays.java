@@ -0,0 +1,46 @@
+package org.example.utils.graph;
+
+import java.util.Arrays;
+
+/**
+ * Copy-on-write operations over ascending {@code long[]} arrays.
+ * Arrays passed in are never modified, so they can be shared with concurrent readers.
+ */
+public class SortedLongArrays {
+
+    public static final long[] EMPTY = new long[0];
+
+    private SortedLongArrays() {
+    }
+
+    public static boolean contains(long[] array, long value) {
+        return Arrays.binarySearch(array, value) >= 0;
+    }
+
+    public static long[] insert(long[] array, long value) {
+        int position = Arrays.binarySearch(array, value);
+        if (position >= 0) {
+            return array;
+        }
+        int insertionPoint = -position - 1;
+        long[] result = new long[array.length + 1];
+        System.arraycopy(array, 0, result, 0, insertionPoint);
+        result[insertionPoint] = value;
+        System.arraycopy(array, insertionPoint, result, insertionPoint + 1, array.length - insertionPoint);
+        return result;
+    }
+
+    public static long[] remove(long[] array, long value) {
+        int position = Arrays.binarySearch(array, value);
+        if (position < 0) {
+            return array;
+        }
+        if (array.length == 1) {
+            return EMPTY;
+        }
+        long[] result = new long[array.length - 1];
+        System.arraycopy(array, 0, result, 0, position);
+        System.arraycopy(array, position + 1, result, position, array.length - position - 1);
+        return result;
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One entity-to-DTO conversion by a converter in {@code org.example.utils.converter}, including the lazy loads it
+ * triggers.
+ */
+@Name("org.example.Conversion")
+@Label("Conversion")
+@Category({"Application", "Converter"})
+@Description("An entity to DTO conversion, including the lazy loads it triggers")
+@StackTrace(false)
+public class ConversionEvent extends Event {
+
+    @Label("Converter")
+    private String converter;
+
+    @Label("Username")
+    private String username;
+
+    @Label("Result Size")
+    @Description("Elements of the converted list, or of the nested list of a single converted entity")
+    private int resultSize;
+
+    private ConversionEvent(String converter) {
+        this.converter = converter;
+    }
+
+    public static ConversionEvent start(String converter) {
+        ConversionEvent event = new ConversionEvent(converter);
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it if it is enabled and long enough.
+     */
+    public void complete(String username, int resultSize) {
+        end();
+        if (shouldCommit()) {
+            this.username = username;
+            this.resultSize = resultSize;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package org.example.utils.jfr;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * Starts, stops, dumps and closes flight recordings in this JVM, so that production can be profiled without
+ * attaching a tool. Recordings started otherwise, for example with {@code -XX:StartFlightRecording}, are listed and
+ * handled the same way.
+ */
+public class JfrRecordings {
+
+    private final String defaultSettings;
+
+    private final Duration defaultMaxAge;
+
+    public JfrRecordings(String defaultSettings, Duration defaultMaxAge) {
+        this.defaultSettings = defaultSettings;
+        this.defaultMaxAge = defaultMaxAge;
+    }
+
+    /**
+     * Starts a recording with the named JDK settings, {@code default} or {@code profile}, keeping events no older
+     * than {@code maxAge}. Missing arguments take the configured defaults.
+     *
+     * @throws IllegalArgumentException when there are no such settings
+     */
+    public Recording start(String name, String settings, Duration maxAge) {
+        String settingsName = settings != null ? settings : defaultSettings;
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settingsName);
+        } catch (IOException | ParseException ex) {
+            throw new IllegalArgumentException("No JFR settings named '" + settingsName + "'", ex);
+        }
+        Recording recording = new Recording(configuration);
+        if (name != null) {
+            recording.setName(name);
+        }
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge != null ? maxAge : defaultMaxAge);
+        recording.start();
+        return recording;
+    }
+
+    public List<Recording> list() {
+        return FlightRecorder.getFlightRecorder().getRecordings();
+    }
+
+    public Optional<Recording> find(long id) {
+        return list().stream()
+                .filter(recording -> recording.getId() == id)
+                .findFirst();
+    }
+
+    /**
+     * Stops the recording if it is running; its events can still be dumped until it is closed.
+     */
+    public Optional<Recording> stop(long id) {
+        return find(id).map(recording -> {
+            if (recording.getState() == RecordingState.RUNNING) {
+                recording.stop();
+            }
+            return recording;
+        });
+    }
+
+    /**
+     * Writes the events recorded so far to a new temporary file, which the caller deletes.
+     */
+    public Optional<Path> dump(long id) throws IOException {
+        Optional<Recording> recording = find(id);
+        if (recording.isEmpty()) {
+            return Optional.empty();
+        }
+        Path file = Files.createTempFile("recording-" + id + "-", ".jfr");
+        try {
+            recording.get().dump(file);
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(file);
+            throw ex;
+        }
+        return Optional.of(file);
+    }
+
+    /**
+     * Stops the recording and discards its events.
+     */
+    public boolean close(long id) {
+        Optional<Recording> recording = find(id);
+        recording.ifPresent(Recording::close);
+        return recording.isPresent();
+    }
+}
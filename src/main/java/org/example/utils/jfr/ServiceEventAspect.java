@@ -0,0 +1,116 @@
+package org.example.utils.jfr;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Emits a {@link ServiceOperationEvent} for every public method of the trainee, trainer and training services.
+ * <p>
+ * The username is the argument named {@code username}, else the first one whose name ends with {@code Username},
+ * else the {@code getUsername()} of the first argument that has one. Nothing is computed while no recording has
+ * the event enabled. A method returning a {@link CompletionStage} is recorded when the stage completes, with the
+ * size of the value it completes with.
+ */
+@Aspect
+public class ServiceEventAspect {
+
+    private static final int NO_USERNAME = -1;
+
+    private static final ClassValue<Optional<Method>> USERNAME_GETTERS = new ClassValue<>() {
+        @Override
+        protected Optional<Method> computeValue(Class<?> type) {
+            Method getter = ReflectionUtils.findMethod(type, "getUsername");
+            return Optional.ofNullable(getter)
+                    .filter(method -> method.getReturnType() == String.class);
+        }
+    };
+
+    private final Map<Method, Integer> usernameParameters = new ConcurrentHashMap<>();
+
+    @Around("within(org.example.service.TraineeService) "
+            + "|| within(org.example.service.TrainerService) "
+            + "|| within(org.example.service.TrainingService)")
+    public Object recordOperation(ProceedingJoinPoint joinPoint) throws Throwable {
+        ServiceOperationEvent event = new ServiceOperationEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        String operation = joinPoint.getSignature().getDeclaringType().getSimpleName() + "."
+                + joinPoint.getSignature().getName();
+        String username = username(joinPoint);
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable ex) {
+            event.complete(operation, username, 0, true);
+            throw ex;
+        }
+        if (result instanceof CompletionStage<?> stage) {
+            stage.whenComplete((value, ex) -> event.complete(operation, username, resultSize(value), ex != null));
+            return result;
+        }
+        event.complete(operation, username, resultSize(result), false);
+        return result;
+    }
+
+    private String username(ProceedingJoinPoint joinPoint) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        Object[] args = joinPoint.getArgs();
+        int index = usernameParameters.computeIfAbsent(signature.getMethod(),
+                method -> usernameParameter(signature.getParameterNames()));
+        if (index != NO_USERNAME) {
+            return args[index] instanceof String username ? username : null;
+        }
+        for (Object arg : args) {
+            Optional<Method> getter = arg == null ? Optional.empty() : USERNAME_GETTERS.get(arg.getClass());
+            if (getter.isPresent()) {
+                return (String) ReflectionUtils.invokeMethod(getter.get(), arg);
+            }
+        }
+        return null;
+    }
+
+    private static int usernameParameter(String[] parameterNames) {
+        if (parameterNames == null) {
+            return NO_USERNAME;
+        }
+        int suffixed = NO_USERNAME;
+        for (int i = 0; i < parameterNames.length; i++) {
+            if (parameterNames[i].equals("username")) {
+                return i;
+            }
+            if (suffixed == NO_USERNAME && parameterNames[i].endsWith("Username")) {
+                suffixed = i;
+            }
+        }
+        return suffixed;
+    }
+
+    private static int resultSize(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return result.getClass().isArray() ? Array.getLength(result) : 1;
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One call of a trainee, trainer or training service method, emitted by {@link ServiceEventAspect}.
+ */
+@Name("org.example.ServiceOperation")
+@Label("Service Operation")
+@Category({"Application", "Service"})
+@Description("A call of a TraineeService, TrainerService or TrainingService method")
+@StackTrace(false)
+public class ServiceOperationEvent extends Event {
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Username")
+    private String username;
+
+    @Label("Result Size")
+    @Description("Elements of a returned collection, 1 for another value, 0 for none")
+    private int resultSize;
+
+    @Label("Failed")
+    private boolean failed;
+
+    /**
+     * Ends the event and commits it if it is enabled and long enough. The caller begins it, once it has checked
+     * {@link #isEnabled()}, so that nothing is computed for a disabled event.
+     */
+    public void complete(String operation, String username, int resultSize, boolean failed) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.username = username;
+            this.resultSize = resultSize;
+            this.failed = failed;
+            commit();
+        }
+    }
+}
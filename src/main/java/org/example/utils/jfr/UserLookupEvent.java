@@ -0,0 +1,47 @@
+package org.example.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One lookup of the user details that authentication checks a password against.
+ */
+@Name("org.example.UserLookup")
+@Label("User Lookup")
+@Category({"Application", "Security"})
+@Description("A lookup of the user details of an authentication")
+@StackTrace(false)
+public class UserLookupEvent extends Event {
+
+    @Label("Username")
+    private String username;
+
+    @Label("Result Size")
+    @Description("1 when the user was found, 0 otherwise")
+    private int resultSize;
+
+    private UserLookupEvent() {
+    }
+
+    public static UserLookupEvent start() {
+        UserLookupEvent event = new UserLookupEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it if it is enabled and long enough.
+     */
+    public void complete(String username, boolean found) {
+        end();
+        if (shouldCommit()) {
+            this.username = username;
+            this.resultSize = found ? 1 : 0;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package org.example.utils.ratelimit;
+
+import org.example.config.ratelimit.LoginThrottleProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Counts failed logins per username and per client address in sliding windows and decides how long further
+ * attempts are blocked.
+ * <p>
+ * Below the threshold nothing is blocked. From the threshold on, every failure blocks the key for
+ * {@code initialBlock * 2^(failures - threshold)}, capped at {@code maxBlock}, counted from that failure. A
+ * successful login clears the username's failures but not the address's, so one valid account cannot launder
+ * guesses against others from the same address.
+ * <p>
+ * Attackers choose the usernames, so both maps are bounded by size as well as swept for expired counters. When
+ * full, the size policy keeps keys that fail often over the one-off names of a spray.
+ */
+@Slf4j
+@Component
+public class LoginAttemptTracker {
+
+    private static final String METRIC_ATTEMPTS = "login.attempts";
+
+    private static final String METRIC_TRACKED = "login.attempts.tracked";
+
+    private final boolean enabled;
+
+    private final int windowSlots;
+
+    private final long slotNanos;
+
+    private final long windowNanos;
+
+    private final int usernameThreshold;
+
+    private final int addressThreshold;
+
+    private final long initialBlockNanos;
+
+    private final long maxBlockNanos;
+
+    private final long origin = System.nanoTime();
+
+    private final Cache<String, SlidingWindowCounter> usernameFailures;
+
+    private final Cache<String, SlidingWindowCounter> addressFailures;
+
+    private final Counter succeeded;
+
+    private final Counter failed;
+
+    private final Counter blocked;
+
+    @Autowired
+    public LoginAttemptTracker(LoginThrottleProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.windowSlots = properties.getWindowSlots();
+        this.windowNanos = properties.getWindow().toNanos();
+        this.slotNanos = Math.max(1, windowNanos / windowSlots);
+        this.usernameThreshold = properties.getUsernameThreshold();
+        this.addressThreshold = properties.getAddressThreshold();
+        this.initialBlockNanos = properties.getInitialBlock().toNanos();
+        this.maxBlockNanos = properties.getMaxBlock().toNanos();
+        this.usernameFailures = Caffeine.newBuilder().maximumSize(properties.getMaxTrackedUsernames()).build();
+        this.addressFailures = Caffeine.newBuilder().maximumSize(properties.getMaxTrackedAddresses()).build();
+        this.succeeded = attemptCounter(meterRegistry, "success");
+        this.failed = attemptCounter(meterRegistry, "failure");
+        this.blocked = attemptCounter(meterRegistry, "blocked");
+        Gauge.builder(METRIC_TRACKED, this,
+                        tracker -> tracker.usernameFailures.estimatedSize() + tracker.addressFailures.estimatedSize())
+                .description("Usernames and client addresses with recent login failures")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns how long attempts for this username or address are still blocked; counts the attempt as blocked
+     * when that is the case.
+     *
+     * @param clientAddress client address, or {@code null} when unknown
+     * @return {@code 0} when the attempt may proceed, otherwise the remaining block in nanoseconds
+     */
+    public long blockedForNanos(String username, String clientAddress) {
+        if (!enabled) {
+            return 0;
+        }
+        long now = now();
+        long remaining = Math.max(
+                remainingBlock(usernameFailures.getIfPresent(username), usernameThreshold, now),
+                remainingBlock(clientAddress == null ? null : addressFailures.getIfPresent(clientAddress),
+                        addressThreshold, now));
+        if (remaining > 0) {
+            blocked.increment();
+        }
+        return remaining;
+    }
+
+    public void loginFailed(String username, String clientAddress) {
+        failed.increment();
+        if (!enabled) {
+            return;
+        }
+        long now = now();
+        long usernameCount = failures(usernameFailures, username).incrementAndSum(now);
+        if (clientAddress != null) {
+            failures(addressFailures, clientAddress).incrementAndSum(now);
+        }
+        if (usernameCount == usernameThreshold) {
+            log.warn("Login for user '{}' blocked after {} failed attempts", username, usernameCount);
+        }
+    }
+
+    public void loginSucceeded(String username) {
+        succeeded.increment();
+        SlidingWindowCounter counter = usernameFailures.asMap().remove(username);
+        if (counter != null) {
+            counter.reset();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${login-throttle.eviction-interval:PT1M}")
+    public void evictExpiredCounters() {
+        long now = now();
+        usernameFailures.asMap().values().removeIf(counter -> isExpired(counter, now));
+        addressFailures.asMap().values().removeIf(counter -> isExpired(counter, now));
+        usernameFailures.cleanUp();
+        addressFailures.cleanUp();
+    }
+
+    private long remainingBlock(SlidingWindowCounter counter, int threshold, long now) {
+        if (counter == null) {
+            return 0;
+        }
+        long failures = counter.sum(now);
+        if (failures < threshold) {
+            return 0;
+        }
+        int doublings = (int) Math.min(failures - threshold, Long.numberOfLeadingZeros(initialBlockNanos) - 1);
+        long block = Math.min(initialBlockNanos << doublings, maxBlockNanos);
+        return Math.max(0, counter.getLastIncrementNanos() + block - now);
+    }
+
+    private boolean isExpired(SlidingWindowCounter counter, long now) {
+        return now - counter.getLastIncrementNanos() > Math.max(windowNanos, maxBlockNanos);
+    }
+
+    private SlidingWindowCounter failures(Cache<String, SlidingWindowCounter> counters, String key) {
+        SlidingWindowCounter counter = counters.getIfPresent(key);
+        if (counter == null) {
+            counter = counters.get(key, k -> new SlidingWindowCounter(windowSlots, slotNanos));
+        }
+        return counter;
+    }
+
+    private long now() {
+        return System.nanoTime() - origin;
+    }
+
+    private static Counter attemptCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_ATTEMPTS)
+                .tag("result", result)
+                .description("Login attempts by outcome")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.utils.ratelimit;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.example.config.ratelimit.RateLimitProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Per-user and per-address token buckets for each configured endpoint group.
+ * <p>
+ * The admission path is a prefix scan over the groups, a map lookup and one CAS per bucket; it neither locks nor
+ * allocates once a client's buckets exist. Idle buckets are dropped by a scheduled sweep.
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private static final String METRIC_REQUESTS = "ratelimit.requests";
+
+    private static final String METRIC_BUCKETS = "ratelimit.buckets";
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final Group[] groups;
+
+    private final long idleNanos;
+
+    @Autowired
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.idleNanos = properties.getIdleTimeout().toNanos();
+        this.groups = properties.isEnabled()
+                ? properties.getGroups().entrySet().stream()
+                .map(entry -> new Group(entry.getKey(), entry.getValue(), meterRegistry))
+                .toArray(Group[]::new)
+                : new Group[0];
+    }
+
+    /**
+     * Takes a token from every bucket that applies to the request.
+     *
+     * @param username authenticated username, or {@code null}
+     * @return {@code 0} when admitted, otherwise the nanoseconds the client should wait
+     */
+    public long tryAcquire(String path, String username, String clientAddress) {
+        Group group = groupFor(path);
+        if (group == null) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        long wait = 0;
+        if (group.perIp && clientAddress != null) {
+            wait = group.bucket(group.ipBuckets, clientAddress, now).tryAcquire(now);
+        }
+        if (wait == 0 && group.perUser && username != null) {
+            wait = group.bucket(group.userBuckets, username, now).tryAcquire(now);
+        }
+        (wait == 0 ? group.allowed : group.rejected).increment();
+        return wait;
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval:PT1M}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        for (Group group : groups) {
+            int before = group.bucketCount();
+            group.ipBuckets.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+            group.userBuckets.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+            log.debug("Evicted {} idle rate limit buckets of group '{}'", before - group.bucketCount(), group.name);
+        }
+    }
+
+    private Group groupFor(String path) {
+        for (Group group : groups) {
+            for (String prefix : group.pathPrefixes) {
+                if (path.startsWith(prefix)) {
+                    return group;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static final class Group {
+
+        private final String name;
+
+        private final String[] pathPrefixes;
+
+        private final long capacity;
+
+        private final long emissionIntervalNanos;
+
+        private final boolean perUser;
+
+        private final boolean perIp;
+
+        private final Map<String, TokenBucket> userBuckets = new ConcurrentHashMap<>();
+
+        private final Map<String, TokenBucket> ipBuckets = new ConcurrentHashMap<>();
+
+        private final Counter allowed;
+
+        private final Counter rejected;
+
+        private Group(String name, RateLimitProperties.Group properties, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.pathPrefixes = properties.getPathPrefixes().toArray(String[]::new);
+            this.capacity = properties.getCapacity();
+            this.emissionIntervalNanos = (long) (NANOS_PER_SECOND / properties.getRefillPerSecond());
+            this.perUser = properties.isPerUser();
+            this.perIp = properties.isPerIp();
+            this.allowed = requestCounter(meterRegistry, "allowed");
+            this.rejected = requestCounter(meterRegistry, "rejected");
+            Gauge.builder(METRIC_BUCKETS, this, Group::bucketCount)
+                    .tag("group", name)
+                    .description("Live rate limit buckets")
+                    .register(meterRegistry);
+        }
+
+        private TokenBucket bucket(Map<String, TokenBucket> buckets, String key, long now) {
+            TokenBucket bucket = buckets.get(key);
+            if (bucket == null) {
+                bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(capacity, emissionIntervalNanos, now));
+            }
+            return bucket;
+        }
+
+        private int bucketCount() {
+            return userBuckets.size() + ipBuckets.size();
+        }
+
+        private Counter requestCounter(MeterRegistry meterRegistry, String result) {
+            return Counter.builder(METRIC_REQUESTS)
+                    .tag("group", name)
+                    .tag("result", result)
+                    .description("Rate limiter decisions")
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.utils.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free event counter over a sliding window split into fixed slots.
+ * <p>
+ * Each slot packs the slot's tick (time divided by the slot length) and its count into one {@code long}, so a slot
+ * that still holds an older tick is recycled by the same CAS that increments it. Concurrent increments only contend
+ * when they land in the same slot.
+ */
+public class SlidingWindowCounter {
+
+    private static final int COUNT_BITS = 20;
+
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private final AtomicLongArray slots;
+
+    private final long slotNanos;
+
+    private volatile long lastIncrementNanos;
+
+    /**
+     * @param slotCount number of slots in the window
+     * @param slotNanos length of one slot
+     */
+    public SlidingWindowCounter(int slotCount, long slotNanos) {
+        this.slots = new AtomicLongArray(slotCount);
+        this.slotNanos = slotNanos;
+    }
+
+    /**
+     * Records one event and returns the number of events in the window ending at {@code nanos}.
+     *
+     * @param nanos non-negative time on a monotonic clock shared by all callers
+     */
+    public long incrementAndSum(long nanos) {
+        long tick = nanos / slotNanos;
+        int index = (int) (tick % slots.length());
+        while (true) {
+            long packed = slots.get(index);
+            long next;
+            if (tickOf(packed) != tick) {
+                next = pack(tick, 1);
+            } else if (countOf(packed) < COUNT_MASK) {
+                next = packed + 1;
+            } else {
+                break;
+            }
+            if (slots.compareAndSet(index, packed, next)) {
+                break;
+            }
+        }
+        lastIncrementNanos = nanos;
+        return sum(nanos);
+    }
+
+    /**
+     * Returns the number of events in the window ending at {@code nanos}.
+     */
+    public long sum(long nanos) {
+        long tick = nanos / slotNanos;
+        long oldestTick = tick - slots.length();
+        long total = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            long packed = slots.get(i);
+            long slotTick = tickOf(packed);
+            if (slotTick > oldestTick && slotTick <= tick) {
+                total += countOf(packed);
+            }
+        }
+        return total;
+    }
+
+    public long getLastIncrementNanos() {
+        return lastIncrementNanos;
+    }
+
+    public void reset() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, 0);
+        }
+    }
+
+    private static long pack(long tick, long count) {
+        return (tick << COUNT_BITS) | count;
+    }
+
+    private static long tickOf(long packed) {
+        return packed >>> COUNT_BITS;
+    }
+
+    private static long countOf(long packed) {
+        return packed & COUNT_MASK;
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.utils.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket implemented as GCRA (generic cell rate algorithm).
+ * <p>
+ * The whole state is one "theoretical arrival time" in {@link System#nanoTime()} units: the instant at which the
+ * bucket would be full again. A request is admitted when pushing that instant one emission interval further stays
+ * within the burst tolerance; admission is a single CAS, and there is no refill thread.
+ */
+public class TokenBucket {
+
+    private final long emissionIntervalNanos;
+
+    private final long burstToleranceNanos;
+
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(long capacity, long emissionIntervalNanos, long now) {
+        this.emissionIntervalNanos = emissionIntervalNanos;
+        this.burstToleranceNanos = emissionIntervalNanos * capacity;
+        this.theoreticalArrival = new AtomicLong(now);
+    }
+
+    /**
+     * Takes one token if available.
+     *
+     * @return {@code 0} when admitted, otherwise the nanoseconds until the next token becomes available
+     */
+    public long tryAcquire(long now) {
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long next = Math.max(arrival, now) + emissionIntervalNanos;
+            long allowedAt = next - burstToleranceNanos;
+            if (allowedAt > now) {
+                return allowedAt - now;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * A bucket that has been full for longer than {@code idleNanos} can be dropped: a new bucket behaves the same.
+     */
+    public boolean isIdle(long now, long idleNanos) {
+        return now - theoreticalArrival.get() > idleNanos;
+    }
+}
@@ -0,0 +1,165 @@
+package org.example.utils.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Case-insensitive prefix index over a set of searchable fields per entry.
+ * <p>
+ * Every field is stored as a sorted term {@code field + '\0' + id}, so a prefix lookup is a single
+ * range scan over the skip list. Reads are lock-free; writes are serialized on the index instance.
+ * <p>
+ * {@link #load} builds a new index and swaps it in, so searches never see it half built. Writes made while it
+ * reads its snapshot are applied to the current index and replayed on the new one before the swap.
+ */
+public class PrefixSearchIndex<V> {
+
+    private static final char TERM_SEPARATOR = '\u0000';
+
+    private final Lock loading = new ReentrantLock();
+
+    private volatile Terms<V> current = new Terms<>();
+
+    /**
+     * Writes made since the running {@link #load} started, replayed on the loaded index; {@code null} when no load
+     * is running. Guarded by the index instance.
+     */
+    private List<Consumer<Terms<V>>> writesDuringLoad;
+
+    public synchronized void put(String id, V value, String... fields) {
+        rememberDuringLoad(terms -> terms.put(id, value, fields));
+        current.put(id, value, fields);
+    }
+
+    public synchronized void remove(String id) {
+        rememberDuringLoad(terms -> terms.remove(id));
+        current.remove(id);
+    }
+
+    public synchronized void clear() {
+        rememberDuringLoad(Terms::clear);
+        current.clear();
+    }
+
+    /**
+     * Replaces the whole index with the entries returned by {@code snapshot}, keeping the writes made while it
+     * runs. Loads run one at a time.
+     */
+    public void load(Supplier<? extends Collection<Entry<V>>> snapshot) {
+        loading.lock();
+        try {
+            synchronized (this) {
+                writesDuringLoad = new ArrayList<>();
+            }
+            Terms<V> loaded = new Terms<>();
+            try {
+                snapshot.get().forEach(entry -> loaded.put(entry.id(), entry.value(), entry.fields()));
+            } catch (RuntimeException | Error ex) {
+                synchronized (this) {
+                    writesDuringLoad = null;
+                }
+                throw ex;
+            }
+            synchronized (this) {
+                writesDuringLoad.forEach(write -> write.accept(loaded));
+                writesDuringLoad = null;
+                current = loaded;
+            }
+        } finally {
+            loading.unlock();
+        }
+    }
+
+    public List<V> search(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank() || limit <= 0) {
+            return List.of();
+        }
+        Terms<V> index = current;
+        String normalizedPrefix = normalize(prefix);
+        ConcurrentNavigableMap<String, String> matches =
+                index.terms.subMap(normalizedPrefix, true, normalizedPrefix + Character.MAX_VALUE, false);
+
+        Set<String> matchedIds = new LinkedHashSet<>();
+        for (String id : matches.values()) {
+            if (matchedIds.add(id) && matchedIds.size() == limit) {
+                break;
+            }
+        }
+        return matchedIds.stream()
+                .map(index.values::get)
+                .filter(Objects::nonNull)
+                .map(IndexedValue::value)
+                .toList();
+    }
+
+    public int size() {
+        return current.values.size();
+    }
+
+    /**
+     * Records a write for replay on the index being loaded. Called while holding the index instance.
+     */
+    private void rememberDuringLoad(Consumer<Terms<V>> write) {
+        if (writesDuringLoad != null) {
+            writesDuringLoad.add(write);
+        }
+    }
+
+    private static String normalize(String field) {
+        return field.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * An entry to load: the value found under {@code id} by a prefix of any of its fields.
+     */
+    public record Entry<V>(String id, V value, String... fields) {
+    }
+
+    private static final class Terms<V> {
+
+        private final ConcurrentSkipListMap<String, String> terms = new ConcurrentSkipListMap<>();
+
+        private final Map<String, IndexedValue<V>> values = new ConcurrentHashMap<>();
+
+        void put(String id, V value, String... fields) {
+            remove(id);
+            List<String> keys = new ArrayList<>(fields.length);
+            for (String field : fields) {
+                if (field != null && !field.isBlank()) {
+                    String key = normalize(field) + TERM_SEPARATOR + id;
+                    terms.put(key, id);
+                    keys.add(key);
+                }
+            }
+            values.put(id, new IndexedValue<>(value, keys));
+        }
+
+        void remove(String id) {
+            IndexedValue<V> removed = values.remove(id);
+            if (removed != null) {
+                removed.keys().forEach(terms::remove);
+            }
+        }
+
+        void clear() {
+            terms.clear();
+            values.clear();
+        }
+    }
+
+    private record IndexedValue<V>(V value, List<String> keys) {
+    }
+}
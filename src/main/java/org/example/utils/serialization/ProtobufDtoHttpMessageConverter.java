@@ -0,0 +1,119 @@
+package org.example.utils.serialization;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StreamUtils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+
+/**
+ * Writes DTOs as {@code application/x-protobuf} using the message definitions in a {@code .proto} file.
+ * <p>
+ * A DTO is writable when the schema has a message named after its simple class name; a collection of DTOs is
+ * written as the {@code <SimpleName>List} wrapper message with a repeated {@code items} field.
+ * Properties without a schema field are skipped. Reading is not supported.
+ */
+public class ProtobufDtoHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType APPLICATION_PROTOBUF = new MediaType("application", "x-protobuf");
+
+    private static final String LIST_SUFFIX = "List";
+
+    private static final String LIST_FIELD = "items";
+
+    private final Map<String, ObjectWriter> writers;
+
+    public ProtobufDtoHttpMessageConverter(String schemaLocation) {
+        super(APPLICATION_PROTOBUF);
+        this.writers = loadWriters(schemaLocation);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return writers.containsKey(clazz.getSimpleName());
+    }
+
+    /**
+     * The element type of a collection is only known to {@link #canWrite(Type, Class, MediaType)}, so the media type
+     * is advertised for any class and the generic check decides.
+     */
+    @Override
+    public List<MediaType> getSupportedMediaTypes(Class<?> clazz) {
+        return getSupportedMediaTypes();
+    }
+
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected boolean canRead(@Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+        return canWrite(mediaType) && writerFor(type, clazz) != null;
+    }
+
+    @Override
+    protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+            throws IOException {
+        ObjectWriter writer = writerFor(type, object.getClass());
+        if (writer == null) {
+            throw new HttpMessageNotWritableException("No protobuf message for " + object.getClass().getName());
+        }
+        Object message = object instanceof Collection<?> ? Collections.singletonMap(LIST_FIELD, object) : object;
+        writer.writeValue(StreamUtils.nonClosing(outputMessage.getBody()), message);
+    }
+
+    @Override
+    public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Reading protobuf payloads is not supported", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Reading protobuf payloads is not supported", inputMessage);
+    }
+
+    @Nullable
+    private ObjectWriter writerFor(@Nullable Type type, Class<?> clazz) {
+        if (type instanceof ParameterizedType parameterizedType
+                && parameterizedType.getRawType() instanceof Class<?> rawType
+                && Collection.class.isAssignableFrom(rawType)
+                && parameterizedType.getActualTypeArguments()[0] instanceof Class<?> elementType) {
+            return writers.get(elementType.getSimpleName() + LIST_SUFFIX);
+        }
+        return writers.get(clazz.getSimpleName());
+    }
+
+    private static Map<String, ObjectWriter> loadWriters(String schemaLocation) {
+        ProtobufMapper mapper = new ProtobufMapper();
+        mapper.enable(JsonGenerator.Feature.IGNORE_UNKNOWN);
+        ProtobufSchema schema = ProtobufSchemas.load(schemaLocation);
+        Map<String, ObjectWriter> writers = new HashMap<>();
+        for (String messageType : schema.getMessageTypes()) {
+            writers.put(messageType, mapper.writer(schema.withRootType(messageType)));
+        }
+        return Map.copyOf(writers);
+    }
+}
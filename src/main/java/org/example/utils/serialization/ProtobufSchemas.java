@@ -0,0 +1,27 @@
+package org.example.utils.serialization;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+import org.springframework.core.io.ClassPathResource;
+
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
+
+public class ProtobufSchemas {
+
+    private ProtobufSchemas() {
+    }
+
+    /**
+     * Parses a {@code .proto} file from the classpath; select a message with {@link ProtobufSchema#withRootType}.
+     */
+    public static ProtobufSchema load(String schemaLocation) {
+        try (InputStream in = new ClassPathResource(schemaLocation).getInputStream()) {
+            return ProtobufSchemaLoader.std.load(in);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not load protobuf schema " + schemaLocation, ex);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.utils.session;
+
+import java.time.Duration;
+
+import org.springframework.session.MapSession;
+import org.springframework.session.SessionRepository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * In-memory session store with a hard size limit. Each session expires after its own max inactive interval; when
+ * the limit is reached the least recently used session is evicted. Like
+ * {@link org.springframework.session.MapSessionRepository}, callers always work on a copy, so concurrent requests
+ * of one session never share mutable state.
+ */
+public class BoundedSessionRepository implements SessionRepository<MapSession> {
+
+    public static final String METRIC_ACTIVE = "sessions.active";
+
+    private static final String METRIC_CREATED = "sessions.created";
+
+    private static final String METRIC_EVICTED = "sessions.evicted";
+
+    private final Duration defaultMaxInactiveInterval;
+
+    private final Cache<String, MapSession> sessions;
+
+    private final Counter created;
+
+    private final Counter expired;
+
+    private final Counter evictedForSize;
+
+    public BoundedSessionRepository(long maxSessions, Duration defaultMaxInactiveInterval,
+                                    MeterRegistry meterRegistry) {
+        this.defaultMaxInactiveInterval = defaultMaxInactiveInterval;
+        this.created = Counter.builder(METRIC_CREATED)
+                .description("Sessions created")
+                .register(meterRegistry);
+        this.expired = evictionCounter(meterRegistry, "expired");
+        this.evictedForSize = evictionCounter(meterRegistry, "size");
+        this.sessions = Caffeine.newBuilder()
+                .maximumSize(maxSessions)
+                .expireAfter(new InactivityExpiry())
+                .evictionListener((String id, MapSession session, RemovalCause cause) ->
+                        (cause == RemovalCause.SIZE ? evictedForSize : expired).increment())
+                .build();
+        Gauge.builder(METRIC_ACTIVE, sessions, Cache::estimatedSize)
+                .tag("store", "local")
+                .description("Sessions currently stored")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public MapSession createSession() {
+        MapSession session = new MapSession();
+        session.setMaxInactiveInterval(defaultMaxInactiveInterval);
+        created.increment();
+        return session;
+    }
+
+    @Override
+    public void save(MapSession session) {
+        if (!session.getId().equals(session.getOriginalId())) {
+            sessions.invalidate(session.getOriginalId());
+        }
+        sessions.put(session.getId(), new MapSession(session));
+    }
+
+    @Override
+    public MapSession findById(String id) {
+        MapSession saved = sessions.getIfPresent(id);
+        if (saved == null) {
+            return null;
+        }
+        if (saved.isExpired()) {
+            sessions.invalidate(id);
+            return null;
+        }
+        return new MapSession(saved);
+    }
+
+    @Override
+    public void deleteById(String id) {
+        sessions.invalidate(id);
+    }
+
+    private static Counter evictionCounter(MeterRegistry meterRegistry, String cause) {
+        return Counter.builder(METRIC_EVICTED)
+                .tag("cause", cause)
+                .description("Sessions evicted before being invalidated")
+                .register(meterRegistry);
+    }
+
+    private static final class InactivityExpiry implements Expiry<String, MapSession> {
+
+        @Override
+        public long expireAfterCreate(String id, MapSession session, long currentTime) {
+            return session.getMaxInactiveInterval().toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String id, MapSession session, long currentTime, long currentDuration) {
+            return session.getMaxInactiveInterval().toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String id, MapSession session, long currentTime, long currentDuration) {
+            return session.getMaxInactiveInterval().toNanos();
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package org.example.utils.slowquery;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.example.dto.actuator.SlowQueryDTO;
+import org.example.utils.tracing.LayerTracingAspect;
+import org.example.utils.tracing.StatementContext;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationView;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records every statement execution slower than a threshold, grouped by its normalized SQL: literals become
+ * {@code ?} and lists of parameters collapse into one. Each group keeps the parameter types, the repository method
+ * and the endpoint of its slowest execution, taken from the observations it ran in.
+ * <p>
+ * The {@code explainTop} slowest groups of {@code SELECT}s get the database's {@code EXPLAIN} output, run once per
+ * group on a separate connection with the values of its slowest execution. Those values are held only until the
+ * plan is captured and are never reported. At most {@code maxStatements} groups are kept; a new one replaces the
+ * group whose slowest execution was fastest, if it was slower.
+ */
+@Slf4j
+public class SlowQueryLog implements ObservationHandler<StatementContext>, AutoCloseable {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final String EXPLAIN = "EXPLAIN ";
+    private static final String COLUMN_SEPARATOR = " | ";
+
+    private final long thresholdNanos;
+
+    private final int maxStatements;
+
+    private final int explainTop;
+
+    private final DataSource dataSource;
+
+    private final ThreadPoolExecutor explainExecutor;
+
+    private final Map<String, SlowQuery> queries = new ConcurrentHashMap<>();
+
+    public SlowQueryLog(Duration threshold, int maxStatements, int explainTop, DataSource dataSource) {
+        this.thresholdNanos = threshold.toNanos();
+        this.maxStatements = maxStatements;
+        this.explainTop = explainTop;
+        this.dataSource = dataSource;
+        this.explainExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, explainTop)), runnable -> {
+                    Thread thread = new Thread(runnable, "slow-query-explain");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return context instanceof StatementContext;
+    }
+
+    @Override
+    public void onStart(StatementContext context) {
+        context.put(SlowQueryLog.class, System.nanoTime());
+    }
+
+    @Override
+    public void onStop(StatementContext context) {
+        Long startNanos = context.get(SlowQueryLog.class);
+        long durationNanos = startNanos == null ? 0 : System.nanoTime() - startNanos;
+        if (durationNanos < thresholdNanos || isExplain(context.getSql())) {
+            return;
+        }
+        String repositoryMethod = null;
+        String endpoint = null;
+        for (ObservationView parent = context.getParentObservation(); parent != null;
+             parent = parent.getContextView().getParentObservation()) {
+            Observation.ContextView parentContext = parent.getContextView();
+            if (repositoryMethod == null
+                    && LayerTracingAspect.REPOSITORY_OBSERVATION.equals(parentContext.getName())) {
+                repositoryMethod = parentContext.getContextualName();
+            } else if (parentContext instanceof ServerRequestObservationContext request) {
+                endpoint = endpoint(request);
+            }
+        }
+        record(context.getSql(), context.getParameters(), durationNanos, repositoryMethod, endpoint);
+    }
+
+    /**
+     * Records one execution that took {@code durationNanos}, whatever the threshold.
+     */
+    public void record(String sql, List<Object> parameters, long durationNanos, String repositoryMethod,
+                       String endpoint) {
+        String normalizedSql = normalize(sql);
+        SlowQuery query = queries.get(normalizedSql);
+        if (query == null) {
+            if (queries.size() >= maxStatements && !evictFasterThan(durationNanos)) {
+                return;
+            }
+            query = queries.computeIfAbsent(normalizedSql, SlowQuery::new);
+        }
+        if (query.add(sql, parameters, durationNanos, repositoryMethod, endpoint) && isExplainCandidate(query)) {
+            SlowQuery candidate = query;
+            explainExecutor.execute(() -> explain(candidate));
+        }
+    }
+
+    /**
+     * Returns the groups with the slowest executions first.
+     */
+    public List<SlowQueryDTO> slowest(int limit) {
+        return queries.values().stream()
+                .sorted(Comparator.comparingLong(SlowQuery::maxNanos).reversed())
+                .limit(limit)
+                .map(SlowQuery::toDto)
+                .toList();
+    }
+
+    public Duration getThreshold() {
+        return Duration.ofNanos(thresholdNanos);
+    }
+
+    public int size() {
+        return queries.size();
+    }
+
+    public void clear() {
+        queries.clear();
+    }
+
+    @Override
+    public void close() {
+        explainExecutor.shutdownNow();
+    }
+
+    static String normalize(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = PARAMETER_LIST.matcher(normalized).replaceAll("(?...)");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    private static boolean isExplain(String sql) {
+        return sql.regionMatches(true, 0, EXPLAIN, 0, EXPLAIN.length());
+    }
+
+    /**
+     * Drops the group whose slowest execution is the fastest, if it is faster than {@code durationNanos}.
+     */
+    private boolean evictFasterThan(long durationNanos) {
+        return queries.values().stream()
+                .min(Comparator.comparingLong(SlowQuery::maxNanos))
+                .filter(fastest -> fastest.maxNanos() < durationNanos)
+                .map(fastest -> queries.remove(fastest.normalizedSql, fastest))
+                .orElse(false);
+    }
+
+    private boolean isExplainCandidate(SlowQuery query) {
+        if (!query.needsPlan()) {
+            return false;
+        }
+        long maxNanos = query.maxNanos();
+        return queries.values().stream().filter(other -> other.maxNanos() > maxNanos).limit(explainTop).count()
+                < explainTop;
+    }
+
+    private void explain(SlowQuery query) {
+        SlowQuery.Sample sample = query.takeSampleToExplain();
+        if (sample == null) {
+            return;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(true);
+            try (PreparedStatement statement = connection.prepareStatement(EXPLAIN + sample.sql())) {
+                for (int i = 0; i < sample.parameters().size(); i++) {
+                    statement.setObject(i + 1, sample.parameters().get(i));
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    query.setPlan(rows(resultSet));
+                }
+            }
+        } catch (SQLException | RuntimeException ex) {
+            log.warn("Could not explain slow query '{}'", query.normalizedSql, ex);
+            query.setPlan(List.of("EXPLAIN failed: " + ex.getMessage()));
+        }
+    }
+
+    private static List<String> rows(ResultSet resultSet) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        List<String> rows = new ArrayList<>();
+        List<String> columns = new ArrayList<>();
+        for (int column = 1; column <= metaData.getColumnCount(); column++) {
+            columns.add(metaData.getColumnLabel(column));
+        }
+        rows.add(String.join(COLUMN_SEPARATOR, columns));
+        while (resultSet.next()) {
+            columns.clear();
+            for (int column = 1; column <= metaData.getColumnCount(); column++) {
+                columns.add(String.valueOf(resultSet.getObject(column)));
+            }
+            rows.add(String.join(COLUMN_SEPARATOR, columns));
+        }
+        return rows;
+    }
+
+    private static String endpoint(ServerRequestObservationContext request) {
+        Object pattern = request.getCarrier().getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getCarrier().getMethod() + " "
+                + (pattern != null ? pattern : request.getCarrier().getRequestURI());
+    }
+
+    /**
+     * The executions of one normalized statement. Guarded by its own monitor.
+     */
+    private static final class SlowQuery {
+
+        private final String normalizedSql;
+
+        private long executions;
+
+        private long totalNanos;
+
+        private long maxNanos;
+
+        private Instant lastSeen;
+
+        private List<String> parameterTypes = List.of();
+
+        private String repositoryMethod;
+
+        private String endpoint;
+
+        /**
+         * The slowest execution so far while no plan has been requested, with its values.
+         */
+        private Sample sampleToExplain;
+
+        private boolean explainRequested;
+
+        private List<String> plan;
+
+        private SlowQuery(String normalizedSql) {
+            this.normalizedSql = normalizedSql;
+        }
+
+        /**
+         * Adds an execution and returns whether it is the slowest so far.
+         */
+        synchronized boolean add(String sql, List<Object> parameters, long durationNanos, String repositoryMethod,
+                                 String endpoint) {
+            executions++;
+            totalNanos += durationNanos;
+            lastSeen = Instant.now();
+            if (durationNanos <= maxNanos && executions > 1) {
+                return false;
+            }
+            maxNanos = durationNanos;
+            parameterTypes = parameters.stream()
+                    .map(parameter -> parameter == null ? "null" : parameter.getClass().getSimpleName())
+                    .toList();
+            this.repositoryMethod = repositoryMethod;
+            this.endpoint = endpoint;
+            if (!explainRequested && isExplainable(sql, parameters)) {
+                sampleToExplain = new Sample(sql, parameters);
+            }
+            return true;
+        }
+
+        synchronized long maxNanos() {
+            return maxNanos;
+        }
+
+        synchronized boolean needsPlan() {
+            return sampleToExplain != null;
+        }
+
+        synchronized Sample takeSampleToExplain() {
+            Sample sample = sampleToExplain;
+            sampleToExplain = null;
+            explainRequested = sample != null;
+            return sample;
+        }
+
+        synchronized void setPlan(List<String> plan) {
+            this.plan = plan;
+        }
+
+        synchronized SlowQueryDTO toDto() {
+            return SlowQueryDTO.builder()
+                    .normalizedSql(normalizedSql)
+                    .executions(executions)
+                    .maxMillis(maxNanos / 1_000_000.0)
+                    .averageMillis(totalNanos / 1_000_000.0 / executions)
+                    .lastSeen(lastSeen)
+                    .parameterTypes(parameterTypes)
+                    .repositoryMethod(repositoryMethod)
+                    .endpoint(endpoint)
+                    .explainPlan(plan)
+                    .build();
+        }
+
+        private static boolean isExplainable(String sql, List<Object> parameters) {
+            return sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("select")
+                    && parameters.stream().allMatch(SlowQuery::isPlainValue);
+        }
+
+        private static boolean isPlainValue(Object parameter) {
+            return parameter == null
+                    || parameter instanceof Number
+                    || parameter instanceof CharSequence
+                    || parameter instanceof Boolean
+                    || parameter instanceof Date
+                    || parameter instanceof Temporal;
+        }
+
+        private record Sample(String sql, List<Object> parameters) {
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package org.example.utils.startup;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.example.dto.actuator.StartupBeanDTO;
+import org.example.dto.actuator.StartupPhaseDTO;
+import org.example.dto.actuator.StartupProfileDTO;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.core.metrics.StartupStep;
+
+public class StartupProfiles {
+
+    public static final String BEAN_INSTANTIATION_STEP = "spring.beans.instantiate";
+
+    private static final String BEAN_NAME_TAG = "beanName";
+
+    private StartupProfiles() {
+    }
+
+    /**
+     * Ranks the recorded steps by the time spent in them alone: a bean's creation includes that of its
+     * dependencies and a phase includes the steps nested in it, so the totals would put the outermost steps first.
+     * Beans are ranked one instantiation at a time, other steps summed by name.
+     */
+    public static StartupProfileDTO rank(StartupTimeline timeline, int limit) {
+        List<TimelineEvent> events = timeline.getEvents();
+        Map<Long, Long> nestedNanos = new HashMap<>();
+        for (TimelineEvent event : events) {
+            Long parentId = event.getStartupStep().getParentId();
+            if (parentId != null) {
+                nestedNanos.merge(parentId, event.getDuration().toNanos(), Long::sum);
+            }
+        }
+
+        List<StartupBeanDTO> beans = events.stream()
+                .filter(event -> BEAN_INSTANTIATION_STEP.equals(event.getStartupStep().getName()))
+                .sorted(Comparator.comparingLong((TimelineEvent event) -> selfNanos(event, nestedNanos)).reversed())
+                .limit(limit)
+                .map(event -> StartupBeanDTO.builder()
+                        .beanName(tag(event.getStartupStep(), BEAN_NAME_TAG))
+                        .durationMillis(event.getDuration().toMillis())
+                        .selfMillis(TimeUnit.NANOSECONDS.toMillis(selfNanos(event, nestedNanos)))
+                        .build())
+                .toList();
+
+        Map<String, PhaseTotals> phases = new LinkedHashMap<>();
+        for (TimelineEvent event : events) {
+            phases.computeIfAbsent(event.getStartupStep().getName(), name -> new PhaseTotals())
+                    .add(event.getDuration().toNanos(), selfNanos(event, nestedNanos));
+        }
+        long endNanos = events.stream()
+                .mapToLong(event -> Duration.between(timeline.getStartTime(), event.getEndTime()).toNanos())
+                .max()
+                .orElse(0);
+
+        return StartupProfileDTO.builder()
+                .totalMillis(TimeUnit.NANOSECONDS.toMillis(endNanos))
+                .recordedSteps(events.size())
+                .slowestBeans(beans)
+                .slowestPhases(phases.entrySet().stream()
+                        .sorted(Comparator.comparingLong(
+                                (Map.Entry<String, PhaseTotals> entry) -> entry.getValue().selfNanos).reversed())
+                        .limit(limit)
+                        .map(entry -> entry.getValue().toDto(entry.getKey()))
+                        .toList())
+                .build();
+    }
+
+    private static long selfNanos(TimelineEvent event, Map<Long, Long> nestedNanos) {
+        long nested = nestedNanos.getOrDefault(event.getStartupStep().getId(), 0L);
+        return Math.max(0, event.getDuration().toNanos() - nested);
+    }
+
+    private static String tag(StartupStep step, String key) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if (key.equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static final class PhaseTotals {
+
+        private int count;
+
+        private long durationNanos;
+
+        private long selfNanos;
+
+        void add(long durationNanos, long selfNanos) {
+            count++;
+            this.durationNanos += durationNanos;
+            this.selfNanos += selfNanos;
+        }
+
+        StartupPhaseDTO toDto(String name) {
+            return StartupPhaseDTO.builder()
+                    .name(name)
+                    .count(count)
+                    .durationMillis(TimeUnit.NANOSECONDS.toMillis(durationNanos))
+                    .selfMillis(TimeUnit.NANOSECONDS.toMillis(selfNanos))
+                    .build();
+        }
+    }
+}
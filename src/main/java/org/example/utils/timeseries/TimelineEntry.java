@@ -0,0 +1,13 @@
+package org.example.utils.timeseries;
+
+import java.util.Date;
+
+/**
+ * A training as seen by {@link TrainingTimeline}: its id, its participants and its date.
+ */
+public record TimelineEntry(long trainingId, String traineeUsername, String trainerUsername, Date trainingDate) {
+
+    long trainingTime() {
+        return trainingDate == null ? Long.MIN_VALUE : trainingDate.getTime();
+    }
+}
@@ -0,0 +1,373 @@
+package org.example.utils.timeseries;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+import org.example.utils.graph.LongObjectHashMap;
+import org.example.utils.graph.SortedLongArrays;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory index of training ids by participant and date, so a date range of one trainee's or trainer's
+ * trainings is found without a query.
+ * <p>
+ * Each user's trainings are kept as parallel {@code long[]} arrays of dates and ids sorted by date, then id, and
+ * a range is two binary searches. Series are replaced rather than mutated on writes. The index only narrows
+ * down which rows to load: callers load the returned ids with their filters applied again, so an entry that is
+ * briefly stale returns no row instead of a wrong one.
+ * <p>
+ * Writes made while {@link #load} reads its snapshot are applied to the current index and replayed on the new one
+ * before it is swapped in, so a write committed after the snapshot was read is not lost.
+ */
+@Component
+public class TrainingTimeline {
+
+    private static final Comparator<TimelineEntry> BY_DATE_THEN_ID = Comparator
+            .comparingLong(TimelineEntry::trainingTime)
+            .thenComparingLong(TimelineEntry::trainingId);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Lock loading = new ReentrantLock();
+
+    private LongObjectHashMap<TimelineEntry> entries = new LongObjectHashMap<>();
+
+    private Map<String, Series> seriesByTrainee = new HashMap<>();
+
+    private Map<String, Series> seriesByTrainer = new HashMap<>();
+
+    /**
+     * Writes made since the running {@link #load} started, replayed on the loaded index; {@code null} when no load
+     * is running.
+     */
+    private List<Runnable> writesDuringLoad;
+
+    /**
+     * Replaces the whole index with the given trainings.
+     */
+    public void load(Collection<TimelineEntry> trainings) {
+        load(() -> trainings);
+    }
+
+    /**
+     * Replaces the whole index with the trainings returned by {@code snapshot}, keeping the writes made while it
+     * runs. Loads run one at a time.
+     */
+    public void load(Supplier<? extends Collection<TimelineEntry>> snapshot) {
+        loading.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                writesDuringLoad = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            LongObjectHashMap<TimelineEntry> newEntries;
+            Map<String, Series> newSeriesByTrainee = new HashMap<>();
+            Map<String, Series> newSeriesByTrainer = new HashMap<>();
+            try {
+                List<TimelineEntry> sorted = new ArrayList<>(snapshot.get());
+                sorted.sort(BY_DATE_THEN_ID);
+                newEntries = new LongObjectHashMap<>(sorted.size());
+                sorted.forEach(entry -> newEntries.put(entry.trainingId(), entry));
+                merge(newSeriesByTrainee, sorted, TimelineEntry::traineeUsername);
+                merge(newSeriesByTrainer, sorted, TimelineEntry::trainerUsername);
+            } catch (RuntimeException | Error ex) {
+                lock.writeLock().lock();
+                try {
+                    writesDuringLoad = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                throw ex;
+            }
+            lock.writeLock().lock();
+            try {
+                entries = newEntries;
+                seriesByTrainee = newSeriesByTrainee;
+                seriesByTrainer = newSeriesByTrainer;
+                List<Runnable> replayed = writesDuringLoad;
+                writesDuringLoad = null;
+                replayed.forEach(Runnable::run);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            loading.unlock();
+        }
+    }
+
+    /**
+     * Returns the indexed training, or {@code null}.
+     */
+    public TimelineEntry get(long trainingId) {
+        lock.readLock().lock();
+        try {
+            return entries.get(trainingId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void put(TimelineEntry training) {
+        putAll(List.of(training));
+    }
+
+    /**
+     * Adds the given trainings, replacing the ones already indexed under the same id.
+     */
+    public void putAll(Collection<TimelineEntry> trainings) {
+        List<TimelineEntry> sorted = new ArrayList<>(trainings);
+        sorted.sort(BY_DATE_THEN_ID);
+        lock.writeLock().lock();
+        try {
+            rememberDuringLoad(() -> putAll(sorted));
+            removeEntries(sorted.stream().mapToLong(TimelineEntry::trainingId).toArray());
+            sorted.forEach(entry -> entries.put(entry.trainingId(), entry));
+            merge(seriesByTrainee, sorted, TimelineEntry::traineeUsername);
+            merge(seriesByTrainer, sorted, TimelineEntry::trainerUsername);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeAll(long... trainingIds) {
+        lock.writeLock().lock();
+        try {
+            rememberDuringLoad(() -> removeAll(trainingIds));
+            removeEntries(trainingIds);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drops every training of the trainee, from the trainers' series as well.
+     */
+    public void removeTrainee(String username) {
+        lock.writeLock().lock();
+        try {
+            rememberDuringLoad(() -> removeTrainee(username));
+            Series series = seriesByTrainee.get(username);
+            if (series != null) {
+                removeEntries(series.ids);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drops every training of the trainer, from the trainees' series as well.
+     */
+    public void removeTrainer(String username) {
+        lock.writeLock().lock();
+        try {
+            rememberDuringLoad(() -> removeTrainer(username));
+            Series series = seriesByTrainer.get(username);
+            if (series != null) {
+                removeEntries(series.ids);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids of the trainee's trainings dated within the inclusive period, in date order. Either bound
+     * may be {@code null}.
+     */
+    public long[] traineeTrainingIds(String username, Date periodFrom, Date periodTo) {
+        return trainingIds(true, username, periodFrom, periodTo);
+    }
+
+    /**
+     * Returns the ids of the trainer's trainings dated within the inclusive period, in date order. Either bound
+     * may be {@code null}.
+     */
+    public long[] trainerTrainingIds(String username, Date periodFrom, Date periodTo) {
+        return trainingIds(false, username, periodFrom, periodTo);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long[] trainingIds(boolean byTrainee, String username, Date periodFrom, Date periodTo) {
+        Series series;
+        lock.readLock().lock();
+        try {
+            series = (byTrainee ? seriesByTrainee : seriesByTrainer).get(username);
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (series == null) {
+            return SortedLongArrays.EMPTY;
+        }
+        return series.idsBetween(periodFrom == null ? Long.MIN_VALUE : periodFrom.getTime(),
+                periodTo == null ? Long.MAX_VALUE : periodTo.getTime());
+    }
+
+    /**
+     * Records a write for replay on the index being loaded. Called with the write lock held.
+     */
+    private void rememberDuringLoad(Runnable write) {
+        if (writesDuringLoad != null) {
+            writesDuringLoad.add(write);
+        }
+    }
+
+    /**
+     * Drops the given ids from the entries and from the series they appear in, rewriting each series once.
+     */
+    private void removeEntries(long[] trainingIds) {
+        Map<String, LongStream.Builder> removedByTrainee = new HashMap<>();
+        Map<String, LongStream.Builder> removedByTrainer = new HashMap<>();
+        for (long trainingId : trainingIds) {
+            TimelineEntry entry = entries.remove(trainingId);
+            if (entry != null) {
+                removedByTrainee.computeIfAbsent(entry.traineeUsername(), username -> LongStream.builder())
+                        .add(trainingId);
+                removedByTrainer.computeIfAbsent(entry.trainerUsername(), username -> LongStream.builder())
+                        .add(trainingId);
+            }
+        }
+        removeFromSeries(seriesByTrainee, removedByTrainee);
+        removeFromSeries(seriesByTrainer, removedByTrainer);
+    }
+
+    private static void removeFromSeries(Map<String, Series> seriesByUser, Map<String, LongStream.Builder> removed) {
+        removed.forEach((username, trainingIds) -> {
+            Series remaining = seriesByUser.get(username).without(trainingIds.build().sorted().toArray());
+            if (remaining.size() == 0) {
+                seriesByUser.remove(username);
+            } else {
+                seriesByUser.put(username, remaining);
+            }
+        });
+    }
+
+    /**
+     * Merges trainings sorted by date, then id, into the series of their owners.
+     */
+    private static void merge(Map<String, Series> seriesByUser, List<TimelineEntry> sorted,
+                              Function<TimelineEntry, String> owner) {
+        Map<String, SeriesBuilder> added = new HashMap<>();
+        for (TimelineEntry entry : sorted) {
+            added.computeIfAbsent(owner.apply(entry), username -> new SeriesBuilder())
+                    .add(entry.trainingTime(), entry.trainingId());
+        }
+        added.forEach((username, builder) -> seriesByUser.merge(username, builder.build(), Series::merge));
+    }
+
+    /**
+     * One user's trainings as dates and ids sorted by date, then id. Never modified once built.
+     */
+    private static final class Series {
+
+        private final long[] dates;
+
+        private final long[] ids;
+
+        private Series(long[] dates, long[] ids) {
+            this.dates = dates;
+            this.ids = ids;
+        }
+
+        int size() {
+            return ids.length;
+        }
+
+        long[] idsBetween(long from, long to) {
+            int start = from == Long.MIN_VALUE ? 0 : firstIndexAfter(from - 1);
+            int end = Math.max(start, firstIndexAfter(to));
+            return Arrays.copyOfRange(ids, start, end);
+        }
+
+        /**
+         * Returns the index of the first date greater than {@code date}.
+         */
+        private int firstIndexAfter(long date) {
+            int low = 0;
+            int high = dates.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (dates[middle] <= date) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        Series merge(Series other) {
+            long[] mergedDates = new long[dates.length + other.dates.length];
+            long[] mergedIds = new long[mergedDates.length];
+            int i = 0;
+            int j = 0;
+            for (int k = 0; k < mergedDates.length; k++) {
+                boolean takeThis = j == other.dates.length || (i < dates.length
+                        && (dates[i] < other.dates[j] || dates[i] == other.dates[j] && ids[i] < other.ids[j]));
+                if (takeThis) {
+                    mergedDates[k] = dates[i];
+                    mergedIds[k] = ids[i++];
+                } else {
+                    mergedDates[k] = other.dates[j];
+                    mergedIds[k] = other.ids[j++];
+                }
+            }
+            return new Series(mergedDates, mergedIds);
+        }
+
+        Series without(long[] sortedIds) {
+            SeriesBuilder remaining = new SeriesBuilder();
+            for (int i = 0; i < ids.length; i++) {
+                if (!SortedLongArrays.contains(sortedIds, ids[i])) {
+                    remaining.add(dates[i], ids[i]);
+                }
+            }
+            return remaining.build();
+        }
+    }
+
+    private static final class SeriesBuilder {
+
+        private long[] dates = new long[4];
+
+        private long[] ids = new long[4];
+
+        private int size;
+
+        void add(long date, long id) {
+            if (size == ids.length) {
+                dates = Arrays.copyOf(dates, size * 2);
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            dates[size] = date;
+            ids[size++] = id;
+        }
+
+        Series build() {
+            return new Series(Arrays.copyOf(dates, size), Arrays.copyOf(ids, size));
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.utils.tracing;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * One stopped observation as handed to a {@link SpanExporter}. {@code parentSpanId} is {@code null} for the root
+ * span of a trace and {@code error} is {@code null} when the observed call succeeded.
+ */
+public record FinishedSpan(String traceId,
+                           String spanId,
+                           String parentSpanId,
+                           String name,
+                           Instant start,
+                           Duration duration,
+                           Map<String, String> tags,
+                           Throwable error) {
+}
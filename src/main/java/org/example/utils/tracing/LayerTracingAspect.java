@@ -0,0 +1,97 @@
+package org.example.utils.tracing;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.repository.Repository;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Observes every public method of the application's controllers, services and Spring Data repositories as
+ * {@value #CONTROLLER_OBSERVATION}, {@value #SERVICE_OBSERVATION} or {@value #REPOSITORY_OBSERVATION}, named
+ * {@code Class.method} after the repository interface rather than the one declaring the method. A method returning
+ * a {@link CompletionStage} is observed until the stage completes.
+ * <p>
+ * Calls a bean makes on itself bypass the proxy and are part of the caller's span.
+ */
+@Aspect
+public class LayerTracingAspect {
+
+    public static final String CONTROLLER_OBSERVATION = "app.controller";
+
+    public static final String SERVICE_OBSERVATION = "app.service";
+
+    public static final String REPOSITORY_OBSERVATION = "app.repository";
+
+    private final ObservationRegistry observationRegistry;
+
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    public LayerTracingAspect(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Around("within(org.example.controller..*) && (@within(org.springframework.stereotype.Controller) "
+            + "|| @within(org.springframework.web.bind.annotation.RestController))")
+    public Object observeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(CONTROLLER_OBSERVATION, joinPoint.getSignature().getDeclaringType().getSimpleName(),
+                joinPoint);
+    }
+
+    @Around("within(org.example.service..*) && @within(org.springframework.stereotype.Service)")
+    public Object observeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(SERVICE_OBSERVATION, joinPoint.getSignature().getDeclaringType().getSimpleName(), joinPoint);
+    }
+
+    @Around("target(org.springframework.data.repository.Repository)")
+    public Object observeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(REPOSITORY_OBSERVATION, repositoryName(joinPoint.getTarget().getClass()), joinPoint);
+    }
+
+    private Object observe(String name, String className, ProceedingJoinPoint joinPoint) throws Throwable {
+        String methodName = joinPoint.getSignature().getName();
+        Observation observation = Observation.createNotStarted(name, observationRegistry)
+                .contextualName(className + "." + methodName)
+                .lowCardinalityKeyValue("class", className)
+                .lowCardinalityKeyValue("method", methodName)
+                .start();
+        Object result;
+        try (Observation.Scope scope = observation.openScope()) {
+            result = joinPoint.proceed();
+        } catch (Throwable ex) {
+            observation.error(ex);
+            observation.stop();
+            throw ex;
+        }
+        if (result instanceof CompletionStage<?> stage) {
+            stage.whenComplete((value, ex) -> {
+                if (ex != null) {
+                    observation.error(ex);
+                }
+                observation.stop();
+            });
+            return result;
+        }
+        observation.stop();
+        return result;
+    }
+
+    /**
+     * Returns the name of the application interface a repository proxy implements.
+     */
+    private String repositoryName(Class<?> proxyType) {
+        return repositoryNames.computeIfAbsent(proxyType, type -> Arrays.stream(type.getInterfaces())
+                .filter(Repository.class::isAssignableFrom)
+                .filter(repositoryType -> !repositoryType.getName().startsWith("org.springframework."))
+                .findFirst()
+                .map(Class::getSimpleName)
+                .orElse(type.getSimpleName()));
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.utils.tracing;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes each finished span as one debug line, so spans are only formatted when this logger is enabled.
+ */
+@Slf4j
+public class LoggingSpanExporter implements SpanExporter {
+
+    @Override
+    public void export(FinishedSpan span) {
+        if (log.isDebugEnabled()) {
+            log.debug("Span '{}' {} (parent {}) of trace {} took {} ms {}{}", span.name(), span.spanId(),
+                    span.parentSpanId(), span.traceId(), span.duration().toNanos() / 1_000_000.0, span.tags(),
+                    span.error() == null ? "" : " and failed with " + span.error());
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package org.example.utils.tracing;
+
+/**
+ * Receives every finished span. Called on the thread that stopped the observation, so implementations should
+ * hand the span off rather than block.
+ */
+public interface SpanExporter {
+
+    void export(FinishedSpan span);
+}
@@ -0,0 +1,131 @@
+package org.example.utils.tracing;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.MDC;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationView;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Turns every observation into a span: a child of the observation it was started under, in the same trace, or
+ * the root of a new trace. While a span's scope is open its ids are in the logging MDC as {@value #TRACE_ID} and
+ * {@value #SPAN_ID}, and once it stops it is handed to each {@link SpanExporter}.
+ */
+@Slf4j
+public class SpanObservationHandler implements ObservationHandler<Observation.Context> {
+
+    public static final String TRACE_ID = "traceId";
+
+    public static final String SPAN_ID = "spanId";
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    /**
+     * The MDC ids each open scope replaced on this thread; scopes on one thread close in reverse order.
+     */
+    private static final ThreadLocal<Deque<String[]>> REPLACED_IDS = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final List<SpanExporter> exporters;
+
+    public SpanObservationHandler(List<SpanExporter> exporters) {
+        this.exporters = List.copyOf(exporters);
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return true;
+    }
+
+    @Override
+    public void onStart(Observation.Context context) {
+        Span parent = spanOf(context.getParentObservation());
+        context.put(Span.class, new Span(
+                parent == null ? HEX.toHexDigits(randomId()) + HEX.toHexDigits(randomId()) : parent.traceId(),
+                HEX.toHexDigits(randomId()),
+                parent == null ? null : parent.spanId(),
+                Instant.now(),
+                System.nanoTime()));
+    }
+
+    @Override
+    public void onScopeOpened(Observation.Context context) {
+        Span span = context.get(Span.class);
+        if (span != null) {
+            REPLACED_IDS.get().push(new String[]{MDC.get(TRACE_ID), MDC.get(SPAN_ID)});
+            MDC.put(TRACE_ID, span.traceId());
+            MDC.put(SPAN_ID, span.spanId());
+        }
+    }
+
+    @Override
+    public void onScopeClosed(Observation.Context context) {
+        if (context.get(Span.class) == null) {
+            return;
+        }
+        Deque<String[]> replacedIds = REPLACED_IDS.get();
+        String[] ids = replacedIds.poll();
+        if (replacedIds.isEmpty()) {
+            REPLACED_IDS.remove();
+        }
+        restore(TRACE_ID, ids == null ? null : ids[0]);
+        restore(SPAN_ID, ids == null ? null : ids[1]);
+    }
+
+    @Override
+    public void onStop(Observation.Context context) {
+        Span span = context.get(Span.class);
+        if (span == null) {
+            return;
+        }
+        Map<String, String> tags = new LinkedHashMap<>();
+        for (KeyValue keyValue : context.getAllKeyValues()) {
+            tags.put(keyValue.getKey(), keyValue.getValue());
+        }
+        FinishedSpan finishedSpan = new FinishedSpan(span.traceId(), span.spanId(), span.parentSpanId(),
+                context.getContextualName() != null ? context.getContextualName() : context.getName(),
+                span.start(), Duration.ofNanos(System.nanoTime() - span.startNanos()), tags, context.getError());
+        for (SpanExporter exporter : exporters) {
+            try {
+                exporter.export(finishedSpan);
+            } catch (RuntimeException ex) {
+                log.warn("Span exporter {} failed", exporter.getClass().getSimpleName(), ex);
+            }
+        }
+    }
+
+    private static Span spanOf(ObservationView observation) {
+        return observation == null ? null : observation.getContextView().get(Span.class);
+    }
+
+    private static void restore(String key, String value) {
+        if (value == null) {
+            MDC.remove(key);
+        } else {
+            MDC.put(key, value);
+        }
+    }
+
+    private static long randomId() {
+        long id;
+        do {
+            id = ThreadLocalRandom.current().nextLong();
+        } while (id == 0);
+        return id;
+    }
+
+    private record Span(String traceId, String spanId, String parentSpanId, Instant start, long startNanos) {
+    }
+}
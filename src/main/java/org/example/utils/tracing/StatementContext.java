@@ -0,0 +1,33 @@
+package org.example.utils.tracing;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import io.micrometer.observation.Observation;
+
+/**
+ * The observation context of one statement execution: its SQL and the values bound to its parameters, by
+ * position from 0, with {@code null} for a parameter set to SQL {@code NULL} or not set at all.
+ */
+public class StatementContext extends Observation.Context {
+
+    private final String sql;
+
+    private final List<Object> parameters;
+
+    public StatementContext(String sql, Object[] parameters) {
+        this.sql = sql;
+        this.parameters = parameters.length == 0
+                ? List.of()
+                : Collections.unmodifiableList(Arrays.asList(parameters));
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public List<Object> getParameters() {
+        return parameters;
+    }
+}
@@ -0,0 +1,157 @@
+package org.example.utils.tracing;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Observes every statement execution on connections of the wrapped data source as
+ * {@value #STATEMENT_OBSERVATION}, named after the {@code execute} method and tagged with the SQL, in a
+ * {@link StatementContext} that also carries the bound parameter values. Connections and statements are JDK
+ * proxies of the driver's interfaces; everything but the {@code execute} calls is passed through untouched.
+ * <p>
+ * Executions are not observed until {@link #setObservationRegistry} is called.
+ */
+public class TracingDataSource extends DelegatingDataSource {
+
+    public static final String STATEMENT_OBSERVATION = "jdbc.statement";
+
+    public static final String SQL_KEY = "sql";
+
+    private volatile ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+    public TracingDataSource(DataSource dataSource) {
+        super(dataSource);
+    }
+
+    public void setObservationRegistry(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return tracing(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return tracing(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection tracing(Connection connection) {
+        return (Connection) proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement statement && isStatementFactory(method.getName())) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                return proxy(method.getReturnType(), new StatementHandler(statement, sql));
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Observes the executions of one statement and keeps the values bound to its parameters for the
+     * {@link StatementContext}.
+     */
+    private final class StatementHandler implements InvocationHandler {
+
+        private static final Object[] NO_PARAMETERS = new Object[0];
+
+        private final Statement statement;
+
+        private final String preparedSql;
+
+        private Object[] parameters = NO_PARAMETERS;
+
+        private int parameterCount;
+
+        private StatementHandler(Statement statement, String preparedSql) {
+            this.statement = statement;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return observeExecution(method, args);
+            }
+            Object result = TracingDataSource.invoke(statement, method, args);
+            if (preparedSql != null && isParameterSetter(name, args)) {
+                bind((Integer) args[0], name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                parameterCount = 0;
+                Arrays.fill(parameters, null);
+            }
+            return result;
+        }
+
+        private void bind(int index, Object value) {
+            if (index > parameters.length) {
+                parameters = Arrays.copyOf(parameters, Math.max(index, parameters.length * 2));
+            }
+            parameters[index - 1] = value;
+            parameterCount = Math.max(parameterCount, index);
+        }
+
+        private Object observeExecution(Method method, Object[] args) throws Throwable {
+            boolean prepared = args == null || args.length == 0;
+            String sql = !prepared && args[0] instanceof String text ? text : preparedSql != null ? preparedSql : "";
+            Observation observation = Observation.createNotStarted(STATEMENT_OBSERVATION,
+                            () -> new StatementContext(sql,
+                                    prepared ? Arrays.copyOf(parameters, parameterCount) : NO_PARAMETERS),
+                            observationRegistry)
+                    .contextualName(method.getName())
+                    .highCardinalityKeyValue(SQL_KEY, sql)
+                    .start();
+            try (Observation.Scope scope = observation.openScope()) {
+                return TracingDataSource.invoke(statement, method, args);
+            } catch (Throwable ex) {
+                observation.error(ex);
+                throw ex;
+            } finally {
+                observation.stop();
+            }
+        }
+    }
+
+    private static boolean isParameterSetter(String methodName, Object[] args) {
+        return methodName.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer;
+    }
+
+    private static boolean isStatementFactory(String methodName) {
+        return methodName.equals("createStatement")
+                || methodName.equals("prepareStatement")
+                || methodName.equals("prepareCall");
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    /**
+     * Creates a {@code type} proxy that only equals itself.
+     */
+    private static Object proxy(Class<?> type, InvocationHandler handler) {
+        return Proxy.newProxyInstance(TracingDataSource.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> method.getName().equals("equals") && method.getParameterCount() == 1
+                        ? proxy == args[0]
+                        : handler.invoke(proxy, method, args));
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.utils.tracing;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Wraps every {@link DataSource} bean in a {@link TracingDataSource}. Statements are observed once all singletons
+ * exist, so the statements run while the context starts do not pull the observation registry, and every bean it
+ * depends on, into the creation of whichever bean first touched the database.
+ */
+public class TracingDataSourcePostProcessor implements BeanPostProcessor, SmartInitializingSingleton {
+
+    private final ObjectProvider<ObservationRegistry> observationRegistry;
+
+    private final List<TracingDataSource> dataSources = new CopyOnWriteArrayList<>();
+
+    public TracingDataSourcePostProcessor(ObjectProvider<ObservationRegistry> observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof TracingDataSource || !(bean instanceof DataSource dataSource)) {
+            return bean;
+        }
+        TracingDataSource tracingDataSource = new TracingDataSource(dataSource);
+        dataSources.add(tracingDataSource);
+        return tracingDataSource;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        ObservationRegistry registry = observationRegistry.getObject();
+        dataSources.forEach(dataSource -> dataSource.setObservationRegistry(registry));
+    }
+}
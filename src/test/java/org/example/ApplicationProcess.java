@@ -0,0 +1,116 @@
+package org.example;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A packaged build of the application running in its own process on free HTTP and gRPC ports, for the tests
+ * that check the build artifacts rather than the code. {@link #start} returns once startup has been logged.
+ */
+class ApplicationProcess implements AutoCloseable {
+
+    private static final long STOP_TIMEOUT_SECONDS = 30;
+    private static final Pattern HTTP_PORT = Pattern.compile("Tomcat started on port (\\d+)");
+    private static final Pattern GRPC_PORT = Pattern.compile("gRPC server started successfully on port (\\d+)");
+    private static final String STARTED = "Started App in";
+
+    private final Process process;
+
+    private final int httpPort;
+
+    private final int grpcPort;
+
+    private final long startupNanos;
+
+    private ApplicationProcess(Process process, int httpPort, int grpcPort, long startupNanos) {
+        this.process = process;
+        this.httpPort = httpPort;
+        this.grpcPort = grpcPort;
+        this.startupNanos = startupNanos;
+    }
+
+    /**
+     * Launches {@code command} followed by the port arguments and {@code extraArgs}, split on whitespace.
+     */
+    static ApplicationProcess start(List<String> command, String extraArgs) throws IOException {
+        List<String> arguments = new ArrayList<>(command);
+        arguments.add("--server.port=0");
+        arguments.add("--grpc.server.port=0");
+        if (extraArgs != null && !extraArgs.isBlank()) {
+            arguments.addAll(Arrays.asList(extraArgs.trim().split("\\s+")));
+        }
+
+        long launchedAt = System.nanoTime();
+        Process process = new ProcessBuilder(arguments).redirectErrorStream(true).start();
+        BufferedReader output = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+        int httpPort = -1;
+        int grpcPort = -1;
+        String line;
+        try {
+            while ((line = output.readLine()) != null && !line.contains(STARTED)) {
+                httpPort = portOrDefault(HTTP_PORT.matcher(line), httpPort);
+                grpcPort = portOrDefault(GRPC_PORT.matcher(line), grpcPort);
+            }
+        } catch (IOException ex) {
+            process.destroyForcibly();
+            throw ex;
+        }
+        if (line == null || httpPort < 0) {
+            process.destroyForcibly();
+            throw new IllegalStateException("Application did not start: " + arguments);
+        }
+        long startupNanos = System.nanoTime() - launchedAt;
+
+        // Keeps draining the log so the application never blocks on a full pipe.
+        Thread drain = new Thread(() -> {
+            try {
+                while (output.readLine() != null) {
+                    // discard
+                }
+            } catch (IOException ex) {
+                // the process was stopped
+            }
+        }, "application-output");
+        drain.setDaemon(true);
+        drain.start();
+
+        return new ApplicationProcess(process, httpPort, grpcPort, startupNanos);
+    }
+
+    private static int portOrDefault(Matcher matcher, int defaultPort) {
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : defaultPort;
+    }
+
+    URI uri(String pathAndQuery) {
+        return URI.create("http://localhost:" + httpPort + pathAndQuery);
+    }
+
+    int getGrpcPort() {
+        return grpcPort;
+    }
+
+    /**
+     * Time from launching the process until the application logged that it had started.
+     */
+    long getStartupMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(startupNanos);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+}
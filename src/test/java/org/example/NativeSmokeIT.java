@@ -0,0 +1,208 @@
+package org.example;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.example.dto.grpc.ProfileRequest;
+import org.example.dto.trainer.TrainerDTO;
+import org.example.grpc.BasicAuthServerInterceptor;
+import org.example.grpc.GrpcMethods;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.grpc.CallOptions;
+import io.grpc.ClientInterceptors;
+import io.grpc.Grpc;
+import io.grpc.InsecureChannelCredentials;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.MetadataUtils;
+
+/**
+ * Boots the native executable against an in-memory H2 database and calls every controller once: REST, the
+ * protobuf representation, GraphQL and gRPC. Run by {@code mvn -Pnative verify}, which builds the executable first.
+ */
+class NativeSmokeIT {
+
+    private static final String TRAINING_TYPES_SQL =
+            "INSERT INTO training_type (training_type_name) VALUES ('AEROBIC'), ('STRENGTH'), ('PILATES');";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final HttpClient HTTP_CLIENT = HttpClient.newHttpClient();
+
+    private static ApplicationProcess application;
+
+    private static String traineeUsername;
+
+    private static String trainerUsername;
+
+    private static String traineePassword;
+
+    private static String authorization;
+
+    @BeforeAll
+    static void startExecutable(@TempDir Path tempDir) throws Exception {
+        String executable = System.getProperty("native.executable");
+        assumeTrue(executable != null, "run with mvn -Pnative verify");
+
+        Path trainingTypes = Files.writeString(tempDir.resolve("training-types.sql"), TRAINING_TYPES_SQL);
+        application = ApplicationProcess.start(List.of(executable,
+                        "--spring.datasource.url=jdbc:h2:mem:smoke;MODE=MariaDB;NON_KEYWORDS=USER",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.properties.hibernate.hbm2ddl.import_files=" + trainingTypes.toUri()),
+                System.getProperty("native.args"));
+
+        JsonNode trainee = send(post("/api/trainees?firstName=Native&lastName=Trainee"), 200);
+        traineeUsername = trainee.get("username").asText();
+        traineePassword = trainee.get("password").asText();
+        authorization = basic(traineeUsername, traineePassword);
+        trainerUsername = send(post("/api/trainers?firstName=Native&lastName=Trainer&specialization=AEROBIC"), 200)
+                .get("username").asText();
+    }
+
+    @AfterAll
+    static void stopExecutable() throws InterruptedException {
+        if (application != null) {
+            application.close();
+        }
+    }
+
+    @Test
+    void actuator() throws Exception {
+        assertEquals("UP", send(get("/actuator/health"), 200).get("status").asText());
+        HttpResponse<String> metrics = HTTP_CLIENT.send(get("/actuator/prometheus").build(),
+                HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        assertEquals(200, metrics.statusCode());
+        assertTrue(metrics.body().contains("http_server_requests_seconds"));
+    }
+
+    @Test
+    void loginController() throws Exception {
+        assertTrue(send(get("/api/login")
+                .header("Content-Type", "application/json")
+                .POST(json(Map.of("username", traineeUsername, "password", traineePassword))), 200).asBoolean());
+    }
+
+    @Test
+    void traineeController() throws Exception {
+        assertEquals(traineeUsername, send(authorized("/api/trainees/" + traineeUsername), 200)
+                .get("username").asText());
+        assertTrue(send(authorized("/api/trainees/search?query=Native"), 200).size() > 0);
+
+        HttpResponse<byte[]> protobuf = HTTP_CLIENT.send(authorizedRequest("/api/trainees/" + traineeUsername)
+                .header("Accept", "application/x-protobuf").build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertEquals(200, protobuf.statusCode());
+        assertTrue(protobuf.body().length > 0);
+    }
+
+    @Test
+    void trainerController() throws Exception {
+        assertEquals("AEROBIC", send(authorized("/api/trainers/" + trainerUsername), 200)
+                .get("specialization").asText());
+        send(authorized("/api/trainers/unassigned?traineeUsername=" + traineeUsername), 200);
+    }
+
+    @Test
+    void trainingController() throws Exception {
+        assertTrue(send(authorizedRequest("/api/trainings")
+                .header("Content-Type", "application/json")
+                .POST(json(Map.of(
+                        "traineeUsername", traineeUsername,
+                        "trainerUsername", trainerUsername,
+                        "trainingTypeName", "AEROBIC",
+                        "trainingDate", "2024-01-10",
+                        "trainingDuration", 60))), 200).asBoolean());
+
+        String csv = traineeUsername + "," + trainerUsername + ",AEROBIC,2024-01-11,45\n";
+        JsonNode report = send(authorizedRequest("/api/trainings/import")
+                .header("Content-Type", "text/csv")
+                .POST(HttpRequest.BodyPublishers.ofString(csv)), 200);
+        assertEquals(1, report.get("rowsImported").asLong());
+
+        assertTrue(send(authorized("/api/trainings/trainee?username=" + traineeUsername), 200).size() >= 2);
+        send(authorized("/api/trainings/trainer?username=" + trainerUsername), 200);
+        assertEquals(3, send(authorized("/api/trainings/training-types"), 200).size());
+    }
+
+    @Test
+    void graphQlControllers() throws Exception {
+        String query = "{ trainee(username: \"" + traineeUsername + "\") { username trainers { username } } "
+                + "trainingTypes { trainingTypeName } }";
+        JsonNode response = send(authorizedRequest("/graphql")
+                .header("Content-Type", "application/json")
+                .POST(json(Map.of("query", query))), 200);
+        assertTrue(response.path("errors").isMissingNode(), response::toString);
+        assertEquals(traineeUsername, response.path("data").path("trainee").path("username").asText());
+    }
+
+    @Test
+    void grpcServices() throws Exception {
+        ManagedChannel channel = Grpc.newChannelBuilderForAddress("localhost", application.getGrpcPort(),
+                InsecureChannelCredentials.create()).build();
+        try {
+            Metadata credentials = new Metadata();
+            credentials.put(BasicAuthServerInterceptor.AUTHORIZATION, authorization);
+            TrainerDTO trainer = ClientCalls.blockingUnaryCall(
+                    ClientInterceptors.intercept(channel, MetadataUtils.newAttachHeadersInterceptor(credentials)),
+                    GrpcMethods.GET_TRAINER_PROFILE, CallOptions.DEFAULT,
+                    ProfileRequest.builder().username(trainerUsername).build());
+            assertEquals(trainerUsername, trainer.getUsername());
+        } finally {
+            channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private static JsonNode send(HttpRequest.Builder request, int expectedStatus) throws Exception {
+        HttpResponse<String> response = HTTP_CLIENT.send(request.build(),
+                HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        assertEquals(expectedStatus, response.statusCode(), response::body);
+        return response.body().isEmpty() ? MAPPER.nullNode() : MAPPER.readTree(response.body());
+    }
+
+    private static HttpRequest.Builder get(String pathAndQuery) {
+        return HttpRequest.newBuilder(application.uri(pathAndQuery));
+    }
+
+    private static HttpRequest.Builder post(String pathAndQuery) {
+        return get(pathAndQuery).POST(HttpRequest.BodyPublishers.noBody());
+    }
+
+    private static HttpRequest.Builder authorizedRequest(String pathAndQuery) {
+        return get(pathAndQuery).header("Authorization", authorization);
+    }
+
+    private static HttpRequest.Builder authorized(String pathAndQuery) {
+        return authorizedRequest(pathAndQuery).GET();
+    }
+
+    private static HttpRequest.BodyPublisher json(Object body) throws IOException {
+        return HttpRequest.BodyPublishers.ofByteArray(MAPPER.writeValueAsBytes(body));
+    }
+
+    private static String basic(String username, String password) {
+        return "Basic " + Base64.getEncoder()
+                .encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,65 @@
+package org.example;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.example.config.actuator.StartupProfileEndpoint;
+import org.example.dto.actuator.StartupProfileDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.ApplicationStartup;
+
+/**
+ * Fails the build when starting the application on an in-memory H2 database takes longer than
+ * {@code startup.budget} from pom.xml, and names the slowest beans and phases when it does.
+ * Classes already loaded by earlier tests in the same JVM make this a regression guard, not a cold-start figure.
+ */
+class StartupBudgetTest {
+
+    private static final Duration DEFAULT_BUDGET = Duration.ofSeconds(60);
+    private static final int REPORTED_STEPS = 5;
+
+    @Test
+    void startsWithinBudget() {
+        Duration budget = Duration.parse(System.getProperty("startup.budget", DEFAULT_BUDGET.toString()));
+
+        long startedAt = System.nanoTime();
+        String[] args = {
+                "--" + App.STARTUP_PROFILING_ENABLED + "=true",
+                "--server.port=0",
+                "--grpc.server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:startup-budget;MODE=MariaDB;NON_KEYWORDS=USER",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password="};
+        try (ConfigurableApplicationContext context = App.application(args).run(args)) {
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            StartupProfileDTO profile = context.getBean(StartupProfileEndpoint.class).startupProfile(REPORTED_STEPS);
+
+            assertNotNull(profile);
+            assertTrue(profile.getRecordedSteps() > 0);
+            assertTrue(elapsedMillis <= budget.toMillis(), () -> String.format(
+                    "Startup took %d ms, budget is %d ms.%nSlowest beans: %s%nSlowest phases: %s",
+                    elapsedMillis, budget.toMillis(),
+                    profile.getSlowestBeans().stream()
+                            .map(bean -> bean.getBeanName() + "=" + bean.getSelfMillis() + "ms")
+                            .collect(Collectors.joining(", ")),
+                    profile.getSlowestPhases().stream()
+                            .map(phase -> phase.getName() + "=" + phase.getSelfMillis() + "ms")
+                            .collect(Collectors.joining(", "))));
+        }
+    }
+
+    @Test
+    void buffersStartupOnlyWhenProfilingIsEnabled() {
+        assertSame(ApplicationStartup.DEFAULT, App.application().getApplicationStartup());
+        assertInstanceOf(BufferingApplicationStartup.class,
+                App.application("--" + App.STARTUP_PROFILING_ENABLED + "=true").getApplicationStartup());
+    }
+}
@@ -0,0 +1,87 @@
+package org.example;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Starts the fat jar and the AOT-processed jar with its CDS archive a few times each and reports the median time
+ * until the application is started and the latency of the first request. Run by {@code mvn -Paot verify}, which
+ * packages both variants first.
+ */
+class StartupReportIT {
+
+    private static final int RUNS = 5;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    void reportStartup() throws Exception {
+        String fatJar = System.getProperty("startup.fatJar");
+        assumeTrue(fatJar != null, "run with mvn -Paot verify");
+
+        Measurement fat = measure(List.of("-jar", fatJar));
+        Measurement cds = measure(List.of(
+                "-XX:SharedArchiveFile=" + System.getProperty("startup.cdsArchive"),
+                "-Dspring.aot.enabled=true",
+                "-jar", System.getProperty("startup.cdsJar")));
+
+        String report = String.format("""
+                        variant        started (ms)   first request (ms)
+                        fat jar        %12d   %18d
+                        AOT + CDS      %12d   %18d
+                        (median of %d runs)
+                        """,
+                fat.startedMillis(), fat.firstRequestMillis(),
+                cds.startedMillis(), cds.firstRequestMillis(), RUNS);
+        Files.writeString(Path.of(System.getProperty("startup.report")), report);
+        System.out.print(report);
+    }
+
+    private Measurement measure(List<String> launch) throws Exception {
+        long[] started = new long[RUNS];
+        long[] firstRequest = new long[RUNS];
+        for (int run = 0; run < RUNS; run++) {
+            Measurement measurement = measureOnce(launch);
+            started[run] = measurement.startedMillis();
+            firstRequest[run] = measurement.firstRequestMillis();
+        }
+        return new Measurement(median(started), median(firstRequest));
+    }
+
+    private Measurement measureOnce(List<String> launch) throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(launch);
+        try (ApplicationProcess application = ApplicationProcess.start(command, System.getProperty("startup.args"))) {
+            long requestedAt = System.nanoTime();
+            HttpResponse<Void> response = httpClient.send(
+                    HttpRequest.newBuilder(application.uri("/actuator/health")).build(),
+                    HttpResponse.BodyHandlers.discarding());
+            long firstRequestMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - requestedAt);
+            assertEquals(200, response.statusCode());
+
+            return new Measurement(application.getStartupMillis(), firstRequestMillis);
+        }
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private record Measurement(long startedMillis, long firstRequestMillis) {
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "rate-limit.groups.api.capacity=2",
+        "rate-limit.groups.api.refill-per-second=0.01"
+})
+class ForwardedClientAddressTest {
+
+    private static final String URL_TEMPLATE = "/api/trainees/John.Doe";
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+    private static final String CLIENT_A = "203.0.113.1";
+    private static final String CLIENT_B = "203.0.113.2";
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void clientsBehindTrustedProxyGetTheirOwnRateLimit() {
+        assertNotEquals(HttpStatus.TOO_MANY_REQUESTS, get(CLIENT_A));
+        assertNotEquals(HttpStatus.TOO_MANY_REQUESTS, get(CLIENT_A));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, get(CLIENT_A));
+
+        assertNotEquals(HttpStatus.TOO_MANY_REQUESTS, get(CLIENT_B));
+    }
+
+    private HttpStatusCode get(String clientAddress) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(FORWARDED_FOR, clientAddress);
+        return restTemplate.exchange(URL_TEMPLATE, HttpMethod.GET, new HttpEntity<>(headers), String.class)
+                .getStatusCode();
+    }
+}
@@ -0,0 +1,144 @@
+package org.example.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.example.model.Trainee;
+import org.example.service.TraineeService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class JfrEndpointTest {
+
+    private static final String ROLE_ADMIN = "ROLE_ADMIN";
+    private static final String URL_TRAINEE = "/api/trainees/{username}";
+    private static final String URL_JFR = "/actuator/jfr";
+    private static final String URL_JFR_RECORDING = "/actuator/jfr/{id}";
+    private static final String USERNAME = "Unknown.Trainee";
+
+    private static final String SERVICE_OPERATION_EVENT = "org.example.ServiceOperation";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TraineeService traineeService;
+
+    @Test
+    @WithMockUser(username = USERNAME, authorities = {ROLE_ADMIN})
+    @DisplayName("Should record service operations between start and stop and dump them as a JFR file")
+    void shouldRecordServiceOperations() throws Exception {
+        String started = mockMvc.perform(post(URL_JFR)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"test\", \"settings\": \"default\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("test"))
+                .andExpect(jsonPath("$.state").value("RUNNING"))
+                .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(started).get("id").asLong();
+
+        try {
+            mockMvc.perform(get(URL_TRAINEE, USERNAME))
+                    .andExpect(status().isNotFound());
+
+            mockMvc.perform(post(URL_JFR_RECORDING, id))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.state").value("STOPPED"));
+
+            byte[] dump = mockMvc.perform(get(URL_JFR_RECORDING, id))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsByteArray();
+
+            List<RecordedEvent> operations = readEvents(dump).stream()
+                    .filter(event -> event.getEventType().getName().equals(SERVICE_OPERATION_EVENT))
+                    .filter(event -> "TraineeService.getTraineeProfile".equals(event.getString("operation")))
+                    .toList();
+            assertEquals(1, operations.size());
+            assertEquals(USERNAME, operations.get(0).getString("username"));
+            assertTrue(operations.get(0).getBoolean("failed"));
+        } finally {
+            mockMvc.perform(delete(URL_JFR_RECORDING, id))
+                    .andExpect(status().isOk());
+        }
+    }
+
+    @Test
+    @DisplayName("Should record an asynchronous service operation when its result is ready")
+    void shouldRecordAsynchronousServiceOperationOnCompletion() throws Exception {
+        Path file = Files.createTempFile("jfr-endpoint-test-", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(SERVICE_OPERATION_EVENT);
+            recording.start();
+            List<Trainee> trainees = traineeService.getAllTrainees().join();
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> operations = RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals(SERVICE_OPERATION_EVENT))
+                    .filter(event -> "TraineeService.getAllTrainees".equals(event.getString("operation")))
+                    .toList();
+            assertEquals(1, operations.size());
+            assertEquals(trainees.size(), operations.get(0).getInt("resultSize"));
+            assertFalse(operations.get(0).getBoolean("failed"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @WithMockUser(authorities = {ROLE_ADMIN})
+    @DisplayName("Should reject unknown settings")
+    void shouldRejectUnknownSettings() throws Exception {
+        mockMvc.perform(post(URL_JFR)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"settings\": \"unknown\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Should not let a user who is not an admin control recordings")
+    void shouldDenyNonAdmin() throws Exception {
+        mockMvc.perform(post(URL_JFR)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().is3xxRedirection());
+    }
+
+    private static List<RecordedEvent> readEvents(byte[] dump) throws Exception {
+        Path file = Files.createTempFile("jfr-endpoint-test-", ".jfr");
+        try {
+            Files.write(file, dump);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
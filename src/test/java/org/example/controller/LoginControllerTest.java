@@ -2,7 +2,10 @@ package org.example.controller;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
+import static org.springframework.security.web.context.HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.util.Collections;
@@ -22,13 +25,14 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-@SpringBootTest
+@SpringBootTest(properties = "session-management.mode=stateless")
 @AutoConfigureMockMvc
 class LoginControllerTest {
 
     private static final String URL_TEMPLATE = "/api/login";
     private static final String DEFAULT_USERNAME = "John.Doe";
     private static final String DEFAULT_PASSWORD = "0123456789";
+    private static final String SESSION_COOKIE = "SESSION";
 
     private final ObjectMapper objectMapper;
 
@@ -61,6 +65,8 @@ class LoginControllerTest {
         mockMvc.perform(post(URL_TEMPLATE)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(credentialsDTO)))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(request().sessionAttributeDoesNotExist(SPRING_SECURITY_CONTEXT_KEY))
+                .andExpect(cookie().doesNotExist(SESSION_COOKIE));
     }
 }
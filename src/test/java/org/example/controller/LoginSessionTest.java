@@ -0,0 +1,79 @@
+package org.example.controller;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Collections;
+
+import org.example.dto.credentials.CredentialsDTO;
+import org.example.enums.RoleName;
+import org.example.service.TrainingService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.Cookie;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class LoginSessionTest {
+
+    private static final String URL_LOGIN = "/api/login";
+    private static final String URL_TRAINING_TYPES = "/api/trainings/training-types";
+    private static final String SESSION_COOKIE = "SESSION";
+    private static final String DEFAULT_USERNAME = "John.Doe";
+    private static final String DEFAULT_PASSWORD = "0123456789";
+
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AuthenticationManager authenticationManager;
+
+    @MockBean
+    private TrainingService trainingService;
+
+    @Autowired
+    public LoginSessionTest(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Test
+    void loginCreatesSessionThatAuthenticatesLaterRequests() throws Exception {
+        CredentialsDTO credentialsDTO = CredentialsDTO.builder()
+                .username(DEFAULT_USERNAME)
+                .password(DEFAULT_PASSWORD)
+                .build();
+        when(authenticationManager.authenticate(any())).thenReturn(UsernamePasswordAuthenticationToken.authenticated(
+                DEFAULT_USERNAME, DEFAULT_PASSWORD, Collections.singletonList(RoleName.USER)));
+
+        mockMvc.perform(get(URL_TRAINING_TYPES))
+                .andExpect(status().isUnauthorized());
+
+        Cookie sessionCookie = mockMvc.perform(post(URL_LOGIN)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(credentialsDTO)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getCookie(SESSION_COOKIE);
+        assertNotNull(sessionCookie);
+
+        mockMvc.perform(get(URL_TRAINING_TYPES).cookie(sessionCookie))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.controller;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+@SpringBootTest(properties = "login-throttle.username-threshold=3")
+@AutoConfigureMockMvc
+class LoginThrottlingTest {
+
+    private static final String URL_TEMPLATE = "/api/trainees";
+    private static final String USERNAME = "John.Doe";
+    private static final String PASSWORD = "0123456789";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private UserDetailsService userDetailsService;
+
+    @Test
+    void basicAuthIsRejectedWithoutUserLookupAfterRepeatedFailures() throws Exception {
+        when(userDetailsService.loadUserByUsername(anyString()))
+                .thenReturn(User.withUsername(USERNAME).password(PASSWORD).roles("USER").build());
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get(URL_TEMPLATE).with(httpBasic(USERNAME, "wrong")).with(remoteAddress()))
+                    .andExpect(status().isUnauthorized());
+        }
+        mockMvc.perform(get(URL_TEMPLATE).with(httpBasic(USERNAME, PASSWORD)).with(remoteAddress()))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+
+        verify(userDetailsService, times(3)).loadUserByUsername(USERNAME);
+    }
+
+    private static RequestPostProcessor remoteAddress() {
+        return request -> {
+            request.setRemoteAddr("10.0.0.1");
+            return request;
+        };
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.controller;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = "slow-query-log.threshold=0ms")
+@AutoConfigureMockMvc
+public class SlowQueryEndpointTest {
+
+    private static final String ROLE_ADMIN = "ROLE_ADMIN";
+    private static final String URL_ACCESS_DENIED = "/accessDenied";
+    private static final String URL_TRAINEE = "/api/trainees/{username}";
+    private static final String URL_SLOW_QUERIES = "/actuator/slowqueries";
+    private static final String USERNAME = "Unknown.Trainee";
+
+    private static final String JSON_PATH_REPOSITORY_METHODS = "$.slowestQueries[*].repositoryMethod";
+    private static final String JSON_PATH_ENDPOINTS = "$.slowestQueries[*].endpoint";
+    private static final String JSON_PATH_PARAMETER_TYPES = "$.slowestQueries[*].parameterTypes[*]";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockMvc.perform(delete(URL_SLOW_QUERIES));
+    }
+
+    @Test
+    @WithMockUser(username = USERNAME, authorities = {ROLE_ADMIN})
+    @DisplayName("Should report the statements of a request with their repository method and endpoint")
+    void shouldReportSlowQueries() throws Exception {
+        mockMvc.perform(get(URL_TRAINEE, USERNAME))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get(URL_SLOW_QUERIES).param("limit", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.thresholdMillis").value(0))
+                .andExpect(jsonPath(JSON_PATH_REPOSITORY_METHODS, hasItem("TraineeRepository.findByUserUsername")))
+                .andExpect(jsonPath(JSON_PATH_ENDPOINTS, hasItem("GET /api/trainees/{username}")))
+                .andExpect(jsonPath(JSON_PATH_PARAMETER_TYPES, hasItem("String")));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Should not show or clear slow queries to a user who is not an admin")
+    void shouldDenyNonAdmin() throws Exception {
+        mockMvc.perform(get(URL_SLOW_QUERIES))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl(URL_ACCESS_DENIED));
+
+        mockMvc.perform(delete(URL_SLOW_QUERIES))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl(URL_ACCESS_DENIED));
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class StartupProfileEndpointTest {
+
+    private static final String ROLE_ADMIN = "ROLE_ADMIN";
+    private static final String URL_ACCESS_DENIED = "/accessDenied";
+    private static final String URL_STARTUP_PROFILE = "/actuator/startupprofile";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @WithMockUser(authorities = {ROLE_ADMIN})
+    @DisplayName("Should report no profile when the application was started without buffering")
+    void shouldReportNoProfileWithoutBuffering() throws Exception {
+        mockMvc.perform(get(URL_STARTUP_PROFILE))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Should not show the startup profile to a user who is not an admin")
+    void shouldDenyNonAdmin() throws Exception {
+        mockMvc.perform(get(URL_STARTUP_PROFILE))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl(URL_ACCESS_DENIED));
+    }
+}
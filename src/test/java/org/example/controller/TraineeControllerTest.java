@@ -2,6 +2,7 @@ package org.example.controller;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -15,11 +16,15 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.util.List;
+
 import org.example.dto.credentials.CredentialsUpdateDTO;
+import org.example.dto.trainee.TraineeEmbeddedDTO;
 import org.example.dto.trainee.TraineeUpdateDTO;
 import org.example.exception.notfound.TraineeNotFoundException;
 import org.example.model.Trainee;
 import org.example.service.TraineeService;
+import org.example.utils.converter.TraineeConverter;
 import org.example.utils.dummydata.TraineeDummyDataFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -40,6 +45,7 @@ public class TraineeControllerTest {
 
     private static final String URL_TEMPLATE = "/api/trainees";
     private static final String URL_CHANGE_LOGIN = "/change-login";
+    private static final String URL_SEARCH = "/search";
     private static final String URL_USERNAME = "/{username}";
 
     private static final String USERNAME = "John.Doe";
@@ -50,6 +56,7 @@ public class TraineeControllerTest {
     private static final String ACTIVE_STATUS = "true";
 
     private static final String PARAM_USERNAME = "username";
+    private static final String PARAM_QUERY = "query";
     private static final String PARAM_FIRST_NAME = "firstName";
     private static final String PARAM_LAST_NAME = "lastName";
     private static final String PARAM_IS_ACTIVE = "isActive";
@@ -58,6 +65,7 @@ public class TraineeControllerTest {
     private static final String JSON_PATH_PASSWORD = "$.password";
     private static final String JSON_PATH_FIRST_NAME = "$.firstName";
     private static final String JSON_PATH_LAST_NAME = "$.lastName";
+    private static final String JSON_PATH_FIRST_USERNAME = "$[0].username";
 
     private static final String ROLE_ADMIN = "ROLE_ADMIN";
     private static final String ROLE_TEST = "ROLE_TEST";
@@ -135,7 +143,7 @@ public class TraineeControllerTest {
     @Test
     @WithMockUser
     void getTraineeByUsername() throws Exception {
-        when(traineeService.getTraineeByUsername(anyString())).thenReturn(traineeUnderTest);
+        when(traineeService.getTraineeProfile(anyString())).thenReturn(TraineeConverter.convertToDto(traineeUnderTest));
 
         mockMvc.perform(get(URL_TEMPLATE + URL_USERNAME, USERNAME)
                         .contentType(MediaType.APPLICATION_FORM_URLENCODED))
@@ -149,13 +157,30 @@ public class TraineeControllerTest {
     @Test
     @WithMockUser
     void shouldReturnNotFoundForBadUsernameWhenGetTraineeByUsername() throws Exception {
-        when(traineeService.getTraineeByUsername(anyString())).thenThrow(new TraineeNotFoundException(NOT_FOUND_MESSAGE_TRAINEE));
+        when(traineeService.getTraineeProfile(anyString())).thenThrow(new TraineeNotFoundException(NOT_FOUND_MESSAGE_TRAINEE));
 
         mockMvc.perform(get(URL_TEMPLATE + URL_USERNAME, USERNAME)
                         .contentType(MediaType.APPLICATION_FORM_URLENCODED))
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @WithMockUser
+    void searchTrainees() throws Exception {
+        TraineeEmbeddedDTO found = TraineeEmbeddedDTO.builder()
+                .username(USERNAME)
+                .firstName(FIRST_NAME)
+                .lastName(LAST_NAME)
+                .build();
+        when(traineeService.searchTrainees(anyString(), anyInt())).thenReturn(List.of(found));
+
+        mockMvc.perform(get(URL_TEMPLATE + URL_SEARCH)
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .param(PARAM_QUERY, FIRST_NAME.substring(0, 2)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath(JSON_PATH_FIRST_USERNAME).value(USERNAME));
+    }
+
     @Test
     @WithMockUser
     void updateTraineeProfile() throws Exception {
@@ -0,0 +1,79 @@
+package org.example.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.example.utils.tracing.FinishedSpan;
+import org.example.utils.tracing.InMemorySpanExporter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TraineeControllerTracingTest.SpanCapture.class)
+public class TraineeControllerTracingTest {
+
+    private static final String URL_TRAINEE = "/api/trainees/{username}";
+    private static final String USERNAME = "Unknown.Trainee";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private InMemorySpanExporter exporter;
+
+    @BeforeEach
+    void setUp() {
+        exporter.clear();
+    }
+
+    @Test
+    @WithMockUser(username = USERNAME)
+    @DisplayName("Should trace a profile request from the security filters down to its SQL statements")
+    void shouldTraceProfileRequest() throws Exception {
+        mockMvc.perform(get(URL_TRAINEE, USERNAME))
+                .andExpect(status().isNotFound());
+
+        List<FinishedSpan> spans = exporter.getSpans();
+        FinishedSpan request = spans.stream()
+                .filter(span -> span.parentSpanId() == null && span.name().startsWith("http get"))
+                .findFirst()
+                .orElseThrow();
+        List<FinishedSpan> trace = spans.stream()
+                .filter(span -> span.traceId().equals(request.traceId()))
+                .toList();
+        Set<String> names = trace.stream().map(FinishedSpan::name).collect(Collectors.toSet());
+
+        assertTrue(names.stream().anyMatch(name -> name.startsWith("security filterchain")), names::toString);
+        assertTrue(names.contains("TraineeController.getTraineeByUsername"), names::toString);
+        assertTrue(names.contains("TraineeService.getTraineeProfile"), names::toString);
+        assertTrue(names.contains("TraineeRepository.findByUserUsername"), names::toString);
+        assertTrue(trace.stream().anyMatch(span -> span.name().startsWith("execute")
+                && span.tags().get("sql").contains("trainee")), names::toString);
+        assertEquals(1, trace.stream().filter(span -> span.parentSpanId() == null).count());
+    }
+
+    @TestConfiguration
+    static class SpanCapture {
+
+        @Bean
+        InMemorySpanExporter inMemorySpanExporter() {
+            return new InMemorySpanExporter();
+        }
+    }
+}
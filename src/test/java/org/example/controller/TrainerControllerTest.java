@@ -2,6 +2,7 @@ package org.example.controller;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -18,11 +19,13 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import java.util.List;
 
 import org.example.dto.credentials.CredentialsUpdateDTO;
+import org.example.dto.trainer.TrainerEmbeddedDTO;
 import org.example.dto.trainer.TrainerUpdateDTO;
 import org.example.enums.TrainingTypeName;
 import org.example.exception.notfound.TrainerNotFoundException;
 import org.example.model.Trainer;
 import org.example.service.TrainerService;
+import org.example.utils.converter.TrainerConverter;
 import org.example.utils.dummydata.TrainerDummyDataFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -45,6 +48,7 @@ class TrainerControllerTest {
     private static final String URL_USERNAME = "/{username}";
     private static final String URL_TRAINEE_USERNAME = "/{traineeUsername}";
     private static final String URL_CHANGE_LOGIN = "/change-login";
+    private static final String URL_SEARCH = "/search";
     private static final String URL_UPDATE_TRAINERS = "/updateTrainers";
     private static final String URL_UNASSIGNED = "/unassigned";
 
@@ -57,6 +61,7 @@ class TrainerControllerTest {
     private static final String TRAINEE_USERNAME = "John.Doe";
 
     private static final String PARAM_USERNAME = "username";
+    private static final String PARAM_QUERY = "query";
     private static final String PARAM_TRAINEE_USERNAME = "traineeUsername";
     private static final String PARAM_FIRST_NAME = "firstName";
     private static final String PARAM_LAST_NAME = "lastName";
@@ -67,6 +72,7 @@ class TrainerControllerTest {
     private static final String JSON_PATH_PASSWORD = "$.password";
     private static final String JSON_PATH_FIRST_NAME = "$.firstName";
     private static final String JSON_PATH_LAST_NAME = "$.lastName";
+    private static final String JSON_PATH_FIRST_USERNAME = "$[0].username";
 
     private static final String ROLE_ADMIN = "ROLE_ADMIN";
     private static final String ROLE_TEST = "ROLE_TEST";
@@ -145,7 +151,7 @@ class TrainerControllerTest {
     @Test
     @WithMockUser
     void getTrainerByUsername() throws Exception {
-        when(trainerService.getTrainerByUsername(any())).thenReturn(trainerUnderTest);
+        when(trainerService.getTrainerProfile(any())).thenReturn(TrainerConverter.convertToDto(trainerUnderTest));
 
         mockMvc.perform(get(URL_TEMPLATE + URL_USERNAME, USERNAME)
                         .contentType(MediaType.APPLICATION_FORM_URLENCODED))
@@ -159,13 +165,30 @@ class TrainerControllerTest {
     @Test
     @WithMockUser
     void shouldReturnNotFoundForBadUsernameWhenGetTrainerByUsername() throws Exception {
-        when(trainerService.getTrainerByUsername(anyString())).thenThrow(new TrainerNotFoundException(NOT_FOUND_MESSAGE_TRAINER));
+        when(trainerService.getTrainerProfile(anyString())).thenThrow(new TrainerNotFoundException(NOT_FOUND_MESSAGE_TRAINER));
 
         mockMvc.perform(get(URL_TEMPLATE + URL_USERNAME, USERNAME)
                         .contentType(MediaType.APPLICATION_FORM_URLENCODED))
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @WithMockUser
+    void searchTrainers() throws Exception {
+        TrainerEmbeddedDTO found = TrainerEmbeddedDTO.builder()
+                .username(USERNAME)
+                .firstName(FIRST_NAME)
+                .lastName(LAST_NAME)
+                .build();
+        when(trainerService.searchTrainers(anyString(), anyInt())).thenReturn(List.of(found));
+
+        mockMvc.perform(get(URL_TEMPLATE + URL_SEARCH)
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .param(PARAM_QUERY, FIRST_NAME.substring(0, 2)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath(JSON_PATH_FIRST_USERNAME).value(USERNAME));
+    }
+
     @Test
     @WithMockUser
     void updateTrainerProfile() throws Exception {
@@ -0,0 +1,106 @@
+package org.example.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.example.dto.analytics.TrainerDurationAverageDTO;
+import org.example.dto.analytics.TrainingDurationBucketDTO;
+import org.example.dto.analytics.TrainingDurationByMonthDTO;
+import org.example.enums.TrainingTypeName;
+import org.example.service.TrainingAnalyticsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TrainingAnalyticsControllerTest {
+
+    private static final String URL_TEMPLATE = "/api/analytics/trainings";
+    private static final String URL_DURATION_BY_MONTH = "/duration-by-month";
+    private static final String URL_TRAINER_AVERAGES = "/trainer-averages";
+    private static final String URL_DURATION_HISTOGRAM = "/duration-histogram";
+
+    private static final String PARAM_TRAINING_TYPE = "trainingType";
+    private static final String PARAM_BUCKET_WIDTH = "bucketWidth";
+
+    private static final String ROLE_ADMIN = "ROLE_ADMIN";
+
+    private static final String TRAINER_USERNAME = "Joe.Johnson";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TrainingAnalyticsService trainingAnalyticsService;
+
+    @Test
+    @WithMockUser(authorities = {ROLE_ADMIN})
+    void getDurationByMonth() throws Exception {
+        when(trainingAnalyticsService.getDurationByMonth(any(), any())).thenReturn(List.of(
+                TrainingDurationByMonthDTO.builder()
+                        .month("2024-01")
+                        .trainingType(TrainingTypeName.AEROBIC)
+                        .trainings(2)
+                        .totalDuration(75)
+                        .build()));
+
+        mockMvc.perform(get(URL_TEMPLATE + URL_DURATION_BY_MONTH)
+                        .param("periodFrom", "2024-01-01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].month").value("2024-01"))
+                .andExpect(jsonPath("$[0].totalDuration").value(75));
+    }
+
+    @Test
+    @WithMockUser(authorities = {ROLE_ADMIN})
+    void getTrainerAverages() throws Exception {
+        when(trainingAnalyticsService.getTrainerAverages(any(), any(), eq(TrainingTypeName.AEROBIC))).thenReturn(List.of(
+                TrainerDurationAverageDTO.builder()
+                        .trainerUsername(TRAINER_USERNAME)
+                        .trainings(2)
+                        .totalDuration(75)
+                        .averageDuration(37.5)
+                        .build()));
+
+        mockMvc.perform(get(URL_TEMPLATE + URL_TRAINER_AVERAGES)
+                        .param(PARAM_TRAINING_TYPE, TrainingTypeName.AEROBIC.name()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].trainerUsername").value(TRAINER_USERNAME))
+                .andExpect(jsonPath("$[0].averageDuration").value(37.5));
+    }
+
+    @Test
+    @WithMockUser(authorities = {ROLE_ADMIN})
+    void getDurationHistogram() throws Exception {
+        when(trainingAnalyticsService.getDurationHistogram(eq(30), any(), any(), any())).thenReturn(List.of(
+                TrainingDurationBucketDTO.builder().fromDuration(0).toDuration(30).trainings(4).build()));
+
+        mockMvc.perform(get(URL_TEMPLATE + URL_DURATION_HISTOGRAM)
+                        .param(PARAM_BUCKET_WIDTH, "30"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].toDuration").value(30))
+                .andExpect(jsonPath("$[0].trainings").value(4));
+    }
+
+    @Test
+    @WithMockUser
+    void getDurationHistogramIsDeniedToNonAdmins() throws Exception {
+        mockMvc.perform(get(URL_TEMPLATE + URL_DURATION_HISTOGRAM))
+                .andExpect(status().is3xxRedirection());
+
+        verify(trainingAnalyticsService, never()).getDurationHistogram(any(int.class), any(), any(), any());
+    }
+}
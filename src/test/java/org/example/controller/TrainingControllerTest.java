@@ -1,29 +1,56 @@
 package org.example.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import org.example.config.concurrent.BulkheadConfig;
 import org.example.dto.training.TrainingCreateDTO;
+import org.example.dto.training.TrainingImportReportDTO;
+import org.example.dto.training.TrainingPurgeReportDTO;
 import org.example.enums.TrainingTypeName;
+import org.example.exception.concurrent.BulkheadFullException;
 import org.example.model.Training;
 import org.example.model.TrainingType;
+import org.example.service.TrainingBulkService;
+import org.example.service.TrainingImportService;
 import org.example.service.TrainingService;
+import org.example.utils.concurrent.Bulkhead;
+import org.example.utils.converter.TrainingConverter;
 import org.example.utils.dummydata.TrainingDummyDataFactory;
 import org.example.utils.dummydata.TrainingTypeDummyDataFactory;
+import org.example.utils.serialization.ProtobufDtoHttpMessageConverter;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -35,6 +62,11 @@ class TrainingControllerTest {
     private static final String URL_TRAINEE = "/trainee";
     private static final String URL_TRAINER = "/trainer";
     private static final String URL_TRAINING_TYPES = "/training-types";
+    private static final String URL_IMPORT = "/import";
+    private static final String URL_EXPORT = "/export";
+    private static final String URL_ACCESS_DENIED = "/accessDenied";
+
+    private static final String ROLE_ADMIN = "ROLE_ADMIN";
 
     private static final String PARAM_USERNAME = "username";
     private static final String PARAM_TRAINER_NAME = "trainerName";
@@ -53,6 +85,15 @@ class TrainingControllerTest {
     @MockBean
     private TrainingService trainingService;
 
+    @MockBean
+    private TrainingImportService trainingImportService;
+
+    @MockBean
+    private TrainingBulkService trainingBulkService;
+
+    @SpyBean(name = BulkheadConfig.TRAINING_REPORTS)
+    private Bulkhead trainingReports;
+
     @Autowired
     public TrainingControllerTest(ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
@@ -63,29 +104,84 @@ class TrainingControllerTest {
     void getTraineeTrainingsList() throws Exception {
         List<Training> trainings = TrainingDummyDataFactory.getTrainingsForTrainee();
 
-        when(trainingService.getTraineeTrainingList(any(), any(), any(), any(), any()))
-                .thenReturn(trainings);
+        when(trainingService.getTraineeTrainingDtoList(any(), any(), any(), any(), any()))
+                .thenReturn(TrainingConverter.convertToDtoList(trainings));
 
-        mockMvc.perform(get(URL_TEMPLATE + URL_TRAINEE)
+        performAsync(get(URL_TEMPLATE + URL_TRAINEE)
                         .param(PARAM_USERNAME, TRAINEE_USERNAME)
                         .param(PARAM_TRAINER_NAME, TRAINER_USERNAME)
                         .param(PARAM_TRAINING_TYPE, TrainingTypeName.AEROBIC.name()))
                 .andExpect(status().isOk());
     }
 
+    @Test
+    @WithMockUser
+    void getTraineeTrainingsListAsCbor() throws Exception {
+        List<Training> trainings = TrainingDummyDataFactory.getTrainingsForTrainee();
+
+        when(trainingService.getTraineeTrainingDtoList(any(), any(), any(), any(), any()))
+                .thenReturn(TrainingConverter.convertToDtoList(trainings));
+
+        performAsync(get(URL_TEMPLATE + URL_TRAINEE)
+                        .param(PARAM_USERNAME, TRAINEE_USERNAME)
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+    }
+
+    @Test
+    @WithMockUser
+    void getTraineeTrainingsListAsProtobuf() throws Exception {
+        List<Training> trainings = TrainingDummyDataFactory.getTrainingsForTrainee();
+
+        when(trainingService.getTraineeTrainingDtoList(any(), any(), any(), any(), any()))
+                .thenReturn(TrainingConverter.convertToDtoList(trainings));
+
+        performAsync(get(URL_TEMPLATE + URL_TRAINEE)
+                        .param(PARAM_USERNAME, TRAINEE_USERNAME)
+                        .accept(ProtobufDtoHttpMessageConverter.APPLICATION_PROTOBUF))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(ProtobufDtoHttpMessageConverter.APPLICATION_PROTOBUF));
+    }
+
+    @Test
+    @WithMockUser
+    void getTraineeTrainingsListDefaultsToJson() throws Exception {
+        when(trainingService.getTraineeTrainingDtoList(any(), any(), any(), any(), any()))
+                .thenReturn(TrainingConverter.convertToDtoList(TrainingDummyDataFactory.getTrainingsForTrainee()));
+
+        performAsync(get(URL_TEMPLATE + URL_TRAINEE)
+                        .param(PARAM_USERNAME, TRAINEE_USERNAME)
+                        .accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    }
+
     @Test
     @WithMockUser
     void getTrainerTrainingsList() throws Exception {
         List<Training> trainings = TrainingDummyDataFactory.getTrainingsForTrainer();
 
-        when(trainingService.getTrainerTrainingList(any(), any(), any(), any()))
-                .thenReturn(trainings);
+        when(trainingService.getTrainerTrainingDtoList(any(), any(), any(), any()))
+                .thenReturn(TrainingConverter.convertToDtoList(trainings));
 
-        mockMvc.perform(get(URL_TEMPLATE + URL_TRAINER)
+        performAsync(get(URL_TEMPLATE + URL_TRAINER)
                         .param(PARAM_USERNAME, TRAINER_USERNAME))
                 .andExpect(status().isOk());
     }
 
+    @Test
+    @WithMockUser
+    void getTraineeTrainingsListReturnsServiceUnavailableWhenBulkheadIsFull() throws Exception {
+        doReturn(CompletableFuture.failedFuture(new BulkheadFullException("Too many requests in progress")))
+                .when(trainingReports).submit(any());
+
+        performAsync(get(URL_TEMPLATE + URL_TRAINEE)
+                        .param(PARAM_USERNAME, TRAINEE_USERNAME))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+    }
+
     @Test
     @WithMockUser
     void addTraining() throws Exception {
@@ -133,4 +229,91 @@ class TrainingControllerTest {
         mockMvc.perform(get(URL_TEMPLATE + URL_TRAINING_TYPES))
                 .andExpect(status().isOk());
     }
+
+    @Test
+    @WithMockUser(authorities = {ROLE_ADMIN})
+    void importTrainings() throws Exception {
+        String csv = TRAINEE_USERNAME + "," + TRAINER_USERNAME + ",AEROBIC,2024-01-10," + TRAINING_DURATION;
+        when(trainingImportService.importTrainings(any())).thenReturn(TrainingImportReportDTO.builder()
+                .rowsRead(1)
+                .rowsImported(1)
+                .errors(List.of())
+                .build());
+
+        mockMvc.perform(post(URL_TEMPLATE + URL_IMPORT)
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rowsImported").value(1));
+    }
+
+    @Test
+    @WithMockUser
+    void importTrainingsIsDeniedToNonAdmins() throws Exception {
+        mockMvc.perform(post(URL_TEMPLATE + URL_IMPORT)
+                        .contentType("text/csv")
+                        .content(TRAINEE_USERNAME + "," + TRAINER_USERNAME + ",AEROBIC,2024-01-10,"
+                                + TRAINING_DURATION))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl(URL_ACCESS_DENIED));
+
+        verify(trainingImportService, never()).importTrainings(any());
+    }
+
+    @Test
+    @WithMockUser(authorities = {ROLE_ADMIN})
+    void exportTrainings() throws Exception {
+        String csv = "traineeUsername,trainerUsername,trainingTypeName,trainingDate,trainingDuration\n"
+                + TRAINEE_USERNAME + "," + TRAINER_USERNAME + ",AEROBIC,2024-01-10," + TRAINING_DURATION + "\n";
+        when(trainingBulkService.exportTrainings(any())).thenAnswer(invocation -> {
+            invocation.getArgument(0, OutputStream.class).write(csv.getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        performAsync(get(URL_TEMPLATE + URL_EXPORT))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"trainings.csv\""))
+                .andExpect(content().string(csv));
+    }
+
+    @Test
+    @WithMockUser(authorities = {ROLE_ADMIN})
+    void purgeTrainings() throws Exception {
+        when(trainingBulkService.purgeTrainings(any())).thenReturn(TrainingPurgeReportDTO.builder()
+                .rowsDeleted(3)
+                .build());
+
+        mockMvc.perform(delete(URL_TEMPLATE)
+                        .param("trainedBefore", "2020-01-01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rowsDeleted").value(3));
+    }
+
+    @Test
+    @WithMockUser
+    void exportTrainingsIsDeniedToNonAdmins() throws Exception {
+        mockMvc.perform(get(URL_TEMPLATE + URL_EXPORT))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl(URL_ACCESS_DENIED));
+
+        verify(trainingBulkService, never()).exportTrainings(any());
+    }
+
+    @Test
+    @WithMockUser
+    void purgeTrainingsIsDeniedToNonAdmins() throws Exception {
+        mockMvc.perform(delete(URL_TEMPLATE)
+                        .param("trainedBefore", "2020-01-01"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl(URL_ACCESS_DENIED));
+
+        verify(trainingBulkService, never()).purgeTrainings(any());
+    }
+
+    private ResultActions performAsync(MockHttpServletRequestBuilder requestBuilder) throws Exception {
+        MvcResult result = mockMvc.perform(requestBuilder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
 }
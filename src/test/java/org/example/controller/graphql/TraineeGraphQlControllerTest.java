@@ -0,0 +1,112 @@
+package org.example.controller.graphql;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.Map;
+
+import org.example.model.Trainee;
+import org.example.model.Trainer;
+import org.example.service.TraineeService;
+import org.example.service.TrainerService;
+import org.example.service.TrainingService;
+import org.example.utils.dummydata.TrainingTypeDummyDataFactory;
+import org.example.utils.dummydata.UserDummyDataFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TraineeGraphQlControllerTest {
+
+    private static final String URL_TEMPLATE = "/graphql";
+
+    private static final String TRAINEES_WITH_TRAINERS_QUERY = """
+            {"query": "{ trainees(limit: 2) { username firstName active trainers { username specialization { trainingTypeName } } } }"}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TraineeService traineeService;
+
+    @MockBean
+    private TrainerService trainerService;
+
+    @MockBean
+    private TrainingService trainingService;
+
+    @Test
+    @WithMockUser
+    void shouldLoadTrainersOfAllTraineesInOneBatch() throws Exception {
+        Trainee john = Trainee.builder().id(1).user(UserDummyDataFactory.getUserJohnDoe()).build();
+        Trainee peter = Trainee.builder().id(2).user(UserDummyDataFactory.getUserPeterPeterson()).build();
+        Trainer joe = Trainer.builder()
+                .id(10)
+                .user(UserDummyDataFactory.getUserJoeJohnson())
+                .specialization(TrainingTypeDummyDataFactory.getTrainingTypeAerobic())
+                .build();
+        when(traineeService.getTrainees(isNull(), anyInt())).thenReturn(List.of(john, peter));
+        when(trainerService.getTrainersByTraineeIds(anyCollection())).thenReturn(Map.of(1L, List.of(joe)));
+
+        perform(TRAINEES_WITH_TRAINERS_QUERY)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.trainees[0].username").value("John.Doe"))
+                .andExpect(jsonPath("$.data.trainees[0].firstName").value("John"))
+                .andExpect(jsonPath("$.data.trainees[0].active").value(true))
+                .andExpect(jsonPath("$.data.trainees[0].trainers[0].username").value("Joe.Johnson"))
+                .andExpect(jsonPath("$.data.trainees[0].trainers[0].specialization.trainingTypeName").value("AEROBIC"))
+                .andExpect(jsonPath("$.data.trainees[1].trainers").isEmpty());
+
+        verify(trainerService, times(1)).getTrainersByTraineeIds(List.of(1L, 2L));
+    }
+
+    @Test
+    @WithMockUser
+    void shouldReportBadRequestForTooManyUsernames() throws Exception {
+        when(traineeService.getTrainees(any(), anyInt())).thenThrow(new IllegalArgumentException("Too many"));
+
+        perform("""
+                {"query": "{ trainees(usernames: [\\"John.Doe\\"]) { username } }"}
+                """)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.errors[0].extensions.classification").value("BAD_REQUEST"));
+    }
+
+    @Test
+    void shouldRejectUnauthenticatedQuery() throws Exception {
+        mockMvc.perform(post(URL_TEMPLATE)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(TRAINEES_WITH_TRAINERS_QUERY))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private ResultActions perform(String body) throws Exception {
+        MvcResult result = mockMvc.perform(post(URL_TEMPLATE)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+}
@@ -0,0 +1,324 @@
+package org.example.grpc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.example.config.serialization.BinaryFormatConfig;
+import org.example.dto.grpc.ActivationRequest;
+import org.example.dto.grpc.ActivationResult;
+import org.example.dto.grpc.BulkCreateResult;
+import org.example.dto.grpc.ProfileRequest;
+import org.example.dto.grpc.TraineeTrainingsRequest;
+import org.example.dto.grpc.TrainerListRequest;
+import org.example.dto.trainee.TraineeUpdateDTO;
+import org.example.dto.trainer.TrainerEmbeddedDTO;
+import org.example.dto.trainer.TrainerListDTO;
+import org.example.dto.trainer.TrainerUpdateDTO;
+import org.example.dto.training.TrainingCreateDTO;
+import org.example.enums.RoleName;
+import org.example.enums.TrainingTypeName;
+import org.example.exception.notfound.TrainerNotFoundException;
+import org.example.service.TraineeService;
+import org.example.service.TrainerService;
+import org.example.service.TrainingService;
+import org.example.utils.converter.TrainerConverter;
+import org.example.utils.converter.TrainingConverter;
+import org.example.utils.dummydata.TraineeDummyDataFactory;
+import org.example.utils.dummydata.TrainerDummyDataFactory;
+import org.example.utils.dummydata.TrainingDummyDataFactory;
+import org.example.utils.serialization.ProtobufSchemas;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptors;
+import io.grpc.Grpc;
+import io.grpc.InsecureChannelCredentials;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.MetadataUtils;
+import io.grpc.stub.StreamObserver;
+
+@SpringBootTest
+class GrpcServerTest {
+
+    private static final String USERNAME = "Joe.Johnson";
+    private static final String PASSWORD = "0123456789";
+    private static final String TRAINEE_USERNAME = "John.Doe";
+
+    @Autowired
+    private GrpcServer grpcServer;
+
+    @MockBean
+    private TraineeService traineeService;
+
+    @MockBean
+    private TrainerService trainerService;
+
+    @MockBean
+    private TrainingService trainingService;
+
+    @MockBean
+    private AuthenticationManager authenticationManager;
+
+    private ManagedChannel managedChannel;
+
+    private Channel channel;
+
+    private ProtobufSchema schema;
+
+    @BeforeEach
+    void setUp() {
+        managedChannel = Grpc.newChannelBuilderForAddress("localhost", grpcServer.getPort(),
+                InsecureChannelCredentials.create()).build();
+        channel = ClientInterceptors.intercept(managedChannel,
+                MetadataUtils.newAttachHeadersInterceptor(basicCredentials(USERNAME, PASSWORD)));
+        schema = ProtobufSchemas.load(BinaryFormatConfig.PROTOBUF_SCHEMA_LOCATION);
+        when(authenticationManager.authenticate(any()))
+                .thenReturn(UsernamePasswordAuthenticationToken.authenticated(USERNAME, PASSWORD, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        managedChannel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Should return the trainer profile over a unary call")
+    void shouldReturnTrainerProfile() {
+        when(trainerService.getTrainerProfile(USERNAME)).thenReturn(
+                TrainerConverter.convertToDto(TrainerDummyDataFactory.getTrainerUnderTestingJoeJohnson()));
+
+        JsonNode profile = ClientCalls.blockingUnaryCall(channel,
+                withTreeResponse(GrpcMethods.GET_TRAINER_PROFILE, "TrainerDTO"), CallOptions.DEFAULT,
+                ProfileRequest.builder().username(USERNAME).build());
+
+        assertEquals(USERNAME, profile.get("username").asText());
+    }
+
+    @Test
+    @DisplayName("Should update the trainee profile on a grpc server thread")
+    void shouldUpdateTraineeProfile() {
+        AtomicReference<String> threadName = new AtomicReference<>();
+        when(traineeService.updateTrainee(any())).thenAnswer(invocation -> {
+            threadName.set(Thread.currentThread().getName());
+            return TraineeDummyDataFactory.getTraineeUnderTestJohnDoe();
+        });
+
+        JsonNode profile = ClientCalls.blockingUnaryCall(channel,
+                withTreeResponse(GrpcMethods.UPDATE_TRAINEE_PROFILE, "TraineeDTO"), CallOptions.DEFAULT,
+                TraineeUpdateDTO.builder()
+                        .username(TRAINEE_USERNAME)
+                        .firstName("John")
+                        .lastName("Doe")
+                        .isActive(true)
+                        .build());
+
+        ArgumentCaptor<TraineeUpdateDTO> update = ArgumentCaptor.forClass(TraineeUpdateDTO.class);
+        verify(traineeService).updateTrainee(update.capture());
+        assertEquals(TRAINEE_USERNAME, update.getValue().getUsername());
+        assertTrue(update.getValue().isActive());
+        assertEquals(TRAINEE_USERNAME, profile.get("username").asText());
+        assertTrue(threadName.get().startsWith("grpc-server-"), threadName.get());
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid profile update with INVALID_ARGUMENT")
+    void shouldRejectInvalidProfileUpdate() {
+        StatusRuntimeException ex = assertThrows(StatusRuntimeException.class,
+                () -> ClientCalls.blockingUnaryCall(channel, GrpcMethods.UPDATE_TRAINER_PROFILE, CallOptions.DEFAULT,
+                        TrainerUpdateDTO.builder().username(USERNAME).build()));
+
+        assertEquals(Status.Code.INVALID_ARGUMENT, ex.getStatus().getCode());
+        verify(trainerService, never()).updateTrainer(any());
+    }
+
+    @Test
+    @DisplayName("Should replace the trainee's trainer list")
+    void shouldUpdateTraineeTrainers() {
+        when(trainerService.updateTraineeTrainerList(eq(TRAINEE_USERNAME), any()))
+                .thenReturn(TrainerDummyDataFactory.getTrainersForTraineeUnderTest());
+
+        List<TrainerEmbeddedDTO> trainers = ClientCalls.blockingUnaryCall(channel,
+                GrpcMethods.UPDATE_TRAINEE_TRAINERS, CallOptions.DEFAULT,
+                TrainerListRequest.builder()
+                        .traineeUsername(TRAINEE_USERNAME)
+                        .trainerUsernameList(List.of(USERNAME))
+                        .build());
+
+        ArgumentCaptor<TrainerListDTO> trainerList = ArgumentCaptor.forClass(TrainerListDTO.class);
+        verify(trainerService).updateTraineeTrainerList(eq(TRAINEE_USERNAME), trainerList.capture());
+        assertEquals(List.of(USERNAME), trainerList.getValue().getTrainerUsernameList());
+        assertEquals(TrainerDummyDataFactory.getTrainersForTraineeUnderTest().size(), trainers.size());
+    }
+
+    @Test
+    @DisplayName("Should toggle activation for administrators only")
+    void shouldToggleActivationForAdministratorsOnly() {
+        ActivationRequest request = ActivationRequest.builder().username(TRAINEE_USERNAME).active(false).build();
+
+        StatusRuntimeException ex = assertThrows(StatusRuntimeException.class,
+                () -> ClientCalls.blockingUnaryCall(channel, GrpcMethods.TOGGLE_TRAINEE_ACTIVATION,
+                        CallOptions.DEFAULT, request));
+        assertEquals(Status.Code.PERMISSION_DENIED, ex.getStatus().getCode());
+        verify(traineeService, never()).toggleTraineeActivation(anyString(), anyBoolean());
+
+        when(authenticationManager.authenticate(any())).thenReturn(UsernamePasswordAuthenticationToken
+                .authenticated(USERNAME, PASSWORD, List.of(RoleName.ADMIN)));
+        when(traineeService.toggleTraineeActivation(TRAINEE_USERNAME, false)).thenReturn(true);
+
+        ActivationResult result = ClientCalls.blockingUnaryCall(channel, GrpcMethods.TOGGLE_TRAINEE_ACTIVATION,
+                CallOptions.DEFAULT, request);
+        assertTrue(result.isSuccessful());
+    }
+
+    @Test
+    @DisplayName("Should map service not-found errors to NOT_FOUND")
+    void shouldMapNotFound() {
+        when(trainerService.getTrainerProfile(anyString())).thenThrow(new TrainerNotFoundException("Not found"));
+
+        StatusRuntimeException ex = assertThrows(StatusRuntimeException.class,
+                () -> ClientCalls.blockingUnaryCall(channel, GrpcMethods.GET_TRAINER_PROFILE, CallOptions.DEFAULT,
+                        ProfileRequest.builder().username(USERNAME).build()));
+
+        assertEquals(Status.Code.NOT_FOUND, ex.getStatus().getCode());
+    }
+
+    @Test
+    @DisplayName("Should reject calls with bad credentials")
+    void shouldRejectBadCredentials() {
+        when(authenticationManager.authenticate(any())).thenThrow(new BadCredentialsException("Bad credentials"));
+
+        StatusRuntimeException ex = assertThrows(StatusRuntimeException.class,
+                () -> ClientCalls.blockingUnaryCall(channel, GrpcMethods.GET_TRAINER_PROFILE, CallOptions.DEFAULT,
+                        ProfileRequest.builder().username(USERNAME).build()));
+
+        assertEquals(Status.Code.UNAUTHENTICATED, ex.getStatus().getCode());
+    }
+
+    @Test
+    @DisplayName("Should stream every training of the trainee")
+    void shouldStreamTraineeTrainings() {
+        when(trainingService.getTraineeTrainingDtoList(eq(TRAINEE_USERNAME), any(), any(), any(),
+                eq(TrainingTypeName.AEROBIC)))
+                .thenReturn(TrainingConverter.convertToDtoList(TrainingDummyDataFactory.getTrainingsForTrainee()));
+
+        Iterator<JsonNode> trainings = ClientCalls.blockingServerStreamingCall(channel,
+                withTreeResponse(GrpcMethods.GET_TRAINEE_TRAININGS, "TrainingDTO"), CallOptions.DEFAULT,
+                TraineeTrainingsRequest.builder()
+                        .username(TRAINEE_USERNAME)
+                        .trainingType(TrainingTypeName.AEROBIC)
+                        .build());
+
+        List<JsonNode> received = new ArrayList<>();
+        trainings.forEachRemaining(received::add);
+        assertEquals(2, received.size());
+        assertEquals(TrainingDummyDataFactory.DEFAULT_TRAINING_DATE.getTime(),
+                received.get(0).get("trainingDate").asLong());
+    }
+
+    @Test
+    @DisplayName("Should create streamed trainings and count rejected ones")
+    void shouldCreateStreamedTrainings() throws Exception {
+        when(trainingService.createTraining(any())).thenReturn(true, false);
+        CompletableFuture<BulkCreateResult> result = new CompletableFuture<>();
+
+        StreamObserver<TrainingCreateDTO> requests = ClientCalls.asyncClientStreamingCall(
+                newCall(GrpcMethods.CREATE_TRAININGS), futureObserver(result));
+        requests.onNext(trainingCreateDTO(TRAINEE_USERNAME));
+        requests.onNext(trainingCreateDTO(TRAINEE_USERNAME));
+        requests.onNext(trainingCreateDTO(null));
+        requests.onCompleted();
+
+        BulkCreateResult summary = result.get(5, TimeUnit.SECONDS);
+        assertEquals(1, summary.getCreated());
+        assertEquals(2, summary.getRejected());
+        verify(trainingService, times(2)).createTraining(any());
+    }
+
+    private <ReqT> MethodDescriptor<ReqT, JsonNode> withTreeResponse(MethodDescriptor<ReqT, ?> method,
+                                                                    String messageType) {
+        return method.toBuilder(method.getRequestMarshaller(), new JacksonProtobufMarshaller<JsonNode>(
+                new ProtobufMapper(), schema.withRootType(messageType),
+                TypeFactory.defaultInstance().constructType(JsonNode.class))).build();
+    }
+
+    private <ReqT, RespT> ClientCall<ReqT, RespT> newCall(MethodDescriptor<ReqT, RespT> method) {
+        return channel.newCall(method, CallOptions.DEFAULT);
+    }
+
+    private static TrainingCreateDTO trainingCreateDTO(String traineeUsername) {
+        return TrainingCreateDTO.builder()
+                .traineeUsername(traineeUsername)
+                .trainerUsername(USERNAME)
+                .trainingTypeName(TrainingTypeName.AEROBIC)
+                .trainingDate(new Date())
+                .trainingDuration(30)
+                .build();
+    }
+
+    private static <T> StreamObserver<T> futureObserver(CompletableFuture<T> future) {
+        return new StreamObserver<>() {
+
+            @Override
+            public void onNext(T value) {
+                future.complete(value);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onCompleted() {
+            }
+        };
+    }
+
+    private static Metadata basicCredentials(String username, String password) {
+        Metadata metadata = new Metadata();
+        metadata.put(BasicAuthServerInterceptor.AUTHORIZATION, "Basic " + Base64.getEncoder()
+                .encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8)));
+        return metadata;
+    }
+}
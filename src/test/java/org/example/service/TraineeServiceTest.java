@@ -5,34 +5,50 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
+import org.example.config.concurrent.BulkheadConfig;
 import org.example.dto.credentials.CredentialsUpdateDTO;
+import org.example.dto.trainee.TraineeDTO;
+import org.example.dto.trainee.TraineeEmbeddedDTO;
 import org.example.dto.trainee.TraineeUpdateDTO;
 import org.example.exception.credentials.IdenticalPasswordException;
 import org.example.exception.credentials.IncorrectPasswordException;
 import org.example.exception.notfound.TraineeNotFoundException;
 import org.example.model.Trainee;
 import org.example.repository.TraineeRepository;
+import org.example.repository.TrainingViewRepository;
+import org.example.utils.analytics.TrainingColumnStore;
+import org.example.utils.cache.TrainingListCache;
 import org.example.utils.credentials.CredentialsGenerator;
 import org.example.utils.dummydata.TraineeDummyDataFactory;
+import org.example.utils.graph.AssignmentGraph;
+import org.example.utils.search.PrefixSearchIndex;
+import org.example.utils.timeseries.TrainingTimeline;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(SpringExtension.class)
-@ContextConfiguration(classes = {TraineeService.class})
+@ContextConfiguration(classes = {TraineeService.class, BulkheadConfig.class, SimpleMeterRegistry.class})
 class TraineeServiceTest {
 
     private static final String USERNAME = "John.Doe";
@@ -45,9 +61,33 @@ class TraineeServiceTest {
     @MockBean
     private TraineeRepository traineeRepository;
 
+    @MockBean
+    private TrainingViewRepository trainingViewRepository;
+
     @MockBean
     private CredentialsGenerator credentialsGenerator;
 
+    @MockBean
+    private PrefixSearchIndex<TraineeEmbeddedDTO> traineeSearchIndex;
+
+    @MockBean
+    private AssignmentGraph assignmentGraph;
+
+    @MockBean
+    private TrainingTimeline trainingTimeline;
+
+    @MockBean
+    private TrainingColumnStore trainingColumnStore;
+
+    @MockBean
+    private TrainingIndexSync trainingIndexSync;
+
+    @MockBean
+    private TrainingListCache trainingListCache;
+
+    @MockBean
+    private PlatformTransactionManager transactionManager;
+
     @Autowired
     private TraineeService traineeService;
 
@@ -88,6 +128,17 @@ class TraineeServiceTest {
         assertEquals(traineeUnderTest, result);
     }
 
+    @Test
+    @DisplayName("Should return TraineeDTO when getTraineeProfile")
+    void shouldReturnTraineeDtoWhenGetTraineeProfile() {
+        when(traineeRepository.findByUserUsername(anyString())).thenReturn(Optional.of(traineeUnderTest));
+
+        TraineeDTO result = traineeService.getTraineeProfile(USERNAME);
+
+        verify(traineeRepository).findByUserUsername(USERNAME);
+        assertEquals(traineeUnderTest.getUsername(), result.getUsername());
+    }
+
     @Test
     @DisplayName("Should throw TraineeNotFoundException for invalid username when getTraineeByUsername")
     void shouldThrowTraineeNotFoundExceptionForInvalidUsernameWhenGetTraineeByUsername() {
@@ -149,9 +200,29 @@ class TraineeServiceTest {
         Trainee result = traineeService.updateTrainee(traineeUpdateDTO);
 
         verify(traineeRepository).save(traineeUnderTest);
+        verify(trainingViewRepository, never()).updateTraineeName(any(), any());
         assertEquals(traineeUnderTest, result);
     }
 
+    @Test
+    @DisplayName("Should rename the trainee in the training view when updateTrainee changes the name")
+    void shouldRenameTraineeInTrainingViewWhenUpdateTraineeChangesName() {
+        when(traineeRepository.findByUserUsername(anyString())).thenReturn(Optional.of(traineeUnderTest));
+        when(traineeRepository.save(traineeUnderTest)).thenReturn(traineeUnderTest);
+        TraineeUpdateDTO traineeUpdateDTO = TraineeUpdateDTO.builder()
+                .username(traineeUnderTest.getUsername())
+                .firstName("Renamed")
+                .lastName("Trainee")
+                .dateOfBirth(traineeUnderTest.getDateOfBirth())
+                .address(traineeUnderTest.getAddress())
+                .isActive(traineeUnderTest.getUser().isActive())
+                .build();
+
+        traineeService.updateTrainee(traineeUpdateDTO);
+
+        verify(trainingViewRepository).updateTraineeName(traineeUnderTest.getUsername(), "Renamed Trainee");
+    }
+
     @Test
     @DisplayName("Should return true when toggleTraineeActivation")
     void shouldReturnTrueWhenToggleTraineeActivation() {
@@ -184,6 +255,8 @@ class TraineeServiceTest {
         boolean result = traineeService.deleteTrainee(username);
 
         verify(traineeRepository).deleteByUserUsername(username);
+        verify(trainingViewRepository).deleteByTraineeUsername(username);
+        verify(trainingTimeline).removeTrainee(username);
         assertTrue(result);
     }
 
@@ -193,12 +266,41 @@ class TraineeServiceTest {
         List<Trainee> expectedTrainees = Collections.singletonList(new Trainee());
         when(traineeRepository.findAll()).thenReturn(expectedTrainees);
 
-        List<Trainee> result = traineeService.getAllTrainees();
+        List<Trainee> result = traineeService.getAllTrainees().join();
 
         verify(traineeRepository).findAll();
         assertEquals(expectedTrainees, result);
     }
 
+    @Test
+    @DisplayName("Should return matching Trainees capped at max results when searchTrainees")
+    void shouldReturnMatchingTraineesWhenSearchTrainees() {
+        List<TraineeEmbeddedDTO> expectedTrainees = Collections.singletonList(
+                TraineeEmbeddedDTO.builder().username(USERNAME).build());
+        when(traineeSearchIndex.search("jo", 100)).thenReturn(expectedTrainees);
+
+        List<TraineeEmbeddedDTO> result = traineeService.searchTrainees("jo", 1000);
+
+        verify(traineeSearchIndex).search("jo", 100);
+        assertEquals(expectedTrainees, result);
+    }
+
+    @Test
+    @DisplayName("Should index all Trainees when buildSearchIndex")
+    @SuppressWarnings("unchecked")
+    void shouldIndexAllTraineesWhenBuildSearchIndex() {
+        when(traineeRepository.findAllWithUser()).thenReturn(List.of(traineeUnderTest));
+
+        traineeService.buildSearchIndex();
+
+        ArgumentCaptor<Supplier<? extends Collection<PrefixSearchIndex.Entry<TraineeEmbeddedDTO>>>> snapshot =
+                ArgumentCaptor.forClass(Supplier.class);
+        verify(traineeSearchIndex, atLeastOnce()).load(snapshot.capture());
+        assertEquals(List.of(traineeUnderTest.getUsername()), snapshot.getValue().get().stream()
+                .map(PrefixSearchIndex.Entry::id)
+                .toList());
+    }
+
     private CredentialsUpdateDTO createCredentialsUpdateDTO(String oldPassword,
                                                             String newPassword) {
         return CredentialsUpdateDTO.builder()
@@ -9,24 +9,37 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import org.example.config.concurrent.BulkheadConfig;
 import org.example.dto.credentials.CredentialsUpdateDTO;
+import org.example.dto.trainer.TrainerEmbeddedDTO;
+import org.example.dto.trainer.TrainerListDTO;
 import org.example.dto.trainer.TrainerUpdateDTO;
 import org.example.enums.TrainingTypeName;
 import org.example.exception.credentials.IdenticalPasswordException;
 import org.example.exception.credentials.IncorrectPasswordException;
 import org.example.exception.notfound.TrainerNotFoundException;
 import org.example.exception.notfound.TrainingTypeNotFoundException;
+import org.example.model.Trainee;
 import org.example.model.Trainer;
 import org.example.model.TrainingType;
 import org.example.repository.TraineeRepository;
 import org.example.repository.TrainerRepository;
 import org.example.repository.TrainingTypeRepository;
+import org.example.repository.TrainingViewRepository;
+import org.example.utils.analytics.TrainingColumnStore;
+import org.example.utils.cache.TrainingListCache;
 import org.example.utils.credentials.CredentialsGenerator;
+import org.example.utils.dummydata.TraineeDummyDataFactory;
 import org.example.utils.dummydata.TrainerDummyDataFactory;
+import org.example.utils.graph.AssignmentGraph;
+import org.example.utils.search.PrefixSearchIndex;
+import org.example.utils.timeseries.TrainingTimeline;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -35,9 +48,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(SpringExtension.class)
-@ContextConfiguration(classes = {TrainerService.class})
+@ContextConfiguration(classes = {TrainerService.class, BulkheadConfig.class, SimpleMeterRegistry.class})
 class TrainerServiceTest {
 
     public static final String USERNAME = "Joe.Johnson";
@@ -50,6 +67,9 @@ class TrainerServiceTest {
     @MockBean
     private TrainerRepository trainerRepository;
 
+    @MockBean
+    private TrainingViewRepository trainingViewRepository;
+
     @MockBean
     private TraineeRepository traineeRepository;
 
@@ -59,6 +79,27 @@ class TrainerServiceTest {
     @MockBean
     private CredentialsGenerator credentialsGenerator;
 
+    @MockBean
+    private PrefixSearchIndex<TrainerEmbeddedDTO> trainerSearchIndex;
+
+    @MockBean
+    private AssignmentGraph assignmentGraph;
+
+    @MockBean
+    private TrainingTimeline trainingTimeline;
+
+    @MockBean
+    private TrainingColumnStore trainingColumnStore;
+
+    @MockBean
+    private TrainingIndexSync trainingIndexSync;
+
+    @MockBean
+    private TrainingListCache trainingListCache;
+
+    @MockBean
+    private PlatformTransactionManager transactionManager;
+
     @Autowired
     private TrainerService trainerService;
 
@@ -169,6 +210,28 @@ class TrainerServiceTest {
         trainerService.updateTrainer(trainerUpdateDTO);
 
         verify(trainerRepository).save(trainerUnderTest);
+        verify(trainingViewRepository, never()).updateTrainerName(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should rename the trainer in the training view when updateTrainer changes the name")
+    void shouldRenameTrainerInTrainingViewWhenUpdateTrainerChangesName() {
+        when(trainerRepository.findByUserUsername(any())).thenReturn(Optional.of(trainerUnderTest));
+        when(trainingTypeRepository.findByTrainingTypeName(any()))
+                .thenReturn(Optional.of(trainerUnderTest.getSpecialization()));
+        when(trainerRepository.save(trainerUnderTest)).thenReturn(trainerUnderTest);
+        TrainerUpdateDTO trainerUpdateDTO = TrainerUpdateDTO.builder()
+                .username(trainerUnderTest.getUsername())
+                .firstName("Renamed")
+                .lastName("Trainer")
+                .specialization(trainerUnderTest.getSpecialization().getTrainingTypeName())
+                .isActive(trainerUnderTest.getUser().isActive())
+                .build();
+
+        trainerService.updateTrainer(trainerUpdateDTO);
+
+        verify(trainingViewRepository).updateTrainerName(trainerUnderTest.getUsername(), "Renamed Trainer");
+        verify(trainingListCache).evictAll();
     }
 
     @Test
@@ -216,6 +279,8 @@ class TrainerServiceTest {
         boolean result = trainerService.deleteTrainer(username);
 
         verify(trainerRepository).deleteByUserUsername(username);
+        verify(trainingViewRepository).deleteByTrainerUsername(username);
+        verify(trainingTimeline).removeTrainer(username);
         assertTrue(result);
     }
 
@@ -224,11 +289,11 @@ class TrainerServiceTest {
     void shouldReturnTrainerListWhenGetNotAssignedTrainerList() {
         String traineeUsername = trainerUnderTest.getUsername();
         List<Trainer> expectedTrainers = Collections.singletonList(new Trainer());
-        when(trainerRepository.findByTraineeListUserUsernameAndUserIsActiveIsTrueOrTraineeListIsNull(traineeUsername)).thenReturn(expectedTrainers);
+        when(trainerRepository.findActiveTrainersNotAssignedToTrainee(traineeUsername)).thenReturn(expectedTrainers);
 
         List<Trainer> result = trainerService.getNotAssignedTrainerList(traineeUsername);
 
-        verify(trainerRepository).findByTraineeListUserUsernameAndUserIsActiveIsTrueOrTraineeListIsNull(traineeUsername);
+        verify(trainerRepository).findActiveTrainersNotAssignedToTrainee(traineeUsername);
         assertEquals(expectedTrainers, result);
     }
 
@@ -238,12 +303,75 @@ class TrainerServiceTest {
         List<Trainer> expectedTrainers = Collections.singletonList(new Trainer());
         when(trainerRepository.findAll()).thenReturn(expectedTrainers);
 
-        List<Trainer> result = trainerService.getAllTrainers();
+        List<Trainer> result = trainerService.getAllTrainers().join();
 
         verify(trainerRepository).findAll();
         assertEquals(expectedTrainers, result);
     }
 
+    @Test
+    @DisplayName("Should return matching trainers when searchTrainers")
+    void shouldReturnMatchingTrainersWhenSearchTrainers() {
+        List<TrainerEmbeddedDTO> expectedTrainers = Collections.singletonList(
+                TrainerEmbeddedDTO.builder().username(USERNAME).build());
+        when(trainerSearchIndex.search("joe", 10)).thenReturn(expectedTrainers);
+
+        List<TrainerEmbeddedDTO> result = trainerService.searchTrainers("joe", 10);
+
+        verify(trainerSearchIndex).search("joe", 10);
+        assertEquals(expectedTrainers, result);
+    }
+
+    @Test
+    @DisplayName("Should re-index trainer when updateTrainer")
+    void shouldReindexTrainerWhenUpdateTrainer() {
+        TrainingType trainingType = TrainingType.builder()
+                .id(1L)
+                .trainingTypeName(TrainingTypeName.AEROBIC)
+                .build();
+
+        when(trainerRepository.findByUserUsername(any())).thenReturn(Optional.of(trainerUnderTest));
+        when(trainingTypeRepository.findByTrainingTypeName(any())).thenReturn(Optional.of(trainingType));
+        when(trainerRepository.save(trainerUnderTest)).thenReturn(trainerUnderTest);
+
+        trainerService.updateTrainer(createTrainerUpdateDTO());
+
+        verify(trainerSearchIndex).put(any(), any(), any(String[].class));
+    }
+
+    @Test
+    @DisplayName("Should add only trainers not yet assigned when updateTraineeTrainerList")
+    void shouldSkipAssignedTrainersWhenUpdateTraineeTrainerList() {
+        Trainee trainee = TraineeDummyDataFactory.getSimpleTraineeWithUser();
+        trainee.setTrainerList(new ArrayList<>());
+        Trainer assignedTrainer = Trainer.builder().id(1L).user(trainerUnderTest.getUser()).build();
+        Trainer newTrainer = Trainer.builder().id(2L).user(trainerUnderTest.getUser()).build();
+        TrainerListDTO trainerListDTO = new TrainerListDTO();
+        ReflectionTestUtils.setField(trainerListDTO, "trainerUsernameList", List.of(USERNAME));
+
+        when(traineeRepository.findByUserUsername(any())).thenReturn(Optional.of(trainee));
+        when(trainerRepository.findAllByUsernameIn(any())).thenReturn(List.of(assignedTrainer, newTrainer));
+        when(traineeRepository.findTrainerIdsByTraineeId(trainee.getId())).thenReturn(List.of(assignedTrainer.getId()));
+        when(traineeRepository.save(trainee)).thenReturn(trainee);
+
+        List<Trainer> result = trainerService.updateTraineeTrainerList(trainee.getUsername(), trainerListDTO);
+
+        assertEquals(List.of(newTrainer), result);
+        verify(assignmentGraph).link(trainee.getId(), newTrainer.getId());
+    }
+
+    @Test
+    @DisplayName("Should group trainers by trainee id when getTrainersByTraineeIds")
+    void shouldGroupTrainersByTraineeIdWhenGetTrainersByTraineeIds() {
+        Trainer trainer = TrainerDummyDataFactory.getSimpleTrainerWithUser();
+        when(trainerRepository.findAllByTraineeIdIn(List.of(1L, 2L)))
+                .thenReturn(List.of(new Object[]{1L, trainerUnderTest}, new Object[]{1L, trainer}));
+
+        Map<Long, List<Trainer>> result = trainerService.getTrainersByTraineeIds(List.of(1L, 2L));
+
+        assertEquals(Map.of(1L, List.of(trainerUnderTest, trainer)), result);
+    }
+
     private CredentialsUpdateDTO createCredentialsUpdateDTO(String oldPassword,
                                                             String newPassword) {
         return CredentialsUpdateDTO.builder()
@@ -0,0 +1,66 @@
+package org.example.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Date;
+import java.util.List;
+
+import org.example.dto.analytics.TrainerDurationAverageDTO;
+import org.example.exception.date.IllegalDateArgumentException;
+import org.example.repository.TrainerRepository;
+import org.example.utils.analytics.TrainingColumnStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = {TrainingAnalyticsService.class})
+class TrainingAnalyticsServiceTest {
+
+    private static final long TRAINER_ID = 7;
+    private static final String TRAINER_USERNAME = "Joe.Johnson";
+
+    @MockBean
+    private TrainingColumnStore trainingColumnStore;
+
+    @MockBean
+    private TrainerRepository trainerRepository;
+
+    @Autowired
+    private TrainingAnalyticsService trainingAnalyticsService;
+
+    @Test
+    @DisplayName("Should name trainers in the trainer averages")
+    void shouldResolveTrainerUsernamesInAverages() {
+        when(trainingColumnStore.durationByTrainer(null, null, null))
+                .thenReturn(List.of(new TrainingColumnStore.TrainerDuration(TRAINER_ID, 4, 90)));
+        when(trainerRepository.findUsernamesByIdIn(List.of(TRAINER_ID)))
+                .thenReturn(List.<Object[]>of(new Object[]{TRAINER_ID, TRAINER_USERNAME}));
+
+        List<TrainerDurationAverageDTO> averages = trainingAnalyticsService.getTrainerAverages(null, null, null);
+
+        assertEquals(1, averages.size());
+        assertEquals(TRAINER_USERNAME, averages.get(0).getTrainerUsername());
+        assertEquals(22.5, averages.get(0).getAverageDuration());
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalDateArgumentException when period to is before period from")
+    void shouldRejectReversedPeriod() {
+        Date periodFrom = new Date();
+        Date periodTo = new Date(periodFrom.getTime() - 1);
+
+        assertThrows(IllegalDateArgumentException.class,
+                () -> trainingAnalyticsService.getDurationByMonth(periodFrom, periodTo));
+
+        verify(trainingColumnStore, never()).durationByMonthAndType(periodFrom, periodTo);
+    }
+}
@@ -0,0 +1,152 @@
+package org.example.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.example.dto.training.TrainingCreateDTO;
+import org.example.dto.training.TrainingPurgeReportDTO;
+import org.example.enums.TrainingTypeName;
+import org.example.model.Trainee;
+import org.example.model.Trainer;
+import org.example.model.TrainingType;
+import org.example.repository.TraineeRepository;
+import org.example.repository.TrainingTypeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = "bulk.chunk-size=2")
+class TrainingBulkServiceTest {
+
+    private static final TrainingTypeName TRAINING_TYPE = TrainingTypeName.AEROBIC;
+    private static final int TRAINING_DURATION = 45;
+
+    @Autowired
+    private TrainingBulkService trainingBulkService;
+
+    @Autowired
+    private TrainingService trainingService;
+
+    @Autowired
+    private TrainingImportService trainingImportService;
+
+    @Autowired
+    private TraineeService traineeService;
+
+    @Autowired
+    private TrainerService trainerService;
+
+    @Autowired
+    private TraineeRepository traineeRepository;
+
+    @Autowired
+    private TrainingTypeRepository trainingTypeRepository;
+
+    private Trainee trainee;
+
+    private Trainer trainer;
+
+    @BeforeEach
+    void setUp() {
+        if (trainingTypeRepository.findByTrainingTypeName(TRAINING_TYPE).isEmpty()) {
+            trainingTypeRepository.save(TrainingType.builder().trainingTypeName(TRAINING_TYPE).build());
+        }
+        trainee = traineeService.createTrainee("Bulk", "Trainee", null, null);
+        trainer = trainerService.createTrainer("Bulk", "Trainer", TRAINING_TYPE);
+    }
+
+    @Test
+    @DisplayName("Should export trainings as CSV in the import format across several chunks")
+    void shouldExportTrainingsAsCsv() throws Exception {
+        List<LocalDate> trainingDates = List.of(
+                LocalDate.of(2024, 1, 10), LocalDate.of(2024, 1, 11), LocalDate.of(2024, 1, 12));
+        trainingDates.forEach(this::createTraining);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long rowsExported = trainingBulkService.exportTrainings(output);
+
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(String.join(",", TrainingImportService.HEADER), lines.get(0));
+        assertEquals(lines.size() - 1, rowsExported);
+        List<String> exported = lines.stream()
+                .filter(line -> line.startsWith(trainee.getUsername() + ","))
+                .toList();
+        assertEquals(trainingDates.stream()
+                .map(date -> String.join(",", trainee.getUsername(), trainer.getUsername(), TRAINING_TYPE.name(),
+                        date.toString(), String.valueOf(TRAINING_DURATION)))
+                .toList(), exported);
+    }
+
+    @Test
+    @DisplayName("Should export imported trainings exactly as they were imported")
+    void shouldRoundTripImportedTrainings() throws Exception {
+        String rows = String.join(",", trainee.getUsername(), trainer.getUsername(), TRAINING_TYPE.name(),
+                "2023-05-01", String.valueOf(TRAINING_DURATION)) + "\n"
+                + String.join(",", trainee.getUsername(), trainer.getUsername(), TRAINING_TYPE.name(),
+                "2023-05-02", String.valueOf(TRAINING_DURATION)) + "\n";
+        trainingImportService.importTrainings(new ByteArrayInputStream(rows.getBytes(StandardCharsets.UTF_8)));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        trainingBulkService.exportTrainings(output);
+
+        assertEquals(rows, output.toString(StandardCharsets.UTF_8).lines()
+                .filter(line -> line.startsWith(trainee.getUsername() + ","))
+                .map(line -> line + "\n")
+                .collect(Collectors.joining()));
+        assertEquals(2, trainingService.getTraineeTrainingDtoList(trainee.getUsername(), null, null, null, null)
+                .size());
+    }
+
+    @Test
+    @DisplayName("Should assign trainee and trainer only once whether their trainings are created or imported")
+    void shouldAssignPairOnce() throws Exception {
+        createTraining(LocalDate.of(2023, 6, 1));
+        String row = String.join(",", trainee.getUsername(), trainer.getUsername(), TRAINING_TYPE.name(),
+                "2023-06-02", String.valueOf(TRAINING_DURATION)) + "\n";
+
+        trainingImportService.importTrainings(new ByteArrayInputStream(row.getBytes(StandardCharsets.UTF_8)));
+        createTraining(LocalDate.of(2023, 6, 3));
+
+        assertEquals(List.of(trainer.getId()), traineeRepository.findTrainerIdsByTraineeId(trainee.getId()));
+    }
+
+    @Test
+    @DisplayName("Should delete only trainings dated before the cut-off, in chunks")
+    void shouldPurgeTrainingsBeforeCutOff() {
+        createTraining(LocalDate.of(1990, 1, 1));
+        createTraining(LocalDate.of(1990, 1, 2));
+        createTraining(LocalDate.of(1990, 1, 3));
+        createTraining(LocalDate.of(1991, 1, 1));
+
+        TrainingPurgeReportDTO report = trainingBulkService.purgeTrainings(toDate(LocalDate.of(1991, 1, 1)));
+
+        assertEquals(3, report.getRowsDeleted());
+        assertEquals(1, trainingService.getTraineeTrainingList(trainee.getUsername(), null, null, null, null).size());
+        assertEquals(1, trainingService.getTraineeTrainingDtoList(trainee.getUsername(), null, null, null, null)
+                .size());
+    }
+
+    private void createTraining(LocalDate trainingDate) {
+        trainingService.createTraining(TrainingCreateDTO.builder()
+                .traineeUsername(trainee.getUsername())
+                .trainerUsername(trainer.getUsername())
+                .trainingTypeName(TRAINING_TYPE)
+                .trainingDate(toDate(trainingDate))
+                .trainingDuration(TRAINING_DURATION)
+                .build());
+    }
+
+    private static Date toDate(LocalDate date) {
+        return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+}
@@ -0,0 +1,168 @@
+package org.example.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.example.config.cache.CacheConfig;
+import org.example.dto.training.TrainingImportReportDTO;
+import org.example.enums.TrainingTypeName;
+import org.example.model.TrainingType;
+import org.example.repository.TraineeRepository;
+import org.example.repository.TrainerRepository;
+import org.example.repository.TrainingRepository;
+import org.example.repository.TrainingTypeRepository;
+import org.example.repository.TrainingViewRepository;
+import org.example.utils.analytics.TrainingColumnStore;
+import org.example.utils.cache.TrainingListCache;
+import org.example.utils.graph.AssignmentGraph;
+import org.example.utils.timeseries.TrainingTimeline;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = {TrainingImportService.class, SimpleMeterRegistry.class})
+@TestPropertySource(properties = "training-import.batch-size=2")
+class TrainingImportServiceTest {
+
+    private static final String HEADER =
+            "traineeUsername,trainerUsername,trainingTypeName,trainingDate,trainingDuration\n";
+    private static final String INSERT_TRAINING = "INSERT INTO training";
+    private static final String INSERT_ASSIGNMENT = "INSERT INTO trainers_trainees";
+
+    @MockBean
+    private TraineeRepository traineeRepository;
+
+    @MockBean
+    private TrainingRepository trainingRepository;
+
+    @MockBean
+    private TrainingViewRepository trainingViewRepository;
+
+    @MockBean
+    private TrainerRepository trainerRepository;
+
+    @MockBean
+    private TrainingTypeRepository trainingTypeRepository;
+
+    @MockBean
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private AssignmentGraph assignmentGraph;
+
+    @MockBean
+    private TrainingTimeline trainingTimeline;
+
+    @MockBean
+    private TrainingColumnStore trainingColumnStore;
+
+    @MockBean
+    private TrainingIndexSync trainingIndexSync;
+
+    @MockBean
+    private TrainingListCache trainingListCache;
+
+    @MockBean
+    private CacheManager cacheManager;
+
+    @MockBean
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private Cache unassignedTrainersCache;
+
+    @Autowired
+    private TrainingImportService trainingImportService;
+
+    @BeforeEach
+    void setUp() {
+        when(trainingTypeRepository.findAll()).thenReturn(List.of(TrainingType.builder()
+                .id(3)
+                .trainingTypeName(TrainingTypeName.PILATES)
+                .build()));
+        when(traineeRepository.findIdsByUsernameIn(anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[]{"John.Doe", 1L}));
+        when(trainerRepository.findIdsByUsernameIn(anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[]{"Joe.Johnson", 2L}));
+        when(cacheManager.getCache(CacheConfig.UNASSIGNED_TRAINERS)).thenReturn(unassignedTrainersCache);
+    }
+
+    @Test
+    @DisplayName("Should insert valid rows in batches and report invalid ones by line")
+    @SuppressWarnings("unchecked")
+    void shouldImportValidRowsAndReportErrors() throws IOException {
+        String csv = HEADER
+                + "John.Doe,Joe.Johnson,PILATES,2024-01-10,60\n"
+                + "John.Doe,Joe.Johnson,PILATES,2024-01-11,45\n"
+                + "Unknown.User,Joe.Johnson,PILATES,2024-01-12,30\n"
+                + "John.Doe,Joe.Johnson,PILATES,not-a-date,30\n"
+                + "John.Doe,Joe.Johnson,PILATES,2024-01-13,30\n";
+
+        TrainingImportReportDTO report = trainingImportService.importTrainings(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(5, report.getRowsRead());
+        assertEquals(3, report.getRowsImported());
+        assertEquals(2, report.getRowsFailed());
+        assertEquals(List.of(5L, 4L), report.getErrors().stream().map(error -> error.getLine()).toList());
+        assertFalse(report.isErrorsTruncated());
+
+        ArgumentCaptor<Collection<?>> rows = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(
+                startsWith(INSERT_TRAINING), rows.capture(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(List.of(2, 1), rows.getAllValues().stream().map(Collection::size).toList());
+        verify(traineeRepository, times(2)).findIdsByUsernameIn(anyCollection());
+        verify(trainerRepository, times(1)).findIdsByUsernameIn(anyCollection());
+        verify(trainingIndexSync, times(1)).trainingsReplaced();
+        verify(trainingListCache, times(2)).evictLocally(Set.of("John.Doe"), Set.of("Joe.Johnson"));
+    }
+
+    @Test
+    @DisplayName("Should assign trainee and trainer on their first imported training")
+    @SuppressWarnings("unchecked")
+    void shouldAssignNewPairsOnce() throws IOException {
+        String csv = "John.Doe,Joe.Johnson,PILATES,2024-01-10,60\n"
+                + "John.Doe,Joe.Johnson,PILATES,2024-01-11,45\n";
+
+        trainingImportService.importTrainings(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        ArgumentCaptor<Collection<?>> assignments = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate).batchUpdate(
+                startsWith(INSERT_ASSIGNMENT), assignments.capture(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(1, assignments.getValue().size());
+        verify(assignmentGraph).link(1L, 2L);
+        verify(unassignedTrainersCache).evict(eq("John.Doe"));
+    }
+}
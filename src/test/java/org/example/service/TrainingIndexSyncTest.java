@@ -0,0 +1,214 @@
+package org.example.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.example.config.cache.TrainingListCacheProperties;
+import org.example.dto.training.TrainingDTO;
+import org.example.repository.TraineeRepository;
+import org.example.repository.TrainingRepository;
+import org.example.utils.analytics.TrainingColumnStore;
+import org.example.utils.analytics.TrainingFacts;
+import org.example.utils.cache.CacheInvalidationBus;
+import org.example.utils.cache.TrainingListCache;
+import org.example.utils.graph.AssignmentGraph;
+import org.example.utils.timeseries.TimelineEntry;
+import org.example.utils.timeseries.TrainingTimeline;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TrainingIndexSyncTest {
+
+    private static final String SECRET = "cluster-secret";
+    private static final long TRAINING_ID = 7;
+    private static final long TRAINEE_ID = 1;
+    private static final long TRAINER_ID = 2;
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    private final List<CacheInvalidationBus> buses = new ArrayList<>();
+
+    private final List<TrainingIndexSync> syncs = new ArrayList<>();
+
+    private final List<TrainingColumnStore> columnStores = new ArrayList<>();
+
+    private TrainingRepository peerRepository;
+
+    private TraineeRepository peerTraineeRepository;
+
+    private TrainingTimeline peerTimeline;
+
+    private TrainingColumnStore peerColumns;
+
+    private AssignmentGraph peerGraph;
+
+    private TrainingListCache peerLists;
+
+    private TrainingIndexSync writer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        int writerPort = freePort();
+        int peerPort = freePort();
+        writer = sync(mock(TrainingRepository.class), mock(TraineeRepository.class), new TrainingTimeline(),
+                columns(), new AssignmentGraph(), lists(), bus(writerPort, peerPort));
+        peerRepository = mock(TrainingRepository.class);
+        when(peerRepository.findTimelineEntriesAfter(0)).thenReturn(List.of(entry("alice")));
+        when(peerRepository.findTrainingFactsAfter(0)).thenReturn(List.of(facts(30)));
+        peerTraineeRepository = mock(TraineeRepository.class);
+        when(peerTraineeRepository.findAllTrainerAssignments())
+                .thenReturn(List.<Object[]>of(new Object[]{TRAINEE_ID, TRAINER_ID}));
+        peerTimeline = new TrainingTimeline();
+        peerColumns = columns();
+        peerGraph = new AssignmentGraph();
+        peerLists = lists();
+        sync(peerRepository, peerTraineeRepository, peerTimeline, peerColumns, peerGraph, peerLists,
+                bus(peerPort, writerPort)).afterSingletonsInstantiated();
+    }
+
+    @AfterEach
+    void tearDown() {
+        syncs.forEach(TrainingIndexSync::destroy);
+        buses.forEach(CacheInvalidationBus::stop);
+        columnStores.forEach(TrainingColumnStore::close);
+    }
+
+    @Test
+    @DisplayName("Should reload a training written on a peer into both indexes and drop the lists it was and is in")
+    void shouldReloadChangedTraining() throws Exception {
+        TrainingListCache.Query query = TrainingListCache.Query.of("alice", null, null, null, null);
+        AtomicInteger loads = new AtomicInteger();
+        peerLists.getTraineeTrainings(query, generation -> List.of(training(loads.incrementAndGet())));
+        when(peerRepository.findTimelineEntriesByIdIn(anyCollection())).thenReturn(List.of(entry("bob")));
+        when(peerRepository.findTrainingFactsByIdIn(anyCollection())).thenReturn(List.of(facts(45)));
+
+        writer.trainingsChanged(TRAINING_ID);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(TIMEOUT_MILLIS);
+        while (loads.get() == 1 && System.nanoTime() < deadline) {
+            peerLists.getTraineeTrainings(query, generation -> List.of(training(loads.incrementAndGet())));
+            Thread.sleep(10);
+        }
+        assertEquals(2, loads.get());
+        assertEquals(0, peerTimeline.traineeTrainingIds("alice", null, null).length);
+        assertEquals(1, peerTimeline.traineeTrainingIds("bob", null, null).length);
+        verify(peerRepository, timeout(TIMEOUT_MILLIS)).findTrainingFactsByIdIn(anyCollection());
+        while (totalDuration(peerColumns) != 45 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(45, totalDuration(peerColumns));
+    }
+
+    @Test
+    @DisplayName("Should reload the trainers of a trainee whose assignments changed on a peer")
+    void shouldReloadChangedAssignments() throws Exception {
+        assertTrue(peerGraph.isAssigned(TRAINEE_ID, TRAINER_ID));
+        when(peerTraineeRepository.findTrainerIdsByTraineeId(TRAINEE_ID)).thenReturn(List.of(TRAINER_ID + 1));
+
+        writer.assignmentsChanged(TRAINEE_ID);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(TIMEOUT_MILLIS);
+        while (!peerGraph.isAssigned(TRAINEE_ID, TRAINER_ID + 1) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertArrayEquals(new long[]{TRAINER_ID + 1}, peerGraph.trainerIdsOf(TRAINEE_ID));
+    }
+
+    @Test
+    @DisplayName("Should rebuild from the database when a peer replaced trainings")
+    void shouldRebuildReplacedTrainings() {
+        assertEquals(1, peerColumns.size());
+        when(peerRepository.findTimelineEntriesAfter(0)).thenReturn(List.of());
+        when(peerRepository.findTrainingFactsAfter(0)).thenReturn(List.of());
+
+        writer.trainingsReplaced();
+
+        verify(peerTraineeRepository, timeout(TIMEOUT_MILLIS).times(2)).findAllTrainerAssignments();
+        verify(peerRepository, times(2)).findTrainingFactsAfter(0);
+        verify(peerRepository, times(2)).findTimelineEntriesAfter(0);
+        verify(peerRepository, times(0)).findTimelineEntriesByIdIn(anyCollection());
+        verify(peerRepository, times(0)).findTrainingFactsByIdIn(anyCollection());
+    }
+
+    private TrainingIndexSync sync(TrainingRepository repository, TraineeRepository traineeRepository,
+                                   TrainingTimeline timeline, TrainingColumnStore columns, AssignmentGraph graph,
+                                   TrainingListCache lists, CacheInvalidationBus bus) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("cacheInvalidationBus", bus));
+        TrainingIndexSync sync = new TrainingIndexSync(repository, traineeRepository, timeline, columns, graph, lists,
+                mock(PlatformTransactionManager.class), beanFactory.getBeanProvider(CacheInvalidationBus.class));
+        syncs.add(sync);
+        return sync;
+    }
+
+    private TrainingColumnStore columns() {
+        TrainingColumnStore columns = new TrainingColumnStore(1, ZoneOffset.UTC);
+        columnStores.add(columns);
+        return columns;
+    }
+
+    private static long totalDuration(TrainingColumnStore columns) {
+        return columns.durationByTrainer(null, null, null).stream()
+                .mapToLong(TrainingColumnStore.TrainerDuration::totalDuration)
+                .sum();
+    }
+
+    private static TrainingListCache lists() {
+        return new TrainingListCache(new SimpleMeterRegistry(), new TrainingListCacheProperties(),
+                new StaticListableBeanFactory().getBeanProvider(CacheInvalidationBus.class));
+    }
+
+    private CacheInvalidationBus bus(int port, int peerPort) {
+        CacheInvalidationBus bus = new CacheInvalidationBus(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), port),
+                List.of(new InetSocketAddress(InetAddress.getLoopbackAddress(), peerPort)),
+                SECRET.getBytes(StandardCharsets.UTF_8), new SimpleMeterRegistry());
+        bus.start();
+        buses.add(bus);
+        return bus;
+    }
+
+    private static TimelineEntry entry(String traineeUsername) {
+        return new TimelineEntry(TRAINING_ID, traineeUsername, "tom", new Date(10));
+    }
+
+    private static TrainingFacts facts(int duration) {
+        return new TrainingFacts(TRAINING_ID, TRAINEE_ID, TRAINER_ID, null, new Date(10), duration);
+    }
+
+    private static TrainingDTO training(int duration) {
+        return TrainingDTO.builder()
+                .trainingDuration(duration)
+                .build();
+    }
+
+    private static int freePort() throws IOException {
+        try (DatagramSocket socket = new DatagramSocket(0, InetAddress.getLoopbackAddress())) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -1,29 +1,53 @@
 package org.example.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.example.config.cache.TrainingListCacheProperties;
+import org.example.config.concurrent.BulkheadConfig;
 import org.example.dto.training.TrainingCreateDTO;
+import org.example.dto.training.TrainingDTO;
+import org.example.exception.date.IllegalDateArgumentException;
 import org.example.exception.notfound.TraineeNotFoundException;
 import org.example.exception.notfound.TrainerNotFoundException;
 import org.example.exception.notfound.TrainingTypeNotFoundException;
 import org.example.model.Training;
+import org.example.model.TrainingView;
 import org.example.repository.TraineeRepository;
 import org.example.repository.TrainerRepository;
 import org.example.repository.TrainingRepository;
 import org.example.repository.TrainingTypeRepository;
+import org.example.repository.TrainingViewRepository;
+import org.example.utils.analytics.TrainingColumnStore;
+import org.example.utils.analytics.TrainingFacts;
+import org.example.utils.cache.TrainingListCache;
+import org.example.utils.converter.TrainingViewConverter;
 import org.example.utils.dummydata.TrainingDummyDataFactory;
+import org.example.utils.graph.AssignmentGraph;
+import org.example.utils.timeseries.TimelineEntry;
+import org.example.utils.timeseries.TrainingTimeline;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -31,16 +55,26 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(SpringExtension.class)
-@ContextConfiguration(classes = {TrainingService.class})
+@ContextConfiguration(classes = {TrainingService.class, BulkheadConfig.class, TrainingListCache.class,
+        TrainingListCacheProperties.class, SimpleMeterRegistry.class})
 class TrainingServiceTest {
 
+    private static final long TIMEOUT_SECONDS = 10;
+
     @MockBean
     private TrainingRepository trainingRepository;
 
+    @MockBean
+    private TrainingViewRepository trainingViewRepository;
+
     @MockBean
     private TrainingTypeRepository trainingTypeRepository;
 
@@ -50,14 +84,36 @@ class TrainingServiceTest {
     @MockBean
     private TrainerRepository trainerRepository;
 
+    @MockBean
+    private AssignmentGraph assignmentGraph;
+
+    @MockBean
+    private TrainingTimeline trainingTimeline;
+
+    @MockBean
+    private TrainingColumnStore trainingColumnStore;
+
+    @MockBean
+    private TrainingIndexSync trainingIndexSync;
+
+    @MockBean
+    private PlatformTransactionManager transactionManager;
+
     @Autowired
     private TrainingService trainingService;
 
+    @Autowired
+    private TrainingListCache trainingListCache;
+
     private Training trainingUnderTest;
 
     @BeforeEach
     void setUp() {
         trainingUnderTest = TrainingDummyDataFactory.getTrainingUnderTest();
+        trainingListCache.evictAll();
+        long[] trainingIds = {trainingUnderTest.getId()};
+        when(trainingTimeline.traineeTrainingIds(anyString(), any(), any())).thenReturn(trainingIds);
+        when(trainingTimeline.trainerTrainingIds(anyString(), any(), any())).thenReturn(trainingIds);
     }
 
     @Test
@@ -74,11 +130,42 @@ class TrainingServiceTest {
 
         ArgumentCaptor<Training> trainingCaptor = ArgumentCaptor.forClass(Training.class);
         verify(trainingRepository).save(trainingCaptor.capture());
+        ArgumentCaptor<TrainingView> viewCaptor = ArgumentCaptor.forClass(TrainingView.class);
+        verify(trainingViewRepository).save(viewCaptor.capture());
         assertTrue(result);
+        assertEquals(trainingUnderTest.getId(), viewCaptor.getValue().getId());
+        assertEquals(trainingUnderTest.getTrainer().getUser().getFirstName() + " "
+                + trainingUnderTest.getTrainer().getUser().getLastName(), viewCaptor.getValue().getTrainerName());
         assertEquals(trainingUnderTest.getTrainingDuration(), trainingCaptor.getValue().getTrainingDuration());
+        ArgumentCaptor<TimelineEntry> timelineCaptor = ArgumentCaptor.forClass(TimelineEntry.class);
+        verify(trainingTimeline).put(timelineCaptor.capture());
+        assertEquals(trainingUnderTest.getId(), timelineCaptor.getValue().trainingId());
+        assertEquals(trainingUnderTest.getTrainee().getUsername(), timelineCaptor.getValue().traineeUsername());
+        ArgumentCaptor<TrainingFacts> factsCaptor = ArgumentCaptor.forClass(TrainingFacts.class);
+        verify(trainingColumnStore).put(factsCaptor.capture());
+        assertEquals(trainingUnderTest.getTrainer().getId(), factsCaptor.getValue().trainerId());
+        assertEquals(trainingUnderTest.getTrainingDuration(), factsCaptor.getValue().trainingDuration());
     }
 
 
+    @Test
+    @DisplayName("Should not link trainer and trainee again when already assigned on createTraining")
+    void shouldNotDuplicateAssignmentWhenCreateTraining() {
+        TrainingCreateDTO trainingCreateDTO = createTrainingCreateDTO();
+        int trainersBefore = trainingUnderTest.getTrainee().getTrainerList().size();
+
+        when(traineeRepository.findByUserUsername(anyString())).thenReturn(Optional.of(trainingUnderTest.getTrainee()));
+        when(trainerRepository.findByUserUsername(anyString())).thenReturn(Optional.of(trainingUnderTest.getTrainer()));
+        when(trainingTypeRepository.findByTrainingTypeName(any())).thenReturn(Optional.of(trainingUnderTest.getTrainingType()));
+        when(traineeRepository.existsTrainerAssignment(anyLong(), anyLong())).thenReturn(true);
+        when(trainingRepository.save(any())).thenReturn(trainingUnderTest);
+
+        trainingService.createTraining(trainingCreateDTO);
+
+        assertEquals(trainersBefore, trainingUnderTest.getTrainee().getTrainerList().size());
+        verify(assignmentGraph, never()).link(anyLong(), anyLong());
+    }
+
     @Test
     @DisplayName("Should throw TraineeNotFoundException for invalid traineeUsername when createTraining")
     void shouldThrowTraineeNotFoundExceptionForInvalidTraineeUsernameWhenCreateTraining() {
@@ -145,6 +232,10 @@ class TrainingServiceTest {
         boolean result = trainingService.deleteTraining(trainingUnderTest);
 
         verify(trainingRepository).delete(trainingUnderTest);
+        verify(trainingViewRepository).deleteById(trainingUnderTest.getId());
+        verify(assignmentGraph).unlink(anyLong(), anyLong());
+        verify(trainingTimeline).removeAll(trainingUnderTest.getId());
+        verify(trainingColumnStore).removeAll(trainingUnderTest.getId());
         assertTrue(result);
     }
 
@@ -152,25 +243,62 @@ class TrainingServiceTest {
     @DisplayName("Should return list of trainings when getTraineeTrainingList")
     void shouldReturnTrainingListWhenGetTraineeTrainingList() {
         List<Training> expectedTrainingList = Collections.singletonList(trainingUnderTest);
-        when(trainingRepository.findByTraineeUserUsernameAndTrainingDateBetweenAndTrainerUserUsernameAndTrainingTypeTrainingTypeName(anyString(), any(), any(), anyString(), anyString())).thenReturn(expectedTrainingList);
+        when(trainingRepository.findAll(any(Specification.class))).thenReturn(expectedTrainingList);
 
         List<Training> result = trainingService.getTraineeTrainingList(
                 trainingUnderTest.getTrainee().getUsername(),
                 new Date(),
                 new Date(),
                 trainingUnderTest.getTrainer().getUsername(),
-                trainingUnderTest.getTrainingType().getTrainingTypeName().name()
+                trainingUnderTest.getTrainingType().getTrainingTypeName()
         );
 
-        verify(trainingRepository).findByTraineeUserUsernameAndTrainingDateBetweenAndTrainerUserUsernameAndTrainingTypeTrainingTypeName(anyString(), any(), any(), anyString(), anyString());
+        verify(trainingRepository).findAll(any(Specification.class));
         assertEquals(expectedTrainingList, result);
     }
 
+    @Test
+    @DisplayName("Should accept missing optional filters when getTraineeTrainingList")
+    void shouldAcceptMissingFiltersWhenGetTraineeTrainingList() {
+        List<Training> expectedTrainingList = Collections.singletonList(trainingUnderTest);
+        when(trainingRepository.findAll(any(Specification.class))).thenReturn(expectedTrainingList);
+
+        List<Training> result = trainingService.getTraineeTrainingList(
+                trainingUnderTest.getTrainee().getUsername(), null, null, null, null);
+
+        assertEquals(expectedTrainingList, result);
+    }
+
+    @Test
+    @DisplayName("Should not query trainings when the timeline has none in the period")
+    void shouldSkipQueryWhenTimelineHasNoTrainingsInPeriod() {
+        String traineeUsername = trainingUnderTest.getTrainee().getUsername();
+        Date periodFrom = new Date();
+        when(trainingTimeline.traineeTrainingIds(traineeUsername, periodFrom, null)).thenReturn(new long[0]);
+
+        List<Training> result = trainingService.getTraineeTrainingList(traineeUsername, periodFrom, null, null, null);
+
+        assertTrue(result.isEmpty());
+        verify(trainingRepository, never()).findAll(any(Specification.class));
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalDateArgumentException when period to is before period from")
+    void shouldThrowIllegalDateArgumentExceptionWhenPeriodToBeforePeriodFrom() {
+        Date periodFrom = new Date();
+        Date periodTo = new Date(periodFrom.getTime() - 1);
+
+        assertThrows(IllegalDateArgumentException.class, () -> trainingService.getTrainerTrainingList(
+                trainingUnderTest.getTrainer().getUsername(), periodFrom, periodTo, null));
+
+        verify(trainingRepository, never()).findAll(any(Specification.class));
+    }
+
     @Test
     @DisplayName("Should return list of trainings when getTrainerTrainingList")
     void shouldReturnTrainingListWhenGetTrainerTrainingList() {
         List<Training> expectedTrainingList = Collections.singletonList(trainingUnderTest);
-        when(trainingRepository.findByTrainerUserUsernameAndTrainingDateBetweenAndTraineeUserUsername(anyString(), any(), any(), anyString())).thenReturn(expectedTrainingList);
+        when(trainingRepository.findAll(any(Specification.class))).thenReturn(expectedTrainingList);
 
         List<Training> result = trainingService.getTrainerTrainingList(
                 trainingUnderTest.getTrainer().getUsername(),
@@ -179,22 +307,110 @@ class TrainingServiceTest {
                 trainingUnderTest.getTrainee().getUsername()
         );
 
-        verify(trainingRepository).findByTrainerUserUsernameAndTrainingDateBetweenAndTraineeUserUsername(anyString(), any(), any(), anyString());
+        verify(trainingRepository).findAll(any(Specification.class));
         assertEquals(expectedTrainingList, result);
     }
 
+    @Test
+    @DisplayName("Should serve a repeated trainee training list query from the cache until a training is deleted")
+    void shouldCacheTraineeTrainingDtoListUntilDeleteTraining() {
+        String traineeUsername = trainingUnderTest.getTrainee().getUsername();
+        when(trainingViewRepository.findAll(any(Specification.class))).thenReturn(List.of(trainingView()));
+
+        List<TrainingDTO> first = trainingService.getTraineeTrainingDtoList(traineeUsername, null, null, null, null);
+        List<TrainingDTO> second = trainingService.getTraineeTrainingDtoList(traineeUsername, null, null, " ", null);
+        trainingService.deleteTraining(trainingUnderTest);
+        trainingService.getTraineeTrainingDtoList(traineeUsername, null, null, null, null);
+
+        assertSame(first, second);
+        verify(trainingViewRepository, times(2)).findAll(any(Specification.class));
+    }
+
+    @Test
+    @DisplayName("Should not let a list read started after an eviction share a read started before it")
+    void shouldNotShareTrainingDtoListReadAcrossEviction() throws Exception {
+        String traineeUsername = trainingUnderTest.getTrainee().getUsername();
+        CountDownLatch leaderReading = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        AtomicInteger reads = new AtomicInteger();
+        when(trainingViewRepository.findAll(any(Specification.class))).thenAnswer(invocation -> {
+            if (reads.incrementAndGet() > 1) {
+                return List.of();
+            }
+            leaderReading.countDown();
+            releaseLeader.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            return List.of(trainingView());
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<TrainingDTO>> leader = executor.submit(() ->
+                    trainingService.getTraineeTrainingDtoList(traineeUsername, null, null, null, null));
+            assertTrue(leaderReading.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            trainingListCache.evict(traineeUsername, trainingUnderTest.getTrainer().getUsername());
+
+            Future<List<TrainingDTO>> follower = executor.submit(() ->
+                    trainingService.getTraineeTrainingDtoList(traineeUsername, null, null, null, null));
+            List<TrainingDTO> followerTrainings = follower.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            releaseLeader.countDown();
+
+            assertEquals(1, leader.get(TIMEOUT_SECONDS, TimeUnit.SECONDS).size());
+            assertEquals(List.of(), followerTrainings);
+            assertEquals(List.of(),
+                    trainingService.getTraineeTrainingDtoList(traineeUsername, null, null, null, null));
+            assertEquals(2, reads.get());
+        } finally {
+            releaseLeader.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep the cached lists of users a created training does not involve")
+    void shouldKeepUnrelatedTrainingDtoListsWhenCreateTraining() {
+        when(trainingViewRepository.findAll(any(Specification.class))).thenReturn(List.of(trainingView()));
+        trainingService.getTraineeTrainingDtoList("other.trainee", null, null, null, null);
+        trainingService.getTrainerTrainingDtoList(trainingUnderTest.getTrainer().getUsername(), null, null, null);
+
+        when(traineeRepository.findByUserUsername(anyString())).thenReturn(Optional.of(trainingUnderTest.getTrainee()));
+        when(trainerRepository.findByUserUsername(anyString())).thenReturn(Optional.of(trainingUnderTest.getTrainer()));
+        when(trainingTypeRepository.findByTrainingTypeName(any())).thenReturn(Optional.of(trainingUnderTest.getTrainingType()));
+        when(trainingRepository.save(any())).thenReturn(trainingUnderTest);
+        trainingService.createTraining(createTrainingCreateDTO());
+
+        trainingService.getTraineeTrainingDtoList("other.trainee", null, null, null, null);
+        trainingService.getTrainerTrainingDtoList(trainingUnderTest.getTrainer().getUsername(), null, null, null);
+
+        verify(trainingViewRepository, times(3)).findAll(any(Specification.class));
+    }
+
+    @Test
+    @DisplayName("Should group trainings by trainee id when getTrainingsByTraineeIds")
+    void shouldGroupTrainingsByTraineeIdWhenGetTrainingsByTraineeIds() {
+        when(trainingRepository.findAllByTraineeIdIn(List.of(trainingUnderTest.getTrainee().getId())))
+                .thenReturn(List.of(trainingUnderTest));
+
+        Map<Long, List<Training>> result =
+                trainingService.getTrainingsByTraineeIds(List.of(trainingUnderTest.getTrainee().getId()));
+
+        assertEquals(Map.of(trainingUnderTest.getTrainee().getId(), List.of(trainingUnderTest)), result);
+    }
+
     @Test
     @DisplayName("Should return list of trainings when getAllTrainings")
     void shouldReturnTrainingListWhenGetAllTrainings() {
         List<Training> expectedTrainingList = Collections.singletonList(trainingUnderTest);
         when(trainingRepository.findAll()).thenReturn(expectedTrainingList);
 
-        List<Training> result = trainingService.getAllTrainings();
+        List<Training> result = trainingService.getAllTrainings().join();
 
         verify(trainingRepository).findAll();
         assertEquals(expectedTrainingList, result);
     }
 
+    private TrainingView trainingView() {
+        return TrainingViewConverter.convertToView(trainingUnderTest);
+    }
+
     private TrainingCreateDTO createTrainingCreateDTO() {
         return TrainingCreateDTO.builder()
                 .traineeUsername(trainingUnderTest.getTrainee().getUsername())
@@ -0,0 +1,142 @@
+package org.example.utils.analytics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.example.enums.TrainingTypeName;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TrainingColumnStoreTest {
+
+    private TrainingColumnStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new TrainingColumnStore(4, ZoneOffset.UTC);
+        store.load(List.of(
+                facts(1, 10, TrainingTypeName.AEROBIC, "2024-01-05", 30),
+                facts(2, 10, TrainingTypeName.AEROBIC, "2024-01-20", 45),
+                facts(3, 20, TrainingTypeName.STRENGTH, "2024-01-31", 60),
+                facts(4, 20, TrainingTypeName.AEROBIC, "2024-02-01", 15),
+                facts(5, 20, null, "2024-02-10", 90)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    @DisplayName("Should total durations per month and training type")
+    void shouldTotalDurationByMonthAndType() {
+        assertEquals(List.of(
+                new TrainingColumnStore.MonthlyDuration(YearMonth.of(2024, 1), TrainingTypeName.AEROBIC, 2, 75),
+                new TrainingColumnStore.MonthlyDuration(YearMonth.of(2024, 1), TrainingTypeName.STRENGTH, 1, 60),
+                new TrainingColumnStore.MonthlyDuration(YearMonth.of(2024, 2), TrainingTypeName.AEROBIC, 1, 15),
+                new TrainingColumnStore.MonthlyDuration(YearMonth.of(2024, 2), null, 1, 90)
+        ), store.durationByMonthAndType(null, null));
+        assertEquals(List.of(
+                new TrainingColumnStore.MonthlyDuration(YearMonth.of(2024, 1), TrainingTypeName.AEROBIC, 1, 45),
+                new TrainingColumnStore.MonthlyDuration(YearMonth.of(2024, 1), TrainingTypeName.STRENGTH, 1, 60)
+        ), store.durationByMonthAndType(date("2024-01-20"), date("2024-01-31")));
+    }
+
+    @Test
+    @DisplayName("Should average durations per trainer within the filters")
+    void shouldAverageDurationByTrainer() {
+        List<TrainingColumnStore.TrainerDuration> durations =
+                store.durationByTrainer(null, null, TrainingTypeName.AEROBIC);
+
+        assertEquals(List.of(new TrainingColumnStore.TrainerDuration(10, 2, 75),
+                new TrainingColumnStore.TrainerDuration(20, 1, 15)), durations);
+        assertEquals(37.5, durations.get(0).averageDuration());
+    }
+
+    @Test
+    @DisplayName("Should count durations per bucket up to the longest training")
+    void shouldBuildDurationHistogram() {
+        assertEquals(List.of(
+                new TrainingColumnStore.DurationBucket(0, 30, 1),
+                new TrainingColumnStore.DurationBucket(30, 60, 2),
+                new TrainingColumnStore.DurationBucket(60, 90, 1),
+                new TrainingColumnStore.DurationBucket(90, 120, 1)
+        ), store.durationHistogram(30, null, null, null));
+        assertEquals(List.of(new TrainingColumnStore.DurationBucket(0, 1000, 5)),
+                store.durationHistogram(1000, null, null, null));
+    }
+
+    @Test
+    @DisplayName("Should reflect puts and removals, including those of a whole trainer")
+    void shouldApplyIncrementalChanges() {
+        store.put(facts(2, 10, TrainingTypeName.PILATES, "2024-03-01", 50));
+        store.putAll(List.of(facts(7, 30, TrainingTypeName.PILATES, "2024-03-02", 10),
+                facts(6, 30, TrainingTypeName.PILATES, "2024-03-03", 20)));
+        store.removeAll(1, 99);
+        store.removeTrainer(20);
+
+        assertEquals(3, store.size());
+        assertEquals(List.of(
+                new TrainingColumnStore.MonthlyDuration(YearMonth.of(2024, 3), TrainingTypeName.PILATES, 3, 80)
+        ), store.durationByMonthAndType(null, null));
+    }
+
+    @Test
+    @DisplayName("Should replay writes made while a load reads its snapshot")
+    void shouldReplayWritesMadeDuringLoad() {
+        store.load(() -> {
+            store.put(facts(6, 30, TrainingTypeName.PILATES, "2024-03-03", 20));
+            store.removeAll(1);
+            store.removeTrainer(20);
+            return List.of(facts(1, 10, TrainingTypeName.AEROBIC, "2024-01-05", 30),
+                    facts(2, 10, TrainingTypeName.AEROBIC, "2024-01-20", 45),
+                    facts(3, 20, TrainingTypeName.STRENGTH, "2024-01-31", 60));
+        });
+
+        assertEquals(2, store.size());
+        assertEquals(List.of(
+                new TrainingColumnStore.MonthlyDuration(YearMonth.of(2024, 1), TrainingTypeName.AEROBIC, 1, 45),
+                new TrainingColumnStore.MonthlyDuration(YearMonth.of(2024, 3), TrainingTypeName.PILATES, 1, 20)
+        ), store.durationByMonthAndType(null, null));
+    }
+
+    @Test
+    @DisplayName("Should give the same totals when the rows are split across several tasks")
+    void shouldAggregateInParallel() {
+        List<TrainingFacts> trainings = new ArrayList<>();
+        long expectedDuration = 0;
+        for (int id = 1; id <= 100_000; id++) {
+            int duration = id % 120 + 1;
+            trainings.add(facts(id, id % 7, TrainingTypeName.STRENGTH, "2023-06-15", duration));
+            expectedDuration += duration;
+        }
+        store.load(trainings);
+        store.removeAll(100_000);
+        expectedDuration -= 100_000 % 120 + 1;
+
+        List<TrainingColumnStore.TrainerDuration> durations = store.durationByTrainer(null, null, null);
+
+        assertEquals(7, durations.size());
+        assertEquals(99_999, durations.stream().mapToLong(TrainingColumnStore.TrainerDuration::trainings).sum());
+        assertEquals(expectedDuration,
+                durations.stream().mapToLong(TrainingColumnStore.TrainerDuration::totalDuration).sum());
+    }
+
+    private static TrainingFacts facts(long trainingId, long trainerId, TrainingTypeName trainingTypeName,
+                                       String trainingDate, int trainingDuration) {
+        return new TrainingFacts(trainingId, trainingId * 100, trainerId, trainingTypeName, date(trainingDate),
+                trainingDuration);
+    }
+
+    private static Date date(String date) {
+        return Date.from(LocalDate.parse(date).atStartOfDay(ZoneOffset.UTC).toInstant());
+    }
+}
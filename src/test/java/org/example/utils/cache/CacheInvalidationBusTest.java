@@ -0,0 +1,255 @@
+package org.example.utils.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.example.config.cache.TrainingListCacheProperties;
+import org.example.dto.training.TrainingDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CacheInvalidationBusTest {
+
+    private static final String CACHE_NAME = "unassignedTrainers";
+    private static final String USERNAME = "John.Doe";
+    private static final String SECRET = "cluster-secret";
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private final List<CacheInvalidationBus> buses = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        buses.forEach(CacheInvalidationBus::stop);
+    }
+
+    @Test
+    @DisplayName("Should deliver string, numeric and clear evictions to peers but not to the sender")
+    void shouldDeliverEvictionsToPeers() throws Exception {
+        int portA = freePort();
+        int portB = freePort();
+        CacheInvalidationBus busA = bus(portA, portA, portB);
+        CacheInvalidationBus busB = bus(portB, portA);
+        BlockingQueue<String> receivedByA = subscribe(busA);
+        BlockingQueue<String> receivedByB = subscribe(busB);
+
+        busA.publish(CACHE_NAME, USERNAME);
+        busA.publish(CACHE_NAME, 42L);
+        busA.publish(CACHE_NAME, null);
+        busB.publish(CACHE_NAME, "Joe.Johnson");
+
+        assertEquals(CACHE_NAME + " " + USERNAME, receivedByB.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(CACHE_NAME + " 42", receivedByB.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(CACHE_NAME + " null", receivedByB.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(CACHE_NAME + " Joe.Johnson", receivedByA.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertNull(receivedByA.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("Should drop evictions from unknown senders and with a wrong signature")
+    void shouldRejectUntrustedEvictions() throws Exception {
+        int port = freePort();
+        int peerPort = freePort();
+        int strangerPort = freePort();
+        CacheInvalidationBus bus = bus(port, peerPort);
+        BlockingQueue<String> received = subscribe(bus);
+        CacheInvalidationBus stranger = bus(strangerPort, port);
+        CacheInvalidationBus impostor = bus("wrong-secret", peerPort, port);
+
+        stranger.publish(CACHE_NAME, USERNAME);
+        impostor.publish(CACHE_NAME, USERNAME);
+        try (DatagramSocket socket = new DatagramSocket(0, InetAddress.getLoopbackAddress())) {
+            byte[] garbage = "clear everything".getBytes(StandardCharsets.UTF_8);
+            socket.send(new DatagramPacket(garbage, garbage.length, InetAddress.getLoopbackAddress(), port));
+        }
+
+        assertNull(received.poll(500, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("Should evict the peer's cached entry when a node evicts it")
+    void shouldEvictPeerCache() throws Exception {
+        int portA = freePort();
+        int portB = freePort();
+        ClusterCacheManager cacheManagerA = new ClusterCacheManager(new ConcurrentMapCacheManager(CACHE_NAME),
+                bus(portA, portB));
+        ClusterCacheManager cacheManagerB = new ClusterCacheManager(new ConcurrentMapCacheManager(CACHE_NAME),
+                bus(portB, portA));
+        Cache cacheA = cacheManagerA.getCache(CACHE_NAME);
+        Cache cacheB = cacheManagerB.getCache(CACHE_NAME);
+        cacheA.put(USERNAME, List.of());
+        cacheB.put(USERNAME, List.of());
+
+        cacheA.evict(USERNAME);
+
+        assertNull(cacheA.get(USERNAME));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (cacheB.get(USERNAME) != null && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertNull(cacheB.get(USERNAME));
+    }
+
+    @Test
+    @DisplayName("Should drop the peer's training lists of the owners a node evicts")
+    void shouldEvictPeerTrainingLists() throws Exception {
+        int portA = freePort();
+        int portB = freePort();
+        TrainingListCache listsA = trainingListCache(bus(portA, portB));
+        TrainingListCache listsB = trainingListCache(bus(portB, portA));
+        TrainingListCache.Query query = TrainingListCache.Query.of(USERNAME, null, null, null, null);
+        AtomicInteger loads = new AtomicInteger();
+        listsB.getTraineeTrainings(query, generation -> List.of(trainingOf(loads.incrementAndGet())));
+
+        listsA.evict(USERNAME, "Joe.Johnson");
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (loads.get() == 1 && System.nanoTime() < deadline) {
+            listsB.getTraineeTrainings(query, generation -> List.of(trainingOf(loads.incrementAndGet())));
+            Thread.sleep(10);
+        }
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should evict locally and on peers only once the transaction commits")
+    void shouldEvictAfterCommit() throws Exception {
+        int portA = freePort();
+        int portB = freePort();
+        CacheManager cacheManagerA = new TransactionAwareCacheManagerProxy(
+                new ClusterCacheManager(new ConcurrentMapCacheManager(CACHE_NAME), bus(portA, portB)));
+        BlockingQueue<String> receivedByB = subscribe(bus(portB, portA));
+        Cache cacheA = cacheManagerA.getCache(CACHE_NAME);
+        cacheA.put(USERNAME, List.of());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cacheA.evict(USERNAME);
+
+            assertNotNull(cacheA.get(USERNAME));
+            assertNull(receivedByB.poll(100, TimeUnit.MILLISECONDS));
+
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertNull(cacheA.get(USERNAME));
+        assertEquals(CACHE_NAME + " " + USERNAME, receivedByB.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should exchange evictions with a node running in another JVM")
+    void shouldExchangeEvictionsAcrossJvms() throws Exception {
+        int port = freePort();
+        int peerPort = freePort();
+        CacheInvalidationBus bus = bus(port, peerPort);
+        BlockingQueue<String> received = subscribe(bus);
+
+        Process peer = new ProcessBuilder(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"),
+                CacheInvalidationPeer.class.getName(),
+                Integer.toString(peerPort),
+                Integer.toString(port),
+                SECRET)
+                .redirectErrorStream(true)
+                .start();
+        try (BufferedReader output = new BufferedReader(
+                new InputStreamReader(peer.getInputStream(), StandardCharsets.UTF_8));
+             Writer input = new OutputStreamWriter(peer.getOutputStream(), StandardCharsets.UTF_8)) {
+            assertEquals("PORT " + peerPort, readLine(output, "PORT "));
+
+            input.write(CACHE_NAME + " " + USERNAME + "\n");
+            input.flush();
+            assertEquals(CACHE_NAME + " " + USERNAME, received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+            bus.publish(CACHE_NAME, "Joe.Johnson");
+            assertEquals("EVICTED " + CACHE_NAME + " Joe.Johnson", readLine(output, "EVICTED "));
+        } finally {
+            peer.destroy();
+            assertTrue(peer.waitFor(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        }
+    }
+
+    private static TrainingListCache trainingListCache(CacheInvalidationBus bus) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("cacheInvalidationBus", bus));
+        return new TrainingListCache(new SimpleMeterRegistry(), new TrainingListCacheProperties(),
+                beanFactory.getBeanProvider(CacheInvalidationBus.class));
+    }
+
+    private static TrainingDTO trainingOf(int duration) {
+        return TrainingDTO.builder()
+                .trainingDuration(duration)
+                .build();
+    }
+
+    private CacheInvalidationBus bus(int port, int... peerPorts) {
+        return bus(SECRET, port, peerPorts);
+    }
+
+    private CacheInvalidationBus bus(String secret, int port, int... peerPorts) {
+        List<InetSocketAddress> peers = new ArrayList<>();
+        for (int peerPort : peerPorts) {
+            peers.add(new InetSocketAddress(InetAddress.getLoopbackAddress(), peerPort));
+        }
+        CacheInvalidationBus bus = new CacheInvalidationBus(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), port), peers,
+                secret.getBytes(StandardCharsets.UTF_8), new SimpleMeterRegistry());
+        bus.start();
+        buses.add(bus);
+        return bus;
+    }
+
+    private static BlockingQueue<String> subscribe(CacheInvalidationBus bus) {
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        bus.subscribe((cacheName, key) -> received.add(cacheName + " " + key));
+        return received;
+    }
+
+    private static String readLine(BufferedReader output, String prefix) throws IOException {
+        String line;
+        while ((line = output.readLine()) != null) {
+            if (line.startsWith(prefix)) {
+                return line;
+            }
+        }
+        return null;
+    }
+
+    private static int freePort() throws IOException {
+        try (DatagramSocket socket = new DatagramSocket(0, InetAddress.getLoopbackAddress())) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.utils.cache;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Cache bus node run in a separate JVM by {@link CacheInvalidationBusTest}, with its own port, its peer's port and
+ * the shared secret as arguments. Prints the bound port, then one line per received eviction, and publishes a
+ * string-key eviction for every {@code cache key} line read from stdin.
+ */
+public class CacheInvalidationPeer {
+
+    public static void main(String[] args) throws Exception {
+        CacheInvalidationBus bus = new CacheInvalidationBus(
+                new InetSocketAddress("127.0.0.1", Integer.parseInt(args[0])),
+                List.of(new InetSocketAddress("127.0.0.1", Integer.parseInt(args[1]))),
+                args[2].getBytes(StandardCharsets.UTF_8),
+                new SimpleMeterRegistry());
+        bus.subscribe((cacheName, key) -> System.out.println("EVICTED " + cacheName + " " + key));
+        bus.start();
+        System.out.println("PORT " + bus.getPort());
+
+        BufferedReader commands = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        String command;
+        while ((command = commands.readLine()) != null) {
+            String[] parts = command.split(" ");
+            bus.publish(parts[0], parts[1]);
+        }
+        bus.stop();
+    }
+}
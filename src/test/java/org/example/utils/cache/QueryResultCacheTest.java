@@ -0,0 +1,101 @@
+package org.example.utils.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class QueryResultCacheTest {
+
+    private static final String NAME = "test";
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private QueryResultCache<Key, String> cache;
+
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new QueryResultCache<>(NAME, 1024, Duration.ofMinutes(1), Key::owner, String::length, meterRegistry);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Should load a key once and serve repeated lookups from the cache")
+    void shouldServeRepeatedLookupsFromCache() {
+        Key key = new Key("alice", "2024");
+
+        assertEquals("alice-2024", cache.get(key, () -> load(key)));
+        assertEquals("alice-2024", cache.get(key, () -> load(key)));
+
+        assertEquals(1, loads.get());
+        assertEquals(0.5, cache.hitRatio());
+        assertEquals(1, meterRegistry.get("query.cache.gets").tag("name", NAME).tag("result", "hit")
+                .counter().count());
+        cache.cleanUp();
+        assertEquals("alice-2024".length(), cache.sizeInBytes());
+    }
+
+    @Test
+    @DisplayName("Should drop only the results of the evicted owner")
+    void shouldEvictOnlyOwnerResults() {
+        Key aliceJanuary = new Key("alice", "01");
+        Key aliceFebruary = new Key("alice", "02");
+        Key bob = new Key("bob", "01");
+        cache.get(aliceJanuary, () -> load(aliceJanuary));
+        cache.get(aliceFebruary, () -> load(aliceFebruary));
+        cache.get(bob, () -> load(bob));
+
+        cache.evictOwner("alice");
+        cache.get(aliceJanuary, () -> load(aliceJanuary));
+        cache.get(aliceFebruary, () -> load(aliceFebruary));
+        cache.get(bob, () -> load(bob));
+
+        assertEquals(5, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should not keep a result whose load overlapped an eviction")
+    void shouldNotKeepResultLoadedDuringEviction() {
+        Key key = new Key("alice", "01");
+
+        String stale = cache.get(key, () -> {
+            cache.evictOwner("alice");
+            return load(key);
+        });
+        cache.get(key, () -> load(key));
+
+        assertEquals("alice-01", stale);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should stay within the configured size in bytes")
+    void shouldStayWithinMaximumSize() {
+        for (int i = 0; i < 1000; i++) {
+            Key key = new Key("owner" + i, "period");
+            cache.get(key, () -> load(key));
+        }
+
+        cache.cleanUp();
+
+        assertTrue(cache.sizeInBytes() <= 1024, () -> "size was " + cache.sizeInBytes());
+    }
+
+    private String load(Key key) {
+        loads.incrementAndGet();
+        return key.owner() + "-" + key.period();
+    }
+
+    private record Key(String owner, String period) {
+    }
+}
@@ -0,0 +1,126 @@
+package org.example.utils.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.example.exception.concurrent.BulkheadFullException;
+import org.example.exception.concurrent.BulkheadTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+
+class BulkheadTest {
+
+    private static final String NAME = "test";
+    private static final Duration TIMEOUT = Duration.ofMillis(200);
+    private static final long WAIT_SECONDS = 5;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private Bulkhead bulkhead;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bulkhead = new Bulkhead(NAME, 1, 1, TIMEOUT, meterRegistry, ObservationRegistry.NOOP);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bulkhead.close();
+    }
+
+    @Test
+    @DisplayName("Should run the task on a bulkhead thread and complete with its result")
+    void shouldRunOnBulkheadThread() throws Exception {
+        String threadName = bulkhead.submit(() -> Thread.currentThread().getName())
+                .get(WAIT_SECONDS, TimeUnit.SECONDS);
+
+        assertTrue(threadName.startsWith("bulkhead-" + NAME + "-"));
+        assertEquals(1, calls("success"));
+        assertNotNull(meterRegistry.find("executor.pool.max").tag("name", NAME).gauge());
+    }
+
+    @Test
+    @DisplayName("Should reject calls once the threads and the queue are taken")
+    void shouldRejectWhenSaturated() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> first = bulkhead.submit(() -> {
+            running.countDown();
+            await(release);
+            return "first";
+        });
+        assertTrue(running.await(WAIT_SECONDS, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = bulkhead.submit(() -> "queued");
+
+        CompletableFuture<String> rejected = bulkhead.submit(() -> "rejected");
+
+        ExecutionException ex = assertThrows(ExecutionException.class, rejected::get);
+        assertInstanceOf(BulkheadFullException.class, ex.getCause());
+        release.countDown();
+        assertEquals("first", first.get(WAIT_SECONDS, TimeUnit.SECONDS));
+        assertEquals("queued", queued.get(WAIT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(1, calls("rejected"));
+    }
+
+    @Test
+    @DisplayName("Should fail a call past its timeout and interrupt its task")
+    void shouldTimeOutAndInterrupt() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CompletableFuture<String> call = bulkhead.submit(() -> {
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(WAIT_SECONDS));
+            } catch (InterruptedException ex) {
+                interrupted.countDown();
+            }
+            return "late";
+        });
+
+        ExecutionException ex = assertThrows(ExecutionException.class,
+                () -> call.get(WAIT_SECONDS, TimeUnit.SECONDS));
+        assertInstanceOf(BulkheadTimeoutException.class, ex.getCause());
+        assertTrue(interrupted.await(WAIT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(1, calls("timeout"));
+    }
+
+    @Test
+    @DisplayName("Should complete exceptionally with the exception thrown by the task")
+    void shouldPropagateTaskFailure() {
+        IllegalStateException failure = new IllegalStateException("boom");
+
+        CompletableFuture<String> call = bulkhead.submit(() -> {
+            throw failure;
+        });
+
+        ExecutionException ex = assertThrows(ExecutionException.class,
+                () -> call.get(WAIT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(failure, ex.getCause());
+        assertEquals(1, calls("failure"));
+    }
+
+    private double calls(String result) {
+        return meterRegistry.get("bulkhead.calls").tag("name", NAME).tag("result", result).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
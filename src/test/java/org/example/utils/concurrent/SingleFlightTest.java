@@ -0,0 +1,138 @@
+package org.example.utils.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.example.exception.concurrent.BulkheadTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SingleFlightTest {
+
+    private static final String NAME = "test";
+    private static final String KEY = "John.Doe";
+    private static final Duration TIMEOUT = Duration.ofMillis(200);
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private SingleFlight<String, String> singleFlight;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight<>(NAME, TIMEOUT, meterRegistry);
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should run the loader once and share its result with concurrent callers")
+    void shouldShareInFlightResult() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute(KEY, () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "profile";
+        }));
+        awaitCount("executed", 1);
+
+        Future<String> follower = executor.submit(() -> singleFlight.execute(KEY, () -> {
+            loads.incrementAndGet();
+            return "other";
+        }));
+        awaitCount("shared", 1);
+        release.countDown();
+
+        assertEquals("profile", leader.get(5, TimeUnit.SECONDS));
+        assertEquals("profile", follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+        assertEquals(0.5, singleFlight.coalescingRatio());
+    }
+
+    @Test
+    @DisplayName("Should stop waiting for the leader after the timeout")
+    void shouldTimeOutWaitingForLeader() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute(KEY, () -> {
+            await(release);
+            return "profile";
+        }));
+        awaitCount("executed", 1);
+
+        Future<String> follower = executor.submit(() -> singleFlight.execute(KEY, () -> "other"));
+
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(BulkheadTimeoutException.class, thrown.getCause());
+        release.countDown();
+        assertEquals("profile", leader.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should load again once the previous call has completed")
+    void shouldNotCacheCompletedCalls() {
+        AtomicInteger loads = new AtomicInteger();
+
+        singleFlight.execute(KEY, () -> String.valueOf(loads.incrementAndGet()));
+        singleFlight.execute(KEY, () -> String.valueOf(loads.incrementAndGet()));
+
+        assertEquals(2, loads.get());
+        assertEquals(0, singleFlight.coalescingRatio());
+    }
+
+    @Test
+    @DisplayName("Should propagate the leader's exception to the caller")
+    void shouldPropagateLoaderException() {
+        IllegalStateException failure = new IllegalStateException("boom");
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> singleFlight.execute(KEY, () -> {
+                    throw failure;
+                }));
+
+        assertSame(failure, thrown);
+        assertEquals("done", singleFlight.execute(KEY, () -> "done"));
+    }
+
+    private void awaitCount(String result, double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("singleflight.calls").tag("name", NAME).tag("result", result).counter().count()
+                < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Timed out waiting for " + result + " call");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.utils.csv;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CsvReaderTest {
+
+    @Test
+    @DisplayName("Should split plain and quoted fields and skip blank lines")
+    void shouldReadRecords() throws IOException {
+        CsvReader reader = reader("a, b ,c\n\n\"x,y\",\"say \"\"hi\"\"\",\n");
+
+        assertEquals(List.of("a", "b", "c"), reader.next());
+        assertEquals(1, reader.getLineNumber());
+        assertEquals(List.of("x,y", "say \"hi\"", ""), reader.next());
+        assertEquals(3, reader.getLineNumber());
+        assertNull(reader.next());
+    }
+
+    @Test
+    @DisplayName("Should reject an unterminated quoted field and continue with the next line")
+    void shouldRejectUnterminatedQuote() throws IOException {
+        CsvReader reader = reader("\"open,field\nnext,line");
+
+        assertThrows(IllegalArgumentException.class, reader::next);
+        assertEquals(List.of("next", "line"), reader.next());
+    }
+
+    private static CsvReader reader(String content) {
+        return new CsvReader(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+}
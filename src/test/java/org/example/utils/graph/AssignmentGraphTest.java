@@ -0,0 +1,78 @@
+package org.example.utils.graph;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AssignmentGraphTest {
+
+    private AssignmentGraph graph;
+
+    @BeforeEach
+    void setUp() {
+        graph = new AssignmentGraph();
+        graph.load(new long[]{1, 1, 2, 2}, new long[]{20, 10, 10, 10});
+    }
+
+    @Test
+    @DisplayName("Should load links into sorted, de-duplicated adjacency arrays")
+    void shouldLoadSortedAdjacency() {
+        assertArrayEquals(new long[]{10, 20}, graph.trainerIdsOf(1));
+        assertArrayEquals(new long[]{1, 2}, graph.traineeIdsOf(10));
+        assertEquals(2, graph.traineeCount(10));
+        assertEquals(0, graph.traineeCount(99));
+    }
+
+    @Test
+    @DisplayName("Should keep both directions in sync on link and unlink")
+    void shouldKeepDirectionsInSync() {
+        assertTrue(graph.link(3, 20));
+        assertFalse(graph.link(3, 20));
+        assertTrue(graph.isAssigned(3, 20));
+        assertArrayEquals(new long[]{1, 3}, graph.traineeIdsOf(20));
+
+        assertTrue(graph.unlink(1, 20));
+        assertFalse(graph.isAssigned(1, 20));
+        assertArrayEquals(new long[]{3}, graph.traineeIdsOf(20));
+    }
+
+    @Test
+    @DisplayName("Should drop every link of a removed trainee or trainer")
+    void shouldRemoveNodes() {
+        graph.removeTrainee(1);
+        assertArrayEquals(new long[]{2}, graph.traineeIdsOf(10));
+        assertEquals(0, graph.traineeIdsOf(20).length);
+
+        graph.removeTrainer(10);
+        assertEquals(0, graph.trainerIdsOf(2).length);
+    }
+
+    @Test
+    @DisplayName("Should link a trainee to exactly the given trainers")
+    void shouldReplaceTrainers() {
+        graph.replaceTrainers(1, new long[]{30, 10});
+
+        assertArrayEquals(new long[]{10, 30}, graph.trainerIdsOf(1));
+        assertEquals(0, graph.traineeIdsOf(20).length);
+        assertArrayEquals(new long[]{1}, graph.traineeIdsOf(30));
+    }
+
+    @Test
+    @DisplayName("Should replay writes made while a load reads its snapshot")
+    void shouldReplayWritesMadeDuringLoad() {
+        graph.load(() -> {
+            graph.link(3, 30);
+            graph.unlink(1, 10);
+            return new AssignmentGraph.Links(new long[]{1, 1}, new long[]{10, 20});
+        });
+
+        assertArrayEquals(new long[]{20}, graph.trainerIdsOf(1));
+        assertArrayEquals(new long[]{30}, graph.trainerIdsOf(3));
+        assertEquals(0, graph.trainerIdsOf(2).length);
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.utils.graph;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LongObjectHashMapTest {
+
+    @Test
+    @DisplayName("Should behave like HashMap under random puts and removes")
+    void shouldMatchHashMapUnderRandomOperations() {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>();
+        Map<Long, String> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 50_000; i++) {
+            long key = random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                String value = "v" + i;
+                assertEquals(expected.put(key, value), map.put(key, value));
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (long key = 0; key < 2_000; key++) {
+            assertEquals(expected.get(key), map.get(key));
+            assertEquals(expected.containsKey(key), map.containsKey(key));
+        }
+    }
+
+    @Test
+    @DisplayName("Should accept zero and negative keys")
+    void shouldAcceptZeroAndNegativeKeys() {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>();
+        map.put(0L, "zero");
+        map.put(-1L, "minus one");
+
+        assertEquals("zero", map.get(0L));
+        assertEquals("minus one", map.remove(-1L));
+        assertNull(map.get(-1L));
+    }
+
+    @Test
+    @DisplayName("Should be empty after clear")
+    void shouldBeEmptyAfterClear() {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>();
+        map.put(1L, "one");
+        map.clear();
+
+        assertEquals(0, map.size());
+        assertFalse(map.containsKey(1L));
+        assertTrue(map.put(1L, "one") == null);
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.utils.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.example.model.Trainee;
+import org.example.utils.converter.TraineeConverter;
+import org.example.utils.dummydata.TraineeDummyDataFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class ConversionEventTest {
+
+    private static final String CONVERSION_EVENT = "org.example.Conversion";
+
+    @Test
+    @DisplayName("Should record a trainee conversion with its username and trainer count")
+    void shouldRecordConversion() throws Exception {
+        Trainee trainee = TraineeDummyDataFactory.getTraineeUnderTestJohnDoe();
+
+        List<RecordedEvent> events = record(() -> TraineeConverter.convertToDto(trainee));
+
+        RecordedEvent conversion = find(events, "TraineeConverter.convertToDto");
+        assertEquals(trainee.getUsername(), conversion.getString("username"));
+        assertEquals(trainee.getTrainerList().size(), conversion.getInt("resultSize"));
+
+        RecordedEvent trainers = find(events, "TrainerConverter.convertToEmbeddedDtoList");
+        assertNull(trainers.getString("username"));
+        assertEquals(trainee.getTrainerList().size(), trainers.getInt("resultSize"));
+    }
+
+    private static RecordedEvent find(List<RecordedEvent> events, String converter) {
+        return events.stream()
+                .filter(event -> converter.equals(event.getString("converter")))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static List<RecordedEvent> record(Runnable action) throws Exception {
+        Path file = Files.createTempFile("conversion-event-test-", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(CONVERSION_EVENT);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
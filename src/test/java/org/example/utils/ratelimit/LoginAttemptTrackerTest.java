@@ -0,0 +1,94 @@
+package org.example.utils.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.example.config.ratelimit.LoginThrottleProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LoginAttemptTrackerTest {
+
+    private static final String USERNAME = "John.Doe";
+    private static final String ADDRESS = "10.0.0.1";
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private LoginAttemptTracker loginAttemptTracker;
+
+    @BeforeEach
+    void setUp() {
+        LoginThrottleProperties properties = new LoginThrottleProperties();
+        properties.setUsernameThreshold(3);
+        properties.setAddressThreshold(5);
+        properties.setInitialBlock(Duration.ofMinutes(1));
+        properties.setMaxBlock(Duration.ofMinutes(10));
+
+        meterRegistry = new SimpleMeterRegistry();
+        loginAttemptTracker = new LoginAttemptTracker(properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should block a username once it reaches the threshold, with growing blocks")
+    void shouldBlockUsernameProgressively() {
+        for (int i = 0; i < 2; i++) {
+            loginAttemptTracker.loginFailed(USERNAME, null);
+        }
+        assertEquals(0, loginAttemptTracker.blockedForNanos(USERNAME, null));
+
+        loginAttemptTracker.loginFailed(USERNAME, null);
+        long firstBlock = loginAttemptTracker.blockedForNanos(USERNAME, null);
+        loginAttemptTracker.loginFailed(USERNAME, null);
+        long secondBlock = loginAttemptTracker.blockedForNanos(USERNAME, null);
+
+        assertTrue(firstBlock > Duration.ofSeconds(59).toNanos());
+        assertTrue(secondBlock > Duration.ofSeconds(119).toNanos());
+        assertEquals(0, loginAttemptTracker.blockedForNanos("Joe.Johnson", null));
+        assertEquals(2, meterRegistry.get("login.attempts").tag("result", "blocked").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should block an address across usernames")
+    void shouldBlockAddress() {
+        for (int i = 0; i < 5; i++) {
+            loginAttemptTracker.loginFailed("User." + i, ADDRESS);
+        }
+
+        assertTrue(loginAttemptTracker.blockedForNanos("Joe.Johnson", ADDRESS) > 0);
+        assertEquals(0, loginAttemptTracker.blockedForNanos("Joe.Johnson", "10.0.0.2"));
+    }
+
+    @Test
+    @DisplayName("Should clear username failures after a successful login")
+    void shouldResetUsernameOnSuccess() {
+        for (int i = 0; i < 2; i++) {
+            loginAttemptTracker.loginFailed(USERNAME, ADDRESS);
+        }
+        loginAttemptTracker.loginSucceeded(USERNAME);
+        loginAttemptTracker.loginFailed(USERNAME, ADDRESS);
+
+        assertEquals(0, loginAttemptTracker.blockedForNanos(USERNAME, ADDRESS));
+        assertEquals(2, meterRegistry.get("login.attempts.tracked").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should keep a bounded number of usernames during a spray of random names")
+    void shouldBoundTrackedUsernames() {
+        LoginThrottleProperties properties = new LoginThrottleProperties();
+        properties.setMaxTrackedUsernames(100);
+        SimpleMeterRegistry sprayRegistry = new SimpleMeterRegistry();
+        LoginAttemptTracker tracker = new LoginAttemptTracker(properties, sprayRegistry);
+
+        for (int i = 0; i < 10_000; i++) {
+            tracker.loginFailed("Sprayed." + i, null);
+        }
+        tracker.evictExpiredCounters();
+
+        assertTrue(sprayRegistry.get("login.attempts.tracked").gauge().value() <= 100);
+    }
+}
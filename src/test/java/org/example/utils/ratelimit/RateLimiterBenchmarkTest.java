@@ -0,0 +1,60 @@
+package org.example.utils.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.example.config.ratelimit.RateLimitProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Measures the admission path of the rate limiter. Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class RateLimiterBenchmarkTest {
+
+    private static final int USERS = 1_000;
+    private static final int WARMUP_CALLS = 5_000_000;
+    private static final int MEASURED_CALLS = 10_000_000;
+    private static final long BUDGET_NANOS = 1_000;
+
+    @Test
+    @DisplayName("Admission decisions should cost well under a microsecond")
+    void measureAdmission() {
+        RateLimitProperties.Group api = new RateLimitProperties.Group();
+        api.setPathPrefixes(List.of("/api/trainings", "/api/"));
+        api.setCapacity(Long.MAX_VALUE / 1_000_000_000L);
+        api.setRefillPerSecond(1_000_000_000);
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getGroups().put("api", api);
+        RateLimiter rateLimiter = new RateLimiter(properties, new SimpleMeterRegistry());
+
+        String[] users = new String[USERS];
+        String[] addresses = new String[USERS];
+        for (int i = 0; i < USERS; i++) {
+            users[i] = "User." + i;
+            addresses[i] = "10.0." + (i / 256) + "." + (i % 256);
+        }
+
+        long sink = run(rateLimiter, users, addresses, WARMUP_CALLS);
+        long start = System.nanoTime();
+        sink += run(rateLimiter, users, addresses, MEASURED_CALLS);
+        double nanosPerCall = (System.nanoTime() - start) / (double) MEASURED_CALLS;
+
+        System.out.printf("rate limiter: %.1f ns/request (sink %d)%n", nanosPerCall, sink);
+        assertTrue(nanosPerCall < BUDGET_NANOS);
+    }
+
+    private static long run(RateLimiter rateLimiter, String[] users, String[] addresses, int calls) {
+        long sink = 0;
+        for (int i = 0; i < calls; i++) {
+            int client = i % USERS;
+            sink += rateLimiter.tryAcquire("/api/trainings/trainee", users[client], addresses[client]);
+        }
+        return sink;
+    }
+}
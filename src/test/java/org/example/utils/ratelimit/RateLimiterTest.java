@@ -0,0 +1,96 @@
+package org.example.utils.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.example.config.ratelimit.RateLimitProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RateLimiterTest {
+
+    private static final String TRAININGS_PATH = "/api/trainings/trainee";
+    private static final String ADDRESS = "10.0.0.1";
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = rateLimiter(0.001);
+    }
+
+    @Test
+    @DisplayName("Should limit each user separately within a group")
+    void shouldLimitPerUser() {
+        assertEquals(0, rateLimiter.tryAcquire(TRAININGS_PATH, "John.Doe", null));
+        assertEquals(0, rateLimiter.tryAcquire(TRAININGS_PATH, "John.Doe", null));
+        assertTrue(rateLimiter.tryAcquire(TRAININGS_PATH, "John.Doe", null) > 0);
+        assertEquals(0, rateLimiter.tryAcquire(TRAININGS_PATH, "Joe.Johnson", null));
+
+        assertEquals(3, meterRegistry.get("ratelimit.requests").tag("result", "allowed").counter().count());
+        assertEquals(1, meterRegistry.get("ratelimit.requests").tag("result", "rejected").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should limit by address across users and ignore paths outside every group")
+    void shouldLimitPerAddress() {
+        assertEquals(0, rateLimiter.tryAcquire(TRAININGS_PATH, "John.Doe", ADDRESS));
+        assertEquals(0, rateLimiter.tryAcquire(TRAININGS_PATH, "Joe.Johnson", ADDRESS));
+        assertTrue(rateLimiter.tryAcquire(TRAININGS_PATH, "Peter.Peterson", ADDRESS) > 0);
+        assertEquals(0, rateLimiter.tryAcquire("/actuator/health", null, ADDRESS));
+    }
+
+    @Test
+    @DisplayName("Should drop idle buckets")
+    void shouldEvictIdleBuckets() throws InterruptedException {
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = rateLimiter(1_000_000);
+        rateLimiter.tryAcquire(TRAININGS_PATH, "John.Doe", ADDRESS);
+        assertEquals(2, meterRegistry.get("ratelimit.buckets").gauge().value());
+
+        Thread.sleep(1);
+        rateLimiter.evictIdleBuckets();
+
+        assertEquals(0, meterRegistry.get("ratelimit.buckets").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should answer 429 with Retry-After once the bucket is empty")
+    void shouldRejectWithRetryAfter() throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(rateLimiter);
+        MockHttpServletResponse response = null;
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", TRAININGS_PATH);
+            request.setRemoteAddr(ADDRESS);
+            response = new MockHttpServletResponse();
+            filter.doFilter(request, response, new MockFilterChain());
+        }
+
+        assertEquals(429, response.getStatus());
+        assertTrue(Long.parseLong(response.getHeader("Retry-After")) >= 1);
+    }
+
+    private RateLimiter rateLimiter(double refillPerSecond) {
+        RateLimitProperties.Group trainings = new RateLimitProperties.Group();
+        trainings.setPathPrefixes(List.of("/api/trainings"));
+        trainings.setCapacity(2);
+        trainings.setRefillPerSecond(refillPerSecond);
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getGroups().put("trainings", trainings);
+        properties.setIdleTimeout(Duration.ZERO);
+        return new RateLimiter(properties, meterRegistry);
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.utils.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SlidingWindowCounterTest {
+
+    private static final long SLOT = 1_000;
+
+    @Test
+    @DisplayName("Should expire events one slot at a time")
+    void shouldSlideWindow() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(3, SLOT);
+
+        assertEquals(1, counter.incrementAndSum(0));
+        assertEquals(2, counter.incrementAndSum(SLOT));
+        assertEquals(3, counter.incrementAndSum(2 * SLOT + 1));
+        assertEquals(3, counter.incrementAndSum(3 * SLOT));
+        assertEquals(2, counter.sum(4 * SLOT));
+        assertEquals(0, counter.sum(6 * SLOT));
+        assertEquals(3 * SLOT, counter.getLastIncrementNanos());
+    }
+
+    @Test
+    @DisplayName("Should forget every event on reset")
+    void shouldReset() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(3, SLOT);
+        counter.incrementAndSum(SLOT);
+        counter.incrementAndSum(2 * SLOT);
+
+        counter.reset();
+
+        assertEquals(0, counter.sum(2 * SLOT));
+    }
+
+    @Test
+    @DisplayName("Should not lose concurrent increments")
+    void shouldCountConcurrentIncrements() throws InterruptedException {
+        SlidingWindowCounter counter = new SlidingWindowCounter(4, SLOT);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int thread = 0; thread < 8; thread++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    counter.incrementAndSum(i % 4 * SLOT);
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        assertEquals(80_000, counter.sum(3 * SLOT));
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.utils.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+    private static final long INTERVAL = 100;
+    private static final long START = 1_000;
+
+    @Test
+    @DisplayName("Should admit a full burst and then report the wait for the next token")
+    void shouldAdmitBurstThenReject() {
+        TokenBucket bucket = new TokenBucket(3, INTERVAL, START);
+
+        assertEquals(0, bucket.tryAcquire(START));
+        assertEquals(0, bucket.tryAcquire(START));
+        assertEquals(0, bucket.tryAcquire(START));
+        assertEquals(INTERVAL, bucket.tryAcquire(START));
+        assertEquals(INTERVAL / 2, bucket.tryAcquire(START + INTERVAL / 2));
+        assertEquals(0, bucket.tryAcquire(START + INTERVAL));
+    }
+
+    @Test
+    @DisplayName("Should refill at the emission interval without exceeding capacity")
+    void shouldRefillUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(2, INTERVAL, START);
+        long later = START + 100 * INTERVAL;
+
+        assertEquals(0, bucket.tryAcquire(later));
+        assertEquals(0, bucket.tryAcquire(later));
+        assertTrue(bucket.tryAcquire(later) > 0);
+    }
+
+    @Test
+    @DisplayName("Should only be idle once it has been full for the idle period")
+    void shouldDetectIdleBucket() {
+        TokenBucket bucket = new TokenBucket(2, INTERVAL, START);
+        bucket.tryAcquire(START);
+
+        assertFalse(bucket.isIdle(START + INTERVAL, INTERVAL));
+        assertTrue(bucket.isIdle(START + 3 * INTERVAL, INTERVAL));
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.utils.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PrefixSearchIndexTest {
+
+    private PrefixSearchIndex<String> index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PrefixSearchIndex<>();
+        index.put("John.Doe", "John.Doe", "John", "Doe", "John.Doe");
+        index.put("Joe.Johnson", "Joe.Johnson", "Joe", "Johnson", "Joe.Johnson");
+        index.put("Peter.Peterson", "Peter.Peterson", "Peter", "Peterson", "Peter.Peterson");
+    }
+
+    @Test
+    @DisplayName("Should match first name, last name and username case-insensitively")
+    void shouldMatchAnyFieldCaseInsensitively() {
+        assertEquals(List.of("Joe.Johnson", "John.Doe"), index.search("JO", 10));
+        assertEquals(List.of("John.Doe"), index.search("doe", 10));
+        assertEquals(List.of("Peter.Peterson"), index.search("peter.p", 10));
+    }
+
+    @Test
+    @DisplayName("Should return each entry once and respect the limit")
+    void shouldDeduplicateAndLimitResults() {
+        assertEquals(List.of("Peter.Peterson"), index.search("pe", 10));
+        assertEquals(1, index.search("jo", 1).size());
+    }
+
+    @Test
+    @DisplayName("Should drop stale terms when an entry is replaced or removed")
+    void shouldDropStaleTermsOnUpdate() {
+        index.put("John.Doe", "John.Doe", "Jack", "Doe", "John.Doe");
+        index.remove("Joe.Johnson");
+
+        assertEquals(List.of("John.Doe"), index.search("jo", 10));
+        assertEquals(List.of("John.Doe"), index.search("jack", 10));
+        assertTrue(index.search("johnson", 10).isEmpty());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    @DisplayName("Should swap in a loaded index with the writes made while it was read")
+    void shouldReplayWritesMadeDuringLoad() {
+        index.load(() -> {
+            index.put("Jane.Roe", "Jane.Roe", "Jane", "Roe", "Jane.Roe");
+            index.remove("John.Doe");
+            assertEquals(List.of("Joe.Johnson"), index.search("jo", 10));
+            return List.of(new PrefixSearchIndex.Entry<>("John.Doe", "John.Doe", "John", "Doe", "John.Doe"),
+                    new PrefixSearchIndex.Entry<>("Joe.Smith", "Joe.Smith", "Joe", "Smith", "Joe.Smith"));
+        });
+
+        assertEquals(List.of("Joe.Smith"), index.search("jo", 10));
+        assertEquals(List.of("Jane.Roe"), index.search("ja", 10));
+        assertTrue(index.search("peter", 10).isEmpty());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    @DisplayName("Should return nothing for blank query")
+    void shouldReturnNothingForBlankQuery() {
+        assertTrue(index.search(" ", 10).isEmpty());
+    }
+}
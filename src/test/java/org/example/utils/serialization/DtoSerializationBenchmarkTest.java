@@ -0,0 +1,140 @@
+package org.example.utils.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.example.config.serialization.BinaryFormatConfig;
+import org.example.dto.training.TrainingDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Compares payload size and write/parse time of a large training list in every supported representation.
+ * Excluded from the default build; run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class DtoSerializationBenchmarkTest {
+
+    private static final int TRAINING_COUNT = 10_000;
+    private static final int WARMUP_ROUNDS = 30;
+    private static final int MEASURED_ROUNDS = 50;
+
+    private static final Type TRAINING_LIST_TYPE = new ParameterizedTypeReference<List<TrainingDTO>>() {
+    }.getType();
+
+    @Test
+    @DisplayName("Binary representations should be smaller than JSON for a large training list")
+    void compareFormats() throws Exception {
+        List<TrainingDTO> trainings = createTrainings();
+        Map<String, Format> formats = createFormats();
+
+        System.out.printf("%-10s %12s %14s %14s%n", "format", "bytes", "write us/op", "parse us/op");
+        Map<String, Integer> sizes = new LinkedHashMap<>();
+        for (Map.Entry<String, Format> entry : formats.entrySet()) {
+            Format format = entry.getValue();
+            byte[] payload = format.write(trainings);
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                format.write(trainings);
+                format.parse(payload);
+            }
+
+            long writeNanos = 0;
+            long parseNanos = 0;
+            for (int i = 0; i < MEASURED_ROUNDS; i++) {
+                long start = System.nanoTime();
+                format.write(trainings);
+                writeNanos += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                format.parse(payload);
+                parseNanos += System.nanoTime() - start;
+            }
+
+            sizes.put(entry.getKey(), payload.length);
+            System.out.printf("%-10s %12d %14d %14d%n", entry.getKey(), payload.length,
+                    writeNanos / MEASURED_ROUNDS / 1_000, parseNanos / MEASURED_ROUNDS / 1_000);
+        }
+
+        int jsonSize = sizes.get("json");
+        sizes.forEach((name, size) -> assertTrue(name.equals("json") || size < jsonSize,
+                name + " payload is not smaller than JSON"));
+    }
+
+    private static Map<String, Format> createFormats() throws IOException {
+        ObjectMapper jsonMapper = Jackson2ObjectMapperBuilder.json().build();
+        ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build();
+        ObjectMapper smileMapper = Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build();
+        ObjectReader protobufReader;
+        try (var in = new ClassPathResource(BinaryFormatConfig.PROTOBUF_SCHEMA_LOCATION).getInputStream()) {
+            protobufReader = new ProtobufMapper()
+                    .readerFor(JsonNode.class)
+                    .with(ProtobufSchemaLoader.std.load(in).withRootType("TrainingDTOList"));
+        }
+
+        Map<String, Format> formats = new LinkedHashMap<>();
+        formats.put("json", new Format(new MappingJackson2HttpMessageConverter(jsonMapper),
+                MediaType.APPLICATION_JSON, jsonMapper.readerFor(JsonNode.class)));
+        formats.put("cbor", new Format(new MappingJackson2CborHttpMessageConverter(cborMapper),
+                MediaType.APPLICATION_CBOR, cborMapper.readerFor(JsonNode.class)));
+        formats.put("smile", new Format(new MappingJackson2SmileHttpMessageConverter(smileMapper),
+                new MediaType("application", "x-jackson-smile"), smileMapper.readerFor(JsonNode.class)));
+        formats.put("protobuf", new Format(
+                new ProtobufDtoHttpMessageConverter(BinaryFormatConfig.PROTOBUF_SCHEMA_LOCATION),
+                ProtobufDtoHttpMessageConverter.APPLICATION_PROTOBUF, protobufReader));
+        return formats;
+    }
+
+    private static List<TrainingDTO> createTrainings() {
+        long firstDate = 1_700_000_000_000L;
+        List<TrainingDTO> trainings = new ArrayList<>(TRAINING_COUNT);
+        for (int i = 0; i < TRAINING_COUNT; i++) {
+            trainings.add(TrainingDTO.builder()
+                    .id(i)
+                    .trainingName("Training " + i)
+                    .trainingDate(new Date(firstDate + i * 86_400_000L))
+                    .trainingType(i % 2 == 0 ? "AEROBIC" : "STRENGTH")
+                    .trainingDuration(30 + i % 60)
+                    .trainerName("Trainer.Number" + i % 50)
+                    .build());
+        }
+        return trainings;
+    }
+
+    private record Format(GenericHttpMessageConverter<Object> converter, MediaType mediaType, ObjectReader reader) {
+
+        byte[] write(List<TrainingDTO> trainings) throws IOException {
+            MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+            converter.write(trainings, TRAINING_LIST_TYPE, mediaType, outputMessage);
+            return outputMessage.getBodyAsBytes();
+        }
+
+        JsonNode parse(byte[] payload) throws IOException {
+            return reader.readValue(payload);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.utils.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.util.Date;
+import java.util.List;
+
+import org.example.config.serialization.BinaryFormatConfig;
+import org.example.dto.credentials.CredentialsDTO;
+import org.example.dto.trainer.TrainerEmbeddedDTO;
+import org.example.dto.training.TrainingDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
+
+class ProtobufDtoHttpMessageConverterTest {
+
+    private static final Type TRAINING_LIST_TYPE = new ParameterizedTypeReference<List<TrainingDTO>>() {
+    }.getType();
+
+    private ProtobufDtoHttpMessageConverter converter;
+
+    private ProtobufSchema schema;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        converter = new ProtobufDtoHttpMessageConverter(BinaryFormatConfig.PROTOBUF_SCHEMA_LOCATION);
+        try (InputStream in = new ClassPathResource(BinaryFormatConfig.PROTOBUF_SCHEMA_LOCATION).getInputStream()) {
+            schema = ProtobufSchemaLoader.std.load(in);
+        }
+    }
+
+    @Test
+    @DisplayName("Should only write DTOs and DTO collections that have a schema message")
+    void shouldResolveWritableTypes() {
+        assertTrue(converter.canWrite(TrainerEmbeddedDTO.class, TrainerEmbeddedDTO.class,
+                ProtobufDtoHttpMessageConverter.APPLICATION_PROTOBUF));
+        assertTrue(converter.canWrite(TRAINING_LIST_TYPE, List.class,
+                ProtobufDtoHttpMessageConverter.APPLICATION_PROTOBUF));
+        assertFalse(converter.canWrite(CredentialsDTO.class, CredentialsDTO.class,
+                ProtobufDtoHttpMessageConverter.APPLICATION_PROTOBUF));
+        assertFalse(converter.canRead(TrainingDTO.class, null,
+                ProtobufDtoHttpMessageConverter.APPLICATION_PROTOBUF));
+    }
+
+    @Test
+    @DisplayName("Should write a DTO list as the wrapper message")
+    void shouldWriteListAsWrapperMessage() throws Exception {
+        Date trainingDate = new Date(1_700_000_000_000L);
+        TrainingDTO training = TrainingDTO.builder()
+                .id(7)
+                .trainingName("Morning run")
+                .trainingDate(trainingDate)
+                .trainingType("AEROBIC")
+                .trainingDuration(45)
+                .trainerName("Joe.Johnson")
+                .build();
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+        converter.write(List.of(training), TRAINING_LIST_TYPE,
+                ProtobufDtoHttpMessageConverter.APPLICATION_PROTOBUF, outputMessage);
+
+        JsonNode decoded = new ProtobufMapper()
+                .readerFor(JsonNode.class)
+                .with(schema.withRootType("TrainingDTOList"))
+                .readValue(outputMessage.getBodyAsBytes());
+        JsonNode item = decoded.get("items").get(0);
+        assertEquals(7, item.get("id").asLong());
+        assertEquals("Morning run", item.get("trainingName").asText());
+        assertEquals(trainingDate.getTime(), item.get("trainingDate").asLong());
+        assertEquals(45, item.get("trainingDuration").asInt());
+        assertEquals(ProtobufDtoHttpMessageConverter.APPLICATION_PROTOBUF,
+                outputMessage.getHeaders().getContentType());
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.utils.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.session.MapSession;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BoundedSessionRepositoryTest {
+
+    private static final int MAX_SESSIONS = 10;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private BoundedSessionRepository sessionRepository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sessionRepository = new BoundedSessionRepository(MAX_SESSIONS, Duration.ofMinutes(30), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should store a copy of the session and find it by id")
+    void shouldSaveAndFindSession() {
+        MapSession session = sessionRepository.createSession();
+        session.setAttribute("user", "John.Doe");
+        sessionRepository.save(session);
+
+        MapSession found = sessionRepository.findById(session.getId());
+
+        assertNotSame(session, found);
+        assertEquals("John.Doe", found.getAttribute("user"));
+        assertEquals(Duration.ofMinutes(30), found.getMaxInactiveInterval());
+        assertEquals(1, meterRegistry.get("sessions.created").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should follow a changed session id and forget deleted sessions")
+    void shouldChangeIdAndDelete() {
+        MapSession session = sessionRepository.createSession();
+        sessionRepository.save(session);
+        MapSession found = sessionRepository.findById(session.getId());
+        String originalId = found.getId();
+
+        found.changeSessionId();
+        sessionRepository.save(found);
+
+        assertNull(sessionRepository.findById(originalId));
+        sessionRepository.deleteById(found.getId());
+        assertNull(sessionRepository.findById(found.getId()));
+    }
+
+    @Test
+    @DisplayName("Should expire sessions after their max inactive interval")
+    void shouldExpireIdleSession() throws InterruptedException {
+        MapSession session = sessionRepository.createSession();
+        session.setMaxInactiveInterval(Duration.ofMillis(1));
+        sessionRepository.save(session);
+
+        Thread.sleep(5);
+
+        assertNull(sessionRepository.findById(session.getId()));
+    }
+
+    @Test
+    @DisplayName("Should never hold more than the configured number of sessions")
+    void shouldEvictBeyondLimit() throws InterruptedException {
+        for (int i = 0; i < MAX_SESSIONS * 10; i++) {
+            sessionRepository.save(sessionRepository.createSession());
+        }
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (meterRegistry.get("sessions.active").gauge().value() > MAX_SESSIONS && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertTrue(meterRegistry.get("sessions.active").gauge().value() <= MAX_SESSIONS);
+        assertTrue(meterRegistry.get("sessions.evicted").tag("cause", "size").counter().count() > 0);
+    }
+}
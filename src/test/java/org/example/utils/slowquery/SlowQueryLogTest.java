@@ -0,0 +1,155 @@
+package org.example.utils.slowquery;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.example.dto.actuator.SlowQueryDTO;
+import org.example.utils.tracing.LayerTracingAspect;
+import org.example.utils.tracing.StatementContext;
+import org.example.utils.tracing.TracingDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+class SlowQueryLogTest {
+
+    private static final String SQL =
+            "select t.id from trainee t join users u on u.id = t.user_id where u.username = ?";
+
+    private static final long MILLIS = 1_000_000;
+
+    private SlowQueryLog slowQueryLog;
+
+    @AfterEach
+    void tearDown() {
+        if (slowQueryLog != null) {
+            slowQueryLog.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should group statements that differ only in literals, parameter lists or spacing")
+    void shouldNormalizeSql() {
+        assertEquals("select * from training t1_0 where t1_0.id in (?...) and t1_0.name = ? limit ?",
+                SlowQueryLog.normalize("select *  from training t1_0\n where t1_0.id in (?, ?,?) "
+                        + "and t1_0.name = 'O''Brien' limit 10"));
+    }
+
+    @Test
+    @DisplayName("Should record slow executions with their repository method and endpoint")
+    void shouldRecordSlowExecutionsInContext() {
+        slowQueryLog = new SlowQueryLog(Duration.ZERO, 10, 0, mock(DataSource.class));
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(slowQueryLog);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/trainees/John.Doe");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/trainees/{username}");
+
+        Observation.createNotStarted("http.server.requests",
+                () -> new ServerRequestObservationContext(request, new MockHttpServletResponse()),
+                observationRegistry).observe(() ->
+                Observation.createNotStarted(LayerTracingAspect.REPOSITORY_OBSERVATION, observationRegistry)
+                        .contextualName("TraineeRepository.findByUserUsername")
+                        .observe(() -> execute(observationRegistry, SQL, "John.Doe")));
+        slowQueryLog.record(SQL.replace("?", "'Jane.Doe'"), List.of(), 0, null, null);
+
+        SlowQueryDTO query = slowQueryLog.slowest(10).get(0);
+        assertEquals(1, slowQueryLog.size());
+        assertEquals(2, query.getExecutions());
+        assertEquals(SQL, query.getNormalizedSql());
+        assertEquals(List.of("String"), query.getParameterTypes());
+        assertEquals("TraineeRepository.findByUserUsername", query.getRepositoryMethod());
+        assertEquals("GET /api/trainees/{username}", query.getEndpoint());
+        assertNull(query.getExplainPlan());
+    }
+
+    @Test
+    @DisplayName("Should ignore executions faster than the threshold")
+    void shouldIgnoreFastExecutions() {
+        slowQueryLog = new SlowQueryLog(Duration.ofHours(1), 10, 0, mock(DataSource.class));
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(slowQueryLog);
+
+        execute(observationRegistry, SQL, "John.Doe");
+
+        assertEquals(0, slowQueryLog.size());
+    }
+
+    @Test
+    @DisplayName("Should keep the slowest statements when full and order them slowest first")
+    void shouldEvictFastestStatementWhenFull() {
+        slowQueryLog = new SlowQueryLog(Duration.ZERO, 2, 0, mock(DataSource.class));
+
+        slowQueryLog.record("update trainee set is_active = ?", List.of(true), 5 * MILLIS, null, null);
+        slowQueryLog.record("delete from training where id = ?", List.of(1L), 3 * MILLIS, null, null);
+        slowQueryLog.record("delete from trainer where id = ?", List.of(1L), 2 * MILLIS, null, null);
+        slowQueryLog.record("delete from users where id = ?", List.of(1L), 4 * MILLIS, null, null);
+
+        assertEquals(List.of("update trainee set is_active = ?", "delete from users where id = ?"),
+                slowQueryLog.slowest(10).stream().map(SlowQueryDTO::getNormalizedSql).toList());
+    }
+
+    @Test
+    @DisplayName("Should explain the slowest select once, with the values of its slowest execution")
+    void shouldExplainSlowestSelects() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("EXPLAIN " + SQL)).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(2);
+        when(metaData.getColumnLabel(1)).thenReturn("table");
+        when(metaData.getColumnLabel(2)).thenReturn("key");
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getObject(1)).thenReturn("u");
+        when(resultSet.getObject(2)).thenReturn(null);
+        slowQueryLog = new SlowQueryLog(Duration.ZERO, 10, 1, dataSource);
+
+        slowQueryLog.record(SQL, List.of("John.Doe"), 5 * MILLIS, null, null);
+        slowQueryLog.record("update trainee set is_active = ?", List.of(true), 9 * MILLIS, null, null);
+
+        verify(connection, timeout(5000)).close();
+        verify(statement).setObject(1, "John.Doe");
+        verify(connection).setReadOnly(true);
+        verify(connection, never()).prepareStatement("EXPLAIN update trainee set is_active = ?");
+        assertEquals(List.of("table | key", "u | null"), slowQueryLog.slowest(10).get(1).getExplainPlan());
+
+        slowQueryLog.record(SQL, List.of("Jane.Doe"), 7 * MILLIS, null, null);
+
+        verify(statement, never()).setObject(anyInt(), eq("Jane.Doe"));
+    }
+
+    private static void execute(ObservationRegistry observationRegistry, String sql, Object... parameters) {
+        Observation.createNotStarted(TracingDataSource.STATEMENT_OBSERVATION,
+                () -> new StatementContext(sql, Arrays.copyOf(parameters, parameters.length)),
+                observationRegistry).observe(() -> { });
+    }
+}
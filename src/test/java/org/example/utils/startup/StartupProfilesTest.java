@@ -0,0 +1,67 @@
+package org.example.utils.startup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.example.dto.actuator.StartupBeanDTO;
+import org.example.dto.actuator.StartupPhaseDTO;
+import org.example.dto.actuator.StartupProfileDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+class StartupProfilesTest {
+
+    private static final long INNER_MILLIS = 60;
+    private static final long OUTER_MILLIS = 10;
+
+    @Test
+    @DisplayName("Should rank beans by the time spent in them without their dependencies")
+    void shouldRankBeansBySelfTime() throws InterruptedException {
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(10);
+        StartupStep outer = beanStep(startup, "outer");
+        Thread.sleep(OUTER_MILLIS);
+        StartupStep inner = beanStep(startup, "inner");
+        Thread.sleep(INNER_MILLIS);
+        inner.end();
+        outer.end();
+
+        StartupProfileDTO profile = StartupProfiles.rank(startup.getBufferedTimeline(), 10);
+
+        assertEquals(2, profile.getRecordedSteps());
+        StartupBeanDTO slowest = profile.getSlowestBeans().get(0);
+        StartupBeanDTO dependent = profile.getSlowestBeans().get(1);
+        assertEquals("inner", slowest.getBeanName());
+        assertTrue(slowest.getSelfMillis() >= INNER_MILLIS);
+        assertEquals("outer", dependent.getBeanName());
+        assertTrue(dependent.getDurationMillis() >= INNER_MILLIS + OUTER_MILLIS);
+        assertTrue(dependent.getSelfMillis() < slowest.getSelfMillis());
+        assertTrue(profile.getTotalMillis() >= dependent.getDurationMillis());
+    }
+
+    @Test
+    @DisplayName("Should sum phases by step name and honour the limit")
+    void shouldSumPhasesByName() throws InterruptedException {
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(10);
+        for (int i = 0; i < 3; i++) {
+            StartupStep step = startup.start("spring.data.repository.init");
+            Thread.sleep(OUTER_MILLIS);
+            step.end();
+        }
+        beanStep(startup, "bean").end();
+
+        StartupProfileDTO profile = StartupProfiles.rank(startup.getBufferedTimeline(), 1);
+
+        assertEquals(1, profile.getSlowestPhases().size());
+        StartupPhaseDTO phase = profile.getSlowestPhases().get(0);
+        assertEquals("spring.data.repository.init", phase.getName());
+        assertEquals(3, phase.getCount());
+        assertTrue(phase.getSelfMillis() >= 3 * OUTER_MILLIS);
+        assertEquals(1, profile.getSlowestBeans().size());
+    }
+
+    private static StartupStep beanStep(BufferingApplicationStartup startup, String beanName) {
+        return startup.start(StartupProfiles.BEAN_INSTANTIATION_STEP).tag("beanName", beanName);
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.utils.timeseries;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TrainingTimelineTest {
+
+    private TrainingTimeline timeline;
+
+    @BeforeEach
+    void setUp() {
+        timeline = new TrainingTimeline();
+        timeline.load(List.of(
+                entry(3, "alice", "tom", 30),
+                entry(1, "alice", "tom", 10),
+                entry(2, "alice", "kate", 20),
+                entry(5, "alice", "tom", 20),
+                entry(4, "bob", "tom", 20)));
+    }
+
+    @Test
+    @DisplayName("Should return the ids within an inclusive period in date order")
+    void shouldReturnIdsWithinPeriod() {
+        assertArrayEquals(new long[]{1, 2, 5, 3}, timeline.traineeTrainingIds("alice", null, null));
+        assertArrayEquals(new long[]{2, 5, 3}, timeline.traineeTrainingIds("alice", new Date(20), null));
+        assertArrayEquals(new long[]{1, 2, 5}, timeline.traineeTrainingIds("alice", null, new Date(20)));
+        assertArrayEquals(new long[]{4, 5}, timeline.trainerTrainingIds("tom", new Date(11), new Date(29)));
+        assertEquals(0, timeline.traineeTrainingIds("alice", new Date(21), new Date(29)).length);
+        assertEquals(0, timeline.traineeTrainingIds("nobody", null, null).length);
+    }
+
+    @Test
+    @DisplayName("Should move a training that is put again with another date or participant")
+    void shouldReplaceTrainingOnPut() {
+        timeline.put(entry(1, "bob", "tom", 40));
+        timeline.putAll(List.of(entry(6, "alice", "kate", 5), entry(7, "alice", "kate", 25)));
+
+        assertArrayEquals(new long[]{6, 2, 5, 7, 3}, timeline.traineeTrainingIds("alice", null, null));
+        assertArrayEquals(new long[]{4, 1}, timeline.traineeTrainingIds("bob", null, null));
+        assertArrayEquals(new long[]{4, 5, 3, 1}, timeline.trainerTrainingIds("tom", null, null));
+        assertEquals(7, timeline.size());
+    }
+
+    @Test
+    @DisplayName("Should keep writes made while a load reads its snapshot")
+    void shouldReplayWritesMadeDuringLoad() {
+        timeline.load(() -> {
+            timeline.put(entry(6, "bob", "kate", 50));
+            timeline.removeAll(1);
+            return List.of(entry(1, "alice", "tom", 10), entry(2, "alice", "kate", 20));
+        });
+
+        assertArrayEquals(new long[]{2}, timeline.traineeTrainingIds("alice", null, null));
+        assertArrayEquals(new long[]{6}, timeline.traineeTrainingIds("bob", null, null));
+        assertEquals(entry(6, "bob", "kate", 50), timeline.get(6));
+        assertNull(timeline.get(1));
+        assertEquals(2, timeline.size());
+    }
+
+    @Test
+    @DisplayName("Should drop removed trainings from both participants")
+    void shouldRemoveTrainings() {
+        timeline.removeAll(5, 42);
+        timeline.removeTrainer("kate");
+
+        assertArrayEquals(new long[]{1, 3}, timeline.traineeTrainingIds("alice", null, null));
+        assertArrayEquals(new long[]{1, 4, 3}, timeline.trainerTrainingIds("tom", null, null));
+
+        timeline.removeTrainee("alice");
+
+        assertArrayEquals(new long[]{4}, timeline.trainerTrainingIds("tom", null, null));
+        assertEquals(1, timeline.size());
+    }
+
+    private static TimelineEntry entry(long trainingId, String trainee, String trainer, long trainingTime) {
+        return new TimelineEntry(trainingId, trainee, trainer, new Date(trainingTime));
+    }
+}
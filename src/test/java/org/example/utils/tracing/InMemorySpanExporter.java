@@ -0,0 +1,25 @@
+package org.example.utils.tracing;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Keeps finished spans in memory for tests to assert on.
+ */
+public class InMemorySpanExporter implements SpanExporter {
+
+    private final List<FinishedSpan> spans = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void export(FinishedSpan span) {
+        spans.add(span);
+    }
+
+    public List<FinishedSpan> getSpans() {
+        return List.copyOf(spans);
+    }
+
+    public void clear() {
+        spans.clear();
+    }
+}
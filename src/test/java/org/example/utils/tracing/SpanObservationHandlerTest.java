@@ -0,0 +1,83 @@
+package org.example.utils.tracing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+class SpanObservationHandlerTest {
+
+    private InMemorySpanExporter exporter;
+
+    private ObservationRegistry observationRegistry;
+
+    @BeforeEach
+    void setUp() {
+        exporter = new InMemorySpanExporter();
+        observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new SpanObservationHandler(List.of(exporter)));
+    }
+
+    @Test
+    @DisplayName("Should export nested observations as spans of one trace")
+    void shouldExportNestedSpans() {
+        Observation.createNotStarted("outer", observationRegistry).observe(() ->
+                Observation.createNotStarted("inner", observationRegistry)
+                        .contextualName("inner call")
+                        .highCardinalityKeyValue("sql", "select 1")
+                        .observe(() -> { }));
+        Observation.createNotStarted("other", observationRegistry).observe(() -> { });
+
+        List<FinishedSpan> spans = exporter.getSpans();
+        FinishedSpan inner = spans.get(0);
+        FinishedSpan outer = spans.get(1);
+        assertEquals("inner call", inner.name());
+        assertEquals("select 1", inner.tags().get("sql"));
+        assertEquals(outer.traceId(), inner.traceId());
+        assertEquals(outer.spanId(), inner.parentSpanId());
+        assertNull(outer.parentSpanId());
+        assertEquals(32, outer.traceId().length());
+        assertNotEquals(outer.traceId(), spans.get(2).traceId());
+    }
+
+    @Test
+    @DisplayName("Should put the ids of the current span in the MDC and restore the previous ones")
+    void shouldPutIdsInMdc() {
+        Observation outer = Observation.start("outer", observationRegistry);
+        String outerSpanId;
+        try (Observation.Scope outerScope = outer.openScope()) {
+            outerSpanId = MDC.get(SpanObservationHandler.SPAN_ID);
+            Observation.createNotStarted("inner", observationRegistry).observe(() ->
+                    assertNotEquals(outerSpanId, MDC.get(SpanObservationHandler.SPAN_ID)));
+
+            assertEquals(outerSpanId, MDC.get(SpanObservationHandler.SPAN_ID));
+        } finally {
+            outer.stop();
+        }
+
+        assertNull(MDC.get(SpanObservationHandler.TRACE_ID));
+        assertNull(MDC.get(SpanObservationHandler.SPAN_ID));
+        assertEquals(exporter.getSpans().get(1).spanId(), outerSpanId);
+    }
+
+    @Test
+    @DisplayName("Should record the error of a failed observation")
+    void shouldRecordError() {
+        IllegalStateException error = new IllegalStateException("failed");
+        Observation observation = Observation.start("failing", observationRegistry);
+        observation.error(error);
+        observation.stop();
+
+        assertSame(error, exporter.getSpans().get(0).error());
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.utils.tracing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.observation.ObservationRegistry;
+
+class TracingDataSourceTest {
+
+    private static final String SQL = "select * from trainee where id = ?";
+
+    private InMemorySpanExporter exporter;
+
+    private Connection connection;
+
+    private TracingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        exporter = new InMemorySpanExporter();
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new SpanObservationHandler(List.of(exporter)));
+        connection = mock(Connection.class);
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenReturn(connection);
+        dataSource = new TracingDataSource(target);
+        dataSource.setObservationRegistry(observationRegistry);
+    }
+
+    @Test
+    @DisplayName("Should observe each execution of a statement with its SQL")
+    void shouldObserveExecutions() throws SQLException {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(connection.prepareStatement(SQL)).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+
+        try (Connection tracingConnection = dataSource.getConnection();
+             PreparedStatement tracingStatement = tracingConnection.prepareStatement(SQL)) {
+            tracingStatement.setLong(1, 42);
+            assertSame(resultSet, tracingStatement.executeQuery());
+        }
+
+        verify(statement).setLong(1, 42);
+        verify(statement).close();
+        verify(connection).close();
+        assertEquals(1, exporter.getSpans().size());
+        assertEquals("executeQuery", exporter.getSpans().get(0).name());
+        assertEquals(SQL, exporter.getSpans().get(0).tags().get(TracingDataSource.SQL_KEY));
+    }
+
+    @Test
+    @DisplayName("Should pass driver errors through and record them on the span")
+    void shouldRecordFailedExecutions() throws SQLException {
+        Statement statement = mock(Statement.class);
+        SQLException error = new SQLException("table missing");
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeUpdate("delete from training")).thenThrow(error);
+
+        Connection tracingConnection = dataSource.getConnection();
+        Statement tracingStatement = tracingConnection.createStatement();
+
+        assertSame(error, assertThrows(SQLException.class,
+                () -> tracingStatement.executeUpdate("delete from training")));
+        assertSame(error, exporter.getSpans().get(0).error());
+        assertEquals("delete from training", exporter.getSpans().get(0).tags().get(TracingDataSource.SQL_KEY));
+        assertEquals(tracingConnection, tracingConnection);
+        assertNotEquals(tracingConnection, dataSource.getConnection());
+    }
+}